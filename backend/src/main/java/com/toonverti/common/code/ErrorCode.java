@@ -12,6 +12,11 @@ public enum ErrorCode {
     MISSING_PARAMETER(400, "필수 파라미터가 누락되었습니다."),
     INVALID_PARAMETER_TYPE(400, "파라미터 형식이 올바르지 않습니다."),
     INVALID_REQUEST_BODY(400, "요청 본문을 읽을 수 없습니다."),
+    INVALID_STICKER(400, "카탈로그에 없는 스티커입니다."),
+    INVALID_FRIEND_REQUEST(400, "잘못된 친구 요청입니다."),
+    INVALID_CURSOR(400, "커서 값이 올바르지 않습니다."),
+    INVALID_IDEMPOTENCY_KEY(400, "Idempotency-Key 값이 올바르지 않습니다."),
+    INVALID_SHARD(400, "없는 샤드입니다."),
 
     // 401 Unauthorized
     UNAUTHORIZED(401, "인증이 필요합니다."),
@@ -21,9 +26,25 @@ public enum ErrorCode {
     USER_NOT_FOUND(404, "사용자를 찾을 수 없습니다."),
     DIARY_NOT_FOUND(404, "다이어리를 찾을 수 없습니다."),
     STICKER_NOT_FOUND(404, "스티커를 찾을 수 없습니다."),
+    DIARY_REVISION_NOT_FOUND(404, "다이어리 수정 이력을 찾을 수 없습니다."),
+    FRIENDSHIP_NOT_FOUND(404, "친구 요청을 찾을 수 없습니다."),
+    WEBTOON_TITLE_NOT_FOUND(404, "작품을 찾을 수 없습니다."),
+    LIBRARY_CARD_NOT_FOUND(404, "서재 카드를 찾을 수 없습니다."),
+    LIBRARY_FOLDER_NOT_FOUND(404, "폴더를 찾을 수 없습니다."),
 
     // 409 Conflict
     DUPLICATE_EMAIL(409, "이미 사용 중인 이메일입니다."),
+    DUPLICATE_FRIEND_REQUEST(409, "이미 친구이거나 요청한 사용자입니다."),
+    DUPLICATE_LIBRARY_CARD(409, "이미 서재에 있는 작품입니다."),
+    VERSION_CONFLICT(409, "다른 곳에서 먼저 수정되었습니다. 최신 내용을 받은 뒤 다시 시도해 주세요."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(409, "같은 Idempotency-Key의 요청이 아직 처리 중입니다."),
+    SHARD_MOVE_IN_PROGRESS(409, "데이터를 다른 샤드로 옮기는 중입니다. 잠시 후 다시 시도해 주세요."),
+
+    // 410 Gone
+    SYNC_TOKEN_EXPIRED(410, "동기화 토큰이 만료되었습니다. 전체 목록을 다시 받아 주세요."),
+
+    // 422 Unprocessable Entity
+    IDEMPOTENCY_KEY_REUSED(422, "같은 Idempotency-Key가 다른 요청 본문으로 사용되었습니다."),
 
     // 500 Internal Server Error
     INTERNAL_ERROR(500, "서버 내부 오류가 발생했습니다.");
@@ -10,6 +10,7 @@ public enum SuccessCode {
     SELECT_SUCCESS(200, "조회 성공"),
     INSERT_SUCCESS(201, "생성 성공"),
     UPDATE_SUCCESS(200, "수정 성공"),
+    ACCEPTED(202, "접수 성공"),
     DELETE_SUCCESS(200, "삭제 성공");
 
     private final int status;
@@ -0,0 +1,90 @@
+package com.toonverti.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 로딩을 한 번으로 합치는 유틸리티
+ *
+ * 먼저 들어온 호출(leader)만 로더를 실행하고, 실행 중에 들어온 같은 키의 호출(follower)은
+ * 그 결과나 예외를 그대로 나눠 받는다. 결과를 보관하지는 않으므로 캐시 앞단에서 쓴다.
+ *
+ * 메트릭: singleflight.calls{name, role=leader|follower}, singleflight.coalescing.ratio{name}
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("role", "follower")
+                .register(meterRegistry);
+        Gauge.builder("singleflight.coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .tag("name", name)
+                .description("전체 호출 중 다른 호출의 결과를 나눠 받은 비율")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = calls.putIfAbsent(key, call);
+        if (running != null) {
+            followers.increment();
+            return join(running);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * 실행 중인 로딩에서 키를 떼어 낸다.
+     * 데이터가 바뀐 뒤 들어온 호출이 변경 전에 시작된 로딩 결과를 받지 않도록 쓰기 경로에서 호출한다.
+     */
+    public void forget(K key) {
+        calls.remove(key);
+    }
+
+    public double coalescingRatio() {
+        double shared = followers.count();
+        double total = leaders.count() + shared;
+        return total == 0 ? 0 : shared / total;
+    }
+
+    private static <V> V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // leader가 던진 예외를 감싸지 않고 그대로 전달한다
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.toonverti.common.datasource;
+
+public enum DataSourceTarget {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,83 @@
+package com.toonverti.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로, 나머지를 주 DB로 보내는 데이터소스
+ *
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 정해지지 않았을 수 있으므로 반드시
+ * LazyConnectionDataSourceProxy로 감싸 첫 SQL을 실행할 때 연결을 고르게 한다.
+ * 복제본이 비정상이거나 자기 쓰기 직후면 읽기도 주 DB로 간다.
+ *
+ * 메트릭: datasource.routing{target=primary|replica}, datasource.replica.healthy
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealthMonitor replicaHealthMonitor;
+    private final ReadYourWrites readYourWrites;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      DataSource replica,
+                                      ReplicaHealthMonitor replicaHealthMonitor,
+                                      ReadYourWrites readYourWrites,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaHealthMonitor = replicaHealthMonitor;
+        this.readYourWrites = readYourWrites;
+        this.primaryConnections = meterRegistry.counter("datasource.routing", "target", "primary");
+        this.replicaConnections = meterRegistry.counter("datasource.routing", "target", "replica");
+        Gauge.builder("datasource.replica.healthy", replicaHealthMonitor, monitor -> monitor.isHealthy() ? 1 : 0)
+                .register(meterRegistry);
+
+        setTargetDataSources(Map.of(DataSourceTarget.PRIMARY, primary, DataSourceTarget.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceTarget.PRIMARY;
+        }
+        if (!replicaHealthMonitor.isHealthy() || readYourWrites.requiresPrimary()) {
+            return DataSourceTarget.PRIMARY;
+        }
+        return DataSourceTarget.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == DataSourceTarget.PRIMARY) {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                // 롤백된 쓰기로 창이 열리지 않도록 커밋 시점에 기록한다
+                readYourWrites.onWriteConnection();
+            }
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException e) {
+            // 복제본이 내려가도 읽기는 주 DB에서 계속된다
+            replicaHealthMonitor.markDown(e);
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.toonverti.common.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자기 쓰기 직후 읽기 보장 (read-your-writes)
+ *
+ * 복제본은 주 DB보다 조금 늦으므로, 쓰기를 한 클라이언트는 window-ms 동안 읽기도 주 DB에서 한다.
+ * 요청 스레드에 클라이언트 키를 묶어 두고(ReadYourWritesFilter), 라우팅 데이터소스가 쓰기 트랜잭션의 연결을 열면
+ * 그 트랜잭션이 커밋될 때 기록한다. 롤백된 쓰기는 기록하지 않는다. 같은 요청 안의 이후 읽기도 주 DB로 간다.
+ *
+ * 기록은 인스턴스 메모리에만 있으므로 여러 인스턴스를 두면 로드밸런서에서 클라이언트 고정을 켠다.
+ * 요청 밖 스레드(스케줄러, 이벤트 구독자)는 키가 없어 트랜잭션의 읽기 전용 여부만 본다.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    // 클라이언트 키 -> 주 DB에서 읽어야 하는 마감 시각 (nanoTime)
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWrites(long windowMs) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    public void begin(List<String> clientKeys) {
+        CURRENT.set(new Context(clientKeys));
+    }
+
+    // 요청이 끝난 뒤(커밋 이후) 호출한다. 쓰기가 있었으면 그때부터 창을 연다
+    public void end() {
+        Context context = CURRENT.get();
+        CURRENT.remove();
+        if (context != null && context.wrote) {
+            long until = System.nanoTime() + windowNanos;
+            for (String clientKey : context.clientKeys) {
+                stickyUntil.put(clientKey, until);
+            }
+        }
+    }
+
+    // 쓰기 트랜잭션이 주 DB 연결을 열 때 호출한다, 트랜잭션 밖이면 바로 기록한다
+    void onWriteConnection() {
+        Context context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            context.wrote = true;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                context.wrote = true;
+            }
+        });
+    }
+
+    boolean requiresPrimary() {
+        Context context = CURRENT.get();
+        if (context == null) {
+            return false;
+        }
+        if (context.wrote) {
+            return true;
+        }
+        long now = System.nanoTime();
+        for (String clientKey : context.clientKeys) {
+            Long until = stickyUntil.get(clientKey);
+            if (until != null && until - now > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.sticky-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    private static final class Context {
+        private final List<String> clientKeys;
+        private boolean wrote;
+
+        private Context(List<String> clientKeys) {
+            this.clientKeys = clientKeys;
+        }
+    }
+}
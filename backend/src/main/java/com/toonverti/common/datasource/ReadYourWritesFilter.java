@@ -0,0 +1,77 @@
+package com.toonverti.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 요청 스레드에 읽기/쓰기 라우팅용 클라이언트 키를 묶는다.
+ *
+ * API는 인증 주체 대신 userId 파라미터로 사용자를 받으므로 사용자 키는 인증 주체, 없으면 userId 파라미터로 정한다.
+ * 다이어리 ID로만 쓰는 요청도 있어 브라우저마다 클라이언트 쿠키를 하나 발급해 함께 묶는다.
+ * 쓰기는 이 요청의 키 모두에 기록되고, 읽기는 키 중 하나라도 창 안에 있으면 주 DB로 간다.
+ * 접속 주소는 프록시 뒤에서 모든 클라이언트가 같으므로 쓰지 않는다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_COOKIE = "ryw_client";
+
+    private static final String USER_ID_PARAMETER = "userId";
+
+    private final ReadYourWrites readYourWrites;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        List<String> clientKeys = new ArrayList<>(3);
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            clientKeys.add("principal:" + principal.getName());
+        }
+        String userId = request.getParameter(USER_ID_PARAMETER);
+        if (userId != null && !userId.isBlank()) {
+            clientKeys.add("user:" + userId.trim());
+        }
+        clientKeys.add("client:" + clientId(request, response));
+
+        readYourWrites.begin(clientKeys);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWrites.end();
+        }
+    }
+
+    // 쿠키가 없으면 새로 발급한다, 이번 요청 이전의 쓰기는 없으므로 새 키로 충분하다
+    private static String clientId(HttpServletRequest request, HttpServletResponse response) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (CLIENT_COOKIE.equals(cookie.getName()) && !cookie.getValue().isBlank()) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        String clientId = UUID.randomUUID().toString();
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(CLIENT_COOKIE, clientId)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build()
+                .toString());
+        return clientId;
+    }
+}
@@ -0,0 +1,71 @@
+package com.toonverti.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 복제본 상태 확인
+ *
+ * check-interval-ms 주기로 연결을 확인하고, PostgreSQL이면 복제 지연도 잰다. 연결이 안 되거나
+ * 지연이 max-lag-ms를 넘으면 읽기를 주 DB로 돌리고, 다음 확인에서 정상이면 다시 복제본을 쓴다.
+ * 라우팅 중 복제본 연결에 실패해도 바로 내려간 것으로 표시한다.
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    // 받은 WAL을 모두 재생했으면 지연 0, 아니면 마지막 재생 시각과의 차이
+    private static final String POSTGRES_LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private final DataSource replica;
+    private final long maxLagMs;
+    private volatile boolean healthy = true;
+
+    public ReplicaHealthMonitor(DataSource replica, long maxLagMs) {
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    void markDown(SQLException cause) {
+        if (healthy) {
+            log.warn("복제본 연결 실패, 읽기를 주 DB로 돌립니다: {}", cause.getMessage());
+        }
+        healthy = false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval-ms:5000}")
+    public void check() {
+        boolean result;
+        try (Connection connection = replica.getConnection()) {
+            result = connection.isValid(1) && lagMs(connection) <= maxLagMs;
+        } catch (SQLException e) {
+            log.debug("복제본 상태 확인 실패: {}", e.getMessage());
+            result = false;
+        }
+        if (result != healthy) {
+            log.warn("복제본 상태 변경: {}", result ? "정상, 읽기를 복제본으로 보냅니다" : "비정상, 읽기를 주 DB로 돌립니다");
+        }
+        healthy = result;
+    }
+
+    private long lagMs(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(POSTGRES_LAG_SQL)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.toonverti.common.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 컨트롤러가 본문을 읽는 동안 SHA-256 을 같이 계산하는 요청
+ *
+ * 본문을 메모리에 모으지 않으므로 큰 업로드(일괄 가져오기 NDJSON 등)도 버퍼 크기만큼만 쓴다.
+ * finish 는 컨트롤러가 읽지 않고 남긴 본문을 마저 읽어 해시에 넣는다.
+ * 실행하지 않고 저장된 응답을 돌려주는 재시도는 finish 만 불러 본문을 흘려 읽는다.
+ */
+class DigestingRequest extends HttpServletRequestWrapper {
+
+    private static final int DRAIN_BUFFER_SIZE = 8192;
+
+    private final MessageDigest digest;
+    private ServletInputStream inputStream;
+    private boolean finished;
+    private boolean unreadable;
+    private String hash;
+
+    DigestingRequest(HttpServletRequest request) {
+        super(request);
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 본문 전체의 해시. 남은 본문을 읽지 못했으면(컨트롤러가 스트림을 닫은 경우 등) 비교할 수 없으므로 null
+     */
+    String finish() {
+        if (hash != null || unreadable) {
+            return hash;
+        }
+        try {
+            ServletInputStream source = getInputStream();
+            byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+            while (source.read(buffer) != -1) {
+                // 읽은 바이트는 read 에서 해시에 들어간다
+            }
+        } catch (IOException e) {
+            unreadable = true;
+            return null;
+        }
+        hash = HexFormat.of().formatHex(digest.digest());
+        return hash;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            ServletInputStream source = super.getInputStream();
+            inputStream = new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int b = source.read();
+                    if (b == -1) {
+                        finished = true;
+                    } else {
+                        digest.update((byte) b);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (finished) {
+                        return -1;
+                    }
+                    int n = source.read(b, off, len);
+                    if (n == -1) {
+                        finished = true;
+                    } else {
+                        digest.update(b, off, n);
+                    }
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished || source.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return source.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
@@ -0,0 +1,217 @@
+package com.toonverti.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.common.code.ErrorCode;
+import com.toonverti.common.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더가 있는 변경 요청(POST/PUT/PATCH/DELETE)을 한 번만 실행한다.
+ *
+ * 같은 키의 재시도는 최초 응답(상태 코드와 본문)을 그대로 돌려받고, 최초 요청이 아직 실행 중이면
+ * 그 실행이 끝날 때까지 기다렸다가 같은 응답을 받는다. 헤더가 없는 요청은 그대로 통과한다.
+ * 다른 인스턴스가 같은 키를 실행 중이면 테이블에 응답이 저장될 때까지 poll-interval-ms 간격으로 확인한다.
+ * 같은 키로 본문이 다른 요청이 오면 실행하지 않고 422로 거절한다. 본문은 메모리에 모으지 않고 읽는 동안 해시한다.
+ * 보안 필터 체인 이후에 실행되므로 인증된 사용자도 키 범위에 포함된다.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutMs;
+    private final long pollIntervalMs;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+                             @Value("${idempotency.poll-interval-ms:200}") long pollIntervalMs) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        // 인증 응답(토큰)은 저장하지 않는다
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !MUTATING_METHODS.contains(request.getMethod())
+                || !uri.startsWith("/api/")
+                || uri.startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        Principal principal = request.getUserPrincipal();
+        String key = IdempotencyStore.scope(request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                principal == null ? null : principal.getName(), idempotencyKey);
+
+        Supplier<String> requestHash;
+        if (isForm(request)) {
+            // 폼 파라미터는 컨테이너가 본문에서 읽으므로 본문 대신 파라미터로 해시한다
+            String formHash = IdempotencyStore.requestHash(formParameters(request));
+            requestHash = () -> formHash;
+        } else {
+            // 본문을 미리 모으지 않고, 실행하면 컨트롤러가 읽는 동안, 재생하면 비교 직전에 흘려 읽으며 해시한다
+            DigestingRequest digesting = new DigestingRequest(request);
+            requestHash = digesting::finish;
+            request = digesting;
+        }
+
+        while (true) {
+            StoredResponse recent = idempotencyStore.findRecent(key);
+            if (recent != null) {
+                replay(response, recent, requestHash.get());
+                return;
+            }
+
+            CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = idempotencyStore.begin(key, execution);
+            if (running == null) {
+                execute(request, response, filterChain, key, requestHash, execution);
+                return;
+            }
+
+            try {
+                replay(response, running.get(waitTimeoutMs, TimeUnit.MILLISECONDS), requestHash.get());
+                return;
+            } catch (ExecutionException e) {
+                // 최초 실행이 예외로 끝났으므로 다시 실행 권한을 다툰다
+                log.debug("Idempotency-Key 최초 실행 실패, 재시도: {}", e.getCause().getMessage());
+            } catch (TimeoutException e) {
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                return;
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, Supplier<String> requestHash, CompletableFuture<StoredResponse> execution)
+            throws ServletException, IOException {
+        // 메모리에서 밀려났거나 재시작 이전에 처리된 키인지, 다른 인스턴스가 실행 중인지 실행 권한을 얻은 뒤 확인한다
+        IdempotencyStore.Claim claim = claim(key, execution);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        while (claim.outcome() == IdempotencyStore.Claim.Outcome.IN_PROGRESS) {
+            if (System.nanoTime() >= deadline || !sleep(pollIntervalMs)) {
+                idempotencyStore.abandon(key, execution, new IllegalStateException("다른 인스턴스에서 처리 중"));
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                return;
+            }
+            claim = claim(key, execution);
+        }
+
+        if (claim.outcome() == IdempotencyStore.Claim.Outcome.STORED) {
+            idempotencyStore.share(key, execution, claim.stored());
+            replay(response, claim.stored(), requestHash.get());
+            return;
+        }
+
+        String claimToken = claim.claimToken();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException | Error e) {
+            idempotencyStore.release(key, claimToken);
+            idempotencyStore.abandon(key, execution, e);
+            throw e;
+        }
+
+        idempotencyStore.complete(key, claimToken, execution, new StoredResponse(requestHash.get(),
+                wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+        wrapper.copyBodyToResponse();
+    }
+
+    private IdempotencyStore.Claim claim(String key, CompletableFuture<StoredResponse> execution) {
+        try {
+            return idempotencyStore.claim(key);
+        } catch (RuntimeException e) {
+            idempotencyStore.abandon(key, execution, e);
+            throw e;
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.regionMatches(true, 0,
+                MediaType.APPLICATION_FORM_URLENCODED_VALUE, 0, MediaType.APPLICATION_FORM_URLENCODED_VALUE.length());
+    }
+
+    private static byte[] formParameters(HttpServletRequest request) {
+        StringBuilder raw = new StringBuilder();
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                raw.append(name).append('=').append(String.join(",", values)).append('\n'));
+        return raw.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 같은 키로 본문이 다른 요청이면 최초 응답 대신 422
+    private void replay(HttpServletResponse response, StoredResponse stored, String requestHash) throws IOException {
+        if (!stored.matches(requestHash)) {
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.fail(errorCode));
+    }
+}
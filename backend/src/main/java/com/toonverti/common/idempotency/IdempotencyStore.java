@@ -0,0 +1,246 @@
+package com.toonverti.common.idempotency;
+
+import com.toonverti.domain.idempotency.IdempotencyRecord;
+import com.toonverti.domain.idempotency.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency-Key 응답 저장소
+ *
+ * 최근 응답은 크기 제한이 있는 LRU 메모리 맵에서 바로 돌려주고, 메모리에서 밀려났거나
+ * 서버가 재시작된 경우에는 idempotency_records 테이블에서 찾는다.
+ * 실행 중인 키는 in-flight 맵에 등록해 같은 키의 동시 재시도가 한 번의 실행을 기다리게 한다.
+ * 다른 인스턴스에 들어온 재시도와는 테이블에 PENDING 행을 먼저 넣는 쪽만 실행하는 것으로 가른다.
+ * 선점 기한(pending-lease-ms)은 가장 오래 걸리는 요청보다 길어야 한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration pendingLease;
+    private final int maxEntries;
+    private final int maxBodyBytes;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Map<String, CachedResponse> recent;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            Clock clock,
+                            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                            @Value("${idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${idempotency.max-body-bytes:1048576}") int maxBodyBytes,
+                            @Value("${idempotency.pending-lease-ms:60000}") long pendingLeaseMs) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.clock = clock;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.maxEntries = maxEntries;
+        this.maxBodyBytes = maxBodyBytes;
+        this.pendingLease = Duration.ofMillis(pendingLeaseMs);
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > IdempotencyStore.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 요청 범위를 포함한 저장 키
+     * 같은 헤더 값이라도 경로나 사용자가 다르면 다른 요청으로 본다.
+     */
+    public static String scope(String method, String uri, String query, String principal, String key) {
+        String raw = method + ' ' + uri + '?' + (query == null ? "" : query)
+                + '\n' + (principal == null ? "" : principal) + '\n' + key;
+        return sha256(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 요청 본문의 해시, 같은 키로 다른 본문을 보낸 재시도를 가려낸다
+    public static String requestHash(byte[] body) {
+        return sha256(body);
+    }
+
+    // 메모리에 있는 최초 응답, 없거나 만료되었으면 null
+    public StoredResponse findRecent(String key) {
+        synchronized (recent) {
+            CachedResponse cached = recent.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt().isBefore(LocalDateTime.now(clock))) {
+                recent.remove(key);
+                return null;
+            }
+            return cached.response();
+        }
+    }
+
+    /**
+     * 테이블에서 키를 선점한다.
+     * 이미 응답이 저장되어 있으면(메모리에서 밀려났거나 재시작 이후) 그 응답을 메모리에 다시 올려 돌려준다.
+     * 본문 해시는 실행하면서 계산하므로, 다른 인스턴스가 실행 중인 요청과 본문이 같은지는 응답이 저장된 뒤에 가린다.
+     */
+    public Claim claim(String key) {
+        String claimToken = UUID.randomUUID().toString().replace("-", "");
+        while (true) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDateTime leaseUntil = now.plus(pendingLease);
+            if (idempotencyRecordRepository.insertPending(key, claimToken, EMPTY, now, leaseUntil) > 0
+                    || idempotencyRecordRepository.reclaimExpired(key, claimToken, EMPTY, now, leaseUntil) > 0) {
+                return Claim.claimed(claimToken);
+            }
+            IdempotencyRecord record = idempotencyRecordRepository.findById(key).orElse(null);
+            if (record == null) {
+                // 확인하는 사이에 선점이 풀렸다
+                continue;
+            }
+            if (record.isPending()) {
+                return Claim.IN_PROGRESS;
+            }
+            StoredResponse response = new StoredResponse(record.getRequestHash(),
+                    record.getStatus(), record.getContentType(), record.getBody());
+            remember(key, response, record.getExpiresAt());
+            return new Claim(response);
+        }
+    }
+
+    /**
+     * 실행 권한을 얻는다.
+     *
+     * @return 이 호출이 실행해야 하면 null, 같은 키가 이미 실행 중이면 그 실행의 결과
+     */
+    public CompletableFuture<StoredResponse> begin(String key, CompletableFuture<StoredResponse> execution) {
+        return inFlight.putIfAbsent(key, execution);
+    }
+
+    /**
+     * 실행 결과를 저장하고 기다리던 재시도들에 넘긴다.
+     * 메모리 저장이 in-flight 해제보다 먼저라서, 그 사이에 도착한 재시도도 결과를 보게 된다.
+     */
+    public void complete(String key, String claimToken, CompletableFuture<StoredResponse> execution,
+                         StoredResponse response) {
+        try {
+            if (response.isReplayable()) {
+                save(key, claimToken, response);
+            } else {
+                release(key, claimToken);
+            }
+        } finally {
+            share(key, execution, response);
+        }
+    }
+
+    // 이미 저장된 응답을 기다리던 재시도들에 넘긴다
+    public void share(String key, CompletableFuture<StoredResponse> execution, StoredResponse response) {
+        inFlight.remove(key, execution);
+        execution.complete(response);
+    }
+
+    // 실행이 예외로 끝나면 기다리던 재시도 중 하나가 다시 실행한다
+    public void abandon(String key, CompletableFuture<StoredResponse> execution, Throwable cause) {
+        inFlight.remove(key, execution);
+        execution.completeExceptionally(cause);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        synchronized (recent) {
+            recent.values().removeIf(cached -> cached.expiresAt().isBefore(now));
+        }
+        int deleted = idempotencyRecordRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 응답 삭제: {}건", deleted);
+        }
+    }
+
+    private void save(String key, String claimToken, StoredResponse response) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(ttl);
+        remember(key, response, expiresAt);
+
+        if (response.body().length > maxBodyBytes) {
+            log.warn("응답이 커서 Idempotency-Key 응답을 메모리에만 보관합니다: size={}", response.body().length);
+            release(key, claimToken);
+            return;
+        }
+        try {
+            idempotencyRecordRepository.completePending(key, claimToken, response.requestHash(),
+                    response.status(), response.contentType(), response.body(), expiresAt);
+        } catch (DataAccessException e) {
+            // 메모리에는 남아 있으므로 이 서버에서의 재시도는 계속 재생된다, 다른 서버는 선점 기한 뒤에 다시 실행한다
+            log.warn("Idempotency-Key 응답 저장 실패: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    // 선점한 요청이 예외로 끝나면 선점을 풀어 다음 재시도가 다시 실행하게 한다
+    public void release(String key, String claimToken) {
+        try {
+            idempotencyRecordRepository.releasePending(key, claimToken);
+        } catch (DataAccessException e) {
+            // 선점 기한이 지나면 다시 실행할 수 있다
+            log.warn("Idempotency-Key 선점 해제 실패: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void remember(String key, StoredResponse response, LocalDateTime expiresAt) {
+        synchronized (recent) {
+            recent.put(key, new CachedResponse(response, expiresAt));
+        }
+    }
+
+    private static String sha256(byte[] source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedResponse(StoredResponse response, LocalDateTime expiresAt) {
+    }
+
+    /**
+     * 선점 결과
+     * CLAIMED: 이 요청이 실행한다 (claimToken 으로 완료/해제한다), IN_PROGRESS: 다른 인스턴스가 실행 중이다,
+     * 그 밖에는 저장된 응답(stored)을 돌려준다.
+     */
+    public record Claim(Outcome outcome, StoredResponse stored, String claimToken) {
+
+        static final Claim IN_PROGRESS = new Claim(Outcome.IN_PROGRESS, null, null);
+
+        Claim(StoredResponse stored) {
+            this(Outcome.STORED, stored, null);
+        }
+
+        static Claim claimed(String claimToken) {
+            return new Claim(Outcome.CLAIMED, null, claimToken);
+        }
+
+        public enum Outcome {
+            CLAIMED, IN_PROGRESS, STORED
+        }
+    }
+}
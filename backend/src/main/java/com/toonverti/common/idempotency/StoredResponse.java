@@ -0,0 +1,19 @@
+package com.toonverti.common.idempotency;
+
+/**
+ * 재시도에 그대로 돌려줄 최초 응답 (상태 코드, Content-Type, 본문)
+ *
+ * requestHash는 최초 요청 본문의 해시로, 같은 키의 재시도가 같은 본문인지 확인하는 데 쓴다.
+ */
+public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+
+    // 5xx는 일시적 실패일 수 있으므로 저장하지 않고 다음 재시도에서 다시 실행한다
+    public boolean isReplayable() {
+        return status < 500;
+    }
+
+    // 본문 해시를 저장하기 전에 기록된 응답은 비교할 수 없으므로 같은 요청으로 본다
+    public boolean matches(String requestHash) {
+        return this.requestHash == null || this.requestHash.equals(requestHash);
+    }
+}
@@ -42,6 +42,11 @@ public class ApiResponse<T> {
         return new ApiResponse<>(false, null, errorCode.getStatus(), message, null);
     }
 
+    // 실패 응답 - 클라이언트가 복구에 쓸 데이터 포함
+    public static <T> ApiResponse<T> fail(ErrorCode errorCode, String message, T data) {
+        return new ApiResponse<>(false, data, errorCode.getStatus(), message, null);
+    }
+
     public static <T> ApiResponse<T> fail(ErrorCode errorCode, List<FieldError> errors) {
         return new ApiResponse<>(false, null, errorCode.getStatus(), errorCode.getMessage(), errors);
     }
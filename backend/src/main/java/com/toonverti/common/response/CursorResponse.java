@@ -0,0 +1,17 @@
+package com.toonverti.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이지 응답
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class CursorResponse<T> {
+    private final List<T> items;
+    // 다음 페이지 요청에 그대로 넘긴다, 마지막 페이지면 null
+    private final String nextCursor;
+}
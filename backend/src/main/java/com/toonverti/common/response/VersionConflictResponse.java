@@ -0,0 +1,15 @@
+package com.toonverti.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 낙관적 잠금 충돌(409) 응답 데이터
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class VersionConflictResponse {
+    private final Long id;
+    // 다시 조회하지 않고 이 버전으로 재시도할 수 있다
+    private final long currentVersion;
+}
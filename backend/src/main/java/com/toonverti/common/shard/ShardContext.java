@@ -0,0 +1,45 @@
+package com.toonverti.common.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 접근할 샤드
+ *
+ * 지정하지 않으면 0번 샤드로 간다. 트랜잭션은 시작할 때 잡은 연결을 끝까지 쓰므로 샤드는 반드시
+ * 트랜잭션 바깥에서 정해야 하고, 한 트랜잭션 안에서 다른 샤드를 읽으려면 새 트랜잭션을 열어야 한다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return 지정된 샤드, 없으면 null
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(int shard, Runnable action) {
+        call(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.toonverti.common.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 파라미터로 샤드를 정해 메서드 전체(트랜잭션 포함)를 그 샤드에서 실행한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+
+    Type value();
+
+    enum Type {
+        USER,
+        DIARY
+    }
+}
@@ -0,0 +1,107 @@
+package com.toonverti.common.shard;
+
+import com.toonverti.exception.ShardMoveInProgressException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+/**
+ * 서비스 메서드의 {@link ShardKey} 파라미터를 보고 ShardContext를 지정한다
+ *
+ * 트랜잭션이 연결을 잡기 전에 샤드가 정해져야 하므로 트랜잭션 어드바이스보다 바깥에서 실행된다.
+ * 사용자 키로 들어오면 그 샤드에 사용자 행이 있는지 먼저 확인한다 (다이어리의 외래 키).
+ * 다른 샤드로 옮기는 중인 사용자/다이어리의 호출은 옮기기가 끝날 때까지 거절한다.
+ */
+public class ShardKeyInterceptor implements MethodInterceptor {
+
+    // 어드바이저는 다른 빈보다 먼저 만들어지므로 라우터는 처음 호출될 때 꺼낸다
+    private final ObjectProvider<ShardRouter> shardRouter;
+    private final ObjectProvider<ShardReferenceReplicator> shardReferenceReplicator;
+
+    public ShardKeyInterceptor(ObjectProvider<ShardRouter> shardRouter,
+                               ObjectProvider<ShardReferenceReplicator> shardReferenceReplicator) {
+        this.shardRouter = shardRouter;
+        this.shardReferenceReplicator = shardReferenceReplicator;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(),
+                invocation.getThis() != null ? invocation.getThis().getClass() : invocation.getMethod().getDeclaringClass());
+        int index = keyIndex(method);
+        Object key = index < 0 ? null : invocation.getArguments()[index];
+        if (key == null) {
+            return invocation.proceed();
+        }
+
+        ShardKey.Type type = findShardKey(method.getParameterAnnotations()[index]).value();
+        Long id = ((Number) key).longValue();
+        ShardRouter router = shardRouter.getObject();
+        if (router.isMoving(type, id)) {
+            throw new ShardMoveInProgressException(type.name().toLowerCase(), id);
+        }
+        int shard = type == ShardKey.Type.USER ? router.shardOfUser(id) : router.shardOfDiary(id);
+
+        Integer current = ShardContext.current();
+        if (current != null && current != shard) {
+            throw new IllegalStateException("다른 샤드에서 실행 중인 호출입니다: current=" + current + ", target=" + shard);
+        }
+        if (type == ShardKey.Type.USER) {
+            shardReferenceReplicator.getObject().ensureUser(id, shard);
+        }
+        try {
+            return ShardContext.call(shard, () -> {
+                try {
+                    return invocation.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedInvocationException(e);
+                }
+            });
+        } catch (CheckedInvocationException e) {
+            throw e.getCause();
+        }
+    }
+
+    static int keyIndex(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            if (findShardKey(annotations[i]) != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static ShardKey findShardKey(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof ShardKey shardKey) {
+                return shardKey;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@link ShardKey} 파라미터가 있는 메서드만 고른다.
+     */
+    public static class ShardKeyPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return keyIndex(AopUtils.getMostSpecificMethod(method, targetClass)) >= 0;
+        }
+    }
+
+    private static final class CheckedInvocationException extends RuntimeException {
+        private CheckedInvocationException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.toonverti.common.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전역 테이블의 행 중 샤드 데이터가 외래 키로 가리키는 것을 각 샤드에 복사해 둔다
+ *
+ * 원본은 항상 0번 샤드에 있고 샤드의 복사본은 조인과 외래 키를 위한 것이다.
+ * - users: 다이어리가 있는 샤드에만, 처음 쓰일 때와 프로필이 바뀔 때 복사한다.
+ * - sticker_assets: 등록될 때 모든 샤드에 같은 ID로 복사한다.
+ */
+@Slf4j
+@Component
+public class ShardReferenceReplicator {
+
+    private final ShardRouter shardRouter;
+    private final ShardRowCopier shardRowCopier;
+    private final TransactionTemplate requiresNewTransaction;
+
+    private final Set<UserCopy> copiedUsers = ConcurrentHashMap.newKeySet();
+
+    public ShardReferenceReplicator(ShardRouter shardRouter,
+                                    ShardRowCopier shardRowCopier,
+                                    PlatformTransactionManager transactionManager) {
+        this.shardRouter = shardRouter;
+        this.shardRowCopier = shardRowCopier;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void ensureUser(Long userId, int shard) {
+        if (shard == ShardRouter.GLOBAL_SHARD || copiedUsers.contains(new UserCopy(userId, shard))) {
+            return;
+        }
+        copyUser(userId, shard);
+    }
+
+    // 프로필이 바뀌면 사용자가 있는 샤드의 복사본을 새로 쓴다
+    public void refreshUser(Long userId) {
+        int shard = shardRouter.shardOfUser(userId);
+        if (shard != ShardRouter.GLOBAL_SHARD) {
+            copyUser(userId, shard);
+        }
+    }
+
+    public void replicateAsset(Integer assetId) {
+        if (shardRouter.getShardCount() == 1) {
+            return;
+        }
+        List<Map<String, Object>> rows = shardRowCopier.read(ShardRouter.GLOBAL_SHARD,
+                "SELECT * FROM sticker_assets WHERE id = ?", assetId);
+        if (rows.isEmpty()) {
+            return;
+        }
+        for (int shard = 1; shard < shardRouter.getShardCount(); shard++) {
+            ShardContext.run(shard, () -> requiresNewTransaction.executeWithoutResult(status ->
+                    shardRowCopier.upsert("sticker_assets", rows.get(0))));
+        }
+    }
+
+    /**
+     * 0번 샤드에만 있는 에셋을 다른 샤드에 채운다 (기동 시, 샤드를 추가했을 때).
+     */
+    public int syncAssets() {
+        List<Map<String, Object>> rows = shardRowCopier.read(ShardRouter.GLOBAL_SHARD, "SELECT * FROM sticker_assets");
+        int copied = 0;
+        for (int shard = 1; shard < shardRouter.getShardCount(); shard++) {
+            Set<Long> existing = new HashSet<>();
+            shardRowCopier.read(shard, "SELECT id FROM sticker_assets").forEach(row -> existing.add(idOf(row)));
+            List<Map<String, Object>> missing = rows.stream()
+                    .filter(row -> !existing.contains(idOf(row)))
+                    .toList();
+            if (missing.isEmpty()) {
+                continue;
+            }
+            ShardContext.run(shard, () -> requiresNewTransaction.executeWithoutResult(status ->
+                    missing.forEach(row -> shardRowCopier.insertWithId("sticker_assets", row))));
+            copied += missing.size();
+        }
+        return copied;
+    }
+
+    private void copyUser(Long userId, int shard) {
+        List<Map<String, Object>> rows = shardRowCopier.read(ShardRouter.GLOBAL_SHARD,
+                "SELECT * FROM users WHERE id = ?", userId);
+        if (rows.isEmpty()) {
+            // 없는 사용자는 서비스에서 404로 처리된다
+            return;
+        }
+        ShardContext.run(shard, () -> requiresNewTransaction.executeWithoutResult(status ->
+                shardRowCopier.upsert("users", rows.get(0))));
+        copiedUsers.add(new UserCopy(userId, shard));
+        log.debug("사용자 행 복사: userId={}, shard={}", userId, shard);
+    }
+
+    private static Long idOf(Map<String, Object> row) {
+        return row.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase("id"))
+                .findFirst()
+                .map(entry -> ((Number) entry.getValue()).longValue())
+                .orElseThrow();
+    }
+
+    private record UserCopy(Long userId, int shard) {
+    }
+}
@@ -0,0 +1,356 @@
+package com.toonverti.common.shard;
+
+import com.toonverti.domain.shard.UserShardAssignment;
+import com.toonverti.domain.shard.UserShardAssignmentRepository;
+import com.toonverti.domain.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 사용자/다이어리 ID로 샤드를 정한다
+ *
+ * 사용자는 처음 샤드 키로 쓰일 때 ID 해시로 샤드를 정해 디렉터리(user_shard_assignments)에 기록하고,
+ * 이후에는 디렉터리를 따른다. 샤드를 늘려도 기존 사용자는 움직이지 않고, 옮길 때는 디렉터리만 바꾼다.
+ * legacy-max-user-id 이하 사용자는 샤딩 전부터 있던 사용자로 보고 디렉터리에 없으면 0번 샤드에 둔다.
+ *
+ * 다이어리 ID는 샤드마다 id-stride 간격으로 발급되어(ID % id-stride = 샤드 번호) ID만 보고 샤드를 안다.
+ * legacy-max-diary-id 이하 다이어리는 샤딩 전에 만들어진 것으로 0번 샤드에 있다.
+ *
+ * 배정은 최근에 쓰인 사용자만 directory-cache-size 만큼 캐시하고, 없으면 디렉터리에서 읽는다.
+ * 다른 인스턴스가 바꾼 배정과 이동 표시는 updated_at이 바뀐 행만 directory-refresh-ms 마다 읽어 반영한다.
+ * 인스턴스 간 시계 차이는 directory-poll-overlap-ms 보다 작아야 한다.
+ *
+ * 사용자를 옮기는 동안에는 디렉터리에 이동 표시(moving_since)를 남겨 모든 인스턴스가 그 사용자와
+ * 다이어리의 호출을 거절한다. 옮기는 쪽은 move-settle-ms 동안 기다려 다른 인스턴스가 표시를 읽고
+ * 표시 전에 시작된 쓰기가 끝난 뒤에 복사한다. 옮기던 인스턴스가 죽어 남은 표시는 move-timeout-ms 뒤에 풀린다.
+ *
+ * sharding.enabled=false 이면 모든 요청이 0번 샤드(기존 데이터소스 하나)로 간다.
+ */
+@Slf4j
+@Component
+public class ShardRouter implements SmartInitializingSingleton {
+
+    // 사용자, 작품, 서재, 친구처럼 샤딩하지 않는 테이블이 있는 샤드
+    public static final int GLOBAL_SHARD = 0;
+
+    private final UserShardAssignmentRepository userShardAssignmentRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int shardCount;
+    private final int idStride;
+    private final long legacyMaxUserId;
+    private final long legacyMaxDiaryId;
+    private final long pollOverlapMs;
+    private final long moveSettleMs;
+    private final long moveTimeoutMs;
+
+    // access-order LinkedHashMap으로 LRU 구현
+    private final LinkedHashMap<Long, Integer> directory;
+    // 디렉터리를 읽는 동안 배정이 바뀌었는지 판단하기 위한 세대 번호 (directory 잠금으로 보호)
+    private long directoryGeneration;
+    private volatile LocalDateTime lastPolledAt;
+
+    // 옮기는 중인 사용자와 표시한 시각 (다른 인스턴스가 옮기는 사용자 포함)
+    private final Map<Long, LocalDateTime> movingUsers = new ConcurrentHashMap<>();
+    // 이 인스턴스가 옮기는 사용자, 표시를 풀 때 같은 표시인지 확인한다
+    private final Map<Long, LocalDateTime> ownMoves = new ConcurrentHashMap<>();
+    private final Set<Long> movingDiaries = ConcurrentHashMap.newKeySet();
+
+    public ShardRouter(UserShardAssignmentRepository userShardAssignmentRepository,
+                       UserRepository userRepository,
+                       JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       Clock clock,
+                       @Value("${sharding.enabled:false}") boolean enabled,
+                       @Value("${sharding.extra-urls:}") List<String> extraUrls,
+                       @Value("${sharding.id-stride:64}") int idStride,
+                       @Value("${sharding.legacy-max-user-id:0}") long legacyMaxUserId,
+                       @Value("${sharding.legacy-max-diary-id:0}") long legacyMaxDiaryId,
+                       @Value("${sharding.directory-cache-size:100000}") int directoryCacheSize,
+                       @Value("${sharding.directory-poll-overlap-ms:10000}") long pollOverlapMs,
+                       @Value("${sharding.move-settle-ms:15000}") long moveSettleMs,
+                       @Value("${sharding.move-timeout-ms:3600000}") long moveTimeoutMs) {
+        this.userShardAssignmentRepository = userShardAssignmentRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.shardCount = enabled ? 1 + extraUrls.size() : 1;
+        this.idStride = idStride;
+        this.legacyMaxUserId = legacyMaxUserId;
+        this.legacyMaxDiaryId = legacyMaxDiaryId;
+        this.pollOverlapMs = pollOverlapMs;
+        this.moveSettleMs = moveSettleMs;
+        this.moveTimeoutMs = moveTimeoutMs;
+        this.directory = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > directoryCacheSize;
+            }
+        };
+        if (idStride < shardCount) {
+            throw new IllegalArgumentException("sharding.id-stride는 샤드 수 이상이어야 합니다: stride="
+                    + idStride + ", shards=" + shardCount);
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        // 배정은 쓰일 때 읽고, 진행 중인 이동 표시만 미리 읽는다
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<UserShardAssignment> moving = ShardContext.call(GLOBAL_SHARD, () ->
+                userShardAssignmentRepository.findByMovingSinceAfter(now.minus(moveTimeoutMs, ChronoUnit.MILLIS)));
+        moving.forEach(assignment -> movingUsers.put(assignment.getUserId(), assignment.getMovingSince()));
+        lastPolledAt = now;
+        log.info("샤딩 사용: shards={}, idStride={}, movingUsers={}", shardCount, idStride, moving.size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int getIdStride() {
+        return idStride;
+    }
+
+    public List<Integer> shards() {
+        return IntStream.range(0, shardCount).boxed().toList();
+    }
+
+    public int shardOfUser(Long userId) {
+        if (!enabled) {
+            return GLOBAL_SHARD;
+        }
+        long generation;
+        synchronized (directory) {
+            Integer shard = directory.get(userId);
+            if (shard != null) {
+                return shard;
+            }
+            generation = directoryGeneration;
+        }
+        // 다른 인스턴스가 배정했을 수 있으니 디렉터리를 먼저 보고, 없으면 여기서 배정한다
+        Integer assigned;
+        try {
+            assigned = ShardContext.call(GLOBAL_SHARD, () -> requiresNewTransaction.execute(status -> place(userId)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 배정했다
+            assigned = ShardContext.call(GLOBAL_SHARD, () -> requiresNewTransaction.execute(status ->
+                    userShardAssignmentRepository.findById(userId).map(UserShardAssignment::getShard).orElseThrow(() -> e)));
+        }
+        if (assigned == null) {
+            // 없는 사용자는 배정하지 않는다, 전역 샤드에서 찾지 못해 404가 된다
+            return GLOBAL_SHARD;
+        }
+        synchronized (directory) {
+            // 읽는 사이에 반영된 변경이 있으면 읽은 값이 이미 오래되었을 수 있어 캐시하지 않는다
+            if (directoryGeneration == generation) {
+                directory.putIfAbsent(userId, assigned);
+            }
+        }
+        return assigned;
+    }
+
+    public int shardOfDiary(Long diaryId) {
+        if (!enabled || diaryId <= legacyMaxDiaryId) {
+            return GLOBAL_SHARD;
+        }
+        int shard = (int) Math.floorMod(diaryId, (long) idStride);
+        // 어느 샤드에도 속하지 않는 ID는 전역 샤드에서 찾지 못해 404가 된다
+        return shard < shardCount ? shard : GLOBAL_SHARD;
+    }
+
+    /**
+     * 사용자를 다른 샤드로 배정한다. 데이터 이동은 호출 측 책임이다.
+     */
+    public void reassign(Long userId, int shard) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("없는 샤드입니다: " + shard);
+        }
+        ShardContext.run(GLOBAL_SHARD, () -> requiresNewTransaction.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            userShardAssignmentRepository.findById(userId).ifPresentOrElse(
+                    assignment -> assignment.reassign(shard, now),
+                    () -> userShardAssignmentRepository.save(new UserShardAssignment(userId, shard, now)));
+        }));
+        synchronized (directory) {
+            directory.put(userId, shard);
+            directoryGeneration++;
+        }
+    }
+
+    /**
+     * 디렉터리에 이동 표시를 남긴다. 복사는 {@link #awaitMoveVisible()} 뒤에 시작해야 한다.
+     *
+     * @return 이미 옮기는 중이면 false
+     */
+    public boolean beginMove(Long userId, int sourceShard) {
+        // DB 컬럼 정밀도에 맞춰 두어야 표시를 풀 때 같은 값으로 비교된다
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+        boolean marked;
+        try {
+            marked = ShardContext.call(GLOBAL_SHARD, () -> requiresNewTransaction.execute(status -> {
+                if (!userShardAssignmentRepository.existsById(userId)) {
+                    // 샤딩 전부터 있던 사용자는 배정 행이 없다
+                    userShardAssignmentRepository.saveAndFlush(new UserShardAssignment(userId, sourceShard, now));
+                }
+                return userShardAssignmentRepository.markMoving(userId, now,
+                        now.minus(moveTimeoutMs, ChronoUnit.MILLIS)) == 1;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 사용자의 배정 행을 먼저 만들었다
+            return false;
+        }
+        if (!marked) {
+            return false;
+        }
+        ownMoves.put(userId, now);
+        movingUsers.put(userId, now);
+        return true;
+    }
+
+    /**
+     * 다른 인스턴스가 이동 표시를 읽어 가고, 표시 전에 받은 요청이 끝날 때까지 기다린다.
+     */
+    public void awaitMoveVisible() {
+        try {
+            Thread.sleep(moveSettleMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 이동 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    public void lockDiaries(Collection<Long> diaryIds) {
+        movingDiaries.addAll(diaryIds);
+    }
+
+    public void endMove(Long userId, Collection<Long> diaryIds) {
+        movingDiaries.removeAll(diaryIds);
+        LocalDateTime since = ownMoves.remove(userId);
+        if (since != null) {
+            try {
+                ShardContext.run(GLOBAL_SHARD, () -> requiresNewTransaction.executeWithoutResult(status ->
+                        userShardAssignmentRepository.clearMoving(userId, since, LocalDateTime.now(clock))));
+            } catch (RuntimeException e) {
+                log.warn("이동 표시 해제 실패, move-timeout-ms 뒤에 풀린다: userId={}", userId, e);
+            }
+        }
+        movingUsers.remove(userId);
+    }
+
+    public boolean isMoving(ShardKey.Type type, Long id) {
+        if (type == ShardKey.Type.USER) {
+            return movingUsers.containsKey(id);
+        }
+        if (movingDiaries.contains(id)) {
+            return true;
+        }
+        if (movingUsers.isEmpty()) {
+            return false;
+        }
+        // 다른 인스턴스가 옮기는 사용자의 다이어리는 ID 목록을 모르므로 작성자로 확인한다
+        Long owner = ownerOfDiary(id);
+        return owner != null && movingUsers.containsKey(owner);
+    }
+
+    /**
+     * 지난번 이후 바뀐 배정과 이동 표시를 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${sharding.directory-refresh-ms:5000}")
+    public void reloadDirectory() {
+        if (!enabled || lastPolledAt == null) {
+            return;
+        }
+        LocalDateTime polledAt = LocalDateTime.now(clock);
+        LocalDateTime since = lastPolledAt.minus(pollOverlapMs, ChronoUnit.MILLIS);
+        List<UserShardAssignment> changed = ShardContext.call(GLOBAL_SHARD, () ->
+                userShardAssignmentRepository.findByUpdatedAtAfter(since));
+        synchronized (directory) {
+            for (UserShardAssignment assignment : changed) {
+                directory.computeIfPresent(assignment.getUserId(), (userId, shard) -> assignment.getShard());
+            }
+            if (!changed.isEmpty()) {
+                directoryGeneration++;
+            }
+        }
+
+        LocalDateTime staleBefore = polledAt.minus(moveTimeoutMs, ChronoUnit.MILLIS);
+        for (UserShardAssignment assignment : changed) {
+            Long userId = assignment.getUserId();
+            LocalDateTime movingSince = assignment.getMovingSince();
+            if (movingSince != null && movingSince.isAfter(staleBefore)) {
+                movingUsers.put(userId, movingSince);
+            } else if (!ownMoves.containsKey(userId)) {
+                movingUsers.remove(userId);
+            }
+        }
+        movingUsers.entrySet().removeIf(entry ->
+                entry.getValue().isBefore(staleBefore) && !ownMoves.containsKey(entry.getKey()));
+        lastPolledAt = polledAt;
+    }
+
+    private Long ownerOfDiary(Long diaryId) {
+        return ShardContext.call(shardOfDiary(diaryId), () -> jdbcTemplate.queryForList(
+                        "SELECT user_id FROM diaries WHERE id = ? UNION ALL SELECT user_id FROM archived_diaries WHERE id = ?",
+                        Long.class, diaryId, diaryId))
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Integer place(Long userId) {
+        Integer existing = userShardAssignmentRepository.findById(userId)
+                .map(UserShardAssignment::getShard)
+                .orElse(null);
+        if (existing != null) {
+            return existing;
+        }
+        if (userId <= legacyMaxUserId) {
+            return GLOBAL_SHARD;
+        }
+        if (!userRepository.existsById(userId)) {
+            return null;
+        }
+        int shard = defaultShard(userId);
+        userShardAssignmentRepository.saveAndFlush(new UserShardAssignment(userId, shard, LocalDateTime.now(clock)));
+        log.debug("사용자 샤드 배정: userId={}, shard={}", userId, shard);
+        return shard;
+    }
+
+    // 연속된 ID가 한 샤드에 몰리지 않도록 섞은 뒤 나눈다
+    private int defaultShard(Long userId) {
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shardCount);
+    }
+}
@@ -0,0 +1,101 @@
+package com.toonverti.common.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 샤드 사이에 테이블 행을 그대로 옮겨 적는 JDBC 도우미
+ *
+ * 읽기는 지정한 샤드에서 별도 트랜잭션으로 하고(호출 측 트랜잭션이 다른 샤드의 연결을 잡고 있을 수 있다),
+ * 쓰기는 호출 측이 정한 샤드와 트랜잭션에서 한다.
+ * 컬럼 목록은 읽은 행에서 가져오므로 엔티티에 컬럼이 늘어도 고칠 필요가 없다.
+ */
+@Component
+public class ShardRowCopier {
+
+    private static final String ID = "id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+
+    public ShardRowCopier(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public List<Map<String, Object>> read(int shard, String sql, Object... args) {
+        return ShardContext.call(shard, () -> readTransaction.execute(status -> jdbcTemplate.queryForList(sql, args)));
+    }
+
+    /**
+     * ID는 새로 발급받아 INSERT 하고 발급된 ID를 돌려준다.
+     *
+     * @param overrides 바꿔 넣을 컬럼 값 (외래 키 재매핑 등)
+     */
+    public long insertWithNewId(String table, Map<String, Object> row, Map<String, Object> overrides) {
+        Map<String, Object> values = normalize(row);
+        values.remove(ID);
+        overrides.forEach((column, value) -> values.put(column.toLowerCase(Locale.ROOT), value));
+
+        String sql = insertSql(table, values);
+        List<Object> args = new ArrayList<>(values.values());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[]{ID});
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey(), "생성된 ID가 없습니다: " + table).longValue();
+    }
+
+    /**
+     * 같은 ID의 행이 있으면 덮어쓰고, 없으면 ID 그대로 INSERT 한다.
+     */
+    public void upsert(String table, Map<String, Object> row) {
+        Map<String, Object> values = normalize(row);
+        Object id = values.remove(ID);
+
+        List<Object> args = new ArrayList<>(values.values());
+        args.add(id);
+        String updateSql = "UPDATE " + table + " SET " + String.join(" = ?, ", values.keySet()) + " = ? WHERE id = ?";
+        if (jdbcTemplate.update(updateSql, args.toArray()) > 0) {
+            return;
+        }
+        insertWithId(table, row);
+    }
+
+    // ID 그대로 INSERT 한다
+    public void insertWithId(String table, Map<String, Object> row) {
+        Map<String, Object> values = normalize(row);
+        jdbcTemplate.update(insertSql(table, values), values.values().toArray());
+    }
+
+    private static String insertSql(String table, Map<String, Object> values) {
+        return "INSERT INTO " + table + " (" + String.join(", ", values.keySet()) + ") VALUES ("
+                + String.join(", ", values.keySet().stream().map(column -> "?").toList()) + ")";
+    }
+
+    // DB마다 컬럼 이름 대소문자가 달라 소문자로 맞춘다
+    private static Map<String, Object> normalize(Map<String, Object> row) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        row.forEach((column, value) -> values.put(column.toLowerCase(Locale.ROOT), value));
+        return values;
+    }
+}
@@ -0,0 +1,87 @@
+package com.toonverti.common.shard;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 기동 시 샤드를 쓸 수 있는 상태로 맞춘다
+ *
+ * - initialize-schema=true 이면 테이블이 없는 샤드에 엔티티 스키마를 만든다 (로컬/테스트용 빈 DB).
+ * - 샤드마다 다이어리 ID가 (ID % id-stride = 샤드 번호)로 발급되도록 IDENTITY의 증가폭과 다음 값을 맞춘다.
+ *   평소에는 V9 마이그레이션이 샤드마다 한 번 맞추므로, 여기서는 방금 만든 스키마이거나
+ *   configure-ids=true 로 직접 켰을 때(V9를 샤딩 없이 적용한 기존 DB)만 맞춘다.
+ *   다음 값은 기존 최대 ID와 legacy-max-diary-id보다 크게 잡는다.
+ * - 0번 샤드에만 있는 스티커 에셋을 다른 샤드에 채운다.
+ */
+@Slf4j
+public class ShardSchemaInitializer {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final ShardReferenceReplicator shardReferenceReplicator;
+    private final boolean initializeSchema;
+    private final boolean configureIds;
+    private final long legacyMaxDiaryId;
+
+    public ShardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                  JdbcTemplate jdbcTemplate,
+                                  ShardRouter shardRouter,
+                                  ShardReferenceReplicator shardReferenceReplicator,
+                                  boolean initializeSchema,
+                                  boolean configureIds,
+                                  long legacyMaxDiaryId) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.shardReferenceReplicator = shardReferenceReplicator;
+        this.initializeSchema = initializeSchema;
+        this.configureIds = configureIds;
+        this.legacyMaxDiaryId = legacyMaxDiaryId;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        for (int shard : shardRouter.shards()) {
+            ShardContext.run(shard, () -> {
+                boolean created = initializeSchema && !hasSchema();
+                if (created) {
+                    entityManagerFactory.unwrap(SessionFactoryImplementor.class).getSchemaManager()
+                            .exportMappedObjects(true);
+                    log.info("샤드 스키마 생성: shard={}", ShardContext.current());
+                }
+                if (created || configureIds) {
+                    configureDiaryIds(ShardContext.current());
+                }
+            });
+        }
+        int copied = shardReferenceReplicator.syncAssets();
+        if (copied > 0) {
+            log.info("스티커 에셋을 샤드에 복사: rows={}", copied);
+        }
+    }
+
+    private boolean hasSchema() {
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM diaries WHERE 1 = 0", Long.class);
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private void configureDiaryIds(int shard) {
+        long stride = shardRouter.getIdStride();
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM diaries", Long.class);
+        long base = Math.max(maxId == null ? 0 : maxId, legacyMaxDiaryId);
+        // base 보다 큰 값 중 stride로 나눈 나머지가 샤드 번호인 가장 작은 값
+        long next = base + 1 + Math.floorMod(shard - (base + 1), stride);
+        jdbcTemplate.execute("ALTER TABLE diaries ALTER COLUMN id SET INCREMENT BY " + stride);
+        jdbcTemplate.execute("ALTER TABLE diaries ALTER COLUMN id RESTART WITH " + next);
+        log.info("샤드 다이어리 ID 설정: shard={}, next={}, stride={}", shard, next, stride);
+    }
+}
@@ -0,0 +1,92 @@
+package com.toonverti.config;
+
+import com.toonverti.common.datasource.ReadWriteRoutingDataSource;
+import com.toonverti.common.datasource.ReadYourWrites;
+import com.toonverti.common.datasource.ReadYourWritesFilter;
+import com.toonverti.common.datasource.ReplicaHealthMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 데이터소스 분리 설정 (datasource.routing.enabled=true 일 때만)
+ *
+ * 주 DB는 기존 spring.datasource.* 설정을 그대로 쓰고, 복제본은 datasource.replica.* 로 지정한다.
+ * 로컬에서는 두 내장 DB(H2)로 띄워 볼 수 있다.
+ * <pre>
+ * datasource.routing.enabled=true
+ * datasource.replica.url=jdbc:h2:mem:replica;MODE=PostgreSQL
+ * datasource.replica.username=sa
+ * </pre>
+ * 끄면 이 설정 전체가 빠지고 Spring Boot 기본 데이터소스 하나만 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:}") String username,
+                                              @Value("${datasource.replica.password:}") String password,
+                                              @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                              @Value("${datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // 복제본을 기다리느라 읽기가 늦어지지 않게 짧게 기다리고 주 DB로 넘긴다
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        // 복제본이 내려가 있어도 애플리케이션은 뜬다
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                     @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMs) {
+        return new ReplicaHealthMonitor(replicaDataSource, maxLagMs);
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${datasource.routing.sticky-window-ms:3000}") long windowMs) {
+        return new ReadYourWrites(windowMs);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWrites readYourWrites) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWrites));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaHealthMonitor replicaHealthMonitor,
+                                 ReadYourWrites readYourWrites,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+                replicaHealthMonitor, readYourWrites, meterRegistry));
+    }
+}
@@ -1,5 +1,6 @@
 package com.toonverti.config;
 
+import com.toonverti.common.idempotency.IdempotencyFilter;
 import com.toonverti.security.CustomUserDetailsService;
 import com.toonverti.security.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    public static final List<String> ALLOWED_ORIGINS = List.of("http://localhost:5173", "http://localhost:3000");
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomUserDetailsService customUserDetailsService;
 
@@ -41,8 +44,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/share/**").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // TODO: 임시 개발용 - 인증 없이 API 접근 허용 (프로덕션에서는 제거할 것)
                         .requestMatchers("/api/**").permitAll()
+                        .requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .anyRequest().authenticated())
@@ -58,10 +63,10 @@ public class SecurityConfig {
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
-        configuration.setAllowedOrigins(List.of("http://localhost:5173", "http://localhost:3000"));
+        configuration.setAllowedOrigins(ALLOWED_ORIGINS);
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", IdempotencyFilter.REPLAYED_HEADER));
         // TODO: 임시 개발용 - credentials false (프로덕션에서는 true로 변경)
         configuration.setAllowCredentials(false);
         configuration.setMaxAge(3600L);
@@ -0,0 +1,155 @@
+package com.toonverti.config;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardKeyInterceptor;
+import com.toonverti.common.shard.ShardReferenceReplicator;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.common.shard.ShardRoutingDataSource;
+import com.toonverti.common.shard.ShardSchemaInitializer;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 기준 수평 샤딩 설정 (sharding.enabled=true 일 때만)
+ *
+ * 0번 샤드는 기존 spring.datasource.* 설정을 그대로 쓰고 사용자, 작품, 서재, 친구 같은 전역 테이블도 여기에 둔다.
+ * 다이어리와 스티커는 작성자의 샤드에 저장된다. 로컬에서는 내장 DB(H2) 여러 개로 띄워 볼 수 있다.
+ * <pre>
+ * sharding.enabled=true
+ * sharding.extra-urls=jdbc:h2:mem:shard1;MODE=PostgreSQL,jdbc:h2:mem:shard2;MODE=PostgreSQL
+ * sharding.initialize-schema=true
+ * </pre>
+ * 기존 DB에 켤 때는 legacy-max-user-id / legacy-max-diary-id를 그 시점의 최대 ID로 지정해야
+ * 기존 데이터가 0번 샤드에서 그대로 조회된다. V9 마이그레이션을 샤딩 없이 이미 적용한 DB라면
+ * sharding.configure-ids=true 로 한 번 기동해 다이어리 ID 간격을 맞춘다. 읽기 복제본 분리(datasource.routing)와는 함께 쓸 수 없다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private final List<HikariDataSource> extraShards = new ArrayList<>();
+
+    public ShardingConfig(@Value("${datasource.routing.enabled:false}") boolean readReplicaRouting) {
+        if (readReplicaRouting) {
+            throw new IllegalStateException("sharding.enabled와 datasource.routing.enabled는 함께 쓸 수 없습니다.");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource globalShardDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-0");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("globalShardDataSource") DataSource globalShardDataSource,
+                                 DataSourceProperties properties,
+                                 @Value("${sharding.extra-urls}") List<String> extraUrls,
+                                 @Value("${sharding.maximum-pool-size:10}") int maximumPoolSize) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(globalShardDataSource);
+        for (String url : extraUrls) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + shards.size());
+            dataSource.setJdbcUrl(url);
+            // 샤드는 같은 계정을 쓴다
+            dataSource.setUsername(properties.determineUsername());
+            dataSource.setPassword(properties.determinePassword());
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            extraShards.add(dataSource);
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    /**
+     * 마이그레이션은 기본 데이터소스(0번 샤드)에만 적용되므로 샤드마다 같은 마이그레이션을 적용한다.
+     * 샤드 수는 ShardRouter가 아니라 설정에서 읽는다 (라우터는 마이그레이션 뒤에 만들어지는 저장소를 쓴다).
+     * 다이어리 ID 간격(V9)은 샤드 번호와 id-stride 를 placeholder 로 넘겨 샤드마다 한 번만 맞춘다.
+     */
+    @Bean
+    public FlywayMigrationStrategy shardFlywayMigrationStrategy(@Value("${sharding.extra-urls}") List<String> extraUrls,
+                                                                @Value("${sharding.id-stride:64}") int idStride,
+                                                                @Value("${sharding.legacy-max-diary-id:0}") long legacyMaxDiaryId) {
+        return flyway -> {
+            for (int shard = 0; shard <= extraUrls.size(); shard++) {
+                Map<String, String> placeholders = new HashMap<>(flyway.getConfiguration().getPlaceholders());
+                placeholders.put("shard_id", String.valueOf(shard));
+                placeholders.put("id_stride", String.valueOf(idStride));
+                placeholders.put("legacy_max_diary_id", String.valueOf(legacyMaxDiaryId));
+                Flyway shardFlyway = Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .placeholders(placeholders)
+                        .load();
+                ShardContext.run(shard, shardFlyway::migrate);
+            }
+        };
+    }
+
+    /**
+     * 요청 내내 열려 있는 EntityManager(open-in-view)가 처음 잡은 샤드의 연결을 계속 들고 있지 않도록
+     * 트랜잭션이 끝날 때마다 연결을 돌려준다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static DefaultPointcutAdvisor shardKeyAdvisor(ObjectProvider<ShardRouter> shardRouter,
+                                                         ObjectProvider<ShardReferenceReplicator> shardReferenceReplicator) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new ShardKeyInterceptor.ShardKeyPointcut(),
+                new ShardKeyInterceptor(shardRouter, shardReferenceReplicator));
+        // 트랜잭션이 연결을 잡기 전에 샤드를 정해야 한다
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                         JdbcTemplate jdbcTemplate,
+                                                         ShardRouter shardRouter,
+                                                         ShardReferenceReplicator shardReferenceReplicator,
+                                                         @Value("${sharding.initialize-schema:false}") boolean initializeSchema,
+                                                         @Value("${sharding.configure-ids:false}") boolean configureIds,
+                                                         @Value("${sharding.legacy-max-diary-id:0}") long legacyMaxDiaryId) {
+        return new ShardSchemaInitializer(entityManagerFactory, jdbcTemplate, shardRouter, shardReferenceReplicator,
+                initializeSchema, configureIds, legacyMaxDiaryId);
+    }
+
+    @PreDestroy
+    public void closeExtraShards() {
+        extraShards.forEach(HikariDataSource::close);
+    }
+}
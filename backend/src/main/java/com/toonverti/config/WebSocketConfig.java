@@ -0,0 +1,30 @@
+package com.toonverti.config;
+
+import com.toonverti.controller.collab.DiaryEditHandshakeInterceptor;
+import com.toonverti.controller.collab.DiaryEditWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket 설정
+ *
+ * 다이어리 공동 편집 채널을 등록한다. 허용 출처는 CORS 설정과 같다.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final DiaryEditWebSocketHandler diaryEditWebSocketHandler;
+    private final DiaryEditHandshakeInterceptor diaryEditHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(diaryEditWebSocketHandler, DiaryEditHandshakeInterceptor.PATH)
+                .addInterceptors(diaryEditHandshakeInterceptor)
+                .setAllowedOrigins(SecurityConfig.ALLOWED_ORIGINS.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,38 @@
+package com.toonverti.controller.admin;
+
+import com.toonverti.common.code.SuccessCode;
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.shard.ShardMoveResponse;
+import com.toonverti.dto.shard.ShardStatsResponse;
+import com.toonverti.service.ShardRebalanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 샤드 현황 조회와 사용자 재배치 (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardAdminController {
+
+    private final ShardRebalanceService shardRebalanceService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ShardStatsResponse>>> getStats() {
+        return ResponseEntity.ok(ApiResponse.of(shardRebalanceService.getStats(), SuccessCode.SELECT_SUCCESS));
+    }
+
+    @PostMapping("/users/{userId}/move")
+    public ResponseEntity<ApiResponse<ShardMoveResponse>> moveUser(
+            @PathVariable Long userId,
+            @RequestParam int target) {
+        ShardMoveResponse response = shardRebalanceService.moveUser(userId, target);
+        return ResponseEntity.ok(ApiResponse.of(response, SuccessCode.UPDATE_SUCCESS));
+    }
+}
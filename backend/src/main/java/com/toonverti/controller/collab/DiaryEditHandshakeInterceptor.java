@@ -0,0 +1,54 @@
+package com.toonverti.controller.collab;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.domain.diary.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.Map;
+
+/**
+ * 편집 채널 연결 전에 경로의 다이어리가 있는지 확인하고 diaryId를 세션 속성에 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DiaryEditHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String PATH = "/ws/diaries/{diaryId}/edit";
+    public static final String DIARY_ID = "diaryId";
+
+    private static final UriTemplate TEMPLATE = new UriTemplate(PATH);
+
+    private final DiaryRepository diaryRepository;
+    private final ShardRouter shardRouter;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Long diaryId;
+        try {
+            diaryId = Long.valueOf(TEMPLATE.match(request.getURI().getPath()).get(DIARY_ID));
+        } catch (NumberFormatException e) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+        if (!ShardContext.call(shardRouter.shardOfDiary(diaryId), () -> diaryRepository.existsById(diaryId))) {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+        attributes.put(DIARY_ID, diaryId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.toonverti.controller.collab;
+
+import com.toonverti.domain.sticker.StickerTransform;
+import com.toonverti.service.collab.DiaryEditSessionRegistry;
+import com.toonverti.service.collab.StickerDeltaCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.util.Map;
+
+/**
+ * 다이어리 공동 편집 채널 (/ws/diaries/{diaryId}/edit)
+ *
+ * 바이너리 프레임만 받는다. 프레임 형식은 StickerDeltaCodec 참고.
+ * 전송은 ConcurrentWebSocketSessionDecorator로 감싸 느린 편집자가 다른 편집자의 전파를 막지 않게 하고,
+ * send-time-limit-ms나 send-buffer-bytes를 넘기면 연결을 끊는다.
+ */
+@Slf4j
+@Component
+public class DiaryEditWebSocketHandler extends BinaryWebSocketHandler {
+
+    private static final String EDITOR = "editor";
+    // 정상 종료가 아닌 세션 수 초과
+    private static final CloseStatus SESSION_FULL = new CloseStatus(4009, "편집 인원이 가득 찼습니다.");
+
+    private final DiaryEditSessionRegistry diaryEditSessionRegistry;
+    private final int maxDeltasPerFrame;
+    private final int sendTimeLimitMs;
+    private final int sendBufferBytes;
+
+    public DiaryEditWebSocketHandler(DiaryEditSessionRegistry diaryEditSessionRegistry,
+                                     @Value("${collab.max-deltas-per-frame:500}") int maxDeltasPerFrame,
+                                     @Value("${collab.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                                     @Value("${collab.send-buffer-bytes:262144}") int sendBufferBytes) {
+        this.diaryEditSessionRegistry = diaryEditSessionRegistry;
+        this.maxDeltasPerFrame = maxDeltasPerFrame;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferBytes = sendBufferBytes;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        // 변경 하나가 최대 44바이트
+        session.setBinaryMessageSizeLimit(maxDeltasPerFrame * 44 + 16);
+        WebSocketSession editor = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferBytes);
+        session.getAttributes().put(EDITOR, editor);
+        if (!diaryEditSessionRegistry.join(diaryId(session), editor)) {
+            session.close(SESSION_FULL);
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        Map<Long, StickerTransform> transforms;
+        try {
+            transforms = StickerDeltaCodec.decodeDelta(message.getPayload(), maxDeltasPerFrame);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 편집 프레임, 연결을 닫습니다: session={}, cause={}", session.getId(), e.getMessage());
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        diaryEditSessionRegistry.applyDelta(diaryId(session), editor(session), transforms);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        diaryEditSessionRegistry.leave(diaryId(session), editor(session));
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        log.debug("편집 채널 전송 오류: session={}, cause={}", session.getId(), exception.getMessage());
+        session.close(CloseStatus.SERVER_ERROR);
+    }
+
+    private static Long diaryId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(DiaryEditHandshakeInterceptor.DIARY_ID);
+    }
+
+    private static WebSocketSession editor(WebSocketSession session) {
+        return (WebSocketSession) session.getAttributes().get(EDITOR);
+    }
+}
@@ -2,16 +2,25 @@ package com.toonverti.controller.diary;
 
 import com.toonverti.common.code.SuccessCode;
 import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.diary.DiaryFacetedSearchResponse;
+import com.toonverti.dto.diary.DiaryImportResponse;
 import com.toonverti.dto.diary.DiaryRequest;
 import com.toonverti.dto.diary.DiaryResponse;
+import com.toonverti.dto.diary.DiaryRevisionResponse;
+import com.toonverti.dto.diary.DiarySyncResponse;
+import com.toonverti.service.DiaryImportService;
 import com.toonverti.service.DiaryService;
+import com.toonverti.service.DiarySyncService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -21,6 +30,8 @@ import java.util.List;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final DiaryImportService diaryImportService;
+    private final DiarySyncService diarySyncService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<DiaryResponse>> createDiary(
@@ -31,9 +42,33 @@ public class DiaryController {
                 .body(ApiResponse.created(response));
     }
 
+    // 로컬 데이터 이전용 일괄 가져오기 (JSON 배열 또는 NDJSON)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<DiaryImportResponse>> importDiaries(
+            @RequestParam Long userId,
+            HttpServletRequest request) throws IOException {
+        DiaryImportResponse response = diaryImportService.importDiaries(userId, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.created(response));
+    }
+
+    // 오프라인 캐시 동기화: 응답의 nextToken 을 다음 요청에 보내면 그 뒤의 변경만 받는다
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponse<DiarySyncResponse>> sync(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String token,
+            @RequestParam(defaultValue = "100") int size) {
+        DiarySyncResponse response = diarySyncService.sync(userId, token, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     @GetMapping("/{diaryId}")
-    public ResponseEntity<ApiResponse<DiaryResponse>> getDiary(@PathVariable Long diaryId) {
-        DiaryResponse response = diaryService.getDiary(diaryId);
+    public ResponseEntity<ApiResponse<DiaryResponse>> getDiary(
+            @PathVariable Long diaryId,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        DiaryResponse response = compact
+                ? diaryService.getCompactDiary(diaryId)
+                : diaryService.getDiary(diaryId);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
@@ -57,6 +92,20 @@ public class DiaryController {
         return ResponseEntity.ok(ApiResponse.of(response, SuccessCode.UPDATE_SUCCESS));
     }
 
+    @GetMapping("/{diaryId}/revisions")
+    public ResponseEntity<ApiResponse<List<DiaryRevisionResponse>>> getRevisions(@PathVariable Long diaryId) {
+        List<DiaryRevisionResponse> response = diaryService.getRevisions(diaryId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @PostMapping("/{diaryId}/revisions/{revision}/restore")
+    public ResponseEntity<ApiResponse<DiaryResponse>> restoreRevision(
+            @PathVariable Long diaryId,
+            @PathVariable int revision) {
+        DiaryResponse response = diaryService.restoreRevision(diaryId, revision);
+        return ResponseEntity.ok(ApiResponse.of(response, SuccessCode.UPDATE_SUCCESS));
+    }
+
     @PostMapping("/{diaryId}/trash")
     public ResponseEntity<ApiResponse<Void>> moveToTrash(@PathVariable Long diaryId) {
         diaryService.moveToTrash(diaryId);
@@ -109,4 +158,18 @@ public class DiaryController {
 
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
+
+    @GetMapping("/search/faceted")
+    public ResponseEntity<ApiResponse<DiaryFacetedSearchResponse>> searchFaceted(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        DiaryFacetedSearchResponse response = diaryService.searchFaceted(
+                userId, keyword, startDate, endDate, genre, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
 }
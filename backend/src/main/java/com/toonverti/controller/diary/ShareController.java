@@ -1,11 +1,28 @@
 package com.toonverti.controller.diary;
 
 import com.toonverti.common.response.ApiResponse;
-import com.toonverti.dto.diary.DiaryResponse;
+import com.toonverti.common.response.FileResponseWriter;
+import com.toonverti.exception.DiaryNotFoundException;
+import com.toonverti.service.DiaryPreviewService;
 import com.toonverti.service.DiaryService;
+import com.toonverti.service.TrendingService;
+import com.toonverti.service.preview.DiaryPreview;
+import com.toonverti.service.preview.PreviewFormat;
+import com.toonverti.service.preview.PreviewSize;
+import com.toonverti.service.share.SharedDiaryBody;
+import com.toonverti.service.share.SharedDiaryResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.net.URI;
 
 @RestController
 @RequestMapping("/api/share")
@@ -13,16 +30,86 @@ import org.springframework.web.bind.annotation.*;
 public class ShareController {
 
     private final DiaryService diaryService;
+    private final DiaryPreviewService diaryPreviewService;
+    private final SharedDiaryResponseCache sharedDiaryResponseCache;
+    private final TrendingService trendingService;
 
+    // 직렬화/압축이 끝난 바이트를 그대로 응답한다 (본문 형식은 ApiResponse<DiaryResponse>와 동일)
     @GetMapping("/{diaryId}")
-    public ResponseEntity<ApiResponse<DiaryResponse>> getSharedDiary(@PathVariable Long diaryId) {
-        DiaryResponse response = diaryService.getPublicDiary(diaryId);
-        return ResponseEntity.ok(ApiResponse.ok(response));
+    public ResponseEntity<byte[]> getSharedDiary(
+            @PathVariable Long diaryId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        SharedDiaryBody body;
+        try {
+            body = sharedDiaryResponseCache.get(diaryId, () -> diaryService.getPublicDiary(diaryId));
+        } catch (DiaryNotFoundException e) {
+            return movedPermanently(movedLocation(diaryId, request, e));
+        }
+        trendingService.recordView(diaryId, body.genre());
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzip() != null && SharedDiaryResponseCache.acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return builder.body(body.json());
+    }
+
+    // 링크 미리보기/피드 썸네일용 이미지
+    @GetMapping("/{diaryId}/preview")
+    public void getSharedDiaryPreview(
+            @PathVariable Long diaryId,
+            @RequestParam(defaultValue = "MEDIUM") PreviewSize size,
+            @RequestParam(defaultValue = "PNG") PreviewFormat format,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        String tag;
+        try {
+            tag = diaryPreviewService.getPreviewTag(diaryId, size, format);
+        } catch (DiaryNotFoundException e) {
+            response.setStatus(HttpStatus.PERMANENT_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION, movedLocation(diaryId, request, e));
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=300");
+        // 클라이언트가 같은 버전을 갖고 있으면 스티커를 읽거나 파일을 열기 전에 돌려보낸다
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + tag + "\"")) {
+            return;
+        }
+        DiaryPreview preview = diaryPreviewService.getPreview(diaryId, size, format, tag);
+        response.setContentType(preview.contentType());
+        FileResponseWriter.write(request, response, preview.file(), preview.length());
     }
 
     @PostMapping("/{diaryId}/like")
-    public ResponseEntity<ApiResponse<Void>> likeDiary(@PathVariable Long diaryId) {
-        diaryService.toggleLike(diaryId);
+    public ResponseEntity<ApiResponse<Void>> likeDiary(@PathVariable Long diaryId, HttpServletRequest request) {
+        try {
+            diaryService.toggleLike(diaryId);
+        } catch (DiaryNotFoundException e) {
+            return movedPermanently(movedLocation(diaryId, request, e));
+        }
+        trendingService.recordLike(diaryId);
         return ResponseEntity.ok(ApiResponse.ok(null));
     }
+
+    /**
+     * 샤드를 옮겨 ID가 바뀐 다이어리면 새 ID의 같은 주소를, 아니면 원래의 404를 던진다.
+     * 공유 링크와 미리보기 URL은 밖에 퍼져 있어 이전 ID로도 계속 열려야 한다.
+     */
+    private String movedLocation(Long diaryId, HttpServletRequest request, DiaryNotFoundException notFound) {
+        Long movedId = diaryService.findMovedDiaryId(diaryId).orElseThrow(() -> notFound);
+        String prefix = "/api/share/" + diaryId;
+        String path = request.getRequestURI();
+        String location = request.getContextPath() + "/api/share/" + movedId
+                + path.substring(path.indexOf(prefix) + prefix.length());
+        return request.getQueryString() != null ? location + "?" + request.getQueryString() : location;
+    }
+
+    // 308은 메서드와 본문을 유지하므로 좋아요(POST)도 그대로 다시 보낸다
+    private static <T> ResponseEntity<T> movedPermanently(String location) {
+        return ResponseEntity.status(HttpStatus.PERMANENT_REDIRECT).location(URI.create(location)).build();
+    }
 }
@@ -0,0 +1,75 @@
+package com.toonverti.controller.friend;
+
+import com.toonverti.common.code.SuccessCode;
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.friend.FriendRelationResponse;
+import com.toonverti.dto.friend.FriendRequestResponse;
+import com.toonverti.dto.friend.FriendResponse;
+import com.toonverti.service.FriendService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/friends")
+@RequiredArgsConstructor
+public class FriendController {
+
+    private final FriendService friendService;
+
+    @PostMapping("/requests")
+    public ResponseEntity<ApiResponse<FriendRequestResponse>> sendRequest(
+            @RequestParam Long userId,
+            @RequestParam Long targetUserId) {
+        FriendRequestResponse response = friendService.sendRequest(userId, targetUserId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.created(response));
+    }
+
+    @GetMapping("/requests/{userId}")
+    public ResponseEntity<ApiResponse<List<FriendRequestResponse>>> getPendingRequests(@PathVariable Long userId) {
+        List<FriendRequestResponse> response = friendService.getPendingRequests(userId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @PostMapping("/requests/{requestId}/accept")
+    public ResponseEntity<ApiResponse<FriendRequestResponse>> acceptRequest(
+            @PathVariable Long requestId,
+            @RequestParam Long userId) {
+        FriendRequestResponse response = friendService.acceptRequest(userId, requestId);
+        return ResponseEntity.ok(ApiResponse.of(response, SuccessCode.UPDATE_SUCCESS));
+    }
+
+    @PostMapping("/requests/{requestId}/reject")
+    public ResponseEntity<ApiResponse<Void>> rejectRequest(
+            @PathVariable Long requestId,
+            @RequestParam Long userId) {
+        friendService.rejectRequest(userId, requestId);
+        return ResponseEntity.ok(ApiResponse.of(null, SuccessCode.DELETE_SUCCESS));
+    }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<ApiResponse<List<FriendResponse>>> getFriends(@PathVariable Long userId) {
+        List<FriendResponse> response = friendService.getFriends(userId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @GetMapping("/{userId}/relation/{otherUserId}")
+    public ResponseEntity<ApiResponse<FriendRelationResponse>> getRelation(
+            @PathVariable Long userId,
+            @PathVariable Long otherUserId) {
+        FriendRelationResponse response = friendService.getRelation(userId, otherUserId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @DeleteMapping("/{userId}/{friendUserId}")
+    public ResponseEntity<ApiResponse<Void>> removeFriend(
+            @PathVariable Long userId,
+            @PathVariable Long friendUserId) {
+        friendService.removeFriend(userId, friendUserId);
+        return ResponseEntity.ok(ApiResponse.of(null, SuccessCode.DELETE_SUCCESS));
+    }
+}
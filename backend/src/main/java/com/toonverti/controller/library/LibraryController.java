@@ -0,0 +1,92 @@
+package com.toonverti.controller.library;
+
+import com.toonverti.common.code.SuccessCode;
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.common.response.CursorResponse;
+import com.toonverti.domain.library.LibraryCardStatus;
+import com.toonverti.dto.library.*;
+import com.toonverti.service.LibraryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/library")
+@RequiredArgsConstructor
+public class LibraryController {
+
+    private final LibraryService libraryService;
+
+    @PostMapping("/cards")
+    public ResponseEntity<ApiResponse<LibraryCardResponse>> addCard(
+            @RequestParam Long userId,
+            @Valid @RequestBody LibraryCardRequest request) {
+        LibraryCardResponse response = libraryService.addCard(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.created(response));
+    }
+
+    @GetMapping("/{userId}/cards")
+    public ResponseEntity<ApiResponse<CursorResponse<LibraryCardResponse>>> getCards(
+            @PathVariable Long userId,
+            @RequestParam(required = false) LibraryCardStatus status,
+            @RequestParam(required = false) Long folderId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<LibraryCardResponse> response = libraryService.getCards(userId, status, folderId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @GetMapping("/{userId}/facets")
+    public ResponseEntity<ApiResponse<LibraryFacetResponse>> getFacets(@PathVariable Long userId) {
+        LibraryFacetResponse response = libraryService.getFacets(userId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @PutMapping("/cards/{cardId}")
+    public ResponseEntity<ApiResponse<LibraryCardResponse>> updateCard(
+            @PathVariable Long cardId,
+            @Valid @RequestBody LibraryCardUpdateRequest request) {
+        LibraryCardResponse response = libraryService.updateCard(cardId, request);
+        return ResponseEntity.ok(ApiResponse.of(response, SuccessCode.UPDATE_SUCCESS));
+    }
+
+    @DeleteMapping("/cards/{cardId}")
+    public ResponseEntity<ApiResponse<Void>> removeCard(@PathVariable Long cardId) {
+        libraryService.removeCard(cardId);
+        return ResponseEntity.ok(ApiResponse.of(null, SuccessCode.DELETE_SUCCESS));
+    }
+
+    @GetMapping("/{userId}/folders")
+    public ResponseEntity<ApiResponse<List<LibraryFolderResponse>>> getFolders(@PathVariable Long userId) {
+        List<LibraryFolderResponse> response = libraryService.getFolders(userId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @PostMapping("/folders")
+    public ResponseEntity<ApiResponse<LibraryFolderResponse>> createFolder(
+            @RequestParam Long userId,
+            @Valid @RequestBody LibraryFolderRequest request) {
+        LibraryFolderResponse response = libraryService.createFolder(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.created(response));
+    }
+
+    @PutMapping("/folders/{folderId}")
+    public ResponseEntity<ApiResponse<LibraryFolderResponse>> updateFolder(
+            @PathVariable Long folderId,
+            @Valid @RequestBody LibraryFolderRequest request) {
+        LibraryFolderResponse response = libraryService.updateFolder(folderId, request);
+        return ResponseEntity.ok(ApiResponse.of(response, SuccessCode.UPDATE_SUCCESS));
+    }
+
+    @DeleteMapping("/folders/{folderId}")
+    public ResponseEntity<ApiResponse<Void>> deleteFolder(@PathVariable Long folderId) {
+        libraryService.deleteFolder(folderId);
+        return ResponseEntity.ok(ApiResponse.of(null, SuccessCode.DELETE_SUCCESS));
+    }
+}
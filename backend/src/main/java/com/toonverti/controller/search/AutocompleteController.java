@@ -0,0 +1,28 @@
+package com.toonverti.controller.search;
+
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.search.AutocompleteResponse;
+import com.toonverti.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<AutocompleteResponse>> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(defaultValue = "10") int limit) {
+        AutocompleteResponse response = autocompleteService.suggest(q, userId, limit);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+}
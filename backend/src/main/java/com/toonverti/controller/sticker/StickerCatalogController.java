@@ -0,0 +1,47 @@
+package com.toonverti.controller.sticker;
+
+import com.toonverti.service.catalog.StickerCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/stickers")
+@RequiredArgsConstructor
+public class StickerCatalogController {
+
+    private static final String CATALOG_PATH = "/api/stickers/catalog/";
+
+    private final StickerCatalog stickerCatalog;
+
+    // 현재 버전 확인용. 짧게 캐시하고 ETag로 재검증한다.
+    @GetMapping("/catalog")
+    public ResponseEntity<byte[]> getCatalog() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(stickerCatalog.getVersion())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(stickerCatalog.getBody());
+    }
+
+    // 버전이 박힌 URL은 내용이 절대 바뀌지 않으므로 1년간 immutable로 캐시한다
+    @GetMapping("/catalog/{version}")
+    public ResponseEntity<byte[]> getCatalogVersion(@PathVariable String version) {
+        if (!stickerCatalog.getVersion().equals(version)) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(CATALOG_PATH + stickerCatalog.getVersion()))
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(stickerCatalog.getVersion())
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .body(stickerCatalog.getBody());
+    }
+}
@@ -0,0 +1,40 @@
+package com.toonverti.controller.sticker;
+
+import com.toonverti.common.code.SuccessCode;
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.diary.StickerResponse;
+import com.toonverti.dto.sticker.StickerAutosaveRequest;
+import com.toonverti.dto.sticker.StickerPatchRequest;
+import com.toonverti.service.StickerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/diaries/{diaryId}/stickers")
+@RequiredArgsConstructor
+public class StickerController {
+
+    private final StickerService stickerService;
+
+    @PatchMapping("/{stickerId}")
+    public ResponseEntity<ApiResponse<StickerResponse>> patchSticker(
+            @PathVariable Long diaryId,
+            @PathVariable Long stickerId,
+            @Valid @RequestBody StickerPatchRequest request) {
+        StickerResponse response = stickerService.patchSticker(diaryId, stickerId, request);
+        return ResponseEntity.ok(ApiResponse.of(response, SuccessCode.UPDATE_SUCCESS));
+    }
+
+    // 드래그 중 변경값 묶음, 저장은 비동기로 모아서 한다
+    @PostMapping("/autosave")
+    public ResponseEntity<ApiResponse<Integer>> autosave(
+            @PathVariable Long diaryId,
+            @Valid @RequestBody StickerAutosaveRequest request) {
+        int accepted = stickerService.autosave(diaryId, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.of(accepted, SuccessCode.ACCEPTED));
+    }
+}
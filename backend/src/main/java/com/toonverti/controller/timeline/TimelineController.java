@@ -0,0 +1,25 @@
+package com.toonverti.controller.timeline;
+
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.timeline.TimelineResponse;
+import com.toonverti.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/timeline")
+@RequiredArgsConstructor
+public class TimelineController {
+
+    private final TimelineService timelineService;
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<ApiResponse<TimelineResponse>> getTimeline(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        TimelineResponse response = timelineService.getTimeline(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+}
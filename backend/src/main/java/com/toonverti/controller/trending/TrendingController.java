@@ -0,0 +1,30 @@
+package com.toonverti.controller.trending;
+
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.trending.TrendingDiaryResponse;
+import com.toonverti.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/trending")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    // 본문은 공유 링크 API(/api/share/{diaryId})로 조회한다
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<TrendingDiaryResponse>>> getTrending(
+            @RequestParam(required = false) String genre,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<TrendingDiaryResponse> response = trendingService.getTrending(genre, limit);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+}
@@ -0,0 +1,44 @@
+package com.toonverti.controller.webtoon;
+
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.common.response.CursorResponse;
+import com.toonverti.domain.webtoon.WebtoonPlatform;
+import com.toonverti.dto.webtoon.WebtoonTitleRequest;
+import com.toonverti.dto.webtoon.WebtoonTitleResponse;
+import com.toonverti.service.WebtoonTitleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/webtoons")
+@RequiredArgsConstructor
+public class WebtoonTitleController {
+
+    private final WebtoonTitleService webtoonTitleService;
+
+    // 이미 있는 작품이면 기존 작품을 그대로 돌려준다
+    @PostMapping
+    public ResponseEntity<ApiResponse<WebtoonTitleResponse>> registerTitle(
+            @Valid @RequestBody WebtoonTitleRequest request) {
+        WebtoonTitleResponse response = webtoonTitleService.registerTitle(request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @GetMapping("/{titleId}")
+    public ResponseEntity<ApiResponse<WebtoonTitleResponse>> getTitle(@PathVariable Long titleId) {
+        WebtoonTitleResponse response = webtoonTitleService.getTitle(titleId);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorResponse<WebtoonTitleResponse>>> getTitles(
+            @RequestParam(required = false) WebtoonPlatform platform,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<WebtoonTitleResponse> response = webtoonTitleService.getTitles(platform, genre, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+}
@@ -0,0 +1,85 @@
+package com.toonverti.domain.diary;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * diaries 에서 옮겨 온 다이어리 (휴지통, 오래된 다이어리)
+ *
+ * 컬럼은 diaries 와 같고 ID도 그대로 쓴다. 옮기고 되돌리는 것은 DiaryArchiveJdbcRepository 가 SQL로 하고,
+ * 이 엔티티는 목록 조회에만 쓴다. 메모는 diary_memos 에 그대로 남는다.
+ */
+@Entity
+@Table(name = "archived_diaries",
+        indexes = {
+                @Index(name = "idx_archived_diaries_user_reason_deleted_at", columnList = "user_id, reason, deleted_at"),
+                @Index(name = "idx_archived_diaries_user_reason_created", columnList = "user_id, reason, created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedDiary {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column
+    private Long memoId;
+
+    @Column
+    private LocalDate date;
+
+    @Column(length = 50)
+    private String genre;
+
+    @Column(nullable = false)
+    private boolean isPublic;
+
+    @Column
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int likeCount;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private long contentVersion;
+
+    @Column(nullable = false)
+    private long publicVersion;
+
+    @Column
+    private LocalDateTime stickersUpdatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column
+    private LocalDateTime deletedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DiaryArchiveReason reason;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    public boolean isTrashed() {
+        return reason == DiaryArchiveReason.TRASHED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.toonverti.domain.diary;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ArchivedDiaryRepository extends JpaRepository<ArchivedDiary, Long> {
+
+    // 휴지통 목록
+    List<ArchivedDiary> findByUserIdAndReasonOrderByDeletedAtDesc(Long userId, DiaryArchiveReason reason);
+
+    // 오래되어 옮긴 다이어리 목록
+    List<ArchivedDiary> findByUserIdAndReasonOrderByCreatedAtDesc(Long userId, DiaryArchiveReason reason);
+
+    Optional<ArchivedDiary> findByIdAndReason(Long id, DiaryArchiveReason reason);
+}
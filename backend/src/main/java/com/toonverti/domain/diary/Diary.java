@@ -8,15 +8,28 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "diaries")
+// 인덱스를 바꾸면 db/migration 에 마이그레이션을 추가하고, 쓰는 쿼리는 QueryPlanTest 가 실행 계획으로 확인한다
+// 부분 인덱스(idx_diaries_public_created, idx_diaries_private_updated, idx_diaries_trashed, idx_diaries_user_published)는
+// 매핑으로 나타낼 수 없어 마이그레이션에만 있다
+@Table(name = "diaries",
+        indexes = {
+                @Index(name = "idx_diaries_user_deleted_created", columnList = "user_id, is_deleted, created_at"),
+                @Index(name = "idx_diaries_user_deleted_date", columnList = "user_id, is_deleted, date"),
+                @Index(name = "idx_diaries_user_deleted_genre", columnList = "user_id, is_deleted, genre, id"),
+                @Index(name = "idx_diaries_user_deleted_id", columnList = "user_id, is_deleted, id"),
+                @Index(name = "idx_diaries_user_updated", columnList = "user_id, updated_at, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 좋아요 수처럼 SQL로 직접 바꾸는 컬럼을 엔티티 저장이 옛 값으로 덮어쓰지 않도록 바뀐 컬럼만 UPDATE 한다
+@DynamicUpdate
 public class Diary extends BaseEntity {
 
     @Id
@@ -26,8 +39,10 @@ public class Diary extends BaseEntity {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(columnDefinition = "TEXT")
-    private String memo;
+    // 목록 조회에서는 읽지 않도록 별도 테이블에 두고 필요할 때만 읽는다
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "memo_id")
+    private DiaryMemo storedMemo;
 
     @Column
     private LocalDate date;
@@ -44,9 +59,30 @@ public class Diary extends BaseEntity {
     @Column
     private java.time.LocalDateTime deletedAt;
 
+    // 마지막으로 공개 전환된 시각 (타임라인 정렬 기준)
+    @Column
+    private java.time.LocalDateTime publishedAt;
+
     @Column(nullable = false)
     private int likeCount = 0;
 
+    // 낙관적 잠금 버전, 좋아요 수 변경은 버전을 올리지 않는다
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // 제목/메모/날짜/장르/스티커가 마지막으로 바뀐 버전 (병합 판단용)
+    @Column(nullable = false)
+    private long contentVersion;
+
+    // 공개 여부가 마지막으로 바뀐 버전 (병합 판단용)
+    @Column(nullable = false)
+    private long publicVersion;
+
+    // 스티커가 마지막으로 바뀐 시각, 만든 뒤 바뀐 적이 없으면 null (동기화 응답에 스티커를 넣을지 판단용)
+    @Column
+    private java.time.LocalDateTime stickersUpdatedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -55,9 +91,9 @@ public class Diary extends BaseEntity {
     private List<Sticker> stickers = new ArrayList<>();
 
     @Builder
-    public Diary(String title, String memo, LocalDate date, String genre, boolean isPublic, User user) {
+    public Diary(String title, byte[] memo, LocalDate date, String genre, boolean isPublic, User user) {
         this.title = title;
-        this.memo = memo;
+        this.storedMemo = memo != null ? new DiaryMemo(memo) : null;
         this.date = date;
         this.genre = genre;
         this.isPublic = isPublic;
@@ -68,8 +104,21 @@ public class Diary extends BaseEntity {
         this.title = title;
     }
 
-    public void updateMemo(String memo) {
-        this.memo = memo;
+    public String getMemo() {
+        return storedMemo != null ? storedMemo.getText() : null;
+    }
+
+    /**
+     * @param memo MemoCompression 형식으로 바꾼 메모, 없으면 null
+     */
+    public void updateMemo(byte[] memo) {
+        if (memo == null) {
+            this.storedMemo = null;
+        } else if (storedMemo == null) {
+            this.storedMemo = new DiaryMemo(memo);
+        } else if (!java.util.Arrays.equals(storedMemo.getContent(), memo)) {
+            storedMemo.replace(memo);
+        }
     }
 
     public void updateDate(LocalDate date) {
@@ -80,18 +129,20 @@ public class Diary extends BaseEntity {
         this.genre = genre;
     }
 
-    public void updateIsPublic(boolean isPublic) {
-        this.isPublic = isPublic;
+    // 저장 시 버전이 하나 올라가므로 다음 버전을 기록한다
+    public void markContentChanged() {
+        this.contentVersion = this.version + 1;
     }
 
-    public void moveToTrash() {
-        this.isDeleted = true;
-        this.deletedAt = java.time.LocalDateTime.now();
+    public void updateIsPublic(boolean isPublic) {
+        if (this.isPublic != isPublic) {
+            this.publicVersion = this.version + 1;
+        }
+        this.isPublic = isPublic;
     }
 
-    public void restore() {
-        this.isDeleted = false;
-        this.deletedAt = null;
+    public void markPublished(java.time.LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
     }
 
     public void incrementLikeCount() {
@@ -104,6 +155,10 @@ public class Diary extends BaseEntity {
         }
     }
 
+    public void markStickersChanged(java.time.LocalDateTime now) {
+        this.stickersUpdatedAt = now;
+    }
+
     public void addSticker(Sticker sticker) {
         this.stickers.add(sticker);
     }
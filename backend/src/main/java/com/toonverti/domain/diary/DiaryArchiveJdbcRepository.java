@@ -0,0 +1,112 @@
+package com.toonverti.domain.diary;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * diaries/stickers 와 archived_diaries/archived_stickers 사이에서 행을 옮긴다
+ *
+ * INSERT ... SELECT 와 DELETE 를 한 트랜잭션에서 실행해 행이 항상 한쪽에만 있게 한다.
+ * ID를 그대로 옮기므로 다이어리 ID로 정한 샤드도 바뀌지 않는다. 호출 측에서 트랜잭션을 잡아야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiaryArchiveJdbcRepository {
+
+    private static final String DIARY_COLUMNS =
+            "id, user_id, title, memo_id, date, genre, is_public, published_at, like_count, " +
+            "version, content_version, public_version, stickers_updated_at, created_at, updated_at";
+
+    private static final String STICKER_COLUMNS =
+            "id, diary_id, type, asset_id, x, y, width, height, rotation, z_index, version, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param deletedAt 휴지통으로 옮기는 시각, 이미 기록된 삭제 시각이 있으면 그 값을 쓴다
+     * @return 옮긴 다이어리 수
+     */
+    public int archive(Collection<Long> diaryIds, DiaryArchiveReason reason, LocalDateTime deletedAt,
+                       LocalDateTime archivedAt) {
+        if (diaryIds.isEmpty()) {
+            return 0;
+        }
+        String in = placeholders(diaryIds);
+        jdbcTemplate.update("INSERT INTO archived_stickers (" + STICKER_COLUMNS + ") " +
+                "SELECT " + STICKER_COLUMNS + " FROM stickers WHERE diary_id IN (" + in + ")", diaryIds.toArray());
+        jdbcTemplate.update("DELETE FROM stickers WHERE diary_id IN (" + in + ")", diaryIds.toArray());
+
+        List<Object> args = new ArrayList<>();
+        args.add(deletedAt != null ? Timestamp.valueOf(deletedAt) : null);
+        args.add(reason.name());
+        args.add(Timestamp.valueOf(archivedAt));
+        args.addAll(diaryIds);
+        jdbcTemplate.update("INSERT INTO archived_diaries (" + DIARY_COLUMNS + ", deleted_at, reason, archived_at) " +
+                "SELECT " + DIARY_COLUMNS + ", COALESCE(deleted_at, ?), ?, ? FROM diaries WHERE id IN (" + in + ")",
+                args.toArray());
+        return jdbcTemplate.update("DELETE FROM diaries WHERE id IN (" + in + ")", diaryIds.toArray());
+    }
+
+    /**
+     * 보관한 다이어리를 diaries 로 되돌린다. 휴지통 표시는 지운다.
+     *
+     * @return 되돌린 다이어리 수
+     */
+    public int restore(Collection<Long> diaryIds) {
+        if (diaryIds.isEmpty()) {
+            return 0;
+        }
+        String in = placeholders(diaryIds);
+        int restored = jdbcTemplate.update("INSERT INTO diaries (" + DIARY_COLUMNS + ", is_deleted, deleted_at) " +
+                "SELECT " + DIARY_COLUMNS + ", false, NULL FROM archived_diaries WHERE id IN (" + in + ")",
+                diaryIds.toArray());
+        jdbcTemplate.update("DELETE FROM archived_diaries WHERE id IN (" + in + ")", diaryIds.toArray());
+        jdbcTemplate.update("INSERT INTO stickers (" + STICKER_COLUMNS + ") " +
+                "SELECT " + STICKER_COLUMNS + " FROM archived_stickers WHERE diary_id IN (" + in + ")",
+                diaryIds.toArray());
+        jdbcTemplate.update("DELETE FROM archived_stickers WHERE diary_id IN (" + in + ")", diaryIds.toArray());
+        return restored;
+    }
+
+    /**
+     * 보관한 다이어리를 메모, 스티커와 함께 지운다.
+     *
+     * @return 지운 다이어리 수
+     */
+    public int delete(Long diaryId) {
+        List<Long> memoIds = jdbcTemplate.queryForList(
+                "SELECT memo_id FROM archived_diaries WHERE id = ? AND memo_id IS NOT NULL", Long.class, diaryId);
+        jdbcTemplate.update("DELETE FROM archived_stickers WHERE diary_id = ?", diaryId);
+        int deleted = jdbcTemplate.update("DELETE FROM archived_diaries WHERE id = ?", diaryId);
+        for (Long memoId : memoIds) {
+            jdbcTemplate.update("DELETE FROM diary_memos WHERE id = ?", memoId);
+        }
+        return deleted;
+    }
+
+    // 보관 방식이 바뀌기 전 휴지통에 들어간 채 diaries 에 남아 있는 다이어리
+    public List<Long> findTrashedInHot(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM diaries WHERE is_deleted = true ORDER BY id LIMIT ?", Long.class, limit);
+    }
+
+    // before 이후로 수정되지 않은 비공개 다이어리, 공개 다이어리는 공유 링크와 타임라인에서 쓰므로 두지 않는다.
+    // 옮긴 행은 diaries 에서 빠지므로 순서 없이 (is_public, updated_at) 인덱스 범위에서 limit 건씩 가져간다
+    public List<Long> findAgedInHot(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM diaries WHERE is_public = false AND updated_at < ? LIMIT ?",
+                Long.class, Timestamp.valueOf(before), limit);
+    }
+
+    private static String placeholders(Collection<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+}
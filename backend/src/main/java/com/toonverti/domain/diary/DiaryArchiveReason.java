@@ -0,0 +1,13 @@
+package com.toonverti.domain.diary;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DiaryArchiveReason {
+    TRASHED("휴지통"),
+    AGED("오래된 다이어리");
+
+    private final String description;
+}
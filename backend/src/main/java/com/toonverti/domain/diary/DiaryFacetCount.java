@@ -0,0 +1,8 @@
+package com.toonverti.domain.diary;
+
+/**
+ * (장르, 연, 월) 조합별 다이어리 수
+ * 날짜가 없는 다이어리는 year/month가 null이다.
+ */
+public record DiaryFacetCount(String genre, Integer year, Integer month, long count) {
+}
@@ -0,0 +1,211 @@
+package com.toonverti.domain.diary;
+
+import com.toonverti.dto.diary.DiaryRequest;
+import com.toonverti.dto.diary.StickerRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 다이어리/스티커 대량 저장용 JDBC 리포지토리
+ *
+ * IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로
+ * 대량 저장 경로에서는 JDBC 배치로 직접 INSERT 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiaryJdbcRepository {
+
+    private static final String INSERT_DIARY_SQL =
+            "INSERT INTO diaries (title, memo_id, date, genre, is_public, published_at, is_deleted, like_count, " +
+            "version, content_version, public_version, user_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, false, 0, 0, 0, 0, ?, ?, ?)";
+
+    private static final String INSERT_MEMO_SQL = "INSERT INTO diary_memos (content, search_text) VALUES (?, ?)";
+
+    private static final String INSERT_STICKER_SQL =
+            "INSERT INTO stickers (type, asset_id, x, y, width, height, rotation, z_index, version, diary_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 낙관적 잠금 충돌 뒤 최신 버전을 알려 줄 때 쓴다 (엔티티 세션은 이미 쓸 수 없는 상태다)
+    public Optional<Long> findVersion(Long diaryId) {
+        return jdbcTemplate.query("SELECT version FROM diaries WHERE id = ?",
+                (rs, rowNum) -> rs.getLong(1), diaryId).stream().findFirst();
+    }
+
+    /**
+     * 공개 다이어리의 버전과 스티커가 마지막으로 바뀐 시각을 이어 붙인 값.
+     * 스티커 PATCH/자동 저장은 다이어리 버전을 올리지 않으므로 스티커 시각까지 함께 본다.
+     */
+    public Optional<String> findPublicRenderVersion(Long diaryId) {
+        return jdbcTemplate.query("SELECT version, stickers_updated_at FROM diaries WHERE id = ? AND is_public = true",
+                (rs, rowNum) -> {
+                    Timestamp stickersUpdatedAt = rs.getTimestamp(2);
+                    return rs.getLong(1) + "-" + (stickersUpdatedAt != null ? stickersUpdatedAt.getTime() : 0);
+                }, diaryId).stream().findFirst();
+    }
+
+    /**
+     * 엔티티를 읽지 않고 스티커가 바뀌었다고 표시한다. 동기화 변경 목록에 다시 나오도록 updated_at 도 올린다.
+     */
+    public void markStickersChanged(Collection<Long> diaryIds, LocalDateTime now) {
+        if (diaryIds.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate("UPDATE diaries SET stickers_updated_at = ?, updated_at = ? WHERE id = ?",
+                List.copyOf(diaryIds), diaryIds.size(), (ps, diaryId) -> {
+                    ps.setTimestamp(1, timestamp);
+                    ps.setTimestamp(2, timestamp);
+                    ps.setLong(3, diaryId);
+                });
+    }
+
+    /**
+     * 다이어리와 스티커를 배치 INSERT 하고, 요청 순서대로 생성된 다이어리 ID를 반환한다.
+     * 현재 트랜잭션의 커넥션을 그대로 사용하므로 호출 측에서 트랜잭션 경계를 잡아야 한다.
+     *
+     * @param memos 요청 순서대로 저장 형식으로 바꾼 메모 (메모가 없으면 null)
+     * @param assetIds 스티커 src -> 에셋 ID (요청에 포함된 모든 src가 있어야 한다)
+     */
+    public List<Long> batchInsert(Long userId, List<DiaryRequest> requests, List<byte[]> memos,
+                                  Map<String, Integer> assetIds, LocalDateTime now) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> memoIds = insertMemos(connection, memos);
+            List<Long> diaryIds = insertDiaries(connection, userId, requests, memoIds, now);
+            insertStickers(connection, requests, diaryIds, assetIds, now);
+            return diaryIds;
+        });
+    }
+
+    // 메모가 없는 요청 자리는 null 로 채워 요청 순서를 유지한다
+    private List<Long> insertMemos(Connection connection, List<byte[]> memos) throws SQLException {
+        List<Long> memoIds = new ArrayList<>(memos.size());
+        int batched = 0;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_MEMO_SQL, new String[]{"id"})) {
+            for (byte[] memo : memos) {
+                if (memo != null) {
+                    ps.setBytes(1, memo);
+                    ps.setString(2, DiaryMemo.searchTextOf(memo));
+                    ps.addBatch();
+                    batched++;
+                }
+            }
+            if (batched == 0) {
+                memos.forEach(memo -> memoIds.add(null));
+                return memoIds;
+            }
+            ps.executeBatch();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                for (byte[] memo : memos) {
+                    if (memo == null) {
+                        memoIds.add(null);
+                    } else if (keys.next()) {
+                        memoIds.add(keys.getLong(1));
+                    } else {
+                        throw new SQLException("생성된 메모 ID 수가 메모 수보다 적습니다: " + batched);
+                    }
+                }
+            }
+        }
+        return memoIds;
+    }
+
+    private List<Long> insertDiaries(Connection connection, Long userId, List<DiaryRequest> requests,
+                                     List<Long> memoIds, LocalDateTime now) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Long> diaryIds = new ArrayList<>(requests.size());
+
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_DIARY_SQL, new String[]{"id"})) {
+            for (int i = 0; i < requests.size(); i++) {
+                DiaryRequest request = requests.get(i);
+                ps.setString(1, request.getTitle());
+                if (memoIds.get(i) != null) {
+                    ps.setLong(2, memoIds.get(i));
+                } else {
+                    ps.setNull(2, Types.BIGINT);
+                }
+                if (request.getDate() != null) {
+                    ps.setDate(3, Date.valueOf(request.getDate()));
+                } else {
+                    ps.setNull(3, Types.DATE);
+                }
+                ps.setString(4, request.getGenre());
+                ps.setBoolean(5, request.isPublic());
+                if (request.isPublic()) {
+                    ps.setTimestamp(6, timestamp);
+                } else {
+                    ps.setNull(6, Types.TIMESTAMP);
+                }
+                ps.setLong(7, userId);
+                ps.setTimestamp(8, timestamp);
+                ps.setTimestamp(9, timestamp);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                while (keys.next()) {
+                    diaryIds.add(keys.getLong(1));
+                }
+            }
+        }
+
+        if (diaryIds.size() != requests.size()) {
+            throw new SQLException("생성된 다이어리 ID 수가 요청 수와 일치하지 않습니다: "
+                    + diaryIds.size() + " / " + requests.size());
+        }
+        return diaryIds;
+    }
+
+    private void insertStickers(Connection connection, List<DiaryRequest> requests, List<Long> diaryIds,
+                                Map<String, Integer> assetIds, LocalDateTime now) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_STICKER_SQL)) {
+            int batched = 0;
+            for (int i = 0; i < requests.size(); i++) {
+                List<StickerRequest> stickers = requests.get(i).getStickers();
+                if (stickers == null) {
+                    continue;
+                }
+                for (StickerRequest sticker : stickers) {
+                    ps.setString(1, sticker.getType());
+                    ps.setInt(2, assetIds.get(sticker.getSrc()));
+                    ps.setInt(3, sticker.getX());
+                    ps.setInt(4, sticker.getY());
+                    ps.setInt(5, sticker.getWidth());
+                    ps.setInt(6, sticker.getHeight());
+                    ps.setDouble(7, sticker.getRotation());
+                    ps.setInt(8, sticker.getZIndex());
+                    ps.setLong(9, diaryIds.get(i));
+                    ps.setTimestamp(10, timestamp);
+                    ps.setTimestamp(11, timestamp);
+                    ps.addBatch();
+                    batched++;
+                }
+            }
+            if (batched > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+}
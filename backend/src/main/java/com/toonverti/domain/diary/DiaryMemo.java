@@ -0,0 +1,91 @@
+package com.toonverti.domain.diary;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 다이어리 메모 본문
+ *
+ * 목록 조회처럼 메모가 필요 없는 경우에 읽지 않도록 diaries 와 다른 테이블에 두고 지연 로딩한다.
+ * content 는 MemoCompression 형식이며, 풀어 쓴 본문은 처음 읽을 때 한 번만 만든다.
+ * 검색이 메모를 풀지 않고 SQL LIKE 로 찾도록 search_text 를 같이 둔다. 압축하지 않은 메모는 소문자로 바꾼 본문이고,
+ * 압축한 메모(기준 크기 이상)는 본문을 다시 펼쳐 두지 않도록 중복을 뺀 소문자 낱말을 처음 나온 순서로
+ * MAX_SEARCH_TOKENS_LENGTH 자까지만 둔다. 그래서 긴 메모의 뒤쪽에만 처음 나오는 낱말이나 여러 낱말에 걸친 키워드는
+ * 못 찾을 수 있다.
+ */
+@Entity
+@Table(name = "diary_memos")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryMemo {
+
+    static final int MAX_SEARCH_TOKENS_LENGTH = 2000;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] content;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String searchText;
+
+    @Transient
+    private String text;
+
+    public DiaryMemo(byte[] content) {
+        this.content = content;
+        this.searchText = searchTextOf(content);
+    }
+
+    public String getText() {
+        if (text == null) {
+            text = MemoCompression.decode(content);
+        }
+        return text;
+    }
+
+    public void replace(byte[] content) {
+        this.content = content;
+        this.searchText = searchTextOf(content);
+        this.text = null;
+    }
+
+    // JDBC로 diary_memos 에 직접 넣는 곳과 V10 마이그레이션도 같은 값을 쓴다
+    public static String searchTextOf(byte[] content) {
+        String plain = MemoCompression.plainText(content);
+        if (plain != null) {
+            return plain.toLowerCase(Locale.ROOT);
+        }
+        return searchTokensOf(MemoCompression.decode(content));
+    }
+
+    static String searchTokensOf(String text) {
+        StringBuilder tokens = new StringBuilder();
+        Set<String> seen = new HashSet<>();
+        for (String token : WHITESPACE.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.isEmpty() || !seen.add(token)) {
+                continue;
+            }
+            int length = tokens.isEmpty() ? token.length() : tokens.length() + 1 + token.length();
+            if (length > MAX_SEARCH_TOKENS_LENGTH) {
+                break;
+            }
+            if (!tokens.isEmpty()) {
+                tokens.append(' ');
+            }
+            tokens.append(token);
+        }
+        return tokens.toString();
+    }
+}
@@ -3,20 +3,34 @@ package com.toonverti.domain.diary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface DiaryRepository extends JpaRepository<Diary, Long> {
+public interface DiaryRepository extends JpaRepository<Diary, Long>, DiaryRepositoryCustom {
 
     // 사용자의 다이어리 목록 (휴지통 제외)
     List<Diary> findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(Long userId);
 
-    // 사용자의 휴지통 목록
-    List<Diary> findByUserIdAndIsDeletedTrueOrderByDeletedAtDesc(Long userId);
+    // 좋아요 수는 다른 변경과 겹쳐도 합쳐지므로 버전을 올리지 않고 SQL 한 문장으로 더한다
+    // 벌크 UPDATE 는 @LastModifiedDate 를 거치지 않으므로 동기화가 보도록 updatedAt 을 직접 고친다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Diary d SET d.likeCount = d.likeCount + 1, d.updatedAt = :now WHERE d.id = :id")
+    int incrementLikeCount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 읽은 값을 뒤집는 대신 한 문장으로 뒤집어 동시에 눌러도 어느 쪽도 사라지지 않게 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Diary d SET d.isPublic = CASE WHEN d.isPublic = true THEN false ELSE true END, " +
+           "d.publishedAt = CASE WHEN d.isPublic = true THEN d.publishedAt ELSE :now END, " +
+           "d.publicVersion = d.version + 1, d.version = d.version + 1, d.updatedAt = :now " +
+           "WHERE d.id = :id")
+    int togglePublic(@Param("id") Long id, @Param("now") LocalDateTime now);
 
     // 공개 다이어리 조회
     Optional<Diary> findByIdAndIsPublicTrue(Long id);
@@ -25,14 +39,22 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
     long countByUserIdAndIsDeletedFalse(Long userId);
 
     // 사용자의 특정 달 다이어리 수
+    default long countByUserIdAndMonth(Long userId, int year, int month) {
+        LocalDateTime from = LocalDate.of(year, month, 1).atStartOfDay();
+        return countCreatedBetween(userId, from, from.plusMonths(1));
+    }
+
+    // 작성 시각을 함수로 감싸지 않고 범위로 비교해야 (user_id, is_deleted, created_at) 인덱스로 찾는다
     @Query("SELECT COUNT(d) FROM Diary d WHERE d.user.id = :userId AND d.isDeleted = false " +
-           "AND YEAR(d.createdAt) = :year AND MONTH(d.createdAt) = :month")
-    long countByUserIdAndMonth(@Param("userId") Long userId, @Param("year") int year, @Param("month") int month);
+           "AND d.createdAt >= :from AND d.createdAt < :to")
+    long countCreatedBetween(@Param("userId") Long userId,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
 
-    // 검색 - 제목, 메모, 날짜로 검색
-    @Query("SELECT d FROM Diary d WHERE d.user.id = :userId AND d.isDeleted = false " +
+    // 검색 - 제목 또는 메모로 검색
+    @Query("SELECT d FROM Diary d LEFT JOIN d.storedMemo m WHERE d.user.id = :userId AND d.isDeleted = false " +
            "AND (LOWER(d.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(d.memo) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+           "OR m.searchText LIKE LOWER(CONCAT('%', :keyword, '%')))")
     List<Diary> searchByKeyword(@Param("userId") Long userId, @Param("keyword") String keyword);
 
     // 날짜 범위로 검색
@@ -47,4 +69,29 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
 
     // 공개된 다이어리 목록 (페이징)
     Page<Diary> findByIsPublicTrueAndIsDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
+
+    // 타임라인: 작성자 목록의 공개 다이어리를 (공개 시각, ID) 커서 이전부터 최신순으로
+    @Query("SELECT d.id AS id, d.user.id AS authorId, d.publishedAt AS publishedAt FROM Diary d " +
+           "WHERE d.user.id IN :authorIds AND d.isPublic = true AND d.isDeleted = false " +
+           "AND d.publishedAt IS NOT NULL " +
+           "AND (d.publishedAt < :cursorAt OR (d.publishedAt = :cursorAt AND d.id < :cursorId)) " +
+           "ORDER BY d.publishedAt DESC, d.id DESC")
+    List<DiaryTimelineEntry> findTimelineEntries(@Param("authorIds") Collection<Long> authorIds,
+                                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    // 동기화: 사용자의 다이어리 중 (수정 시각, ID) 커서 뒤이고 until 보다 앞서 바뀐 것을 오래된 순으로 (메모 함께 로딩)
+    @Query("SELECT d FROM Diary d LEFT JOIN FETCH d.storedMemo WHERE d.user.id = :userId " +
+           "AND (d.updatedAt > :cursorAt OR (d.updatedAt = :cursorAt AND d.id > :cursorId)) " +
+           "AND d.updatedAt < :until ORDER BY d.updatedAt ASC, d.id ASC")
+    List<Diary> findChangedSince(@Param("userId") Long userId,
+                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                 @Param("cursorId") Long cursorId,
+                                 @Param("until") LocalDateTime until,
+                                 Pageable pageable);
+
+    // 타임라인 요약용 일괄 조회 (작성자 함께 로딩)
+    @Query("SELECT d FROM Diary d JOIN FETCH d.user WHERE d.id IN :ids")
+    List<Diary> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,21 @@
+package com.toonverti.domain.diary;
+
+import java.util.List;
+
+/**
+ * 조건 조합이 자유로운 검색용 리포지토리
+ * 검색 결과와 패싯 집계가 항상 같은 WHERE 절을 쓰도록 한곳에서 만든다.
+ * 키워드는 제목과 메모의 search_text 를 SQL로 찾는다 (압축한 메모도 풀지 않는다, DiaryMemo 참고).
+ * 오래되어 보관한 다이어리(archived_diaries, AGED)는 목록처럼 검색에도 나오도록 같은 조건으로 찾는다.
+ */
+public interface DiaryRepositoryCustom {
+
+    // 조건에 맞는 다이어리를 ID 역순으로 cursorId 미만부터 limit 건
+    List<Diary> search(DiarySearchCondition condition, Long cursorId, int limit);
+
+    // 같은 조건의 오래되어 보관한 다이어리를 ID 역순으로 cursorId 미만부터 limit 건
+    List<ArchivedDiary> searchAged(DiarySearchCondition condition, Long cursorId, int limit);
+
+    // 같은 조건의 (장르, 연, 월)별 건수를 테이블마다 한 번의 GROUP BY로 집계 (보관한 다이어리 포함)
+    List<DiaryFacetCount> countFacets(DiarySearchCondition condition);
+}
@@ -0,0 +1,105 @@
+package com.toonverti.domain.diary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class DiaryRepositoryImpl implements DiaryRepositoryCustom {
+
+    // 검색 대상 테이블마다 FROM 절과 기본 조건. 나머지 조건은 두 엔티티의 같은 이름 필드(d.title, d.date ...)에 건다
+    private enum Source {
+        HOT("Diary d", "JOIN d.storedMemo m", "d.user.id = :userId AND d.isDeleted = false"),
+        AGED("ArchivedDiary d", "JOIN DiaryMemo m ON m.id = d.memoId",
+                "d.userId = :userId AND d.reason = com.toonverti.domain.diary.DiaryArchiveReason.AGED");
+
+        private final String entity;
+        private final String memoJoin;
+        private final String base;
+
+        Source(String entity, String memoJoin, String base) {
+            this.entity = entity;
+            this.memoJoin = memoJoin;
+            this.base = base;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Diary> search(DiarySearchCondition condition, Long cursorId, int limit) {
+        return search(Source.HOT, Diary.class, condition, cursorId, limit);
+    }
+
+    @Override
+    public List<ArchivedDiary> searchAged(DiarySearchCondition condition, Long cursorId, int limit) {
+        return search(Source.AGED, ArchivedDiary.class, condition, cursorId, limit);
+    }
+
+    @Override
+    public List<DiaryFacetCount> countFacets(DiarySearchCondition condition) {
+        return Stream.of(Source.HOT, Source.AGED)
+                .flatMap(source -> countFacets(source, condition).stream())
+                .toList();
+    }
+
+    private <T> List<T> search(Source source, Class<T> type, DiarySearchCondition condition,
+                               Long cursorId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(source, condition, params);
+        params.put("cursorId", cursorId);
+
+        TypedQuery<T> query = entityManager.createQuery(
+                "SELECT d FROM " + from(source, condition) + " WHERE " + where +
+                " AND d.id < :cursorId ORDER BY d.id DESC", type);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private List<DiaryFacetCount> countFacets(Source source, DiarySearchCondition condition) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(source, condition, params);
+
+        TypedQuery<DiaryFacetCount> query = entityManager.createQuery(
+                "SELECT new com.toonverti.domain.diary.DiaryFacetCount(d.genre, YEAR(d.date), MONTH(d.date), COUNT(d)) " +
+                "FROM " + from(source, condition) + " WHERE " + where + " " +
+                "GROUP BY d.genre, YEAR(d.date), MONTH(d.date)", DiaryFacetCount.class);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    // 키워드가 있을 때만 메모 테이블을 붙인다
+    private String from(Source source, DiarySearchCondition condition) {
+        return condition.hasKeyword() ? source.entity + " LEFT " + source.memoJoin : source.entity;
+    }
+
+    private String where(Source source, DiarySearchCondition condition,
+                         Map<String, Object> params) {
+        StringBuilder where = new StringBuilder(source.base);
+        params.put("userId", condition.userId());
+
+        if (condition.hasKeyword()) {
+            where.append(" AND (LOWER(d.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+                 .append(" OR m.searchText LIKE LOWER(CONCAT('%', :keyword, '%')))");
+            params.put("keyword", condition.keyword());
+        }
+        if (condition.startDate() != null) {
+            where.append(" AND d.date >= :startDate");
+            params.put("startDate", condition.startDate());
+        }
+        if (condition.endDate() != null) {
+            where.append(" AND d.date <= :endDate");
+            params.put("endDate", condition.endDate());
+        }
+        if (condition.hasGenre()) {
+            where.append(" AND d.genre = :genre");
+            params.put("genre", condition.genre());
+        }
+        return where.toString();
+    }
+}
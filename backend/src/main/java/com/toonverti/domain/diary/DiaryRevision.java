@@ -0,0 +1,54 @@
+package com.toonverti.domain.diary;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다이어리 수정 이력 한 건
+ *
+ * snapshot 이면 content 가 그 시점의 전체 상태이고, 아니면 직전 리비전과의 차이다.
+ * 어떤 리비전이든 그 이전의 가장 가까운 스냅샷부터 차이를 차례로 적용해 만든다.
+ * content 는 MemoCompression 형식으로 감싼 JSON 이다.
+ */
+@Entity
+@Table(name = "diary_revisions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_diary_revisions_diary_revision",
+                columnNames = {"diary_id", "revision"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long diaryId;
+
+    // 다이어리마다 1부터 증가
+    @Column(nullable = false)
+    private int revision;
+
+    @Column(nullable = false)
+    private boolean snapshot;
+
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] content;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public DiaryRevision(Long diaryId, int revision, boolean snapshot, byte[] content, LocalDateTime createdAt) {
+        this.diaryId = diaryId;
+        this.revision = revision;
+        this.snapshot = snapshot;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.toonverti.domain.diary;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DiaryRevisionRepository extends JpaRepository<DiaryRevision, Long> {
+
+    List<DiaryRevision> findByDiaryIdOrderByRevisionDesc(Long diaryId);
+
+    Optional<DiaryRevision> findTopByDiaryIdOrderByRevisionDesc(Long diaryId);
+
+    // revision 을 만들 때 출발점이 되는 스냅샷
+    Optional<DiaryRevision> findTopByDiaryIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(
+            Long diaryId, int revision);
+
+    List<DiaryRevision> findByDiaryIdAndRevisionBetweenOrderByRevisionAsc(Long diaryId, int from, int to);
+
+    @Modifying
+    @Query("DELETE FROM DiaryRevision r WHERE r.diaryId = :diaryId")
+    int deleteByDiaryId(@Param("diaryId") Long diaryId);
+}
@@ -0,0 +1,19 @@
+package com.toonverti.domain.diary;
+
+import java.time.LocalDate;
+
+/**
+ * 다이어리 검색 조건 (휴지통 제외)
+ * userId 외의 조건은 모두 선택이며 주어진 조건끼리는 AND로 묶는다.
+ */
+public record DiarySearchCondition(Long userId, String keyword, LocalDate startDate, LocalDate endDate,
+                                   String genre) {
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    public boolean hasGenre() {
+        return genre != null && !genre.isBlank();
+    }
+}
@@ -0,0 +1,15 @@
+package com.toonverti.domain.diary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타임라인 정렬에 필요한 최소 컬럼만 담은 프로젝션
+ */
+public interface DiaryTimelineEntry {
+
+    Long getId();
+
+    Long getAuthorId();
+
+    LocalDateTime getPublishedAt();
+}
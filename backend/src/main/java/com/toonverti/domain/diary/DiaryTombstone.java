@@ -0,0 +1,51 @@
+package com.toonverti.domain.diary;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * diaries 에서 빠진 다이어리 기록 (동기화용)
+ *
+ * 휴지통으로 옮기거나 지운 다이어리는 행이 없어 변경 목록에 나오지 않으므로 여기 남겨 클라이언트가 지우게 한다.
+ * 다이어리마다 마지막 기록 하나만 두고, 휴지통에서 복원하면 지운다.
+ */
+@Entity
+@Table(name = "diary_tombstones",
+        indexes = {
+                @Index(name = "idx_diary_tombstones_user_deleted_at", columnList = "user_id, deleted_at, id"),
+                @Index(name = "idx_diary_tombstones_diary", columnList = "diary_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long diaryId;
+
+    // true 면 휴지통에 있어 복원될 수 있다
+    @Column(nullable = false)
+    private boolean trashed;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Builder
+    public DiaryTombstone(Long userId, Long diaryId, boolean trashed, LocalDateTime deletedAt) {
+        this.userId = userId;
+        this.diaryId = diaryId;
+        this.trashed = trashed;
+        this.deletedAt = deletedAt;
+    }
+}
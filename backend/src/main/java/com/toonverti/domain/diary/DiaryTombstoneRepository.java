@@ -0,0 +1,31 @@
+package com.toonverti.domain.diary;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DiaryTombstoneRepository extends JpaRepository<DiaryTombstone, Long> {
+
+    // (deletedAt, id) 가 커서보다 뒤이고 until 보다 앞선 기록
+    @Query("SELECT t FROM DiaryTombstone t WHERE t.userId = :userId " +
+           "AND (t.deletedAt > :cursorAt OR (t.deletedAt = :cursorAt AND t.id > :cursorId)) " +
+           "AND t.deletedAt < :until ORDER BY t.deletedAt ASC, t.id ASC")
+    List<DiaryTombstone> findSince(@Param("userId") Long userId,
+                                   @Param("cursorAt") LocalDateTime cursorAt,
+                                   @Param("cursorId") Long cursorId,
+                                   @Param("until") LocalDateTime until,
+                                   Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DiaryTombstone t WHERE t.diaryId = :diaryId")
+    int deleteByDiaryId(@Param("diaryId") Long diaryId);
+
+    @Modifying
+    @Query("DELETE FROM DiaryTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,113 @@
+package com.toonverti.domain.diary;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 메모 저장 형식
+ *
+ * 첫 바이트가 형식이다. PLAIN 이면 뒤가 UTF-8 본문이고, DEFLATE 면 원문 바이트 수(4바이트)와
+ * zlib 스트림이 이어진다. 기준 크기보다 작거나 압축해도 줄지 않는 메모는 그대로 둔다.
+ */
+public final class MemoCompression {
+
+    static final byte PLAIN = 0;
+    static final byte DEFLATE = 1;
+
+    private static final int DEFLATE_HEADER_BYTES = 1 + Integer.BYTES;
+
+    private MemoCompression() {
+    }
+
+    public static byte[] encode(String text, int thresholdBytes) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= thresholdBytes) {
+            byte[] compressed = deflate(raw);
+            if (DEFLATE_HEADER_BYTES + compressed.length < 1 + raw.length) {
+                return ByteBuffer.allocate(DEFLATE_HEADER_BYTES + compressed.length)
+                        .put(DEFLATE)
+                        .putInt(raw.length)
+                        .put(compressed)
+                        .array();
+            }
+        }
+        byte[] stored = new byte[1 + raw.length];
+        stored[0] = PLAIN;
+        System.arraycopy(raw, 0, stored, 1, raw.length);
+        return stored;
+    }
+
+    public static String decode(byte[] stored) {
+        if (stored.length == 0) {
+            throw new IllegalArgumentException("메모 형식 헤더가 없습니다");
+        }
+        return switch (stored[0]) {
+            case PLAIN -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(stored), StandardCharsets.UTF_8);
+            default -> throw new IllegalArgumentException("알 수 없는 메모 형식입니다: " + stored[0]);
+        };
+    }
+
+    /**
+     * 압축하지 않고 저장한 메모의 본문, 압축했으면 null
+     * 기준 크기 아래의 메모는 이 본문으로 SQL에서 바로 검색한다.
+     */
+    public static String plainText(byte[] stored) {
+        if (stored.length == 0 || stored[0] != PLAIN) {
+            return null;
+        }
+        return new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored) {
+        if (stored.length < DEFLATE_HEADER_BYTES) {
+            throw new IllegalArgumentException("압축된 메모가 손상되었습니다: 헤더가 짧습니다");
+        }
+        int length = ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("압축된 메모가 손상되었습니다: length=" + length);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, DEFLATE_HEADER_BYTES, stored.length - DEFLATE_HEADER_BYTES);
+            byte[] raw = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalArgumentException("압축된 메모가 손상되었습니다: expected=" + length + ", actual=" + read);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("압축된 메모가 손상되었습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
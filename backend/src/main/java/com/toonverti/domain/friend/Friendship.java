@@ -0,0 +1,72 @@
+package com.toonverti.domain.friend;
+
+import com.toonverti.domain.BaseEntity;
+import com.toonverti.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 친구 관계 (요청자 -> 수신자)
+ *
+ * 요청 한 건이 한 행이며, 수락되면 양방향 친구 관계로 취급한다.
+ * 두 사용자 사이에는 방향과 관계없이 한 행만 있도록 (작은 ID, 큰 ID) 쌍에 유니크 키를 둔다.
+ */
+@Entity
+@Table(name = "friendships",
+        uniqueConstraints = @UniqueConstraint(name = Friendship.PAIR_CONSTRAINT,
+                columnNames = {"user_low_id", "user_high_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Friendship extends BaseEntity {
+
+    public static final String PAIR_CONSTRAINT = "uk_friendships_pair";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "requester_id", nullable = false)
+    private User requester;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "addressee_id", nullable = false)
+    private User addressee;
+
+    // 요청 방향과 무관한 사용자 쌍 (LEAST/GREATEST)
+    @Column(nullable = false)
+    private Long userLowId;
+
+    @Column(nullable = false)
+    private Long userHighId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FriendshipStatus status;
+
+    @Column
+    private LocalDateTime acceptedAt;
+
+    @Builder
+    public Friendship(User requester, User addressee) {
+        this.requester = requester;
+        this.addressee = addressee;
+        this.userLowId = Math.min(requester.getId(), addressee.getId());
+        this.userHighId = Math.max(requester.getId(), addressee.getId());
+        this.status = FriendshipStatus.PENDING;
+    }
+
+    public void accept(LocalDateTime acceptedAt) {
+        this.status = FriendshipStatus.ACCEPTED;
+        this.acceptedAt = acceptedAt;
+    }
+
+    public boolean isAccepted() {
+        return status == FriendshipStatus.ACCEPTED;
+    }
+}
@@ -0,0 +1,23 @@
+package com.toonverti.domain.friend;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
+
+    // 받은 친구 요청 목록
+    @Query("SELECT f FROM Friendship f JOIN FETCH f.requester " +
+           "WHERE f.addressee.id = :userId AND f.status = com.toonverti.domain.friend.FriendshipStatus.PENDING " +
+           "ORDER BY f.createdAt DESC")
+    List<Friendship> findPendingByAddresseeId(@Param("userId") Long userId);
+
+    // 두 사용자 사이의 관계 (방향 무관)
+    @Query("SELECT f FROM Friendship f " +
+           "WHERE (f.requester.id = :userId AND f.addressee.id = :otherUserId) " +
+           "OR (f.requester.id = :otherUserId AND f.addressee.id = :userId)")
+    Optional<Friendship> findBetween(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId);
+}
@@ -0,0 +1,13 @@
+package com.toonverti.domain.friend;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FriendshipStatus {
+    PENDING("요청 대기"),
+    ACCEPTED("친구");
+
+    private final String description;
+}
@@ -0,0 +1,67 @@
+package com.toonverti.domain.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 요청의 최초 응답
+ *
+ * 서버가 재시작되어도 같은 키의 재시도가 다시 실행되지 않도록 응답을 그대로 보관한다.
+ * 키는 (메서드, 경로, 쿼리, 사용자, 헤더 값)의 SHA-256 해시다.
+ * 실행 전에 status가 PENDING인 행을 먼저 넣어 키를 선점하므로, 여러 인스턴스에 동시에 들어온 재시도 중
+ * 하나만 실행한다. PENDING 행의 expiresAt은 선점 기한으로, 실행하던 인스턴스가 죽으면 기한 뒤에 다시 선점된다.
+ */
+@Entity
+@Table(name = "idempotency_records",
+        indexes = @Index(name = "idx_idempotency_records_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    public static final int PENDING = 0;
+
+    @Id
+    @Column(length = 64)
+    private String keyHash;
+
+    // 최초 요청 본문의 SHA-256, 본문 해시를 저장하기 전에 기록된 행은 null
+    // PENDING 행에는 선점한 실행의 토큰(32자)이 들어 있다
+    @Column(length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Column(nullable = false, length = 1_048_576)
+    private byte[] body;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public IdempotencyRecord(String keyHash, String requestHash, int status, String contentType, byte[] body,
+                             LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.keyHash = keyHash;
+        this.requestHash = requestHash;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isPending() {
+        return status == PENDING;
+    }
+}
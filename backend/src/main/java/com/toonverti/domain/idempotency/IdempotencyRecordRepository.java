@@ -0,0 +1,61 @@
+package com.toonverti.domain.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 키 선점, 이미 행이 있으면 0. 본문 해시는 실행이 끝나야 알 수 있으므로 그때까지 request_hash 에 선점 토큰을 둔다
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_records (key_hash, request_hash, status, body, created_at, expires_at) "
+            + "VALUES (:keyHash, :requestHash, 0, :empty, :now, :leaseUntil) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertPending(@Param("keyHash") String keyHash,
+                      @Param("requestHash") String claimToken,
+                      @Param("empty") byte[] empty,
+                      @Param("now") LocalDateTime now,
+                      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 만료된 응답이나 기한이 지난 선점을 새 요청이 가져간다, 동시에 시도하면 하나만 1을 받는다
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.requestHash = :requestHash, r.status = 0, r.contentType = null, "
+            + "r.body = :empty, r.expiresAt = :leaseUntil WHERE r.keyHash = :keyHash AND r.expiresAt < :now")
+    int reclaimExpired(@Param("keyHash") String keyHash,
+                       @Param("requestHash") String claimToken,
+                       @Param("empty") byte[] empty,
+                       @Param("now") LocalDateTime now,
+                       @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 선점할 때 넣은 claimToken 자리에 실행 중 계산한 본문 해시를 넣는다
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.requestHash = :requestHash, r.status = :status, "
+            + "r.contentType = :contentType, r.body = :body, r.expiresAt = :expiresAt "
+            + "WHERE r.keyHash = :keyHash AND r.requestHash = :claimToken AND r.status = 0")
+    int completePending(@Param("keyHash") String keyHash,
+                        @Param("claimToken") String claimToken,
+                        @Param("requestHash") String requestHash,
+                        @Param("status") int status,
+                        @Param("contentType") String contentType,
+                        @Param("body") byte[] body,
+                        @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 실행이 실패했거나 저장하지 않을 응답이면 선점을 풀어 다음 재시도가 다시 실행하게 한다
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.keyHash = :keyHash AND r.requestHash = :claimToken AND r.status = 0")
+    int releasePending(@Param("keyHash") String keyHash, @Param("claimToken") String claimToken);
+
+    // 만료된 응답 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,65 @@
+package com.toonverti.domain.library;
+
+import com.toonverti.domain.BaseEntity;
+import com.toonverti.domain.user.User;
+import com.toonverti.domain.webtoon.WebtoonTitle;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 서재 카드
+ *
+ * 작품 정보는 카탈로그(WebtoonTitle)에 두고 카드에는 사용자별 상태만 저장한다.
+ */
+@Entity
+@Table(name = "library_cards",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "title_id"}),
+        indexes = {
+                @Index(name = "idx_library_cards_user_status", columnList = "user_id, status, id"),
+                @Index(name = "idx_library_cards_user_folder", columnList = "user_id, folder_id, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LibraryCard extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "title_id", nullable = false)
+    private WebtoonTitle title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LibraryCardStatus status;
+
+    @Column(nullable = false)
+    private int rating = 0;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "folder_id")
+    private LibraryFolder folder;
+
+    @Builder
+    public LibraryCard(User user, WebtoonTitle title, LibraryCardStatus status, int rating, LibraryFolder folder) {
+        this.user = user;
+        this.title = title;
+        this.status = status;
+        this.rating = rating;
+        this.folder = folder;
+    }
+
+    public void update(LibraryCardStatus status, int rating, LibraryFolder folder) {
+        this.status = status;
+        this.rating = rating;
+        this.folder = folder;
+    }
+}
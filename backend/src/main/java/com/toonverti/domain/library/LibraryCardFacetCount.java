@@ -0,0 +1,14 @@
+package com.toonverti.domain.library;
+
+/**
+ * (상태, 폴더) 조합별 서재 카드 수 프로젝션
+ */
+public interface LibraryCardFacetCount {
+
+    LibraryCardStatus getStatus();
+
+    // 폴더 없음이면 null
+    Long getFolderId();
+
+    long getCount();
+}
@@ -0,0 +1,42 @@
+package com.toonverti.domain.library;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LibraryCardRepository extends JpaRepository<LibraryCard, Long> {
+
+    boolean existsByUserIdAndTitleId(Long userId, Long titleId);
+
+    // 서재 목록 (ID 역순 키셋 페이지, 작품 정보 함께 로딩)
+    @EntityGraph(attributePaths = "title")
+    List<LibraryCard> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long cursorId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "title")
+    List<LibraryCard> findByUserIdAndStatusAndIdLessThanOrderByIdDesc(Long userId, LibraryCardStatus status,
+                                                                      Long cursorId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "title")
+    List<LibraryCard> findByUserIdAndFolderIdAndIdLessThanOrderByIdDesc(Long userId, Long folderId,
+                                                                        Long cursorId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "title")
+    List<LibraryCard> findByUserIdAndStatusAndFolderIdAndIdLessThanOrderByIdDesc(Long userId, LibraryCardStatus status,
+                                                                                 Long folderId, Long cursorId,
+                                                                                 Pageable pageable);
+
+    // 서재 화면 패싯: (상태, 폴더)별 건수를 한 번에 집계해 서비스에서 축별로 합산한다
+    @Query("SELECT c.status AS status, c.folder.id AS folderId, COUNT(c) AS count FROM LibraryCard c " +
+           "WHERE c.user.id = :userId GROUP BY c.status, c.folder.id")
+    List<LibraryCardFacetCount> countFacets(@Param("userId") Long userId);
+
+    // 폴더 삭제 시 카드는 폴더 없음으로
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LibraryCard c SET c.folder = null WHERE c.folder.id = :folderId")
+    int clearFolder(@Param("folderId") Long folderId);
+}
@@ -0,0 +1,15 @@
+package com.toonverti.domain.library;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum LibraryCardStatus {
+    WATCHING("보는 중"),
+    PLAN_TO_WATCH("볼 예정"),
+    COMPLETED("완결"),
+    ON_HOLD("보류");
+
+    private final String description;
+}
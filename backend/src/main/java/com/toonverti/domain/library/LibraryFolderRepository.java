@@ -0,0 +1,10 @@
+package com.toonverti.domain.library;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface LibraryFolderRepository extends JpaRepository<LibraryFolder, Long> {
+
+    List<LibraryFolder> findByUserIdOrderByIdAsc(Long userId);
+}
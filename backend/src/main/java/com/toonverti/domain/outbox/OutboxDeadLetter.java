@@ -0,0 +1,39 @@
+package com.toonverti.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전달을 포기한 아웃박스 행
+ *
+ * 구독자가 outbox.max-attempts 번 처리하지 못한 행을 원래 ID 그대로 옮겨 둔다. 원인을 고친 뒤
+ * outbox_events 로 되돌리면 다시 전달된다. 읽기/쓰기는 OutboxJdbcRepository가 하며 엔티티는 스키마 정의용이다.
+ */
+@Entity
+@Table(name = "outbox_dead_letters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxDeadLetter {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime failedAt;
+}
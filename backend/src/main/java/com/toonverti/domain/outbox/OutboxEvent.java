@@ -0,0 +1,47 @@
+package com.toonverti.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스
+ *
+ * 도메인 이벤트를 상태 변경과 같은 트랜잭션에서 기록해 두고, 릴레이가 이벤트 버스로 전달한 뒤 지운다.
+ * 읽기/쓰기는 OutboxJdbcRepository가 하며 엔티티는 스키마 정의용이다.
+ */
+@Entity
+// 가져가기용 인덱스는 가져가지 않은 행만 담는 부분 인덱스라 마이그레이션(V6)에만 있다
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이벤트 클래스 이름
+    @Column(nullable = false, length = 200)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 임대(lease) 방식으로 가져간 릴레이 ID, SKIP LOCKED 방식에서는 쓰지 않는다
+    @Column(length = 36)
+    private String lockedBy;
+
+    @Column
+    private LocalDateTime lockedUntil;
+
+    // 구독자가 처리하지 못한 횟수, outbox.max-attempts 에 닿으면 outbox_dead_letters 로 옮긴다
+    @Column(nullable = false)
+    private int attempts;
+}
@@ -0,0 +1,139 @@
+package com.toonverti.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 아웃박스 JDBC 리포지토리
+ *
+ * 쓰기 경로마다 INSERT 한 번만 추가되도록 JPA를 거치지 않는다.
+ * 가져오기는 두 가지 방식을 지원한다.
+ * - SKIP LOCKED: 트랜잭션 안에서 행 잠금으로 가져가고 같은 트랜잭션에서 지운다 (PostgreSQL)
+ * - 임대(lease): locked_by/locked_until을 UPDATE로 선점하고 처리 후 지운다 (H2 등)
+ * 구독자가 처리하지 못한 행은 두 방식 모두 locked_until을 미뤄 두었다가 다시 가져가고,
+ * 정한 횟수만큼 실패한 행은 outbox_dead_letters 로 옮겨 더는 전달하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (event_type, payload, created_at, attempts) VALUES (?, ?, ?, 0)";
+
+    // OR 로 묶으면 부분 인덱스를 순서대로 훑지 못해 미룬 행까지 걸러 읽으므로 두 번에 나눠 가져간다
+    private static final String SELECT_UNCLAIMED_SKIP_LOCKED_SQL =
+            "SELECT id, event_type, payload FROM outbox_events WHERE locked_until IS NULL " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String SELECT_EXPIRED_SKIP_LOCKED_SQL =
+            "SELECT id, event_type, payload FROM outbox_events WHERE locked_until < ? " +
+            "ORDER BY locked_until LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_SQL =
+            "UPDATE outbox_events SET locked_by = ?, locked_until = ? " +
+            "WHERE (locked_until IS NULL OR locked_until < ?) AND id IN (" +
+            "SELECT id FROM outbox_events WHERE locked_until IS NULL OR locked_until < ? ORDER BY id LIMIT ?)";
+
+    private static final String SELECT_LEASED_SQL =
+            "SELECT id, event_type, payload FROM outbox_events WHERE locked_by = ? AND locked_until = ? ORDER BY id";
+
+    private static final RowMapper<OutboxRow> ROW_MAPPER = (rs, rowNum) ->
+            new OutboxRow(rs.getLong(1), rs.getString(2), rs.getString(3));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(String eventType, String payload, LocalDateTime now) {
+        jdbcTemplate.update(INSERT_SQL, eventType, payload, Timestamp.valueOf(now));
+    }
+
+    // 호출 측 트랜잭션이 끝날 때까지 행이 잠긴다. 아직 아무도 가져가지 않은 행을 먼저, 남는 자리에 재시도 시각이 지난 행을 오래된 순으로 담는다
+    public List<OutboxRow> claimSkipLocked(LocalDateTime now, int limit) {
+        List<OutboxRow> rows = jdbcTemplate.query(SELECT_UNCLAIMED_SKIP_LOCKED_SQL, ROW_MAPPER, limit);
+        if (rows.size() >= limit) {
+            return rows;
+        }
+        List<OutboxRow> claimed = new ArrayList<>(rows);
+        claimed.addAll(jdbcTemplate.query(SELECT_EXPIRED_SKIP_LOCKED_SQL, ROW_MAPPER,
+                Timestamp.valueOf(now), limit - rows.size()));
+        return claimed;
+    }
+
+    public List<OutboxRow> claimLeased(String owner, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        // 다시 조회할 때 같은 값으로 비교되도록 DB 정밀도(마이크로초)에 맞춘다
+        Timestamp leaseTimestamp = Timestamp.valueOf(leaseUntil.truncatedTo(ChronoUnit.MICROS));
+        int leased = jdbcTemplate.update(LEASE_SQL, owner, leaseTimestamp, nowTimestamp, nowTimestamp, limit);
+        if (leased == 0) {
+            return Collections.emptyList();
+        }
+        return jdbcTemplate.query(SELECT_LEASED_SQL, ROW_MAPPER, owner, leaseTimestamp);
+    }
+
+    public int deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM outbox_events WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    // 실패 횟수를 올리고 retryAt까지 아무도 가져가지 않게 한다
+    public int deferByIds(List<Long> ids, LocalDateTime retryAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("UPDATE outbox_events SET locked_by = NULL, locked_until = ?, "
+                + "attempts = attempts + 1 WHERE id IN (" + placeholders + ")", prepend(Timestamp.valueOf(retryAt), ids));
+    }
+
+    /**
+     * 이번 실패로 maxAttempts 번째 실패가 되는 행을 outbox_dead_letters 로 옮긴다. 호출 측 트랜잭션에서 실행한다.
+     *
+     * @return 옮긴 행 ID
+     */
+    public List<Long> deadLetterExhausted(List<Long> ids, int maxAttempts, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Long> exhausted = jdbcTemplate.queryForList("SELECT id FROM outbox_events WHERE attempts + 1 >= ? "
+                + "AND id IN (" + placeholders + ") ORDER BY id", Long.class, prepend(maxAttempts, ids));
+        if (exhausted.isEmpty()) {
+            return exhausted;
+        }
+        String exhaustedPlaceholders = String.join(",", Collections.nCopies(exhausted.size(), "?"));
+        jdbcTemplate.update("INSERT INTO outbox_dead_letters (id, event_type, payload, created_at, attempts, failed_at) "
+                + "SELECT id, event_type, payload, created_at, attempts + 1, ? FROM outbox_events "
+                + "WHERE id IN (" + exhaustedPlaceholders + ")", prepend(Timestamp.valueOf(now), exhausted));
+        deleteByIds(exhausted);
+        return exhausted;
+    }
+
+    private static Object[] prepend(Object first, List<Long> ids) {
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = first;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+        return args;
+    }
+
+    public String databaseProductName() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+    }
+
+    public record OutboxRow(long id, String eventType, String payload) {
+    }
+}
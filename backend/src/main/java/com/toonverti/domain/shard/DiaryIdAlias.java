@@ -0,0 +1,42 @@
+package com.toonverti.domain.shard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 샤드 이동으로 바뀐 다이어리 ID (이전 ID -> 현재 ID)
+ *
+ * 공유 링크와 미리보기 URL은 다이어리 ID를 담고 있으므로 옮긴 뒤에도 이전 ID로 찾아갈 수 있게 남긴다.
+ * 여러 번 옮기면 이전 별칭들도 최신 ID를 가리키도록 고쳐 한 번에 찾는다. 전역 테이블이다.
+ */
+@Entity
+@Table(name = "diary_id_aliases", indexes = {
+        @Index(name = "idx_diary_id_aliases_new_id", columnList = "new_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryIdAlias {
+
+    @Id
+    private Long oldId;
+
+    @Column(nullable = false)
+    private Long newId;
+
+    @Column(nullable = false)
+    private LocalDateTime movedAt;
+
+    public DiaryIdAlias(Long oldId, Long newId, LocalDateTime movedAt) {
+        this.oldId = oldId;
+        this.newId = newId;
+        this.movedAt = movedAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.toonverti.domain.shard;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DiaryIdAliasRepository extends JpaRepository<DiaryIdAlias, Long> {
+
+    // 다시 옮긴 다이어리를 가리키던 별칭을 새 ID로 돌린다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DiaryIdAlias a SET a.newId = :newId WHERE a.newId = :oldId")
+    int repoint(@Param("oldId") Long oldId, @Param("newId") Long newId);
+}
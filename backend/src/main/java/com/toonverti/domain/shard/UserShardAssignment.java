@@ -0,0 +1,57 @@
+package com.toonverti.domain.shard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 샤드 배정 (샤드 디렉터리)
+ *
+ * 전역 테이블이라 0번 샤드에만 의미 있는 행이 있다. 배정이 없는 사용자는 샤딩 전부터 있던
+ * 사용자로 보고 0번 샤드에 둔다.
+ *
+ * movingSince가 있으면 다른 샤드로 옮기는 중이라 모든 인스턴스가 그 사용자의 호출을 거절한다.
+ * 인스턴스들은 updatedAt이 바뀐 행만 주기적으로 읽어 배정과 이동 표시를 맞춘다.
+ */
+@Entity
+@Table(name = "user_shard_assignments", indexes = {
+        @Index(name = "idx_user_shard_assignments_updated_at", columnList = "updated_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserShardAssignment {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private int shard;
+
+    @Column(nullable = false)
+    private LocalDateTime assignedAt;
+
+    private LocalDateTime movingSince;
+
+    // 컬럼을 추가하기 전의 행은 비어 있다
+    private LocalDateTime updatedAt;
+
+    public UserShardAssignment(Long userId, int shard, LocalDateTime assignedAt) {
+        this.userId = userId;
+        this.shard = shard;
+        this.assignedAt = assignedAt;
+        this.updatedAt = assignedAt;
+    }
+
+    public void reassign(int shard, LocalDateTime assignedAt) {
+        this.shard = shard;
+        this.assignedAt = assignedAt;
+        this.updatedAt = assignedAt;
+    }
+}
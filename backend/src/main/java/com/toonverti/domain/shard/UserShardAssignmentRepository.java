@@ -0,0 +1,32 @@
+package com.toonverti.domain.shard;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserShardAssignmentRepository extends JpaRepository<UserShardAssignment, Long> {
+
+    List<UserShardAssignment> findByUpdatedAtAfter(LocalDateTime since);
+
+    List<UserShardAssignment> findByMovingSinceAfter(LocalDateTime since);
+
+    // 이동 표시를 건다, 다른 인스턴스가 옮기는 중이면 0 (기한이 지난 표시는 가져온다)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserShardAssignment a SET a.movingSince = :now, a.updatedAt = :now "
+            + "WHERE a.userId = :userId AND (a.movingSince IS NULL OR a.movingSince < :staleBefore)")
+    int markMoving(@Param("userId") Long userId,
+                   @Param("now") LocalDateTime now,
+                   @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 기한이 지나 다른 인스턴스가 가져간 표시는 건드리지 않는다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserShardAssignment a SET a.movingSince = null, a.updatedAt = :now "
+            + "WHERE a.userId = :userId AND a.movingSince = :since")
+    int clearMoving(@Param("userId") Long userId,
+                    @Param("since") LocalDateTime since,
+                    @Param("now") LocalDateTime now);
+}
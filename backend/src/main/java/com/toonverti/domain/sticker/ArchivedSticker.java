@@ -0,0 +1,58 @@
+package com.toonverti.domain.sticker;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * archived_diaries 로 옮긴 다이어리의 스티커, 컬럼과 ID는 stickers 와 같다
+ */
+@Entity
+@Table(name = "archived_stickers",
+        indexes = @Index(name = "idx_archived_stickers_diary", columnList = "diary_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedSticker {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long diaryId;
+
+    @Column(nullable = false, length = 50)
+    private String type;
+
+    @Column(nullable = false)
+    private Integer assetId;
+
+    @Column(nullable = false)
+    private int x;
+
+    @Column(nullable = false)
+    private int y;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private int height;
+
+    @Column(nullable = false)
+    private double rotation;
+
+    @Column(nullable = false)
+    private int zIndex;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
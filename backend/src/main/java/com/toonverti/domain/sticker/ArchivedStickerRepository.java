@@ -0,0 +1,15 @@
+package com.toonverti.domain.sticker;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedStickerRepository extends JpaRepository<ArchivedSticker, Long> {
+
+    // 보관 다이어리별 스티커 수 [diaryId, count]
+    @Query("SELECT s.diaryId, COUNT(s) FROM ArchivedSticker s WHERE s.diaryId IN :diaryIds GROUP BY s.diaryId")
+    List<Object[]> countByDiaryIds(@Param("diaryIds") Collection<Long> diaryIds);
+}
@@ -9,7 +9,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "stickers")
+@Table(name = "stickers",
+        indexes = @Index(name = "idx_stickers_diary_z_index", columnList = "diary_id, z_index"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Sticker extends BaseEntity {
@@ -21,8 +22,10 @@ public class Sticker extends BaseEntity {
     @Column(nullable = false, length = 50)
     private String type;
 
-    @Column(nullable = false, length = 500)
-    private String src;
+    // src 문자열 대신 에셋 카탈로그의 ID만 저장한다
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "asset_id", nullable = false)
+    private StickerAsset asset;
 
     @Column(nullable = false)
     private int x;
@@ -42,14 +45,18 @@ public class Sticker extends BaseEntity {
     @Column(nullable = false)
     private int zIndex = 1;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "diary_id", nullable = false)
     private Diary diary;
 
     @Builder
-    public Sticker(String type, String src, int x, int y, int width, int height, double rotation, int zIndex, Diary diary) {
+    public Sticker(String type, StickerAsset asset, int x, int y, int width, int height, double rotation, int zIndex, Diary diary) {
         this.type = type;
-        this.src = src;
+        this.asset = asset;
         this.x = x;
         this.y = y;
         this.width = width;
@@ -59,6 +66,10 @@ public class Sticker extends BaseEntity {
         this.diary = diary;
     }
 
+    public String getSrc() {
+        return asset.getSrc();
+    }
+
     public void updatePosition(int x, int y) {
         this.x = x;
         this.y = y;
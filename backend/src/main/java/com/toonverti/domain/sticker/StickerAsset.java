@@ -0,0 +1,39 @@
+package com.toonverti.domain.sticker;
+
+import com.toonverti.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+/**
+ * 스티커 이미지 원본(src)을 한 번만 저장하는 에셋 카탈로그
+ *
+ * 같은 기본 스티커가 수많은 다이어리에서 재사용되므로 스티커 행은 src 문자열 대신
+ * 작은 정수 ID로 에셋을 참조한다. src의 SHA-256 해시로 중복 저장을 막는다.
+ */
+@Entity
+@Table(name = "sticker_assets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@BatchSize(size = 100)
+public class StickerAsset extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 500)
+    private String src;
+
+    @Builder
+    public StickerAsset(String hash, String src) {
+        this.hash = hash;
+        this.src = src;
+    }
+}
@@ -0,0 +1,20 @@
+package com.toonverti.domain.sticker;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface StickerAssetRepository extends JpaRepository<StickerAsset, Integer> {
+
+    Optional<StickerAsset> findByHash(String hash);
+
+    // 같은 해시가 이미 있으면 아무것도 하지 않는다 (예외로 호출 측 트랜잭션을 망가뜨리지 않는다)
+    @Modifying
+    @Query(value = "INSERT INTO sticker_assets (hash, src, created_at, updated_at) " +
+                   "VALUES (:hash, :src, :now, :now) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("src") String src, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,80 @@
+package com.toonverti.domain.sticker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 스티커 변경값 일괄 저장용 JDBC 리포지토리
+ *
+ * 자동 저장 버퍼가 모아 둔 변경을 엔티티를 읽지 않고 UPDATE 배치 하나로 반영한다.
+ * 다른 다이어리의 스티커 ID가 섞여 들어와도 diary_id 조건 때문에 반영되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StickerJdbcRepository {
+
+    private static final String UPDATE_TRANSFORM_SQL =
+            "UPDATE stickers SET x = COALESCE(?, x), y = COALESCE(?, y), " +
+            "width = COALESCE(?, width), height = COALESCE(?, height), " +
+            "rotation = COALESCE(?, rotation), z_index = COALESCE(?, z_index), version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND diary_id = ?";
+
+    private static final String MARK_DIARY_STICKERS_SQL =
+            "UPDATE diaries SET stickers_updated_at = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 낙관적 잠금 충돌 뒤 최신 버전을 알려 줄 때 쓴다 (엔티티 세션은 이미 쓸 수 없는 상태다)
+    public Optional<Long> findVersion(Long stickerId) {
+        return jdbcTemplate.query("SELECT version FROM stickers WHERE id = ?",
+                (rs, rowNum) -> rs.getLong(1), stickerId).stream().findFirst();
+    }
+
+    public void batchUpdateTransforms(List<PendingTransform> transforms, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPDATE_TRANSFORM_SQL, transforms, transforms.size(), (ps, pending) -> {
+            StickerTransform transform = pending.transform();
+            setInteger(ps, 1, transform.getX());
+            setInteger(ps, 2, transform.getY());
+            setInteger(ps, 3, transform.getWidth());
+            setInteger(ps, 4, transform.getHeight());
+            if (transform.getRotation() != null) {
+                ps.setDouble(5, transform.getRotation());
+            } else {
+                ps.setNull(5, Types.DOUBLE);
+            }
+            setInteger(ps, 6, transform.getZIndex());
+            ps.setTimestamp(7, timestamp);
+            ps.setLong(8, pending.stickerId());
+            ps.setLong(9, pending.diaryId());
+        });
+
+        // 동기화 변경 목록에 다시 나오도록 다이어리에도 스티커가 바뀐 시각을 남긴다
+        List<Long> diaryIds = transforms.stream().map(PendingTransform::diaryId).distinct().toList();
+        jdbcTemplate.batchUpdate(MARK_DIARY_STICKERS_SQL, diaryIds, diaryIds.size(), (ps, diaryId) -> {
+            ps.setTimestamp(1, timestamp);
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, diaryId);
+        });
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    public record PendingTransform(long diaryId, long stickerId, StickerTransform transform) {
+    }
+}
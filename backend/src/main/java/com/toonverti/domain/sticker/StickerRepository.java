@@ -4,11 +4,25 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface StickerRepository extends JpaRepository<Sticker, Long> {
 
-    List<Sticker> findByDiaryIdOrderByZIndexAsc(Long diaryId);
+    // zIndex 프로퍼티는 파생 쿼리 이름에서 'ZIndex'로 해석되므로 JPQL로 명시
+    @Query("SELECT s FROM Sticker s WHERE s.diary.id = :diaryId ORDER BY s.zIndex ASC")
+    List<Sticker> findByDiaryIdOrderByZIndexAsc(@Param("diaryId") Long diaryId);
+
+    // 여러 다이어리의 스티커를 에셋과 함께 한 번에 (동기화 응답용)
+    @Query("SELECT s FROM Sticker s JOIN FETCH s.asset WHERE s.diary.id IN :diaryIds ORDER BY s.zIndex ASC, s.id ASC")
+    List<Sticker> findWithAssetByDiaryIdIn(@Param("diaryIds") Collection<Long> diaryIds);
+
+    // [다이어리 ID, 스티커 수]
+    @Query("SELECT s.diary.id, COUNT(s) FROM Sticker s WHERE s.diary.id IN :diaryIds GROUP BY s.diary.id")
+    List<Object[]> countByDiaryIds(@Param("diaryIds") Collection<Long> diaryIds);
+
+    Optional<Sticker> findByIdAndDiaryId(Long id, Long diaryId);
 
     void deleteByDiaryId(Long diaryId);
 
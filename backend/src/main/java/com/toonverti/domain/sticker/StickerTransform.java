@@ -0,0 +1,88 @@
+package com.toonverti.domain.sticker;
+
+import lombok.Getter;
+
+/**
+ * 스티커 위치/크기/회전/순서의 부분 변경값
+ *
+ * null인 항목은 바꾸지 않는다. 자동 저장 버퍼에서 같은 스티커의 연속된 변경을 하나로 합칠 때 쓴다.
+ */
+@Getter
+public class StickerTransform {
+
+    private Integer x;
+    private Integer y;
+    private Integer width;
+    private Integer height;
+    private Double rotation;
+    private Integer zIndex;
+
+    public StickerTransform(Integer x, Integer y, Integer width, Integer height, Double rotation, Integer zIndex) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.rotation = rotation;
+        this.zIndex = zIndex;
+    }
+
+    // 나중 변경값을 덮어쓴다 (항목별로 마지막 값이 이긴다)
+    public void overwriteWith(StickerTransform newer) {
+        if (newer.x != null) {
+            x = newer.x;
+        }
+        if (newer.y != null) {
+            y = newer.y;
+        }
+        if (newer.width != null) {
+            width = newer.width;
+        }
+        if (newer.height != null) {
+            height = newer.height;
+        }
+        if (newer.rotation != null) {
+            rotation = newer.rotation;
+        }
+        if (newer.zIndex != null) {
+            zIndex = newer.zIndex;
+        }
+    }
+
+    // 이전 변경값으로 비어 있는 항목만 채운다 (저장 실패 후 되돌릴 때)
+    public void fillFrom(StickerTransform older) {
+        if (x == null) {
+            x = older.x;
+        }
+        if (y == null) {
+            y = older.y;
+        }
+        if (width == null) {
+            width = older.width;
+        }
+        if (height == null) {
+            height = older.height;
+        }
+        if (rotation == null) {
+            rotation = older.rotation;
+        }
+        if (zIndex == null) {
+            zIndex = older.zIndex;
+        }
+    }
+
+    public void applyTo(Sticker sticker) {
+        if (x != null || y != null) {
+            sticker.updatePosition(x != null ? x : sticker.getX(), y != null ? y : sticker.getY());
+        }
+        if (width != null || height != null) {
+            sticker.updateSize(width != null ? width : sticker.getWidth(),
+                    height != null ? height : sticker.getHeight());
+        }
+        if (rotation != null) {
+            sticker.updateRotation(rotation);
+        }
+        if (zIndex != null) {
+            sticker.updateZIndex(zIndex);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.toonverti.domain.webtoon;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WebtoonPlatform {
+    NAVER("네이버 웹툰"),
+    KAKAO("카카오페이지"),
+    LEZHIN("레진코믹스"),
+    TOPTOON("탑툰"),
+    RIDI("리디"),
+    OTHER("기타");
+
+    private final String description;
+}
@@ -0,0 +1,81 @@
+package com.toonverti.domain.webtoon;
+
+import com.toonverti.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 공용 작품 카탈로그
+ *
+ * 같은 작품은 플랫폼 + 제목 기준으로 한 행만 두고, 사용자 서재 카드는 이 행을 참조한다.
+ */
+@Entity
+@Table(name = "webtoon_titles",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"platform", "title"}),
+        indexes = @Index(name = "idx_webtoon_titles_platform", columnList = "platform, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WebtoonTitle extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 500)
+    private String coverImage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebtoonPlatform platform;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebtoonType type;
+
+    @Column(length = 100)
+    private String author;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    // 서재에 담은 사용자 수 (인기 순위용)
+    @Column(nullable = false)
+    private int libraryCount = 0;
+
+    @ElementCollection
+    @CollectionTable(name = "webtoon_title_genres",
+            joinColumns = @JoinColumn(name = "title_id"),
+            indexes = @Index(name = "idx_webtoon_title_genres_genre", columnList = "genre, title_id"))
+    @Column(name = "genre", nullable = false, length = 20)
+    @BatchSize(size = 100)
+    private Set<String> genres = new LinkedHashSet<>();
+
+    @Builder
+    public WebtoonTitle(String title, String coverImage, WebtoonPlatform platform, WebtoonType type,
+                        String author, String description, Set<String> genres) {
+        this.title = title;
+        this.coverImage = coverImage;
+        this.platform = platform;
+        this.type = type != null ? type : WebtoonType.WEBTOON;
+        this.author = author;
+        this.description = description;
+        if (genres != null) {
+            this.genres.addAll(genres);
+        }
+    }
+
+    // 네이티브 INSERT 로 등록한 행에 장르를 붙인다
+    public void addGenres(Set<String> genres) {
+        this.genres.addAll(genres);
+    }
+}
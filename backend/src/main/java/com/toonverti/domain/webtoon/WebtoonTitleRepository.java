@@ -0,0 +1,50 @@
+package com.toonverti.domain.webtoon;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface WebtoonTitleRepository extends JpaRepository<WebtoonTitle, Long> {
+
+    Optional<WebtoonTitle> findByPlatformAndTitle(WebtoonPlatform platform, String title);
+
+    // 같은 플랫폼 + 제목이 이미 있으면 아무것도 하지 않는다 (예외로 호출 측 트랜잭션을 망가뜨리지 않는다)
+    @Modifying
+    @Query(value = "INSERT INTO webtoon_titles (title, cover_image, platform, type, author, description, " +
+                   "library_count, created_at, updated_at) " +
+                   "VALUES (:title, :coverImage, :platform, :type, :author, :description, 0, :now, :now) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("title") String title,
+                       @Param("coverImage") String coverImage,
+                       @Param("platform") String platform,
+                       @Param("type") String type,
+                       @Param("author") String author,
+                       @Param("description") String description,
+                       @Param("now") LocalDateTime now);
+
+    // 카탈로그 목록 (ID 역순 키셋 페이지)
+    List<WebtoonTitle> findByIdLessThanOrderByIdDesc(Long cursorId, Pageable pageable);
+
+    List<WebtoonTitle> findByPlatformAndIdLessThanOrderByIdDesc(WebtoonPlatform platform, Long cursorId, Pageable pageable);
+
+    @Query("SELECT t FROM WebtoonTitle t JOIN t.genres g " +
+           "WHERE g = :genre AND t.id < :cursorId ORDER BY t.id DESC")
+    List<WebtoonTitle> findByGenre(@Param("genre") String genre, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("SELECT t FROM WebtoonTitle t JOIN t.genres g " +
+           "WHERE g = :genre AND t.platform = :platform AND t.id < :cursorId ORDER BY t.id DESC")
+    List<WebtoonTitle> findByPlatformAndGenre(@Param("platform") WebtoonPlatform platform,
+                                              @Param("genre") String genre,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WebtoonTitle t SET t.libraryCount = t.libraryCount + :delta WHERE t.id = :titleId")
+    int addLibraryCount(@Param("titleId") Long titleId, @Param("delta") int delta);
+}
@@ -0,0 +1,13 @@
+package com.toonverti.domain.webtoon;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WebtoonType {
+    WEBTOON("웹툰"),
+    WEBNOVEL("웹소설");
+
+    private final String description;
+}
@@ -0,0 +1,23 @@
+package com.toonverti.dto.diary;
+
+import com.toonverti.dto.search.FacetCount;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class DiaryFacetedSearchResponse {
+    // 조건에 맞는 전체 다이어리 수 (패싯 집계 합계)
+    private long total;
+    private List<DiaryResponse> hits;
+    // 다음 페이지 요청에 그대로 넘긴다, 마지막 페이지면 null
+    private String nextCursor;
+    // 장르별 건수, 많은 순
+    private List<FacetCount> genres;
+    // 연도별("2024") 건수, 최신순 (날짜 없는 다이어리는 제외)
+    private List<FacetCount> years;
+    // 월별("2024-03") 건수, 최신순 (날짜 없는 다이어리는 제외)
+    private List<FacetCount> months;
+}
@@ -0,0 +1,25 @@
+package com.toonverti.dto.diary;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class DiaryImportResponse {
+    private int total;
+    private int imported;
+    private int failed;
+    // 요청 순서와 같은 인덱스, 실패한 항목은 null
+    private List<Long> diaryIds;
+    private List<ImportError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImportError {
+        private final int index;
+        private final String message;
+    }
+}
@@ -26,4 +26,7 @@ public class DiaryRequest {
     private boolean isPublic = false;
 
     private List<StickerRequest> stickers;
+
+    // 수정 시 클라이언트가 마지막으로 본 버전, 없으면 버전 확인 없이 덮어쓴다
+    private Long version;
 }
@@ -1,12 +1,18 @@
 package com.toonverti.dto.diary;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.toonverti.domain.diary.ArchivedDiary;
 import com.toonverti.domain.diary.Diary;
+import com.toonverti.domain.sticker.Sticker;
+import com.toonverti.domain.sticker.StickerAsset;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -20,10 +26,15 @@ public class DiaryResponse {
     private boolean isDeleted;
     private LocalDateTime deletedAt;
     private int likeCount;
+    // 수정 요청에 그대로 보내면 다른 곳의 수정과 충돌하는지 서버가 판단한다
+    private long version;
     private int stickerCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<StickerResponse> stickers;
+    // 간략 응답 전용: 에셋 ID -> src
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Integer, String> assets;
 
     public static DiaryResponse from(Diary diary) {
         return DiaryResponse.builder()
@@ -36,6 +47,7 @@ public class DiaryResponse {
                 .isDeleted(diary.isDeleted())
                 .deletedAt(diary.getDeletedAt())
                 .likeCount(diary.getLikeCount())
+                .version(diary.getVersion())
                 .stickerCount(diary.getStickers().size())
                 .createdAt(diary.getCreatedAt())
                 .updatedAt(diary.getUpdatedAt())
@@ -45,6 +57,58 @@ public class DiaryResponse {
                 .build();
     }
 
+    public static DiaryResponse compactFrom(Diary diary) {
+        Map<Integer, String> assets = new LinkedHashMap<>();
+        for (Sticker sticker : diary.getStickers()) {
+            StickerAsset asset = sticker.getAsset();
+            assets.putIfAbsent(asset.getId(), asset.getSrc());
+        }
+
+        return DiaryResponse.builder()
+                .id(diary.getId())
+                .title(diary.getTitle())
+                .memo(diary.getMemo())
+                .date(diary.getDate())
+                .genre(diary.getGenre())
+                .isPublic(diary.isPublic())
+                .isDeleted(diary.isDeleted())
+                .deletedAt(diary.getDeletedAt())
+                .likeCount(diary.getLikeCount())
+                .version(diary.getVersion())
+                .stickerCount(diary.getStickers().size())
+                .createdAt(diary.getCreatedAt())
+                .updatedAt(diary.getUpdatedAt())
+                .stickers(diary.getStickers().stream()
+                        .map(StickerResponse::compactFrom)
+                        .toList())
+                .assets(assets)
+                .build();
+    }
+
+    /**
+     * @param stickers 지난 동기화 뒤로 스티커가 바뀌지 않았으면 null
+     */
+    public static DiaryResponse syncFrom(Diary diary, List<Sticker> stickers, int stickerCount) {
+        return DiaryResponse.builder()
+                .id(diary.getId())
+                .title(diary.getTitle())
+                .memo(diary.getMemo())
+                .date(diary.getDate())
+                .genre(diary.getGenre())
+                .isPublic(diary.isPublic())
+                .isDeleted(diary.isDeleted())
+                .deletedAt(diary.getDeletedAt())
+                .likeCount(diary.getLikeCount())
+                .version(diary.getVersion())
+                .stickerCount(stickerCount)
+                .createdAt(diary.getCreatedAt())
+                .updatedAt(diary.getUpdatedAt())
+                .stickers(stickers != null
+                        ? stickers.stream().map(StickerResponse::from).toList()
+                        : null)
+                .build();
+    }
+
     public static DiaryResponse summaryFrom(Diary diary) {
         return DiaryResponse.builder()
                 .id(diary.getId())
@@ -55,8 +119,25 @@ public class DiaryResponse {
                 .isDeleted(diary.isDeleted())
                 .deletedAt(diary.getDeletedAt())
                 .likeCount(diary.getLikeCount())
+                .version(diary.getVersion())
                 .stickerCount(diary.getStickers().size())
                 .createdAt(diary.getCreatedAt())
                 .build();
     }
+
+    public static DiaryResponse archivedSummaryFrom(ArchivedDiary diary, int stickerCount) {
+        return DiaryResponse.builder()
+                .id(diary.getId())
+                .title(diary.getTitle())
+                .date(diary.getDate())
+                .genre(diary.getGenre())
+                .isPublic(diary.isPublic())
+                .isDeleted(diary.isTrashed())
+                .deletedAt(diary.getDeletedAt())
+                .likeCount(diary.getLikeCount())
+                .version(diary.getVersion())
+                .stickerCount(stickerCount)
+                .createdAt(diary.getCreatedAt())
+                .build();
+    }
 }
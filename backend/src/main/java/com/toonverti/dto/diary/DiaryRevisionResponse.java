@@ -0,0 +1,26 @@
+package com.toonverti.dto.diary;
+
+import com.toonverti.domain.diary.DiaryRevision;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class DiaryRevisionResponse {
+    private int revision;
+    // false 면 직전 리비전과의 차이만 저장된 리비전
+    private boolean snapshot;
+    private int storedBytes;
+    private LocalDateTime createdAt;
+
+    public static DiaryRevisionResponse from(DiaryRevision revision) {
+        return DiaryRevisionResponse.builder()
+                .revision(revision.getRevision())
+                .snapshot(revision.isSnapshot())
+                .storedBytes(revision.getContent().length)
+                .createdAt(revision.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.toonverti.dto.diary;
+
+import com.toonverti.domain.diary.DiaryTombstone;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class DiarySyncResponse {
+    // 만들어지거나 바뀐 다이어리, 스티커가 바뀌지 않았으면 stickers 는 null
+    private List<DiaryResponse> changed;
+    private List<Tombstone> deleted;
+    // 다음 요청에 그대로 보낸다. hasMore 가 false 여도 저장해 두었다가 다음 동기화에 쓴다
+    private String nextToken;
+    private boolean hasMore;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Tombstone {
+        private final Long diaryId;
+        // true 면 휴지통으로 옮긴 것이고, false 면 지워졌거나 다른 ID로 바뀐 것이다
+        private final boolean trashed;
+        private final LocalDateTime deletedAt;
+
+        public static Tombstone from(DiaryTombstone tombstone) {
+            return new Tombstone(tombstone.getDiaryId(), tombstone.isTrashed(), tombstone.getDeletedAt());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.toonverti.dto.diary;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -12,6 +13,7 @@ public class StickerRequest {
     private String type;
 
     @NotBlank(message = "스티커 이미지 경로는 필수입니다.")
+    @Size(max = 500, message = "스티커 이미지 경로는 500자 이내여야 합니다.")
     private String src;
 
     private int x;
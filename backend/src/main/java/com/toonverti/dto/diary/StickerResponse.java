@@ -1,5 +1,6 @@
 package com.toonverti.dto.diary;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.toonverti.domain.sticker.Sticker;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +10,9 @@ import lombok.Getter;
 public class StickerResponse {
     private Long id;
     private String type;
+    private Integer assetId;
+    // 간략 응답에서는 생략되고 DiaryResponse.assets 사전으로 대신한다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String src;
     private int x;
     private int y;
@@ -16,11 +20,13 @@ public class StickerResponse {
     private int height;
     private double rotation;
     private int zIndex;
+    private long version;
 
     public static StickerResponse from(Sticker sticker) {
         return StickerResponse.builder()
                 .id(sticker.getId())
                 .type(sticker.getType())
+                .assetId(sticker.getAsset().getId())
                 .src(sticker.getSrc())
                 .x(sticker.getX())
                 .y(sticker.getY())
@@ -28,6 +34,22 @@ public class StickerResponse {
                 .height(sticker.getHeight())
                 .rotation(sticker.getRotation())
                 .zIndex(sticker.getZIndex())
+                .version(sticker.getVersion())
+                .build();
+    }
+
+    public static StickerResponse compactFrom(Sticker sticker) {
+        return StickerResponse.builder()
+                .id(sticker.getId())
+                .type(sticker.getType())
+                .assetId(sticker.getAsset().getId())
+                .x(sticker.getX())
+                .y(sticker.getY())
+                .width(sticker.getWidth())
+                .height(sticker.getHeight())
+                .rotation(sticker.getRotation())
+                .zIndex(sticker.getZIndex())
+                .version(sticker.getVersion())
                 .build();
     }
 }
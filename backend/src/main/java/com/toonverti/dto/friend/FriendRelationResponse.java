@@ -0,0 +1,13 @@
+package com.toonverti.dto.friend;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FriendRelationResponse {
+    private Long userId;
+    private Long otherUserId;
+    private boolean friends;
+    private int mutualFriendCount;
+}
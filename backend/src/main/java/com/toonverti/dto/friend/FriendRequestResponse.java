@@ -0,0 +1,34 @@
+package com.toonverti.dto.friend;
+
+import com.toonverti.domain.friend.Friendship;
+import com.toonverti.domain.friend.FriendshipStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class FriendRequestResponse {
+    private Long id;
+    private Long requesterId;
+    private String requesterNickname;
+    private String requesterAvatarUrl;
+    private Long addresseeId;
+    private FriendshipStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime acceptedAt;
+
+    public static FriendRequestResponse from(Friendship friendship) {
+        return FriendRequestResponse.builder()
+                .id(friendship.getId())
+                .requesterId(friendship.getRequester().getId())
+                .requesterNickname(friendship.getRequester().getNickname())
+                .requesterAvatarUrl(friendship.getRequester().getAvatarUrl())
+                .addresseeId(friendship.getAddressee().getId())
+                .status(friendship.getStatus())
+                .createdAt(friendship.getCreatedAt())
+                .acceptedAt(friendship.getAcceptedAt())
+                .build();
+    }
+}
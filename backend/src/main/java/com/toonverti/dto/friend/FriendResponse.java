@@ -0,0 +1,25 @@
+package com.toonverti.dto.friend;
+
+import com.toonverti.domain.user.User;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FriendResponse {
+    private Long userId;
+    private String nickname;
+    private String bio;
+    private String avatarUrl;
+    private int mutualFriendCount;
+
+    public static FriendResponse of(User user, int mutualFriendCount) {
+        return FriendResponse.builder()
+                .userId(user.getId())
+                .nickname(user.getNickname())
+                .bio(user.getBio())
+                .avatarUrl(user.getAvatarUrl())
+                .mutualFriendCount(mutualFriendCount)
+                .build();
+    }
+}
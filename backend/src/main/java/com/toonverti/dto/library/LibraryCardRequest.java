@@ -0,0 +1,36 @@
+package com.toonverti.dto.library;
+
+import com.toonverti.domain.library.LibraryCardStatus;
+import com.toonverti.dto.webtoon.WebtoonTitleRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LibraryCardRequest {
+
+    // 카탈로그에 있는 작품이면 ID만, 없으면 title로 작품 정보를 함께 보낸다
+    private Long titleId;
+
+    @Valid
+    private WebtoonTitleRequest title;
+
+    @NotNull(message = "상태는 필수입니다.")
+    private LibraryCardStatus status;
+
+    @Min(value = 0, message = "평점은 0 이상이어야 합니다.")
+    @Max(value = 5, message = "평점은 5 이하여야 합니다.")
+    private int rating;
+
+    private Long folderId;
+
+    @AssertTrue(message = "titleId 또는 title 중 하나는 필수입니다.")
+    private boolean isTitleSpecified() {
+        return titleId != null || title != null;
+    }
+}
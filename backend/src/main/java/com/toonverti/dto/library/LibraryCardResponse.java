@@ -0,0 +1,43 @@
+package com.toonverti.dto.library;
+
+import com.toonverti.domain.library.LibraryCard;
+import com.toonverti.domain.library.LibraryCardStatus;
+import com.toonverti.domain.webtoon.WebtoonPlatform;
+import com.toonverti.domain.webtoon.WebtoonTitle;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서재 목록용 카드 응답 (작품 설명/장르는 카탈로그 상세에서 조회)
+ */
+@Getter
+@Builder
+public class LibraryCardResponse {
+    private Long id;
+    private Long titleId;
+    private String title;
+    private String coverImage;
+    private WebtoonPlatform platform;
+    private LibraryCardStatus status;
+    private int rating;
+    private Long folderId;
+    private LocalDateTime updatedAt;
+
+    public static LibraryCardResponse from(LibraryCard card) {
+        WebtoonTitle title = card.getTitle();
+        return LibraryCardResponse.builder()
+                .id(card.getId())
+                .titleId(title.getId())
+                .title(title.getTitle())
+                .coverImage(title.getCoverImage())
+                .platform(title.getPlatform())
+                .status(card.getStatus())
+                .rating(card.getRating())
+                // 프록시 초기화 없이 FK 값만 읽는다
+                .folderId(card.getFolder() != null ? card.getFolder().getId() : null)
+                .updatedAt(card.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.toonverti.dto.library;
+
+import com.toonverti.domain.library.LibraryCardStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LibraryCardUpdateRequest {
+
+    @NotNull(message = "상태는 필수입니다.")
+    private LibraryCardStatus status;
+
+    @Min(value = 0, message = "평점은 0 이상이어야 합니다.")
+    @Max(value = 5, message = "평점은 5 이하여야 합니다.")
+    private int rating;
+
+    // null이면 폴더에서 뺀다
+    private Long folderId;
+}
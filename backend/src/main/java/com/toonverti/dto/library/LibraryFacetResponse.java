@@ -0,0 +1,17 @@
+package com.toonverti.dto.library;
+
+import com.toonverti.dto.search.FacetCount;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class LibraryFacetResponse {
+    private long total;
+    // 상태별 건수, 상태 선언 순
+    private List<FacetCount> statuses;
+    // 폴더 ID별 건수, 폴더 없음은 value가 null
+    private List<FacetCount> folders;
+}
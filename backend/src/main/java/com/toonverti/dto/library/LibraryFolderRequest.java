@@ -0,0 +1,18 @@
+package com.toonverti.dto.library;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LibraryFolderRequest {
+
+    @NotBlank(message = "폴더 이름은 필수입니다.")
+    @Size(max = 50, message = "폴더 이름은 50자 이내여야 합니다.")
+    private String name;
+
+    @Size(max = 20, message = "색상은 20자 이내여야 합니다.")
+    private String color;
+}
@@ -0,0 +1,25 @@
+package com.toonverti.dto.library;
+
+import com.toonverti.domain.library.LibraryFolder;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class LibraryFolderResponse {
+    private Long id;
+    private String name;
+    private String color;
+    private LocalDateTime createdAt;
+
+    public static LibraryFolderResponse from(LibraryFolder folder) {
+        return LibraryFolderResponse.builder()
+                .id(folder.getId())
+                .name(folder.getName())
+                .color(folder.getColor())
+                .createdAt(folder.getCreatedAt())
+                .build();
+    }
+}
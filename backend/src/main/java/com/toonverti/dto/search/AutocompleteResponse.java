@@ -0,0 +1,30 @@
+package com.toonverti.dto.search;
+
+import com.toonverti.service.autocomplete.PrefixTrie;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AutocompleteResponse {
+    private String query;
+    // 작품 카탈로그 (서재에 담긴 수 순)
+    private List<Suggestion> webtoons;
+    // 내 다이어리 제목 (좋아요 순)
+    private List<Suggestion> diaries;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        private final Long id;
+        private final String text;
+        private final long score;
+
+        public static Suggestion from(PrefixTrie.Entry entry) {
+            return new Suggestion(entry.id(), entry.text(), entry.score());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.toonverti.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 패싯 값별 건수 (건수 내림차순 또는 값 순으로 내려준다)
+ */
+@Getter
+@AllArgsConstructor
+public class FacetCount {
+    private final String value;
+    private final long count;
+}
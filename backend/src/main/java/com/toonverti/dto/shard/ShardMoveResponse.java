@@ -0,0 +1,18 @@
+package com.toonverti.dto.shard;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class ShardMoveResponse {
+    private Long userId;
+    private int sourceShard;
+    private int targetShard;
+    private int movedDiaries;
+    private int movedStickers;
+    // 옮긴 다이어리의 이전 ID -> 새 ID
+    private Map<Long, Long> diaryIds;
+}
@@ -0,0 +1,14 @@
+package com.toonverti.dto.shard;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ShardStatsResponse {
+    private int shard;
+    private long diaryCount;
+    private long stickerCount;
+    // 이 샤드에 다이어리가 있는 사용자 수
+    private long userCount;
+}
@@ -0,0 +1,28 @@
+package com.toonverti.dto.sticker;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class StickerAutosaveRequest {
+
+    // 요청 안에서도 뒤에 오는 변경값이 이긴다
+    @NotEmpty(message = "변경 내용이 비어 있습니다.")
+    @Size(max = 500, message = "한 번에 500개까지 보낼 수 있습니다.")
+    private List<@Valid @NotNull StickerDelta> deltas;
+
+    @Getter
+    @NoArgsConstructor
+    public static class StickerDelta extends StickerPatchRequest {
+
+        @NotNull(message = "스티커 ID는 필수입니다.")
+        private Long stickerId;
+    }
+}
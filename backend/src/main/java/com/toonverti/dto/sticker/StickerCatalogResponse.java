@@ -0,0 +1,27 @@
+package com.toonverti.dto.sticker;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StickerCatalogResponse {
+    private String version;
+    private List<Pack> packs;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pack {
+        // Sticker.type 값
+        private String type;
+        private String name;
+        private String icon;
+        // Sticker.src 값
+        private List<String> stickers;
+    }
+}
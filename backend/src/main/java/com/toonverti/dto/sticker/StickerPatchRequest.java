@@ -0,0 +1,35 @@
+package com.toonverti.dto.sticker;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.toonverti.domain.sticker.StickerTransform;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보낸 항목만 바꾼다
+@Getter
+@NoArgsConstructor
+public class StickerPatchRequest {
+
+    private Integer x;
+    private Integer y;
+
+    @Positive(message = "스티커 너비는 0보다 커야 합니다.")
+    private Integer width;
+
+    @Positive(message = "스티커 높이는 0보다 커야 합니다.")
+    private Integer height;
+
+    private Double rotation;
+
+    // 롬복 getter 이름(getZIndex)만으로는 JSON의 zIndex와 연결되지 않는다
+    @JsonProperty("zIndex")
+    private Integer zIndex;
+
+    // 클라이언트가 마지막으로 본 버전, 없으면 버전 확인 없이 적용한다
+    private Long version;
+
+    public StickerTransform toTransform() {
+        return new StickerTransform(x, y, width, height, rotation, zIndex);
+    }
+}
@@ -0,0 +1,36 @@
+package com.toonverti.dto.timeline;
+
+import com.toonverti.domain.diary.Diary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TimelineItemResponse {
+    private Long diaryId;
+    private Long authorId;
+    private String authorNickname;
+    private String authorAvatarUrl;
+    private String title;
+    private LocalDate date;
+    private String genre;
+    private int likeCount;
+    private LocalDateTime publishedAt;
+
+    public static TimelineItemResponse from(Diary diary) {
+        return TimelineItemResponse.builder()
+                .diaryId(diary.getId())
+                .authorId(diary.getUser().getId())
+                .authorNickname(diary.getUser().getNickname())
+                .authorAvatarUrl(diary.getUser().getAvatarUrl())
+                .title(diary.getTitle())
+                .date(diary.getDate())
+                .genre(diary.getGenre())
+                .likeCount(diary.getLikeCount())
+                .publishedAt(diary.getPublishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.toonverti.dto.timeline;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TimelineResponse {
+    private List<TimelineItemResponse> items;
+    // 다음 페이지 요청에 그대로 넘긴다, 마지막 페이지면 null
+    private String nextCursor;
+}
@@ -0,0 +1,13 @@
+package com.toonverti.dto.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrendingDiaryResponse {
+    private final int rank;
+    private final Long diaryId;
+    // 현재 시각 기준 감쇠 점수 (조회 1, 좋아요 5에서 반감기마다 절반)
+    private final double score;
+}
@@ -0,0 +1,36 @@
+package com.toonverti.dto.webtoon;
+
+import com.toonverti.domain.webtoon.WebtoonPlatform;
+import com.toonverti.domain.webtoon.WebtoonType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class WebtoonTitleRequest {
+
+    @NotBlank(message = "제목은 필수입니다.")
+    @Size(max = 200, message = "제목은 200자 이내여야 합니다.")
+    private String title;
+
+    @Size(max = 500, message = "표지 URL은 500자 이내여야 합니다.")
+    private String coverImage;
+
+    @NotNull(message = "플랫폼은 필수입니다.")
+    private WebtoonPlatform platform;
+
+    private WebtoonType type;
+
+    @Size(max = 10, message = "장르는 10개 이내여야 합니다.")
+    private List<@NotBlank @Size(max = 20, message = "장르는 20자 이내여야 합니다.") String> genres;
+
+    @Size(max = 100, message = "작가는 100자 이내여야 합니다.")
+    private String author;
+
+    private String description;
+}
@@ -0,0 +1,37 @@
+package com.toonverti.dto.webtoon;
+
+import com.toonverti.domain.webtoon.WebtoonPlatform;
+import com.toonverti.domain.webtoon.WebtoonTitle;
+import com.toonverti.domain.webtoon.WebtoonType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class WebtoonTitleResponse {
+    private Long id;
+    private String title;
+    private String coverImage;
+    private WebtoonPlatform platform;
+    private WebtoonType type;
+    private List<String> genres;
+    private String author;
+    private String description;
+    private int libraryCount;
+
+    public static WebtoonTitleResponse from(WebtoonTitle title) {
+        return WebtoonTitleResponse.builder()
+                .id(title.getId())
+                .title(title.getTitle())
+                .coverImage(title.getCoverImage())
+                .platform(title.getPlatform())
+                .type(title.getType())
+                .genres(List.copyOf(title.getGenres()))
+                .author(title.getAuthor())
+                .description(title.getDescription())
+                .libraryCount(title.getLibraryCount())
+                .build();
+    }
+}
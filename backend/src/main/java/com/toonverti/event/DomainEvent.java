@@ -0,0 +1,10 @@
+package com.toonverti.event;
+
+/**
+ * 커밋된 상태 변경을 알리는 도메인 이벤트
+ *
+ * 구독자는 다른 스레드에서 이벤트를 처리하므로 이벤트는 불변 값(record)이어야 하고,
+ * 엔티티 대신 구독자가 필요로 하는 값만 담는다.
+ */
+public interface DomainEvent {
+}
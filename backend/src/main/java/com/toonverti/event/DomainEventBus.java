@@ -0,0 +1,305 @@
+package com.toonverti.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 도메인 이벤트를 구독자에게 비동기로 전달하는 인프로세스 버스
+ *
+ * 크기가 고정된 링 버퍼 하나를 모든 구독자가 공유한다. 발행자는 CAS로 시퀀스를 예약해 슬롯에 쓰고
+ * 슬롯별 회차(round) 값을 기록해 공개하며, 구독자는 각자 전용 스레드에서 자신의 커서 이후로
+ * 공개된 이벤트를 최대 max-batch 건씩 묶어 처리한다. 락은 쓰지 않는다.
+ *
+ * 가장 느린 구독자가 한 바퀴 뒤처지면 버퍼가 가득 찬 것이고, 발행자는 publish-timeout-ms 동안
+ * 기다리다가(배압) 그래도 자리가 나지 않으면 REJECTED를 돌려받는다. 발행자는 아웃박스 릴레이뿐이며,
+ * 거절된 이벤트는 아웃박스에 남아 있다가 다시 발행된다.
+ *
+ * 구독자가 예외를 던지면 그 묶음의 시퀀스를 실패로 기록하고 커서는 그대로 넘긴다.
+ * 릴레이는 awaitProcessed 이후 takeFailures로 실패한 시퀀스를 받아 해당 아웃박스 행을 지우지 않고 남긴다.
+ *
+ * 메트릭: events.published, events.processed{subscriber}, events.failed{subscriber},
+ * events.lag{subscriber} (발행되었지만 아직 처리하지 않은 이벤트 수)
+ */
+@Slf4j
+@Component
+public class DomainEventBus {
+
+    public static final long REJECTED = Long.MIN_VALUE;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final DomainEvent[] slots;
+    // 슬롯에 기록된 시퀀스의 회차, 발행이 끝나야 갱신되므로 구독자는 이 값으로 공개 여부를 판단한다
+    private final AtomicIntegerArray rounds;
+    private final int mask;
+    private final int shift;
+    private final int maxBatch;
+    private final long publishTimeoutNanos;
+
+    // 마지막으로 예약된 시퀀스
+    private final AtomicLong claimed = new AtomicLong(-1);
+    // 가장 느린 구독자 커서의 캐시, 버퍼가 찼을 때만 다시 계산한다
+    private volatile long gatingCache = -1;
+    private volatile boolean running = true;
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    // 한 구독자라도 처리하지 못한 시퀀스
+    private final ConcurrentSkipListSet<Long> failures = new ConcurrentSkipListSet<>();
+    private final Counter published;
+
+    public DomainEventBus(List<DomainEventSubscriber> subscribers,
+                          MeterRegistry meterRegistry,
+                          @Value("${events.ring-size:8192}") int ringSize,
+                          @Value("${events.max-batch:256}") int maxBatch,
+                          @Value("${events.publish-timeout-ms:200}") long publishTimeoutMs) {
+        if (Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("events.ring-size는 2의 거듭제곱이어야 합니다: " + ringSize);
+        }
+        this.slots = new DomainEvent[ringSize];
+        this.rounds = new AtomicIntegerArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            rounds.set(i, -1);
+        }
+        this.mask = ringSize - 1;
+        this.shift = Integer.numberOfTrailingZeros(ringSize);
+        this.maxBatch = maxBatch;
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMs);
+
+        this.published = meterRegistry.counter("events.published");
+        for (DomainEventSubscriber subscriber : subscribers) {
+            subscriptions.add(new Subscription(subscriber, meterRegistry));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Subscription subscription : subscriptions) {
+            subscription.thread.start();
+        }
+    }
+
+    /**
+     * 종료 시 새 이벤트는 받지 않고, 이미 발행된 이벤트는 구독자가 모두 처리할 때까지 기다린다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Subscription subscription : subscriptions) {
+            LockSupport.unpark(subscription.thread);
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * 버퍼에 넣고 시퀀스를 돌려준다. 버퍼가 가득 찼거나 종료 중이면 REJECTED.
+     */
+    public long publish(DomainEvent event) {
+        if (!running) {
+            return REJECTED;
+        }
+        if (subscriptions.isEmpty()) {
+            return claimed.get();
+        }
+
+        long sequence = claim();
+        if (sequence < 0) {
+            return REJECTED;
+        }
+        int index = (int) (sequence & mask);
+        slots[index] = event;
+        rounds.set(index, round(sequence));
+        published.increment();
+
+        for (Subscription subscription : subscriptions) {
+            subscription.wake();
+        }
+        return sequence;
+    }
+
+    /**
+     * 모든 구독자가 sequence까지 처리할 때까지 기다린다.
+     *
+     * @return 제한 시간 안에 처리되었으면 true
+     */
+    public boolean awaitProcessed(long sequence, long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (slowestCursor() < sequence) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * from~to 사이에서 처리에 실패한 시퀀스를 꺼낸다. 발행자는 묶음을 차례로 보내므로
+     * from 이전에 남은 기록(대기 시간이 지난 뒤의 실패)은 더 이상 볼 사람이 없어 함께 지운다.
+     */
+    public Set<Long> takeFailures(long from, long to) {
+        NavigableSet<Long> upTo = failures.headSet(to, true);
+        Set<Long> taken = new TreeSet<>(upTo.tailSet(from, true));
+        upTo.clear();
+        return taken;
+    }
+
+    private long claim() {
+        long deadline = 0;
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            long wrapPoint = next - slots.length;
+
+            if (wrapPoint > gatingCache) {
+                long slowest = slowestCursor();
+                gatingCache = slowest;
+                if (wrapPoint > slowest) {
+                    // 가장 느린 구독자가 이 슬롯을 아직 읽지 않았다
+                    if (deadline == 0) {
+                        deadline = System.nanoTime() + publishTimeoutNanos;
+                    } else if (System.nanoTime() - deadline > 0) {
+                        return -1;
+                    }
+                    LockSupport.parkNanos(FULL_PARK_NANOS);
+                    continue;
+                }
+            }
+
+            if (claimed.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long slowestCursor() {
+        if (subscriptions.isEmpty()) {
+            return claimed.get();
+        }
+        long slowest = Long.MAX_VALUE;
+        for (Subscription subscription : subscriptions) {
+            slowest = Math.min(slowest, subscription.cursor.get());
+        }
+        return slowest;
+    }
+
+    private int round(long sequence) {
+        return (int) (sequence >>> shift);
+    }
+
+    private boolean isPublished(long sequence) {
+        return rounds.get((int) (sequence & mask)) == round(sequence);
+    }
+
+    private final class Subscription implements Runnable {
+
+        private final DomainEventSubscriber subscriber;
+        // 마지막으로 처리한 시퀀스
+        private final AtomicLong cursor = new AtomicLong(-1);
+        private final Thread thread;
+        private final Counter processed;
+        private final Counter failed;
+        private volatile boolean waiting;
+
+        private Subscription(DomainEventSubscriber subscriber, MeterRegistry meterRegistry) {
+            this.subscriber = subscriber;
+            this.thread = new Thread(this, "domain-events-" + subscriber.name());
+            this.thread.setDaemon(true);
+            this.processed = meterRegistry.counter("events.processed", "subscriber", subscriber.name());
+            this.failed = meterRegistry.counter("events.failed", "subscriber", subscriber.name());
+            Gauge.builder("events.lag", this, Subscription::lag)
+                    .tag("subscriber", subscriber.name())
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void run() {
+            List<DomainEvent> batch = new ArrayList<>(maxBatch);
+            while (true) {
+                long next = cursor.get() + 1;
+                if (!isPublished(next)) {
+                    if (!running) {
+                        return;
+                    }
+                    park(next);
+                    continue;
+                }
+
+                long last = next;
+                collect(batch, next);
+                while (last + 1 < next + maxBatch && isPublished(last + 1)) {
+                    last++;
+                    collect(batch, last);
+                }
+
+                if (!batch.isEmpty()) {
+                    deliver(batch, next, last);
+                    batch.clear();
+                }
+                // 커서를 옮겨야 발행자가 이 슬롯들을 다시 쓸 수 있다
+                cursor.set(last);
+            }
+        }
+
+        private void collect(List<DomainEvent> batch, long sequence) {
+            DomainEvent event = slots[(int) (sequence & mask)];
+            if (subscriber.supports(event)) {
+                batch.add(event);
+            }
+        }
+
+        private void deliver(List<DomainEvent> batch, long first, long last) {
+            try {
+                subscriber.onEvents(batch);
+                processed.increment(batch.size());
+            } catch (RuntimeException e) {
+                failed.increment(batch.size());
+                log.error("이벤트 처리 실패: subscriber={}, size={}", subscriber.name(), batch.size(), e);
+                // 커서를 옮기기 전에 기록해야 awaitProcessed 이후에 릴레이가 본다
+                for (long sequence = first; sequence <= last; sequence++) {
+                    if (subscriber.supports(slots[(int) (sequence & mask)])) {
+                        failures.add(sequence);
+                    }
+                }
+            }
+        }
+
+        private void park(long next) {
+            waiting = true;
+            // waiting 기록 이후에 다시 확인해야 발행자의 깨우기를 놓치지 않는다
+            if (!isPublished(next) && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            waiting = false;
+        }
+
+        private void wake() {
+            if (waiting) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private double lag() {
+            return Math.max(0, claimed.get() - cursor.get());
+        }
+    }
+}
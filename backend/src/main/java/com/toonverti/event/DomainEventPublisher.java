@@ -0,0 +1,38 @@
+package com.toonverti.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.common.transaction.AfterCommit;
+import com.toonverti.domain.outbox.OutboxJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 서비스 계층의 이벤트 발행 진입점
+ *
+ * 이벤트를 현재 트랜잭션 안에서 아웃박스에 기록하므로 상태 변경과 함께 커밋되거나 함께 롤백된다.
+ * 커밋 이후 릴레이를 깨워 바로 전달하게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public void publish(DomainEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도메인 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+        outboxJdbcRepository.insert(event.getClass().getName(), payload, LocalDateTime.now(clock));
+        AfterCommit.run(outboxRelay::wake);
+    }
+}
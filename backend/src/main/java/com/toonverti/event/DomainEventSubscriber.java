@@ -0,0 +1,25 @@
+package com.toonverti.event;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 구독자
+ *
+ * 구독자마다 전용 스레드에서 발행 순서대로 묶음(batch) 단위로 호출된다.
+ * 처리 중 예외가 나면 해당 묶음의 이벤트는 아웃박스에 남아 잠시 뒤 모든 구독자에게 다시 전달된다.
+ * 그래서 같은 이벤트를 두 번 받아도 결과가 같아야 한다.
+ *
+ * 버스는 인스턴스마다 따로 있고 아웃박스 행은 가져간 인스턴스 하나에서만 전달된다.
+ * 인스턴스가 여럿이면 구독자는 자기 인스턴스가 가져간 이벤트만 받으므로, 메모리 상태를 고치는
+ * 구독자(트렌딩, 자동완성, 타임라인)는 다른 인스턴스에서 일어난 변경을 놓칠 수 있다.
+ */
+public interface DomainEventSubscriber {
+
+    // 메트릭 태그와 스레드 이름에 쓰인다
+    String name();
+
+    // 관심 없는 이벤트는 묶음에 담기지 않는다
+    boolean supports(DomainEvent event);
+
+    void onEvents(List<DomainEvent> events);
+}
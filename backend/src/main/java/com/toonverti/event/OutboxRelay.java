@@ -0,0 +1,262 @@
+package com.toonverti.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.domain.outbox.OutboxJdbcRepository;
+import com.toonverti.domain.outbox.OutboxJdbcRepository.OutboxRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 아웃박스 행을 묶음으로 가져와 이벤트 버스에 전달하고 지우는 릴레이
+ *
+ * 모든 구독자가 묶음의 마지막 이벤트까지 처리한 것을 확인한 뒤에 지우므로, 중간에 프로세스가 죽으면
+ * 남은 행이 다음 릴레이에서 다시 전달된다 (최소 1회 전달). 구독자가 예외를 던진 이벤트의 행은
+ * 지우지 않고 retry-delay-ms 뒤에 다시 전달하고, max-attempts 번 실패하면 outbox_dead_letters 로 옮긴다.
+ * 구독자는 같은 이벤트를 두 번 받아도 결과가 같아야 한다.
+ *
+ * 행은 가져간 인스턴스의 버스에만 전달된다. 인스턴스가 여럿이면 각 인스턴스의 구독자는
+ * 전체 이벤트 중 일부만 받는다 (DomainEventSubscriber 참고).
+ *
+ * 커밋 직후 발행자가 깨우므로 평소에는 바로 전달되고, poll-interval-ms 주기 폴링은
+ * 다른 인스턴스가 남긴 행이나 실패한 묶음을 다시 가져가기 위한 것이다.
+ * 가득 찬 묶음을 처리했으면 쉬지 않고 다음 묶음을 가져온다. 샤딩 중에는 이벤트가 상태 변경과 같은
+ * 샤드의 아웃박스에 기록되므로 샤드를 차례로 돈다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartInitializingSingleton {
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final DomainEventBus domainEventBus;
+    private final ShardRouter shardRouter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final String claimStrategy;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final long ackTimeoutMs;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+
+    private final String relayId = UUID.randomUUID().toString();
+    private final Thread thread = new Thread(this::run, "outbox-relay");
+    private final Counter relayed;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter deadLettered;
+    private volatile boolean running = true;
+    private boolean skipLocked;
+
+    public OutboxRelay(OutboxJdbcRepository outboxJdbcRepository,
+                       DomainEventBus domainEventBus,
+                       ShardRouter shardRouter,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       Clock clock,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.claim-strategy:auto}") String claimStrategy,
+                       @Value("${outbox.batch-size:500}") int batchSize,
+                       @Value("${outbox.poll-interval-ms:1000}") long pollIntervalMs,
+                       @Value("${outbox.ack-timeout-ms:10000}") long ackTimeoutMs,
+                       @Value("${outbox.lease-seconds:30}") long leaseSeconds,
+                       @Value("${outbox.retry-delay-ms:5000}") long retryDelayMs,
+                       @Value("${outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        this.domainEventBus = domainEventBus;
+        this.shardRouter = shardRouter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.claimStrategy = claimStrategy;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMs);
+        this.ackTimeoutMs = ackTimeoutMs;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryDelay = Duration.ofMillis(retryDelayMs);
+        this.maxAttempts = maxAttempts;
+        this.relayed = meterRegistry.counter("outbox.relayed");
+        this.retried = meterRegistry.counter("outbox.retried");
+        this.failed = meterRegistry.counter("outbox.failed");
+        this.deadLettered = meterRegistry.counter("outbox.dead-lettered");
+        this.thread.setDaemon(true);
+    }
+
+    // 스키마가 준비된 뒤에 DB 종류를 보고 가져오기 방식을 정한다
+    @Override
+    public void afterSingletonsInstantiated() {
+        skipLocked = switch (claimStrategy) {
+            case "skip-locked" -> true;
+            case "lease" -> false;
+            default -> "PostgreSQL".equals(outboxJdbcRepository.databaseProductName());
+        };
+        log.info("아웃박스 릴레이 시작: strategy={}", skipLocked ? "skip-locked" : "lease");
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // 커밋 직후 호출되어 폴링 주기를 기다리지 않고 바로 전달하게 한다
+    public void wake() {
+        LockSupport.unpark(thread);
+    }
+
+    private void run() {
+        while (running) {
+            boolean full = false;
+            for (int shard : shardRouter.shards()) {
+                try {
+                    int relayedCount = ShardContext.call(shard, () -> skipLocked ? relaySkipLocked() : relayLeased());
+                    full |= relayedCount >= batchSize;
+                } catch (RuntimeException e) {
+                    log.error("아웃박스 전달 실패: shard={}", shard, e);
+                }
+            }
+            if (!full && running) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    private int relaySkipLocked() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = outboxJdbcRepository.claimSkipLocked(LocalDateTime.now(clock), batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            Dispatch dispatch = dispatch(rows);
+            if (dispatch == null) {
+                // 잠금이 풀리면 다음 폴링에서 다시 가져간다
+                status.setRollbackOnly();
+                return 0;
+            }
+            settle(dispatch);
+            return rows.size();
+        });
+        return count == null ? 0 : count;
+    }
+
+    private int relayLeased() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxRow> rows = transactionTemplate.execute(status ->
+                outboxJdbcRepository.claimLeased(relayId, now, now.plus(lease), batchSize));
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        Dispatch dispatch = dispatch(rows);
+        if (dispatch == null) {
+            // 임대가 끝나면 다시 가져간다
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> settle(dispatch));
+        return rows.size();
+    }
+
+    // 처리된 행은 지우고, 구독자가 실패한 행은 retry-delay 뒤에 다시 가져가도록 미룬다 (횟수를 다 쓴 행은 옮긴다)
+    private void settle(Dispatch dispatch) {
+        outboxJdbcRepository.deleteByIds(dispatch.done());
+        if (dispatch.failed().isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> exhausted = outboxJdbcRepository.deadLetterExhausted(dispatch.failed(), maxAttempts, now);
+        if (!exhausted.isEmpty()) {
+            deadLettered.increment(exhausted.size());
+            log.error("{}번 처리하지 못한 아웃박스 행을 outbox_dead_letters 로 옮겼습니다: ids={}", maxAttempts, exhausted);
+        }
+        outboxJdbcRepository.deferByIds(dispatch.failed(), now.plus(retryDelay));
+    }
+
+    /**
+     * @return 처리된 행과 구독자가 실패한 행, 묶음 전체를 다시 보내야 하면 null
+     */
+    private Dispatch dispatch(List<OutboxRow> rows) {
+        long first = DomainEventBus.REJECTED;
+        long last = DomainEventBus.REJECTED;
+        long[] sequences = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            DomainEvent event = deserialize(rows.get(i));
+            if (event == null) {
+                sequences[i] = DomainEventBus.REJECTED;
+                continue;
+            }
+            long sequence = domainEventBus.publish(event);
+            if (sequence == DomainEventBus.REJECTED) {
+                retried.increment(rows.size());
+                return null;
+            }
+            sequences[i] = sequence;
+            if (first == DomainEventBus.REJECTED) {
+                first = sequence;
+            }
+            last = sequence;
+        }
+        if (last == DomainEventBus.REJECTED) {
+            relayed.increment(rows.size());
+            return new Dispatch(rows.stream().map(OutboxRow::id).toList(), List.of());
+        }
+
+        boolean processed = domainEventBus.awaitProcessed(last, ackTimeoutMs);
+        Set<Long> failures = domainEventBus.takeFailures(first, last);
+        if (!processed) {
+            log.warn("구독자 처리가 늦어 아웃박스 묶음을 다시 전달합니다: size={}", rows.size());
+            retried.increment(rows.size());
+            return null;
+        }
+
+        List<Long> done = new ArrayList<>(rows.size());
+        List<Long> undelivered = new ArrayList<>(failures.size());
+        for (int i = 0; i < rows.size(); i++) {
+            (failures.contains(sequences[i]) ? undelivered : done).add(rows.get(i).id());
+        }
+        relayed.increment(done.size());
+        if (!undelivered.isEmpty()) {
+            failed.increment(undelivered.size());
+            log.warn("구독자가 처리하지 못한 아웃박스 행을 다시 전달합니다: size={}", undelivered.size());
+        }
+        return new Dispatch(done, undelivered);
+    }
+
+    // 읽을 수 없는 행은 다시 시도해도 같으므로 로그만 남기고 지워지게 둔다
+    private DomainEvent deserialize(OutboxRow row) {
+        try {
+            Class<?> type = Class.forName(row.eventType());
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                log.error("도메인 이벤트가 아닌 아웃박스 행: id={}, type={}", row.id(), row.eventType());
+                return null;
+            }
+            return (DomainEvent) objectMapper.readValue(row.payload(), type);
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            log.error("아웃박스 행을 읽을 수 없습니다: id={}, type={}", row.id(), row.eventType(), e);
+            return null;
+        }
+    }
+
+    private record Dispatch(List<Long> done, List<Long> failed) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.toonverti.event.diary;
+
+import com.toonverti.event.DomainEvent;
+
+// 일괄 가져오기 완료, 건별 이벤트 대신 사용자 단위로 한 번만 발행한다
+public record DiariesImportedEvent(Long userId, int imported) implements DomainEvent {
+}
@@ -0,0 +1,9 @@
+package com.toonverti.event.diary;
+
+import java.time.LocalDateTime;
+
+// 다이어리 생성, 비공개로 만들었으면 publishedAt은 null
+public record DiaryCreatedEvent(Long diaryId, Long userId, String title,
+                                long likeCount, LocalDateTime publishedAt)
+        implements DiaryEvent {
+}
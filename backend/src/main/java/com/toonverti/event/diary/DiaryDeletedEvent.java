@@ -0,0 +1,5 @@
+package com.toonverti.event.diary;
+
+// 영구 삭제
+public record DiaryDeletedEvent(Long diaryId, Long userId) implements DiaryEvent {
+}
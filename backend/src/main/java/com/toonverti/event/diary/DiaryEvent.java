@@ -0,0 +1,15 @@
+package com.toonverti.event.diary;
+
+import com.toonverti.event.DomainEvent;
+
+/**
+ * 다이어리 한 건에 대한 이벤트
+ */
+public sealed interface DiaryEvent extends DomainEvent
+        permits DiaryCreatedEvent, DiaryUpdatedEvent, DiaryLikedEvent, DiaryPublishedEvent,
+                DiaryUnpublishedEvent, DiaryTrashedEvent, DiaryRestoredEvent, DiaryDeletedEvent {
+
+    Long diaryId();
+
+    Long userId();
+}
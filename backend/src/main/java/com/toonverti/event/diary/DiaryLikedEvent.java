@@ -0,0 +1,7 @@
+package com.toonverti.event.diary;
+
+// 좋아요 수 변경
+public record DiaryLikedEvent(Long diaryId, Long userId, String title,
+                              long likeCount, boolean isDeleted)
+        implements DiaryEvent {
+}
@@ -0,0 +1,9 @@
+package com.toonverti.event.diary;
+
+import java.time.LocalDateTime;
+
+// 비공개 -> 공개 전환
+public record DiaryPublishedEvent(Long diaryId, Long userId,
+                                  LocalDateTime publishedAt)
+        implements DiaryEvent {
+}
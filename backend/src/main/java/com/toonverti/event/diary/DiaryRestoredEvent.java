@@ -0,0 +1,7 @@
+package com.toonverti.event.diary;
+
+// 휴지통에서 복원
+public record DiaryRestoredEvent(Long diaryId, Long userId,
+                                 String title, long likeCount)
+        implements DiaryEvent {
+}
@@ -0,0 +1,5 @@
+package com.toonverti.event.diary;
+
+// 휴지통으로 이동
+public record DiaryTrashedEvent(Long diaryId, Long userId) implements DiaryEvent {
+}
@@ -0,0 +1,5 @@
+package com.toonverti.event.diary;
+
+// 공개 -> 비공개 전환
+public record DiaryUnpublishedEvent(Long diaryId, Long userId) implements DiaryEvent {
+}
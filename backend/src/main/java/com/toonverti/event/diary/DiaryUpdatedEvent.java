@@ -0,0 +1,7 @@
+package com.toonverti.event.diary;
+
+// 다이어리 내용 수정 (공개 여부가 함께 바뀌었을 수 있다)
+public record DiaryUpdatedEvent(Long diaryId, Long userId, String title,
+                                long likeCount, boolean isPublic, boolean isDeleted)
+        implements DiaryEvent {
+}
@@ -0,0 +1,7 @@
+package com.toonverti.event.user;
+
+import com.toonverti.event.DomainEvent;
+
+// 닉네임/소개/아바타 변경
+public record UserProfileUpdatedEvent(Long userId, String nickname, String avatarUrl) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.toonverti.event.user;
+
+import com.toonverti.event.DomainEvent;
+
+// 회원 가입
+public record UserRegisteredEvent(Long userId, String nickname) implements DomainEvent {
+}
@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class DiaryRevisionNotFoundException extends RuntimeException {
+    public DiaryRevisionNotFoundException(Long diaryId, int revision) {
+        super("다이어리 수정 이력을 찾을 수 없습니다. ID: " + diaryId + ", 리비전: " + revision);
+    }
+}
@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class DuplicateFriendRequestException extends RuntimeException {
+    public DuplicateFriendRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class DuplicateLibraryCardException extends RuntimeException {
+    public DuplicateLibraryCardException(Long titleId) {
+        super("이미 서재에 있는 작품입니다. ID: " + titleId);
+    }
+}
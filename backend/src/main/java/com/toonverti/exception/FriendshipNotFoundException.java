@@ -0,0 +1,11 @@
+package com.toonverti.exception;
+
+public class FriendshipNotFoundException extends RuntimeException {
+    public FriendshipNotFoundException(String message) {
+        super(message);
+    }
+
+    public FriendshipNotFoundException(Long friendshipId) {
+        super("친구 요청을 찾을 수 없습니다. ID: " + friendshipId);
+    }
+}
@@ -2,8 +2,10 @@ package com.toonverti.exception;
 
 import com.toonverti.common.code.ErrorCode;
 import com.toonverti.common.response.ApiResponse;
+import com.toonverti.common.response.VersionConflictResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -34,6 +36,36 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.fail(ErrorCode.DIARY_NOT_FOUND, e.getMessage()));
     }
 
+    @ExceptionHandler(StickerNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleStickerNotFoundException(StickerNotFoundException e) {
+        log.error("StickerNotFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ErrorCode.STICKER_NOT_FOUND, e.getMessage()));
+    }
+
+    @ExceptionHandler(DiaryRevisionNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDiaryRevisionNotFoundException(DiaryRevisionNotFoundException e) {
+        log.error("DiaryRevisionNotFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ErrorCode.DIARY_REVISION_NOT_FOUND, e.getMessage()));
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ApiResponse<VersionConflictResponse>> handleVersionConflictException(VersionConflictException e) {
+        log.error("VersionConflictException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.fail(ErrorCode.VERSION_CONFLICT, e.getMessage(),
+                        VersionConflictResponse.of(e.getId(), e.getCurrentVersion())));
+    }
+
+    // 서비스에서 잡지 못한 커밋 시점의 충돌 (휴지통 이동/복원 등)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        log.error("ObjectOptimisticLockingFailureException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.fail(ErrorCode.VERSION_CONFLICT));
+    }
+
     @ExceptionHandler(DuplicateEmailException.class)
     public ResponseEntity<ApiResponse<Void>> handleDuplicateEmailException(DuplicateEmailException e) {
         log.error("DuplicateEmailException: {}", e.getMessage());
@@ -48,6 +80,90 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.fail(ErrorCode.INVALID_CREDENTIALS, e.getMessage()));
     }
 
+    @ExceptionHandler(InvalidStickerException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidStickerException(InvalidStickerException e) {
+        log.error("InvalidStickerException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.fail(ErrorCode.INVALID_STICKER, e.getMessage()));
+    }
+
+    @ExceptionHandler(FriendshipNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleFriendshipNotFoundException(FriendshipNotFoundException e) {
+        log.error("FriendshipNotFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ErrorCode.FRIENDSHIP_NOT_FOUND, e.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidFriendRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidFriendRequestException(InvalidFriendRequestException e) {
+        log.error("InvalidFriendRequestException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.fail(ErrorCode.INVALID_FRIEND_REQUEST, e.getMessage()));
+    }
+
+    @ExceptionHandler(DuplicateFriendRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDuplicateFriendRequestException(DuplicateFriendRequestException e) {
+        log.error("DuplicateFriendRequestException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.fail(ErrorCode.DUPLICATE_FRIEND_REQUEST, e.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidCursorException(InvalidCursorException e) {
+        log.error("InvalidCursorException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.fail(ErrorCode.INVALID_CURSOR, e.getMessage()));
+    }
+
+    @ExceptionHandler(WebtoonTitleNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleWebtoonTitleNotFoundException(WebtoonTitleNotFoundException e) {
+        log.error("WebtoonTitleNotFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ErrorCode.WEBTOON_TITLE_NOT_FOUND, e.getMessage()));
+    }
+
+    @ExceptionHandler(LibraryCardNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleLibraryCardNotFoundException(LibraryCardNotFoundException e) {
+        log.error("LibraryCardNotFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ErrorCode.LIBRARY_CARD_NOT_FOUND, e.getMessage()));
+    }
+
+    @ExceptionHandler(LibraryFolderNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleLibraryFolderNotFoundException(LibraryFolderNotFoundException e) {
+        log.error("LibraryFolderNotFoundException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.fail(ErrorCode.LIBRARY_FOLDER_NOT_FOUND, e.getMessage()));
+    }
+
+    @ExceptionHandler(DuplicateLibraryCardException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDuplicateLibraryCardException(DuplicateLibraryCardException e) {
+        log.error("DuplicateLibraryCardException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.fail(ErrorCode.DUPLICATE_LIBRARY_CARD, e.getMessage()));
+    }
+
+    @ExceptionHandler(ShardMoveInProgressException.class)
+    public ResponseEntity<ApiResponse<Void>> handleShardMoveInProgressException(ShardMoveInProgressException e) {
+        log.error("ShardMoveInProgressException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.fail(ErrorCode.SHARD_MOVE_IN_PROGRESS, e.getMessage()));
+    }
+
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSyncTokenExpiredException(SyncTokenExpiredException e) {
+        log.error("SyncTokenExpiredException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE)
+                .body(ApiResponse.fail(ErrorCode.SYNC_TOKEN_EXPIRED, e.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidShardException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidShardException(InvalidShardException e) {
+        log.error("InvalidShardException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.fail(ErrorCode.INVALID_SHARD, e.getMessage()));
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiResponse<Void>> handleBadCredentialsException(BadCredentialsException e) {
         log.error("BadCredentialsException: {}", e.getMessage());
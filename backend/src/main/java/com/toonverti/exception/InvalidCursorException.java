@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("커서 값이 올바르지 않습니다: " + cursor);
+    }
+}
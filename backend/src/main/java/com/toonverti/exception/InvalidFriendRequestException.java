@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class InvalidFriendRequestException extends RuntimeException {
+    public InvalidFriendRequestException(String message) {
+        super(message);
+    }
+}
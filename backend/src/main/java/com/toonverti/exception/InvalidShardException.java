@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class InvalidShardException extends RuntimeException {
+    public InvalidShardException(int shard) {
+        super("없는 샤드입니다: " + shard);
+    }
+}
@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class InvalidStickerException extends RuntimeException {
+    public InvalidStickerException(String type, String src) {
+        super("카탈로그에 없는 스티커입니다: type=" + type + ", src=" + src);
+    }
+}
@@ -0,0 +1,11 @@
+package com.toonverti.exception;
+
+public class LibraryCardNotFoundException extends RuntimeException {
+    public LibraryCardNotFoundException(String message) {
+        super(message);
+    }
+
+    public LibraryCardNotFoundException(Long id) {
+        super("서재 카드를 찾을 수 없습니다. ID: " + id);
+    }
+}
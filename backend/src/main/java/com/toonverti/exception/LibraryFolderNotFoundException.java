@@ -0,0 +1,11 @@
+package com.toonverti.exception;
+
+public class LibraryFolderNotFoundException extends RuntimeException {
+    public LibraryFolderNotFoundException(String message) {
+        super(message);
+    }
+
+    public LibraryFolderNotFoundException(Long id) {
+        super("폴더를 찾을 수 없습니다. ID: " + id);
+    }
+}
@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class ShardMoveInProgressException extends RuntimeException {
+    public ShardMoveInProgressException(String resource, Long id) {
+        super("다른 샤드로 옮기는 중입니다. " + resource + " ID: " + id);
+    }
+}
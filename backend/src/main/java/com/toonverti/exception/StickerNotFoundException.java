@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class StickerNotFoundException extends RuntimeException {
+    public StickerNotFoundException(Long stickerId) {
+        super("스티커를 찾을 수 없습니다. ID: " + stickerId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.toonverti.exception;
+
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException(String token) {
+        super("동기화 토큰이 만료되었습니다: " + token);
+    }
+}
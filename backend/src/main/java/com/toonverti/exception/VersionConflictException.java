@@ -0,0 +1,16 @@
+package com.toonverti.exception;
+
+import lombok.Getter;
+
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    private final Long id;
+    private final long currentVersion;
+
+    public VersionConflictException(String resource, Long id, long currentVersion) {
+        super("다른 곳에서 먼저 수정된 " + resource + "입니다. ID: " + id + ", 현재 버전: " + currentVersion);
+        this.id = id;
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,11 @@
+package com.toonverti.exception;
+
+public class WebtoonTitleNotFoundException extends RuntimeException {
+    public WebtoonTitleNotFoundException(String message) {
+        super(message);
+    }
+
+    public WebtoonTitleNotFoundException(Long id) {
+        super("작품을 찾을 수 없습니다. ID: " + id);
+    }
+}
@@ -0,0 +1,12 @@
+package com.toonverti.service;
+
+import com.toonverti.dto.search.AutocompleteResponse;
+
+public interface AutocompleteService {
+
+    /**
+     * 입력 중인 검색어로 작품 제목과 (userId가 있으면) 내 다이어리 제목을 추천한다.
+     * 메모리 인덱스만 사용하며 DB를 조회하지 않는다.
+     */
+    AutocompleteResponse suggest(String query, Long userId, int limit);
+}
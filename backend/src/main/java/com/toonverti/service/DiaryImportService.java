@@ -0,0 +1,14 @@
+package com.toonverti.service;
+
+import com.toonverti.dto.diary.DiaryImportResponse;
+
+import java.io.InputStream;
+
+public interface DiaryImportService {
+
+    /**
+     * JSON 배열 또는 NDJSON 본문을 스트리밍으로 읽어 다이어리를 일괄 생성한다.
+     * 항목별 오류는 응답에 기록하고 나머지 항목은 계속 처리한다.
+     */
+    DiaryImportResponse importDiaries(Long userId, InputStream body);
+}
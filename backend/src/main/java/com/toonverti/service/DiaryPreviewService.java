@@ -0,0 +1,19 @@
+package com.toonverti.service;
+
+import com.toonverti.service.preview.DiaryPreview;
+import com.toonverti.service.preview.PreviewFormat;
+import com.toonverti.service.preview.PreviewSize;
+
+public interface DiaryPreviewService {
+
+    /**
+     * 미리보기의 ETag. 다이어리 ID와 렌더링 버전만으로 만들므로 스티커를 읽지 않는다.
+     */
+    String getPreviewTag(Long diaryId, PreviewSize size, PreviewFormat format);
+
+    /**
+     * 공개 다이어리의 미리보기 이미지를 반환한다.
+     * 디스크 캐시에 같은 태그의 결과가 있으면 그대로 쓰고, 없을 때만 다이어리를 읽어 새로 렌더링한다.
+     */
+    DiaryPreview getPreview(Long diaryId, PreviewSize size, PreviewFormat format, String tag);
+}
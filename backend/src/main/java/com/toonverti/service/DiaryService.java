@@ -1,10 +1,13 @@
 package com.toonverti.service;
 
+import com.toonverti.dto.diary.DiaryFacetedSearchResponse;
 import com.toonverti.dto.diary.DiaryRequest;
 import com.toonverti.dto.diary.DiaryResponse;
+import com.toonverti.dto.diary.DiaryRevisionResponse;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface DiaryService {
 
@@ -12,14 +15,29 @@ public interface DiaryService {
 
     DiaryResponse getDiary(Long diaryId);
 
+    // 스티커 src 대신 에셋 ID와 에셋 사전을 담은 응답
+    DiaryResponse getCompactDiary(Long diaryId);
+
     DiaryResponse getPublicDiary(Long diaryId);
 
+    // 공개 다이어리의 렌더링 버전, 스티커를 읽지 않고 미리보기 캐시/ETag 키로 쓴다
+    String getPublicRenderVersion(Long diaryId);
+
+    // 샤드를 옮기며 ID가 바뀐 다이어리의 현재 ID
+    Optional<Long> findMovedDiaryId(Long diaryId);
+
     List<DiaryResponse> getUserDiaries(Long userId);
 
     List<DiaryResponse> getTrashDiaries(Long userId);
 
     DiaryResponse updateDiary(Long diaryId, DiaryRequest request);
 
+    // 최신 리비전부터
+    List<DiaryRevisionResponse> getRevisions(Long diaryId);
+
+    // 리비전의 내용으로 되돌리며, 되돌린 결과도 새 리비전으로 남는다
+    DiaryResponse restoreRevision(Long diaryId, int revision);
+
     void moveToTrash(Long diaryId);
 
     void restoreFromTrash(Long diaryId);
@@ -35,4 +53,8 @@ public interface DiaryService {
     List<DiaryResponse> searchByDateRange(Long userId, LocalDate startDate, LocalDate endDate);
 
     List<DiaryResponse> searchByGenre(Long userId, String genre);
+
+    // 조건은 모두 선택이며 AND로 묶는다, 패싯은 검색 결과와 같은 조건으로 집계
+    DiaryFacetedSearchResponse searchFaceted(Long userId, String keyword, LocalDate startDate, LocalDate endDate,
+                                             String genre, String cursor, int size);
 }
@@ -0,0 +1,9 @@
+package com.toonverti.service;
+
+import com.toonverti.dto.diary.DiarySyncResponse;
+
+public interface DiarySyncService {
+
+    // token 이 없으면 처음부터, 있으면 그 토큰을 받은 뒤의 변경만 돌려준다
+    DiarySyncResponse sync(Long userId, String token, int size);
+}
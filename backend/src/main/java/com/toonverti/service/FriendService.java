@@ -0,0 +1,30 @@
+package com.toonverti.service;
+
+import com.toonverti.dto.friend.FriendRelationResponse;
+import com.toonverti.dto.friend.FriendRequestResponse;
+import com.toonverti.dto.friend.FriendResponse;
+
+import java.util.List;
+
+public interface FriendService {
+
+    /**
+     * 친구 요청. 상대가 이미 나에게 요청해 둔 상태면 바로 수락한다.
+     */
+    FriendRequestResponse sendRequest(Long userId, Long targetUserId);
+
+    FriendRequestResponse acceptRequest(Long userId, Long requestId);
+
+    // 받은 요청 거절 또는 보낸 요청 취소
+    void rejectRequest(Long userId, Long requestId);
+
+    void removeFriend(Long userId, Long friendUserId);
+
+    List<FriendResponse> getFriends(Long userId);
+
+    List<FriendRequestResponse> getPendingRequests(Long userId);
+
+    boolean areFriends(Long userId, Long otherUserId);
+
+    FriendRelationResponse getRelation(Long userId, Long otherUserId);
+}
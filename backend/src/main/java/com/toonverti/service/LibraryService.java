@@ -0,0 +1,32 @@
+package com.toonverti.service;
+
+import com.toonverti.common.response.CursorResponse;
+import com.toonverti.domain.library.LibraryCardStatus;
+import com.toonverti.dto.library.*;
+
+import java.util.List;
+
+public interface LibraryService {
+
+    LibraryCardResponse addCard(Long userId, LibraryCardRequest request);
+
+    // 상태/폴더는 선택 조건, ID 역순 키셋 페이지
+    CursorResponse<LibraryCardResponse> getCards(Long userId, LibraryCardStatus status, Long folderId,
+                                                 String cursor, int size);
+
+    // 서재 화면 필터용 상태별/폴더별 카드 수
+    LibraryFacetResponse getFacets(Long userId);
+
+    LibraryCardResponse updateCard(Long cardId, LibraryCardUpdateRequest request);
+
+    void removeCard(Long cardId);
+
+    List<LibraryFolderResponse> getFolders(Long userId);
+
+    LibraryFolderResponse createFolder(Long userId, LibraryFolderRequest request);
+
+    LibraryFolderResponse updateFolder(Long folderId, LibraryFolderRequest request);
+
+    // 폴더만 지우고 카드는 폴더 없음으로 남긴다
+    void deleteFolder(Long folderId);
+}
@@ -0,0 +1,16 @@
+package com.toonverti.service;
+
+import com.toonverti.dto.shard.ShardMoveResponse;
+import com.toonverti.dto.shard.ShardStatsResponse;
+
+import java.util.List;
+
+public interface ShardRebalanceService {
+
+    List<ShardStatsResponse> getStats();
+
+    /**
+     * 사용자의 다이어리와 스티커를 다른 샤드로 옮긴다. 다이어리 ID는 옮긴 샤드에서 새로 발급된다.
+     */
+    ShardMoveResponse moveUser(Long userId, int targetShard);
+}
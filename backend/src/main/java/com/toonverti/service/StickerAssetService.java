@@ -0,0 +1,21 @@
+package com.toonverti.service;
+
+import com.toonverti.domain.sticker.StickerAsset;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface StickerAssetService {
+
+    /**
+     * src에 해당하는 에셋 ID를 반환하고, 없으면 새로 등록한다.
+     */
+    Integer resolveId(String src);
+
+    Map<String, Integer> resolveIds(Collection<String> srcs);
+
+    /**
+     * 스티커 엔티티에 연결할 에셋 참조. 조회 쿼리 없이 프록시만 만든다.
+     */
+    StickerAsset getReference(String src);
+}
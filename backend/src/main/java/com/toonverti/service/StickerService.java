@@ -0,0 +1,18 @@
+package com.toonverti.service;
+
+import com.toonverti.dto.diary.StickerResponse;
+import com.toonverti.dto.sticker.StickerAutosaveRequest;
+import com.toonverti.dto.sticker.StickerPatchRequest;
+
+public interface StickerService {
+
+    // 스티커 하나의 위치/크기/회전/순서를 바로 저장한다
+    StickerResponse patchSticker(Long diaryId, Long stickerId, StickerPatchRequest request);
+
+    /**
+     * 에디터 자동 저장. 변경값을 버퍼에 합쳐 두고 주기적으로 일괄 저장한다.
+     *
+     * @return 접수한 변경 수
+     */
+    int autosave(Long diaryId, StickerAutosaveRequest request);
+}
@@ -0,0 +1,18 @@
+package com.toonverti.service;
+
+import com.toonverti.dto.timeline.TimelineResponse;
+
+import java.time.LocalDateTime;
+
+public interface TimelineService {
+
+    /**
+     * 새로 공개된 다이어리를 작성자 친구들의 타임라인에 넣는다. 트랜잭션 커밋 이후에 반영된다.
+     */
+    void publish(Long authorId, Long diaryId, LocalDateTime publishedAt);
+
+    // 친구 관계가 바뀐 사용자의 타임라인 버퍼를 버리고 다음 조회 때 다시 채운다
+    void invalidate(Long userId);
+
+    TimelineResponse getTimeline(Long userId, String cursor, int size);
+}
@@ -0,0 +1,18 @@
+package com.toonverti.service;
+
+import com.toonverti.dto.trending.TrendingDiaryResponse;
+
+import java.util.List;
+
+public interface TrendingService {
+
+    void recordView(Long diaryId, String genre);
+
+    // 이미 조회 이벤트로 집계 중인(공개) 다이어리에만 반영된다
+    void recordLike(Long diaryId);
+
+    /**
+     * @param genre null이면 전체 순위
+     */
+    List<TrendingDiaryResponse> getTrending(String genre, int limit);
+}
@@ -0,0 +1,18 @@
+package com.toonverti.service;
+
+import com.toonverti.common.response.CursorResponse;
+import com.toonverti.domain.webtoon.WebtoonPlatform;
+import com.toonverti.dto.webtoon.WebtoonTitleRequest;
+import com.toonverti.dto.webtoon.WebtoonTitleResponse;
+
+public interface WebtoonTitleService {
+
+    /**
+     * 카탈로그에 작품을 등록한다. 같은 플랫폼에 같은 제목이 있으면 기존 작품을 반환한다.
+     */
+    WebtoonTitleResponse registerTitle(WebtoonTitleRequest request);
+
+    WebtoonTitleResponse getTitle(Long titleId);
+
+    CursorResponse<WebtoonTitleResponse> getTitles(WebtoonPlatform platform, String genre, String cursor, int size);
+}
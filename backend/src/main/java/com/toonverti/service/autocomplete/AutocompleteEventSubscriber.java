@@ -0,0 +1,59 @@
+package com.toonverti.service.autocomplete;
+
+import com.toonverti.event.DomainEvent;
+import com.toonverti.event.DomainEventSubscriber;
+import com.toonverti.event.diary.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 다이어리 제목/좋아요 변경을 사용자별 자동완성 인덱스에 반영한다
+ */
+@Component
+@RequiredArgsConstructor
+public class AutocompleteEventSubscriber implements DomainEventSubscriber {
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    @Override
+    public String name() {
+        return "autocomplete";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof DiaryCreatedEvent
+                || event instanceof DiaryUpdatedEvent
+                || event instanceof DiaryLikedEvent
+                || event instanceof DiaryRestoredEvent
+                || event instanceof DiaryTrashedEvent
+                || event instanceof DiaryDeletedEvent
+                || event instanceof DiariesImportedEvent;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        // 가져오기는 사용자 단위로 다시 읽으므로 묶음 안에서 한 번만 한다
+        Set<Long> reloadUsers = new LinkedHashSet<>();
+        for (DomainEvent event : events) {
+            switch (event) {
+                case DiaryCreatedEvent e -> autocompleteIndex.putDiary(e.userId(), e.diaryId(), e.title(), e.likeCount());
+                case DiaryUpdatedEvent e when !e.isDeleted() ->
+                        autocompleteIndex.putDiary(e.userId(), e.diaryId(), e.title(), e.likeCount());
+                case DiaryLikedEvent e when !e.isDeleted() ->
+                        autocompleteIndex.putDiary(e.userId(), e.diaryId(), e.title(), e.likeCount());
+                case DiaryRestoredEvent e -> autocompleteIndex.putDiary(e.userId(), e.diaryId(), e.title(), e.likeCount());
+                case DiaryTrashedEvent e -> autocompleteIndex.removeDiary(e.userId(), e.diaryId());
+                case DiaryDeletedEvent e -> autocompleteIndex.removeDiary(e.userId(), e.diaryId());
+                case DiariesImportedEvent e -> reloadUsers.add(e.userId());
+                default -> {
+                }
+            }
+        }
+        reloadUsers.forEach(autocompleteIndex::reloadUser);
+    }
+}
@@ -0,0 +1,231 @@
+package com.toonverti.service.autocomplete;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.common.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자동완성 인덱스 (작품 카탈로그 + 사용자별 다이어리 제목)
+ *
+ * 조회는 메모리 트라이를 사용한다.
+ * - 작품 카탈로그: 변경 시 표시만 해 두고 주기적으로 DB에서 다시 만든다.
+ * - 다이어리 제목: 사용자가 처음 조회할 때 그 사용자 것만 DB에서 읽고, 최근에 조회한 max-users 명까지만 들고 있는다.
+ *   들고 있는 사용자는 커밋 이후 항목을 갱신하고, 트라이는 다음 조회 때 메모리에서 다시 만든다.
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex implements SmartInitializingSingleton {
+
+    private static final String SELECT_TITLES_SQL = "SELECT id, title, library_count FROM webtoon_titles";
+    private static final String SELECT_USER_DIARIES_SQL =
+            "SELECT id, title, like_count FROM diaries WHERE is_deleted = false AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final int maxResults;
+
+    private volatile PrefixTrie titleTrie = PrefixTrie.empty();
+    private final AtomicBoolean titlesDirty = new AtomicBoolean(false);
+    // access-order LinkedHashMap으로 LRU 구현
+    private final LinkedHashMap<Long, UserDiaryTitles> userDiaries;
+
+    public AutocompleteIndex(JdbcTemplate jdbcTemplate,
+                             ShardRouter shardRouter,
+                             @Value("${autocomplete.max-results:10}") int maxResults,
+                             @Value("${autocomplete.max-users:10000}") int maxUsers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.maxResults = maxResults;
+        this.userDiaries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserDiaryTitles> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildTitles();
+    }
+
+    public List<PrefixTrie.Entry> suggestTitles(String normalizedQuery, int limit) {
+        return titleTrie.lookup(normalizedQuery, limit);
+    }
+
+    public List<PrefixTrie.Entry> suggestDiaries(Long userId, String normalizedQuery, int limit) {
+        UserDiaryTitles titles = loaded(userId);
+        // 다른 요청이 읽는 중이면 기다린다. 그 읽기가 실패했으면 직접 다시 읽는다
+        if (titles == null || !titles.awaitLoaded()) {
+            titles = reloadUser(userId);
+        }
+        return titles.trie(maxResults).lookup(normalizedQuery, limit);
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    // 작품 등록/서재 추가·삭제 시 호출, 다음 주기에 다시 만든다
+    public void markTitlesDirty() {
+        AfterCommit.run(() -> titlesDirty.set(true));
+    }
+
+    // 들고 있지 않은 사용자는 처음 조회할 때 DB에서 읽으므로 건너뛴다 (읽는 중인 사용자는 버퍼에 모인다)
+    public void putDiary(Long userId, Long diaryId, String title, long likeCount) {
+        AfterCommit.run(() -> {
+            UserDiaryTitles titles = loaded(userId);
+            if (titles != null) {
+                titles.put(diaryId, new PrefixTrie.Entry(diaryId, title, likeCount));
+            }
+        });
+    }
+
+    public void removeDiary(Long userId, Long diaryId) {
+        AfterCommit.run(() -> {
+            UserDiaryTitles titles = loaded(userId);
+            if (titles != null) {
+                titles.remove(diaryId);
+            }
+        });
+    }
+
+    /**
+     * 처음 조회할 때, 또는 일괄 가져오기처럼 여러 건이 한꺼번에 바뀐 경우 사용자 단위로 다시 읽는다.
+     * DB를 읽기 전에 빈 항목을 먼저 넣어 두어, 읽는 동안 커밋된 변경(putDiary/removeDiary)은 버퍼에 모았다가
+     * 읽은 결과 위에 순서대로 적용한다. 읽기 시작 전에 커밋된 변경은 읽은 결과에 이미 들어 있다.
+     */
+    public UserDiaryTitles reloadUser(Long userId) {
+        UserDiaryTitles titles = new UserDiaryTitles();
+        synchronized (userDiaries) {
+            userDiaries.put(userId, titles);
+        }
+        Map<Long, PrefixTrie.Entry> rows = new HashMap<>();
+        try {
+            ShardContext.run(shardRouter.shardOfUser(userId), () -> jdbcTemplate.query(SELECT_USER_DIARIES_SQL, rs -> {
+                long diaryId = rs.getLong(1);
+                rows.put(diaryId, new PrefixTrie.Entry(diaryId, rs.getString(2), rs.getLong(3)));
+            }, userId));
+        } catch (RuntimeException e) {
+            synchronized (userDiaries) {
+                userDiaries.remove(userId, titles);
+            }
+            titles.fail();
+            throw e;
+        }
+        titles.load(rows);
+        return titles;
+    }
+
+    @Scheduled(fixedDelayString = "${autocomplete.title-refresh-ms:60000}")
+    public void refreshTitlesIfDirty() {
+        if (titlesDirty.compareAndSet(true, false)) {
+            rebuildTitles();
+        }
+    }
+
+    private void rebuildTitles() {
+        PrefixTrie.Builder builder = new PrefixTrie.Builder(maxResults);
+        jdbcTemplate.query(SELECT_TITLES_SQL, rs -> {
+            builder.add(rs.getLong(1), rs.getString(2), rs.getLong(3));
+        });
+        PrefixTrie trie = builder.build();
+        titleTrie = trie;
+        log.info("작품 자동완성 인덱스 갱신: titles={}", trie.size());
+    }
+
+    private UserDiaryTitles loaded(Long userId) {
+        synchronized (userDiaries) {
+            return userDiaries.get(userId);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 다이어리 제목. 변경은 항목만 바꾸고 트라이는 조회 시점에 필요하면 다시 만든다.
+     * DB에서 읽는 동안 들어온 변경은 pending 에 모아 두었다가 load 에서 적용한다 (null 이면 읽기가 끝난 상태).
+     */
+    public static final class UserDiaryTitles {
+        private final Map<Long, PrefixTrie.Entry> entries = new HashMap<>();
+        private List<PendingChange> pending = new ArrayList<>();
+        private final CountDownLatch loaded = new CountDownLatch(1);
+        private volatile boolean failed;
+        private volatile PrefixTrie trie;
+
+        // entry 가 null 이면 삭제
+        synchronized void put(Long diaryId, PrefixTrie.Entry entry) {
+            if (pending != null) {
+                pending.add(new PendingChange(diaryId, entry));
+                return;
+            }
+            apply(diaryId, entry);
+        }
+
+        synchronized void remove(Long diaryId) {
+            put(diaryId, null);
+        }
+
+        synchronized void load(Map<Long, PrefixTrie.Entry> rows) {
+            entries.putAll(rows);
+            pending.forEach(change -> apply(change.diaryId(), change.entry()));
+            pending = null;
+            trie = null;
+            loaded.countDown();
+        }
+
+        void fail() {
+            failed = true;
+            loaded.countDown();
+        }
+
+        boolean awaitLoaded() {
+            try {
+                loaded.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return !failed;
+        }
+
+        private void apply(Long diaryId, PrefixTrie.Entry entry) {
+            if (entry != null) {
+                entries.put(diaryId, entry);
+                trie = null;
+            } else if (entries.remove(diaryId) != null) {
+                trie = null;
+            }
+        }
+
+        PrefixTrie trie(int maxResults) {
+            PrefixTrie current = trie;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (trie == null) {
+                    PrefixTrie.Builder builder = new PrefixTrie.Builder(maxResults);
+                    entries.values().forEach(entry -> builder.add(entry.id(), entry.text(), entry.score()));
+                    trie = builder.build();
+                }
+                return trie;
+            }
+        }
+
+        private record PendingChange(Long diaryId, PrefixTrie.Entry entry) {
+        }
+    }
+}
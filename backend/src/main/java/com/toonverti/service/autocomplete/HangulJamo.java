@@ -0,0 +1,95 @@
+package com.toonverti.service.autocomplete;
+
+/**
+ * 한글 자모 분해
+ *
+ * 완성형 음절과 호환 자모를 모두 낱자(겹자모는 구성 자모로 쪼갬) 나열로 바꿔
+ * 입력 중인 글자("나 호", "나 혼ㅈ", "달ㄱ")로도 접두어 일치가 되게 한다.
+ * 비교용 키만 만들며 원문 복원은 하지 않는다.
+ */
+public final class HangulJamo {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_END = 0xD7A3;
+    private static final int VOWEL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    // 중성: 겹모음은 두 글자로 나눈다
+    private static final String[] VOWELS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 종성: 없음 + 겹받침은 두 글자로 나눈다
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 검색 키로 정규화: 소문자, 연속 공백 하나로, 앞뒤 공백 제거, 한글은 자모 분해
+     */
+    public static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            appendDecomposed(sb, c);
+        }
+        return sb.toString();
+    }
+
+    private static void appendDecomposed(StringBuilder sb, char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_END) {
+            int index = c - SYLLABLE_BASE;
+            sb.append(INITIALS.charAt(index / (VOWEL_COUNT * FINAL_COUNT)));
+            sb.append(VOWELS[(index % (VOWEL_COUNT * FINAL_COUNT)) / FINAL_COUNT]);
+            sb.append(FINALS[index % FINAL_COUNT]);
+            return;
+        }
+        String split = splitCompatibilityJamo(c);
+        if (split != null) {
+            sb.append(split);
+            return;
+        }
+        sb.append(Character.toLowerCase(c));
+    }
+
+    // 키보드로 직접 입력된 호환 자모 중 겹자모
+    private static String splitCompatibilityJamo(char c) {
+        return switch (c) {
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,222 @@
+package com.toonverti.service.autocomplete;
+
+import java.util.*;
+
+/**
+ * 불변 압축(radix) 트라이
+ *
+ * 노드마다 하위 트리 전체의 인기 상위 K개를 미리 계산해 두므로
+ * 조회는 질의 길이만큼 내려간 뒤 그 노드의 목록을 그대로 돌려준다.
+ * 노드는 병렬 배열로 얼려 객체 수와 포인터 추적을 줄였다.
+ */
+public final class PrefixTrie {
+
+    // 한 항목을 단어 시작 위치마다 색인하는 최대 단어 수
+    private static final int MAX_TOKEN_STARTS = 6;
+
+    private static final PrefixTrie EMPTY = new Builder(1).build();
+
+    private final Entry[] entries;
+    private final String[] labels;
+    private final char[][] childFirstChars;
+    private final int[][] children;
+    private final int[][] topEntries;
+
+    private PrefixTrie(Entry[] entries, String[] labels, char[][] childFirstChars, int[][] children, int[][] topEntries) {
+        this.entries = entries;
+        this.labels = labels;
+        this.childFirstChars = childFirstChars;
+        this.children = children;
+        this.topEntries = topEntries;
+    }
+
+    public static PrefixTrie empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * @param normalizedQuery {@link HangulJamo#normalize}를 거친 질의
+     */
+    public List<Entry> lookup(String normalizedQuery, int limit) {
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+        int node = 0;
+        int pos = 0;
+        while (pos < normalizedQuery.length()) {
+            int child = findChild(node, normalizedQuery.charAt(pos));
+            if (child < 0) {
+                return List.of();
+            }
+            String label = labels[child];
+            int length = Math.min(label.length(), normalizedQuery.length() - pos);
+            if (!normalizedQuery.regionMatches(pos, label, 0, length)) {
+                return List.of();
+            }
+            pos += length;
+            node = child;
+        }
+
+        int[] top = topEntries[node];
+        int count = Math.min(limit, top.length);
+        List<Entry> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(entries[top[i]]);
+        }
+        return result;
+    }
+
+    private int findChild(int node, char c) {
+        char[] firsts = childFirstChars[node];
+        int low = 0;
+        int high = firsts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (firsts[mid] < c) {
+                low = mid + 1;
+            } else if (firsts[mid] > c) {
+                high = mid - 1;
+            } else {
+                return children[node][mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param id    원본 ID (작품 ID, 다이어리 ID)
+     * @param text  표시용 원문
+     * @param score 인기 점수, 높을수록 먼저
+     */
+    public record Entry(long id, String text, long score) {
+    }
+
+    public static final class Builder {
+
+        private final int maxResults;
+        private final List<Entry> entries = new ArrayList<>();
+
+        public Builder(int maxResults) {
+            this.maxResults = maxResults;
+        }
+
+        public Builder add(long id, String text, long score) {
+            if (text != null && !text.isBlank()) {
+                entries.add(new Entry(id, text, score));
+            }
+            return this;
+        }
+
+        public PrefixTrie build() {
+            // 인기순으로 정렬해 두면 항목 번호 자체가 순위가 된다
+            Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(Entry::score).reversed()
+                    .thenComparing(Comparator.comparingLong(Entry::id).reversed()));
+
+            BuildNode root = new BuildNode();
+            for (int rank = 0; rank < sorted.length; rank++) {
+                String key = HangulJamo.normalize(sorted[rank].text());
+                int starts = 0;
+                for (int i = 0; i < key.length() && starts < MAX_TOKEN_STARTS; i++) {
+                    if (i == 0 || key.charAt(i - 1) == ' ') {
+                        root.insert(key, i, rank);
+                        starts++;
+                    }
+                }
+            }
+            return freeze(sorted, root);
+        }
+
+        private PrefixTrie freeze(Entry[] sorted, BuildNode root) {
+            List<String> labels = new ArrayList<>();
+            List<char[]> firsts = new ArrayList<>();
+            List<int[]> children = new ArrayList<>();
+            List<int[]> tops = new ArrayList<>();
+
+            // 너비 우선으로 번호를 매기고, 상위 K는 자식부터 계산해야 하므로 역순으로 채운다
+            List<BuildNode> order = new ArrayList<>();
+            Map<BuildNode, Integer> indexes = new IdentityHashMap<>();
+            order.add(root);
+            indexes.put(root, 0);
+            for (int i = 0; i < order.size(); i++) {
+                for (BuildNode child : order.get(i).compress().values()) {
+                    indexes.put(child, order.size());
+                    order.add(child);
+                }
+            }
+            for (BuildNode node : order) {
+                labels.add(node.label);
+                char[] first = new char[node.children.size()];
+                int[] childIndexes = new int[node.children.size()];
+                int i = 0;
+                for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                    first[i] = child.getKey();
+                    childIndexes[i] = indexes.get(child.getValue());
+                    i++;
+                }
+                firsts.add(first);
+                children.add(childIndexes);
+                tops.add(null);
+            }
+            for (int i = order.size() - 1; i >= 0; i--) {
+                BuildNode node = order.get(i);
+                TreeSet<Integer> best = new TreeSet<>(node.terminals);
+                for (int child : children.get(i)) {
+                    for (int rank : tops.get(child)) {
+                        best.add(rank);
+                    }
+                }
+                int[] top = best.stream().limit(maxResults).mapToInt(Integer::intValue).toArray();
+                tops.set(i, top);
+            }
+
+            return new PrefixTrie(sorted,
+                    labels.toArray(new String[0]),
+                    firsts.toArray(new char[0][]),
+                    children.toArray(new int[0][]),
+                    tops.toArray(new int[0][]));
+        }
+    }
+
+    private static final class BuildNode {
+        private String label = "";
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final Set<Integer> terminals = new HashSet<>();
+
+        void insert(String key, int from, int rank) {
+            BuildNode node = this;
+            for (int i = from; i < key.length(); i++) {
+                char c = key.charAt(i);
+                BuildNode next = node.children.get(c);
+                if (next == null) {
+                    next = new BuildNode();
+                    next.label = String.valueOf(c);
+                    node.children.put(c, next);
+                }
+                node = next;
+            }
+            node.terminals.add(rank);
+        }
+
+        // 자식이 하나뿐이고 끝나는 항목이 없는 노드는 자식과 합쳐 간선 라벨을 늘린다
+        TreeMap<Character, BuildNode> compress() {
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                BuildNode child = entry.getValue();
+                StringBuilder label = new StringBuilder(child.label);
+                while (child.children.size() == 1 && child.terminals.isEmpty()) {
+                    BuildNode only = child.children.firstEntry().getValue();
+                    label.append(only.label);
+                    child.children.clear();
+                    child.children.putAll(only.children);
+                    child.terminals.addAll(only.terminals);
+                }
+                child.label = label.toString();
+            }
+            return children;
+        }
+    }
+}
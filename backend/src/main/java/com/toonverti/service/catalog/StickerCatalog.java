@@ -0,0 +1,110 @@
+package com.toonverti.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.diary.StickerRequest;
+import com.toonverti.dto.sticker.StickerCatalogResponse;
+import com.toonverti.dto.sticker.StickerCatalogResponse.Pack;
+import com.toonverti.exception.InvalidStickerException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 스티커 팩/에셋 카탈로그
+ *
+ * 시작 시 한 번 읽어 불변 인덱스로 보관한다. 카탈로그 내용의 해시를 버전으로 쓰며,
+ * 응답 본문도 미리 직렬화해 두고 그대로 내보낸다.
+ */
+@Slf4j
+@Component
+public class StickerCatalog {
+
+    private static final char KEY_SEPARATOR = '\n';
+
+    @Getter
+    private final String version;
+    @Getter
+    private final StickerCatalogResponse catalog;
+    private final byte[] body;
+    private final Set<String> stickerKeys;
+
+    public StickerCatalog(ObjectMapper objectMapper,
+                          ResourceLoader resourceLoader,
+                          @Value("${sticker.catalog.location:classpath:sticker-catalog.json}") String location)
+            throws IOException {
+        Resource resource = resourceLoader.getResource(location);
+        StickerCatalogResponse source;
+        try (InputStream in = resource.getInputStream()) {
+            source = objectMapper.readValue(in, StickerCatalogResponse.class);
+        }
+
+        List<Pack> packs = source.getPacks().stream()
+                .map(pack -> new Pack(pack.getType(), pack.getName(), pack.getIcon(), List.copyOf(pack.getStickers())))
+                .toList();
+
+        Set<String> keys = new HashSet<>();
+        for (Pack pack : packs) {
+            for (String src : pack.getStickers()) {
+                keys.add(key(pack.getType(), src));
+            }
+        }
+
+        this.version = hash(objectMapper.writeValueAsBytes(packs));
+        this.catalog = new StickerCatalogResponse(version, packs);
+        this.body = objectMapper.writeValueAsBytes(ApiResponse.ok(catalog));
+        this.stickerKeys = Set.copyOf(keys);
+
+        log.info("스티커 카탈로그 로드 완료: version={}, packs={}, stickers={}", version, packs.size(), keys.size());
+    }
+
+    public boolean contains(String type, String src) {
+        return type != null && src != null && stickerKeys.contains(key(type, src));
+    }
+
+    /**
+     * 카탈로그에 없는 스티커가 하나라도 있으면 InvalidStickerException을 던진다.
+     */
+    public void validate(List<StickerRequest> stickers) {
+        if (stickers == null) {
+            return;
+        }
+        for (StickerRequest sticker : stickers) {
+            if (sticker == null) {
+                throw new InvalidStickerException(null, null);
+            }
+            if (!contains(sticker.getType(), sticker.getSrc())) {
+                throw new InvalidStickerException(sticker.getType(), sticker.getSrc());
+            }
+        }
+    }
+
+    public byte[] getBody() {
+        return body.clone();
+    }
+
+    private static String key(String type, String src) {
+        return type + KEY_SEPARATOR + src;
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content)).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
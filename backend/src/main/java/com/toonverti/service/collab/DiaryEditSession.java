@@ -0,0 +1,52 @@
+package com.toonverti.service.collab;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다이어리 하나의 공동 편집 세션
+ *
+ * 시퀀스 발급과 전파는 이 객체의 락 안에서 하므로 모든 편집자가 같은 순서로 변경을 받는다.
+ * 마지막 편집자가 나가면 닫히고, 닫힌 세션에는 더 이상 들어올 수 없다.
+ */
+class DiaryEditSession {
+
+    private final List<WebSocketSession> editors = new ArrayList<>();
+    private long sequence;
+    private boolean closed;
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    int size() {
+        return editors.size();
+    }
+
+    List<WebSocketSession> editors() {
+        return editors;
+    }
+
+    void add(WebSocketSession editor) {
+        editors.add(editor);
+    }
+
+    // 마지막 편집자였으면 세션을 닫고 true
+    boolean remove(WebSocketSession editor) {
+        editors.remove(editor);
+        if (editors.isEmpty()) {
+            closed = true;
+        }
+        return closed;
+    }
+
+    long currentSequence() {
+        return sequence;
+    }
+
+    long nextSequence() {
+        return ++sequence;
+    }
+}
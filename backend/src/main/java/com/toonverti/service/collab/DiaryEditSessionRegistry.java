@@ -0,0 +1,216 @@
+package com.toonverti.service.collab;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.domain.sticker.Sticker;
+import com.toonverti.domain.sticker.StickerRepository;
+import com.toonverti.domain.sticker.StickerTransform;
+import com.toonverti.service.sticker.StickerAutosaveBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 다이어리별 공동 편집 세션 관리
+ *
+ * 편집자가 보낸 스티커 변경에 다이어리 단위 시퀀스를 붙여 다른 편집자에게 전파하고, 보낸 편집자에게는
+ * 받은 시퀀스를 ACK로 알린다. 변경은 자동 저장 버퍼에 넣어 주기적으로 한 번에 저장한다.
+ *
+ * 새 편집자가 들어오면 버퍼를 먼저 저장한 뒤 현재 스티커 상태를 SNAPSHOT으로 보낸다. 저장과 조회는 세션 락
+ * 밖에서 하고, 그 사이 시퀀스가 바뀌지 않았을 때만 락 안에서 편집자를 넣고 스냅샷을 보내므로 스냅샷의
+ * 시퀀스 이후 변경만 받게 된다. 편집이 이어져 snapshot-attempts 번 모두 어긋나면 마지막에는 락을 잡은 채로 읽는다.
+ *
+ * 다이어리 전체 수정/리비전 복원은 스티커를 새 ID로 다시 만들고 모아 둔 변경을 버리므로, 커밋 이후 resync로
+ * 열려 있는 세션의 모든 편집자에게 새 스냅샷을 보낸다.
+ *
+ * 세션은 편집자 목록과 시퀀스만 들고 있고 편집자 연결은 컨테이너의 NIO 처리에 맡기므로,
+ * 대기 중인 편집자는 스레드를 점유하지 않는다.
+ *
+ * 메트릭: collab.sessions (편집 중인 다이어리 수), collab.editors, collab.deltas
+ */
+@Slf4j
+@Component
+public class DiaryEditSessionRegistry {
+
+    private final StickerAutosaveBuffer stickerAutosaveBuffer;
+    private final StickerRepository stickerRepository;
+    private final ShardRouter shardRouter;
+    private final int maxEditorsPerDiary;
+    private final int snapshotAttempts;
+
+    private final ConcurrentHashMap<Long, DiaryEditSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger editorCount = new AtomicInteger();
+    private final Counter deltas;
+
+    public DiaryEditSessionRegistry(StickerAutosaveBuffer stickerAutosaveBuffer,
+                                    StickerRepository stickerRepository,
+                                    ShardRouter shardRouter,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${collab.max-editors-per-diary:16}") int maxEditorsPerDiary,
+                                    @Value("${collab.snapshot-attempts:3}") int snapshotAttempts) {
+        this.stickerAutosaveBuffer = stickerAutosaveBuffer;
+        this.stickerRepository = stickerRepository;
+        this.shardRouter = shardRouter;
+        this.maxEditorsPerDiary = maxEditorsPerDiary;
+        this.snapshotAttempts = Math.max(1, snapshotAttempts);
+        Gauge.builder("collab.sessions", sessions, Map::size).register(meterRegistry);
+        Gauge.builder("collab.editors", editorCount, AtomicInteger::get).register(meterRegistry);
+        this.deltas = meterRegistry.counter("collab.deltas");
+    }
+
+    /**
+     * 편집 세션에 들어가고 현재 상태 스냅샷을 받는다.
+     *
+     * @return 세션 인원이 가득 차 들어가지 못했으면 false
+     */
+    public boolean join(Long diaryId, WebSocketSession editor) {
+        while (true) {
+            DiaryEditSession session = sessions.computeIfAbsent(diaryId, id -> new DiaryEditSession());
+            synchronized (session) {
+                if (!session.isClosed() && session.size() >= maxEditorsPerDiary) {
+                    return false;
+                }
+            }
+            Boolean joined = withSnapshot(diaryId, session, frame -> {
+                if (session.size() >= maxEditorsPerDiary) {
+                    return false;
+                }
+                session.add(editor);
+                editorCount.incrementAndGet();
+                send(diaryId, session, editor, frame);
+                return true;
+            });
+            if (joined != null) {
+                return joined;
+            }
+            // 마지막 편집자가 막 나간 세션이다, 새 세션을 만든다
+        }
+    }
+
+    /**
+     * 스티커를 통째로 다시 쓴 뒤 열려 있는 세션의 편집자 모두에게 새 스냅샷을 보낸다.
+     * 편집자가 들고 있던 스티커 ID와 ACK된 변경은 더 이상 유효하지 않다.
+     */
+    public void resync(Long diaryId) {
+        DiaryEditSession session = sessions.get(diaryId);
+        if (session == null) {
+            return;
+        }
+        withSnapshot(diaryId, session, frame -> {
+            for (WebSocketSession editor : List.copyOf(session.editors())) {
+                send(diaryId, session, editor, frame);
+            }
+            return true;
+        });
+    }
+
+    public void leave(Long diaryId, WebSocketSession editor) {
+        DiaryEditSession session = sessions.get(diaryId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            if (!session.editors().contains(editor)) {
+                return;
+            }
+            editorCount.decrementAndGet();
+            if (session.remove(editor)) {
+                sessions.remove(diaryId, session);
+            }
+        }
+    }
+
+    public void applyDelta(Long diaryId, WebSocketSession sender, Map<Long, StickerTransform> transforms) {
+        DiaryEditSession session = sessions.get(diaryId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            if (!session.editors().contains(sender)) {
+                return;
+            }
+            long seq = session.nextSequence();
+            // 버퍼가 병합 중에 값을 고치므로 전파할 프레임을 먼저 만든다
+            byte[] frame = StickerDeltaCodec.encodeDelta(seq, transforms);
+            stickerAutosaveBuffer.add(diaryId, transforms);
+            deltas.increment(transforms.size());
+
+            for (WebSocketSession editor : List.copyOf(session.editors())) {
+                send(diaryId, session, editor, editor == sender ? StickerDeltaCodec.encodeAck(seq) : frame);
+            }
+        }
+    }
+
+    /**
+     * 현재 스티커 상태의 스냅샷 프레임을 만들어 세션 락 안에서 action에 넘긴다.
+     *
+     * @return action의 결과, 세션이 이미 닫혔으면 null
+     */
+    private <T> T withSnapshot(Long diaryId, DiaryEditSession session, Function<byte[], T> action) {
+        for (int attempt = 1; ; attempt++) {
+            long seen;
+            synchronized (session) {
+                if (session.isClosed()) {
+                    return null;
+                }
+                if (attempt == snapshotAttempts) {
+                    return action.apply(snapshotFrame(diaryId, session.currentSequence()));
+                }
+                seen = session.currentSequence();
+            }
+            // seen까지의 변경은 모두 버퍼에 들어 있으므로 저장 후 읽으면 seen 시점의 상태다
+            byte[] frame = snapshotFrame(diaryId, seen);
+            synchronized (session) {
+                if (session.isClosed()) {
+                    return null;
+                }
+                if (session.currentSequence() == seen) {
+                    return action.apply(frame);
+                }
+            }
+        }
+    }
+
+    private byte[] snapshotFrame(Long diaryId, long sequence) {
+        stickerAutosaveBuffer.flush(diaryId);
+        List<Sticker> stickers = ShardContext.call(shardRouter.shardOfDiary(diaryId),
+                () -> stickerRepository.findByDiaryIdOrderByZIndexAsc(diaryId));
+        return StickerDeltaCodec.encodeSnapshot(sequence, stickers);
+    }
+
+    // 세션 락 안에서 호출한다. 보내지 못한 편집자는 내보내고 다시 접속해 스냅샷부터 받게 한다
+    private void send(Long diaryId, DiaryEditSession session, WebSocketSession editor, byte[] frame) {
+        try {
+            editor.sendMessage(new BinaryMessage(frame));
+        } catch (IOException | RuntimeException e) {
+            log.debug("편집자에게 전송 실패, 연결을 닫습니다: diaryId={}, session={}, cause={}",
+                    diaryId, editor.getId(), e.getMessage());
+            editorCount.decrementAndGet();
+            if (session.remove(editor)) {
+                sessions.remove(diaryId, session);
+            }
+            closeQuietly(editor);
+        }
+    }
+
+    private static void closeQuietly(WebSocketSession editor) {
+        try {
+            editor.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.toonverti.service.collab;
+
+import com.toonverti.domain.sticker.Sticker;
+import com.toonverti.domain.sticker.StickerTransform;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공동 편집 채널의 바이너리 프레임 인코딩
+ *
+ * 프레임은 타입 1바이트로 시작한다.
+ * <pre>
+ * 클라이언트 → 서버  DELTA    [1][count][entry...]
+ * 서버 → 클라이언트  DELTA    [1][seq][count][entry...]
+ *                    SNAPSHOT [2][seq][count][entry...]
+ *                    ACK      [3][seq]
+ * entry = [stickerId][mask][x][y][width][height][rotation][zIndex]
+ * </pre>
+ * seq, count, stickerId는 부호 없는 varint, 정수 항목은 zigzag varint, rotation은 8바이트 double이다.
+ * mask의 비트 0~5가 x, y, width, height, rotation, zIndex의 존재 여부이며 없는 항목은 아예 쓰지 않는다.
+ * 드래그 중에는 보통 x, y만 바뀌므로 변경 하나가 4~8바이트 정도로 끝난다.
+ */
+public final class StickerDeltaCodec {
+
+    public static final byte DELTA = 1;
+    public static final byte SNAPSHOT = 2;
+    public static final byte ACK = 3;
+
+    private static final int X = 1;
+    private static final int Y = 1 << 1;
+    private static final int WIDTH = 1 << 2;
+    private static final int HEIGHT = 1 << 3;
+    private static final int ROTATION = 1 << 4;
+    private static final int Z_INDEX = 1 << 5;
+
+    // stickerId 10 + mask 1 + 정수 5개 * 5 + double 8
+    private static final int MAX_ENTRY_BYTES = 44;
+    private static final int MAX_HEADER_BYTES = 1 + 10 + 5;
+
+    private StickerDeltaCodec() {
+    }
+
+    /**
+     * 클라이언트가 보낸 DELTA 프레임을 읽는다. 같은 스티커가 여러 번 오면 항목별로 뒤의 값이 이긴다.
+     *
+     * @throws IllegalArgumentException 프레임이 잘못되었거나 maxEntries를 넘을 때
+     */
+    public static Map<Long, StickerTransform> decodeDelta(ByteBuffer frame, int maxEntries) {
+        try {
+            if (frame.get() != DELTA) {
+                throw new IllegalArgumentException("DELTA 프레임이 아닙니다.");
+            }
+            long count = readVarLong(frame);
+            if (count <= 0 || count > maxEntries) {
+                throw new IllegalArgumentException("변경 개수가 잘못되었습니다: " + count);
+            }
+            Map<Long, StickerTransform> deltas = new LinkedHashMap<>();
+            for (long i = 0; i < count; i++) {
+                long stickerId = readVarLong(frame);
+                StickerTransform transform = readTransform(frame);
+                deltas.merge(stickerId, transform, (current, newer) -> {
+                    current.overwriteWith(newer);
+                    return current;
+                });
+            }
+            if (frame.hasRemaining()) {
+                throw new IllegalArgumentException("프레임 끝에 남은 바이트가 있습니다.");
+            }
+            return deltas;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("프레임이 중간에 끝났습니다.", e);
+        }
+    }
+
+    public static byte[] encodeDelta(long seq, Map<Long, StickerTransform> deltas) {
+        ByteBuffer out = ByteBuffer.allocate(MAX_HEADER_BYTES + deltas.size() * MAX_ENTRY_BYTES);
+        out.put(DELTA);
+        writeVarLong(out, seq);
+        writeVarLong(out, deltas.size());
+        deltas.forEach((stickerId, transform) -> {
+            writeVarLong(out, stickerId);
+            writeTransform(out, transform);
+        });
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    public static byte[] encodeSnapshot(long seq, List<Sticker> stickers) {
+        ByteBuffer out = ByteBuffer.allocate(MAX_HEADER_BYTES + stickers.size() * MAX_ENTRY_BYTES);
+        out.put(SNAPSHOT);
+        writeVarLong(out, seq);
+        writeVarLong(out, stickers.size());
+        for (Sticker sticker : stickers) {
+            writeVarLong(out, sticker.getId());
+            writeTransform(out, new StickerTransform(sticker.getX(), sticker.getY(), sticker.getWidth(),
+                    sticker.getHeight(), sticker.getRotation(), sticker.getZIndex()));
+        }
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    public static byte[] encodeAck(long seq) {
+        ByteBuffer out = ByteBuffer.allocate(11);
+        out.put(ACK);
+        writeVarLong(out, seq);
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    private static StickerTransform readTransform(ByteBuffer in) {
+        int mask = in.get() & 0xFF;
+        if (mask == 0 || (mask & ~(X | Y | WIDTH | HEIGHT | ROTATION | Z_INDEX)) != 0) {
+            throw new IllegalArgumentException("변경 항목 표시가 잘못되었습니다: " + mask);
+        }
+        Integer x = (mask & X) != 0 ? readZigZag(in) : null;
+        Integer y = (mask & Y) != 0 ? readZigZag(in) : null;
+        Integer width = (mask & WIDTH) != 0 ? readZigZag(in) : null;
+        Integer height = (mask & HEIGHT) != 0 ? readZigZag(in) : null;
+        Double rotation = (mask & ROTATION) != 0 ? in.getDouble() : null;
+        Integer zIndex = (mask & Z_INDEX) != 0 ? readZigZag(in) : null;
+        if ((width != null && width <= 0) || (height != null && height <= 0)
+                || (rotation != null && !Double.isFinite(rotation))) {
+            throw new IllegalArgumentException("스티커 크기나 회전 값이 잘못되었습니다.");
+        }
+        return new StickerTransform(x, y, width, height, rotation, zIndex);
+    }
+
+    private static void writeTransform(ByteBuffer out, StickerTransform transform) {
+        int mask = (transform.getX() != null ? X : 0)
+                | (transform.getY() != null ? Y : 0)
+                | (transform.getWidth() != null ? WIDTH : 0)
+                | (transform.getHeight() != null ? HEIGHT : 0)
+                | (transform.getRotation() != null ? ROTATION : 0)
+                | (transform.getZIndex() != null ? Z_INDEX : 0);
+        out.put((byte) mask);
+        if (transform.getX() != null) {
+            writeZigZag(out, transform.getX());
+        }
+        if (transform.getY() != null) {
+            writeZigZag(out, transform.getY());
+        }
+        if (transform.getWidth() != null) {
+            writeZigZag(out, transform.getWidth());
+        }
+        if (transform.getHeight() != null) {
+            writeZigZag(out, transform.getHeight());
+        }
+        if (transform.getRotation() != null) {
+            out.putDouble(transform.getRotation());
+        }
+        if (transform.getZIndex() != null) {
+            writeZigZag(out, transform.getZIndex());
+        }
+    }
+
+    private static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("음수 varint는 허용하지 않습니다.");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint가 너무 깁니다.");
+    }
+
+    private static void writeZigZag(ByteBuffer out, int value) {
+        writeVarLong(out, Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+    }
+
+    private static int readZigZag(ByteBuffer in) {
+        long raw = readVarLong(in);
+        if (raw > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("정수 범위를 넘었습니다.");
+        }
+        int value = (int) raw;
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
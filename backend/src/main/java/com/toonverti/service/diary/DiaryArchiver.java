@@ -0,0 +1,125 @@
+package com.toonverti.service.diary;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.domain.diary.ArchivedDiaryRepository;
+import com.toonverti.domain.diary.DiaryArchiveJdbcRepository;
+import com.toonverti.domain.diary.DiaryArchiveReason;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 다이어리 보관 계층 관리
+ *
+ * 휴지통으로 옮긴 다이어리는 그 트랜잭션에서 바로 archived_diaries 로 간다. 여기서는 그 밖의 이동을 맡는다.
+ * - 시작할 때 보관 방식이 바뀌기 전 휴지통에 들어간 채 diaries 에 남은 다이어리를 옮긴다.
+ * - aged-after-years 가 0보다 크면 그 기간 동안 수정되지 않은 비공개 다이어리를 주기적으로 옮긴다.
+ *   옮긴 다이어리는 목록과 검색에 그대로 보이고, ID로 열면 diaries 로 되돌린다.
+ */
+@Slf4j
+@Component
+public class DiaryArchiver implements SmartInitializingSingleton {
+
+    private final DiaryArchiveJdbcRepository diaryArchiveJdbcRepository;
+    private final ArchivedDiaryRepository archivedDiaryRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Clock clock;
+    private final int agedAfterYears;
+    private final int batchSize;
+
+    public DiaryArchiver(DiaryArchiveJdbcRepository diaryArchiveJdbcRepository,
+                         ArchivedDiaryRepository archivedDiaryRepository,
+                         ShardRouter shardRouter,
+                         PlatformTransactionManager transactionManager,
+                         Clock clock,
+                         @Value("${diary.archive.aged-after-years:0}") int agedAfterYears,
+                         @Value("${diary.archive.batch-size:500}") int batchSize) {
+        this.diaryArchiveJdbcRepository = diaryArchiveJdbcRepository;
+        this.archivedDiaryRepository = archivedDiaryRepository;
+        this.shardRouter = shardRouter;
+        // 읽기 전용 트랜잭션 안에서 불려도 별도 트랜잭션으로 옮긴다
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.agedAfterYears = agedAfterYears;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int shard : shardRouter.shards()) {
+            long moved = ShardContext.call(shard, () -> moveAll(diaryArchiveJdbcRepository::findTrashedInHot,
+                    DiaryArchiveReason.TRASHED));
+            if (moved > 0) {
+                log.info("휴지통 다이어리 보관: shard={}, diaries={}", shard, moved);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${diary.archive.aged-interval-ms:3600000}")
+    public void archiveAged() {
+        if (agedAfterYears <= 0) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now(clock).minusYears(agedAfterYears);
+        for (int shard : shardRouter.shards()) {
+            long moved = ShardContext.call(shard, () -> moveAll(
+                    limit -> diaryArchiveJdbcRepository.findAgedInHot(before, limit), DiaryArchiveReason.AGED));
+            if (moved > 0) {
+                log.info("오래된 다이어리 보관: shard={}, diaries={}", shard, moved);
+            }
+        }
+    }
+
+    /**
+     * 오래되어 보관한 다이어리를 diaries 로 되돌린다. 휴지통에 있는 다이어리는 되돌리지 않는다.
+     *
+     * @return 되돌렸으면 true
+     */
+    public boolean thaw(Long diaryId) {
+        return thaw(diaryId, () -> Optional.of(true)).isPresent();
+    }
+
+    /**
+     * 되돌린 같은 트랜잭션(주 DB) 안에서 reader 로 다시 읽는다. 읽기 전용 트랜잭션은 복제본을 읽으므로
+     * 되돌린 직후 그 트랜잭션에서 다시 읽으면 복제 지연 동안 다이어리가 없다고 나온다.
+     *
+     * @return 되돌리지 않았으면 빈 값
+     */
+    public <T> Optional<T> thaw(Long diaryId, Supplier<Optional<T>> reader) {
+        return requiresNewTransaction.execute(status ->
+                archivedDiaryRepository.findByIdAndReason(diaryId, DiaryArchiveReason.AGED)
+                        .filter(archived -> diaryArchiveJdbcRepository.restore(List.of(diaryId)) > 0)
+                        .flatMap(archived -> reader.get()));
+    }
+
+    private long moveAll(Function<Integer, List<Long>> candidates, DiaryArchiveReason reason) {
+        long moved = 0;
+        int batch;
+        do {
+            batch = Objects.requireNonNull(requiresNewTransaction.execute(status -> {
+                LocalDateTime now = LocalDateTime.now(clock);
+                List<Long> ids = candidates.apply(batchSize);
+                diaryArchiveJdbcRepository.archive(ids, reason, reason == DiaryArchiveReason.TRASHED ? now : null, now);
+                return ids.size();
+            }));
+            moved += batch;
+        } while (batch == batchSize);
+        return moved;
+    }
+}
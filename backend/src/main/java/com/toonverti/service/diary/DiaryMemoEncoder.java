@@ -0,0 +1,51 @@
+package com.toonverti.service.diary;
+
+import com.toonverti.domain.diary.MemoCompression;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 메모를 저장 형식으로 바꾼다
+ *
+ * compress-threshold-bytes 이상인 메모는 압축해서 저장한다. diary.memo.bytes 히스토그램의
+ * form=original 과 form=stored 합계 차이가 압축으로 줄인 크기다.
+ */
+@Component
+public class DiaryMemoEncoder {
+
+    private final int thresholdBytes;
+    private final DistributionSummary originalBytes;
+    private final DistributionSummary storedBytes;
+
+    public DiaryMemoEncoder(MeterRegistry meterRegistry,
+                            @Value("${diary.memo.compress-threshold-bytes:1024}") int thresholdBytes) {
+        this.thresholdBytes = thresholdBytes;
+        this.originalBytes = summary(meterRegistry, "original");
+        this.storedBytes = summary(meterRegistry, "stored");
+    }
+
+    /**
+     * @return 저장할 바이트, 메모가 없으면 null
+     */
+    public byte[] encode(String memo) {
+        if (memo == null) {
+            return null;
+        }
+        byte[] stored = MemoCompression.encode(memo, thresholdBytes);
+        originalBytes.record(memo.getBytes(StandardCharsets.UTF_8).length);
+        storedBytes.record(stored.length);
+        return stored;
+    }
+
+    private static DistributionSummary summary(MeterRegistry meterRegistry, String form) {
+        return DistributionSummary.builder("diary.memo.bytes")
+                .baseUnit("bytes")
+                .tag("form", form)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
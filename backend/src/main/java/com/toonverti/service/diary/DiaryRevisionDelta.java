@@ -0,0 +1,156 @@
+package com.toonverti.service.diary;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.toonverti.service.diary.DiaryRevisionState.StickerState;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 직전 리비전과의 차이
+ *
+ * 바뀌지 않은 항목은 null 이다. 메모는 앞뒤로 같은 부분을 뺀 가운데 구간만, 스티커도 앞뒤로 같은 스티커를 뺀
+ * 가운데 구간만 담고, 그 구간의 스티커는 바뀐 필드만 담는다. 떨어진 곳을 여러 군데 고치면 그 사이 구간까지 담긴다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DiaryRevisionDelta(Value<String> title, Value<String> memo, TextEdit memoEdit, Value<LocalDate> date,
+                                 Value<String> genre, StickerSplice stickers) {
+
+    // null 로 바뀐 것과 바뀌지 않은 것을 구분하기 위해 값을 감싼다
+    public record Value<T>(T value) {
+    }
+
+    // 이전 본문의 [start, end) 를 text 로 바꾼다
+    public record TextEdit(int start, int end, String text) {
+    }
+
+    // 이전 목록의 [start, end) 를 edits 를 적용한 스티커와 added 로 바꾼다
+    public record StickerSplice(int start, int end, List<StickerEdit> edits, List<StickerState> added) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record StickerEdit(String type, String src, Integer x, Integer y, Integer width, Integer height,
+                              Double rotation, Integer zIndex) {
+    }
+
+    public static DiaryRevisionDelta between(DiaryRevisionState before, DiaryRevisionState after) {
+        Value<String> memo = null;
+        TextEdit memoEdit = null;
+        if (!Objects.equals(before.memo(), after.memo())) {
+            if (before.memo() == null || after.memo() == null) {
+                memo = new Value<>(after.memo());
+            } else {
+                memoEdit = textEdit(before.memo(), after.memo());
+            }
+        }
+        return new DiaryRevisionDelta(
+                changed(before.title(), after.title()),
+                memo,
+                memoEdit,
+                changed(before.date(), after.date()),
+                changed(before.genre(), after.genre()),
+                before.stickers().equals(after.stickers()) ? null : stickerSplice(before.stickers(), after.stickers()));
+    }
+
+    public DiaryRevisionState applyTo(DiaryRevisionState before) {
+        String nextMemo = before.memo();
+        if (memo != null) {
+            nextMemo = memo.value();
+        } else if (memoEdit != null) {
+            nextMemo = before.memo().substring(0, memoEdit.start()) + memoEdit.text()
+                    + before.memo().substring(memoEdit.end());
+        }
+        return new DiaryRevisionState(
+                title != null ? title.value() : before.title(),
+                nextMemo,
+                date != null ? date.value() : before.date(),
+                genre != null ? genre.value() : before.genre(),
+                stickers != null ? applySplice(before.stickers(), stickers) : before.stickers());
+    }
+
+    private static <T> Value<T> changed(T before, T after) {
+        return Objects.equals(before, after) ? null : new Value<>(after);
+    }
+
+    private static TextEdit textEdit(String before, String after) {
+        int prefix = 0;
+        int max = Math.min(before.length(), after.length());
+        while (prefix < max && before.charAt(prefix) == after.charAt(prefix)) {
+            prefix++;
+        }
+        // 서로게이트 쌍 가운데서 자르지 않는다
+        if (prefix > 0 && Character.isHighSurrogate(before.charAt(prefix - 1))) {
+            prefix--;
+        }
+        int suffix = 0;
+        max -= prefix;
+        while (suffix < max
+                && before.charAt(before.length() - 1 - suffix) == after.charAt(after.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(before.charAt(before.length() - suffix))) {
+            suffix--;
+        }
+        return new TextEdit(prefix, before.length() - suffix, after.substring(prefix, after.length() - suffix));
+    }
+
+    private static StickerSplice stickerSplice(List<StickerState> before, List<StickerState> after) {
+        int prefix = 0;
+        int max = Math.min(before.size(), after.size());
+        while (prefix < max && before.get(prefix).equals(after.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        max -= prefix;
+        while (suffix < max
+                && before.get(before.size() - 1 - suffix).equals(after.get(after.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int beforeEnd = before.size() - suffix;
+        int afterEnd = after.size() - suffix;
+        int paired = Math.min(beforeEnd, afterEnd) - prefix;
+        List<StickerEdit> edits = new ArrayList<>(paired);
+        for (int i = 0; i < paired; i++) {
+            edits.add(stickerEdit(before.get(prefix + i), after.get(prefix + i)));
+        }
+        List<StickerState> added = List.copyOf(after.subList(prefix + paired, afterEnd));
+        return new StickerSplice(prefix, beforeEnd, edits, added);
+    }
+
+    private static StickerEdit stickerEdit(StickerState before, StickerState after) {
+        return new StickerEdit(
+                Objects.equals(before.type(), after.type()) ? null : after.type(),
+                Objects.equals(before.src(), after.src()) ? null : after.src(),
+                before.x() == after.x() ? null : after.x(),
+                before.y() == after.y() ? null : after.y(),
+                before.width() == after.width() ? null : after.width(),
+                before.height() == after.height() ? null : after.height(),
+                Double.compare(before.rotation(), after.rotation()) == 0 ? null : after.rotation(),
+                before.zIndex() == after.zIndex() ? null : after.zIndex());
+    }
+
+    private static List<StickerState> applySplice(List<StickerState> before, StickerSplice splice) {
+        List<StickerState> result = new ArrayList<>(before.subList(0, splice.start()));
+        for (int i = 0; i < splice.edits().size(); i++) {
+            result.add(applyEdit(before.get(splice.start() + i), splice.edits().get(i)));
+        }
+        result.addAll(splice.added());
+        result.addAll(before.subList(splice.end(), before.size()));
+        return result;
+    }
+
+    private static StickerState applyEdit(StickerState before, StickerEdit edit) {
+        return new StickerState(
+                edit.type() != null ? edit.type() : before.type(),
+                edit.src() != null ? edit.src() : before.src(),
+                edit.x() != null ? edit.x() : before.x(),
+                edit.y() != null ? edit.y() : before.y(),
+                edit.width() != null ? edit.width() : before.width(),
+                edit.height() != null ? edit.height() : before.height(),
+                edit.rotation() != null ? edit.rotation() : before.rotation(),
+                edit.zIndex() != null ? edit.zIndex() : before.zIndex());
+    }
+}
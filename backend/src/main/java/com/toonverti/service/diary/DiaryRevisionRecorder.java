@@ -0,0 +1,155 @@
+package com.toonverti.service.diary;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.domain.diary.DiaryRepository;
+import com.toonverti.domain.diary.DiaryRevision;
+import com.toonverti.domain.diary.DiaryRevisionRepository;
+import com.toonverti.domain.diary.MemoCompression;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 다이어리 수정 이력을 남기고 되살린다
+ *
+ * 리비전 대부분은 직전 리비전과의 차이(DiaryRevisionDelta)만 저장하고, snapshot-interval 번째마다
+ * 전체 상태를 저장해 한 리비전을 만들 때 적용할 차이가 그 수를 넘지 않게 한다.
+ * 다이어리 수정과 되살리기, 스티커 개별 수정, 스티커 자동 저장 flush(공동 편집 변경 포함)마다 남긴다.
+ * 호출 측 트랜잭션 안에서 실행된다.
+ */
+@Component
+public class DiaryRevisionRecorder {
+
+    private final DiaryRevisionRepository diaryRevisionRepository;
+    private final DiaryRepository diaryRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int snapshotInterval;
+    private final int compressThresholdBytes;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public DiaryRevisionRecorder(DiaryRevisionRepository diaryRevisionRepository,
+                                 DiaryRepository diaryRepository,
+                                 ObjectMapper objectMapper,
+                                 Clock clock,
+                                 @Value("${diary.revision.snapshot-interval:20}") int snapshotInterval,
+                                 @Value("${diary.revision.compress-threshold-bytes:1024}") int compressThresholdBytes) {
+        this.diaryRevisionRepository = diaryRevisionRepository;
+        this.diaryRepository = diaryRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.compressThresholdBytes = compressThresholdBytes;
+    }
+
+    /**
+     * 수정 전후 상태를 남긴다.
+     *
+     * 첫 수정이면 수정 전 상태를 1번 리비전으로 남긴다. 마지막 리비전 뒤에 스티커 자동 저장처럼 리비전 없이
+     * 바뀐 내용이 있으면 수정 전 상태도 리비전 하나로 남겨 그 배치로도 되돌릴 수 있게 한다.
+     */
+    public void record(Long diaryId, DiaryRevisionState before, DiaryRevisionState after) {
+        Optional<DiaryRevision> latest = diaryRevisionRepository.findTopByDiaryIdOrderByRevisionDesc(diaryId);
+        int revision;
+        DiaryRevisionState previous;
+        if (latest.isEmpty()) {
+            revision = 1;
+            save(diaryId, revision, true, before);
+            previous = before;
+        } else {
+            revision = latest.get().getRevision();
+            previous = reconstruct(diaryId, revision)
+                    .orElseThrow(() -> new IllegalStateException("리비전을 만들 수 없습니다: diaryId=" + diaryId));
+            if (!previous.equals(before)) {
+                revision = append(diaryId, revision, previous, before);
+                previous = before;
+            }
+        }
+        if (!previous.equals(after)) {
+            append(diaryId, revision, previous, after);
+        }
+    }
+
+    /**
+     * SQL로 바로 바꾸는 변경(스티커 자동 저장 배치) 앞뒤 상태를 다이어리마다 리비전 하나로 남긴다.
+     * 보관되어 diaries 에 없는 다이어리는 건너뛴다.
+     */
+    public void recordAround(Collection<Long> diaryIds, Runnable change) {
+        Map<Long, DiaryRevisionState> before = new HashMap<>();
+        diaryRepository.findAllById(diaryIds)
+                .forEach(diary -> before.put(diary.getId(), DiaryRevisionState.of(diary)));
+        change.run();
+        // 앞에서 읽은 엔티티는 SQL로 바뀐 스티커를 모른다
+        entityManager.clear();
+        diaryRepository.findAllById(before.keySet())
+                .forEach(diary -> record(diary.getId(), before.get(diary.getId()), DiaryRevisionState.of(diary)));
+    }
+
+    /**
+     * @return revision 번째 리비전의 상태, 없는 리비전이면 empty
+     */
+    public Optional<DiaryRevisionState> reconstruct(Long diaryId, int revision) {
+        return diaryRevisionRepository
+                .findTopByDiaryIdAndSnapshotTrueAndRevisionLessThanEqualOrderByRevisionDesc(diaryId, revision)
+                .flatMap(snapshot -> {
+                    List<DiaryRevision> deltas = diaryRevisionRepository.findByDiaryIdAndRevisionBetweenOrderByRevisionAsc(
+                            diaryId, snapshot.getRevision() + 1, revision);
+                    if (snapshot.getRevision() + deltas.size() != revision) {
+                        return Optional.empty();
+                    }
+                    DiaryRevisionState state = read(snapshot.getContent(), DiaryRevisionState.class);
+                    for (DiaryRevision delta : deltas) {
+                        state = read(delta.getContent(), DiaryRevisionDelta.class).applyTo(state);
+                    }
+                    return Optional.of(state);
+                });
+    }
+
+    private int append(Long diaryId, int latest, DiaryRevisionState previous, DiaryRevisionState next) {
+        int revision = latest + 1;
+        if ((revision - 1) % snapshotInterval == 0) {
+            save(diaryId, revision, true, next);
+        } else {
+            save(diaryId, revision, false, DiaryRevisionDelta.between(previous, next));
+        }
+        return revision;
+    }
+
+    private void save(Long diaryId, int revision, boolean snapshot, Object content) {
+        diaryRevisionRepository.save(DiaryRevision.builder()
+                .diaryId(diaryId)
+                .revision(revision)
+                .snapshot(snapshot)
+                .content(MemoCompression.encode(write(content), compressThresholdBytes))
+                .createdAt(LocalDateTime.now(clock))
+                .build());
+    }
+
+    private String write(Object content) {
+        try {
+            return objectMapper.writeValueAsString(content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리비전 직렬화 실패", e);
+        }
+    }
+
+    private <T> T read(byte[] content, Class<T> type) {
+        try {
+            return objectMapper.readValue(MemoCompression.decode(content), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리비전 역직렬화 실패", e);
+        }
+    }
+}
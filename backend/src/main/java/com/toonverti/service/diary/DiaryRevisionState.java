@@ -0,0 +1,36 @@
+package com.toonverti.service.diary;
+
+import com.toonverti.domain.diary.Diary;
+import com.toonverti.domain.sticker.Sticker;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 리비전으로 남기는 다이어리 상태
+ *
+ * 공개 여부와 좋아요처럼 내용 수정과 따로 바뀌는 값은 넣지 않는다. 스티커는 수정할 때마다 새로 만들어져
+ * ID가 이어지지 않으므로 z-index, ID 순서로 세운 목록의 위치로 구분한다.
+ */
+public record DiaryRevisionState(String title, String memo, LocalDate date, String genre,
+                                 List<StickerState> stickers) {
+
+    public record StickerState(String type, String src, int x, int y, int width, int height, double rotation,
+                               int zIndex) {
+
+        static StickerState of(Sticker sticker) {
+            return new StickerState(sticker.getType(), sticker.getSrc(), sticker.getX(), sticker.getY(),
+                    sticker.getWidth(), sticker.getHeight(), sticker.getRotation(), sticker.getZIndex());
+        }
+    }
+
+    public static DiaryRevisionState of(Diary diary) {
+        List<StickerState> stickers = diary.getStickers().stream()
+                .sorted(Comparator.comparingInt(Sticker::getZIndex).thenComparing(Sticker::getId))
+                .map(StickerState::of)
+                .toList();
+        return new DiaryRevisionState(diary.getTitle(), diary.getMemo(), diary.getDate(), diary.getGenre(),
+                stickers);
+    }
+}
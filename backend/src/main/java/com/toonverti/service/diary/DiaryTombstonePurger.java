@@ -0,0 +1,55 @@
+package com.toonverti.service.diary;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.domain.diary.DiaryTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 보관 기간이 지난 다이어리 삭제 기록을 샤드마다 지운다
+ *
+ * 그보다 오래된 동기화 토큰은 DiarySyncService 가 만료로 거절하므로 클라이언트는 전체 목록을 다시 받는다.
+ */
+@Slf4j
+@Component
+public class DiaryTombstonePurger {
+
+    private final DiaryTombstoneRepository diaryTombstoneRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int retentionDays;
+
+    public DiaryTombstonePurger(DiaryTombstoneRepository diaryTombstoneRepository,
+                                ShardRouter shardRouter,
+                                PlatformTransactionManager transactionManager,
+                                Clock clock,
+                                @Value("${diary.sync.tombstone-retention-days:30}") int retentionDays) {
+        this.diaryTombstoneRepository = diaryTombstoneRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${diary.sync.tombstone-purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now(clock).minusDays(retentionDays);
+        for (int shard : shardRouter.shards()) {
+            int deleted = ShardContext.call(shard, () -> Objects.requireNonNull(
+                    transactionTemplate.execute(status -> diaryTombstoneRepository.deleteOlderThan(before))));
+            if (deleted > 0) {
+                log.info("오래된 다이어리 삭제 기록 정리: shard={}, rows={}", shard, deleted);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.toonverti.service.friend;
+
+import com.toonverti.common.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 수락된 친구 관계의 메모리 인접 인덱스
+ *
+ * 사용자마다 친구 ID를 정렬된 long[]로 들고 있어 조회 시 조인 없이
+ * 해시 조회 한 번과 이진 탐색으로 답한다. 배열은 게시 후 변경하지 않고
+ * 변경 시 새 배열로 교체(copy-on-write)하므로 읽기에는 락이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendGraphIndex implements SmartInitializingSingleton {
+
+    private static final long[] EMPTY = new long[0];
+
+    private static final String SELECT_ACCEPTED_EDGES_SQL =
+            "SELECT requester_id, addressee_id FROM friendships WHERE status = 'ACCEPTED'";
+
+    // 크기 차이가 이 배수 이상이면 병합 대신 작은 쪽 원소를 큰 쪽에서 이진 탐색한다
+    private static final int GALLOP_RATIO = 16;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 다시 적재할 때는 새 맵을 다 만든 뒤 참조를 바꿔 끼우므로 읽는 쪽이 빈 인덱스를 보지 않는다
+    private volatile ConcurrentHashMap<Long, long[]> adjacency = new ConcurrentHashMap<>();
+
+    /**
+     * 모든 싱글톤(스키마 생성 포함)이 준비된 뒤, 웹 서버가 요청을 받기 전에 적재한다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public void reload() {
+        Map<Long, LongList> lists = new HashMap<>();
+        jdbcTemplate.query(SELECT_ACCEPTED_EDGES_SQL, rs -> {
+            long requesterId = rs.getLong(1);
+            long addresseeId = rs.getLong(2);
+            lists.computeIfAbsent(requesterId, id -> new LongList()).add(addresseeId);
+            lists.computeIfAbsent(addresseeId, id -> new LongList()).add(requesterId);
+        });
+
+        ConcurrentHashMap<Long, long[]> loaded = new ConcurrentHashMap<>(lists.size() * 2);
+        long edges = 0;
+        for (Map.Entry<Long, LongList> entry : lists.entrySet()) {
+            long[] neighbors = entry.getValue().toSortedDistinctArray();
+            loaded.put(entry.getKey(), neighbors);
+            edges += neighbors.length;
+        }
+        adjacency = loaded;
+        log.info("친구 인접 인덱스 적재 완료: users={}, edges={}", loaded.size(), edges / 2);
+    }
+
+    public boolean areFriends(long userId, long otherUserId) {
+        long[] neighbors = adjacency.get(userId);
+        return neighbors != null && Arrays.binarySearch(neighbors, otherUserId) >= 0;
+    }
+
+    /**
+     * 친구 ID 목록 (오름차순). 내부 배열이므로 호출 측에서 수정하면 안 된다.
+     */
+    public long[] friendsOf(long userId) {
+        return adjacency.getOrDefault(userId, EMPTY);
+    }
+
+    public int friendCount(long userId) {
+        return friendsOf(userId).length;
+    }
+
+    public int mutualFriendCount(long userId, long otherUserId) {
+        long[] a = friendsOf(userId);
+        long[] b = friendsOf(otherUserId);
+        if (a.length > b.length) {
+            long[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+        if (a.length == 0) {
+            return 0;
+        }
+        if (b.length / a.length >= GALLOP_RATIO) {
+            return countBySearch(a, b);
+        }
+        return countByMerge(a, b);
+    }
+
+    /**
+     * 친구 관계 추가. 트랜잭션 안이면 커밋 이후에 반영한다.
+     */
+    public void link(long userId, long otherUserId) {
+        AfterCommit.run(() -> {
+            adjacency.compute(userId, (id, neighbors) -> insert(neighbors, otherUserId));
+            adjacency.compute(otherUserId, (id, neighbors) -> insert(neighbors, userId));
+        });
+    }
+
+    /**
+     * 친구 관계 제거. 트랜잭션 안이면 커밋 이후에 반영한다.
+     */
+    public void unlink(long userId, long otherUserId) {
+        AfterCommit.run(() -> {
+            adjacency.computeIfPresent(userId, (id, neighbors) -> remove(neighbors, otherUserId));
+            adjacency.computeIfPresent(otherUserId, (id, neighbors) -> remove(neighbors, userId));
+        });
+    }
+
+    private static long[] insert(long[] neighbors, long value) {
+        if (neighbors == null) {
+            return new long[]{value};
+        }
+        int pos = Arrays.binarySearch(neighbors, value);
+        if (pos >= 0) {
+            return neighbors;
+        }
+        int insertAt = -pos - 1;
+        long[] next = new long[neighbors.length + 1];
+        System.arraycopy(neighbors, 0, next, 0, insertAt);
+        next[insertAt] = value;
+        System.arraycopy(neighbors, insertAt, next, insertAt + 1, neighbors.length - insertAt);
+        return next;
+    }
+
+    // null을 반환하면 compute가 엔트리를 제거한다
+    private static long[] remove(long[] neighbors, long value) {
+        int pos = Arrays.binarySearch(neighbors, value);
+        if (pos < 0) {
+            return neighbors;
+        }
+        if (neighbors.length == 1) {
+            return null;
+        }
+        long[] next = new long[neighbors.length - 1];
+        System.arraycopy(neighbors, 0, next, 0, pos);
+        System.arraycopy(neighbors, pos + 1, next, pos, neighbors.length - pos - 1);
+        return next;
+    }
+
+    private static int countByMerge(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private static int countBySearch(long[] small, long[] large) {
+        int count = 0;
+        int from = 0;
+        for (long value : small) {
+            int pos = Arrays.binarySearch(large, from, large.length, value);
+            if (pos >= 0) {
+                count++;
+                from = pos + 1;
+            } else {
+                from = -pos - 1;
+            }
+            if (from >= large.length) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private static final class LongList {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedDistinctArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
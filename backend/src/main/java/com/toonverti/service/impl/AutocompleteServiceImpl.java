@@ -0,0 +1,43 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.dto.search.AutocompleteResponse;
+import com.toonverti.dto.search.AutocompleteResponse.Suggestion;
+import com.toonverti.service.AutocompleteService;
+import com.toonverti.service.autocomplete.AutocompleteIndex;
+import com.toonverti.service.autocomplete.HangulJamo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AutocompleteServiceImpl implements AutocompleteService {
+
+    // 긴 입력은 접두어 일치에 의미가 없으므로 잘라서 처리한다
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    @Override
+    public AutocompleteResponse suggest(String query, Long userId, int limit) {
+        String trimmed = query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+        String normalized = HangulJamo.normalize(trimmed);
+        int size = Math.max(1, Math.min(limit, autocompleteIndex.getMaxResults()));
+
+        List<Suggestion> webtoons = autocompleteIndex.suggestTitles(normalized, size).stream()
+                .map(Suggestion::from)
+                .toList();
+        List<Suggestion> diaries = userId == null
+                ? List.of()
+                : autocompleteIndex.suggestDiaries(userId, normalized, size).stream()
+                        .map(Suggestion::from)
+                        .toList();
+
+        return AutocompleteResponse.builder()
+                .query(query)
+                .webtoons(webtoons)
+                .diaries(diaries)
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package com.toonverti.service.impl;
+
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.common.shard.ShardKey;
+import com.toonverti.domain.diary.DiaryJdbcRepository;
+import com.toonverti.domain.user.UserRepository;
+import com.toonverti.dto.diary.DiaryImportResponse;
+import com.toonverti.dto.diary.DiaryImportResponse.ImportError;
+import com.toonverti.dto.diary.DiaryRequest;
+import com.toonverti.dto.diary.StickerRequest;
+import com.toonverti.event.DomainEventPublisher;
+import com.toonverti.event.diary.DiariesImportedEvent;
+import com.toonverti.exception.UserNotFoundException;
+import com.toonverti.service.DiaryImportService;
+import com.toonverti.service.StickerAssetService;
+import com.toonverti.service.catalog.StickerCatalog;
+import com.toonverti.service.diary.DiaryMemoEncoder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class DiaryImportServiceImpl implements DiaryImportService {
+
+    private final DiaryJdbcRepository diaryJdbcRepository;
+    private final DiaryMemoEncoder diaryMemoEncoder;
+    private final UserRepository userRepository;
+    private final StickerAssetService stickerAssetService;
+    private final StickerCatalog stickerCatalog;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public DiaryImportServiceImpl(DiaryJdbcRepository diaryJdbcRepository,
+                                  DiaryMemoEncoder diaryMemoEncoder,
+                                  UserRepository userRepository,
+                                  StickerAssetService stickerAssetService,
+                                  StickerCatalog stickerCatalog,
+                                  DomainEventPublisher domainEventPublisher,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  TransactionTemplate transactionTemplate,
+                                  Clock clock,
+                                  @Value("${diary.import.chunk-size:500}") int chunkSize) {
+        this.diaryJdbcRepository = diaryJdbcRepository;
+        this.diaryMemoEncoder = diaryMemoEncoder;
+        this.userRepository = userRepository;
+        this.stickerAssetService = stickerAssetService;
+        this.stickerCatalog = stickerCatalog;
+        this.domainEventPublisher = domainEventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public DiaryImportResponse importDiaries(@ShardKey(ShardKey.Type.USER) Long userId, InputStream body) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+
+        List<Long> diaryIds = new ArrayList<>();
+        List<ImportError> errors = new ArrayList<>();
+        List<PendingItem> chunk = new ArrayList<>(chunkSize);
+
+        // 최상위 배열이면 원소 단위로, NDJSON이면 줄 단위로 하나씩 읽는다
+        try (MappingIterator<DiaryRequest> iterator = objectMapper.readerFor(DiaryRequest.class).readValues(body)) {
+            while (true) {
+                int index = diaryIds.size();
+                DiaryRequest request;
+                try {
+                    if (!iterator.hasNextValue()) {
+                        break;
+                    }
+                    request = iterator.nextValue();
+                } catch (DatabindException e) {
+                    // 해당 항목만 건너뛰고 다음 항목부터 계속 읽는다
+                    diaryIds.add(null);
+                    errors.add(new ImportError(index, "항목을 읽을 수 없습니다: " + e.getOriginalMessage()));
+                    continue;
+                } catch (StreamReadException e) {
+                    // JSON 문법 오류 이후로는 위치를 복구할 수 없으므로 중단한다
+                    diaryIds.add(null);
+                    errors.add(new ImportError(index, "JSON 형식이 올바르지 않아 가져오기를 중단했습니다: " + e.getOriginalMessage()));
+                    break;
+                }
+
+                diaryIds.add(null);
+                String violation = validate(request);
+                if (violation != null) {
+                    errors.add(new ImportError(index, violation));
+                    continue;
+                }
+
+                chunk.add(new PendingItem(index, request));
+                if (chunk.size() >= chunkSize) {
+                    flush(userId, chunk, diaryIds, errors);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!chunk.isEmpty()) {
+            flush(userId, chunk, diaryIds, errors);
+        }
+
+        errors.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        int imported = (int) diaryIds.stream().filter(Objects::nonNull).count();
+        if (imported > 0) {
+            domainEventPublisher.publish(new DiariesImportedEvent(userId, imported));
+        }
+        return DiaryImportResponse.builder()
+                .total(diaryIds.size())
+                .imported(imported)
+                .failed(errors.size())
+                .diaryIds(diaryIds)
+                .errors(errors)
+                .build();
+    }
+
+    private void flush(Long userId, List<PendingItem> chunk, List<Long> diaryIds, List<ImportError> errors) {
+        List<DiaryRequest> requests = chunk.stream().map(PendingItem::request).toList();
+        Map<String, Integer> assetIds = stickerAssetService.resolveIds(requests.stream()
+                .filter(request -> request.getStickers() != null)
+                .flatMap(request -> request.getStickers().stream())
+                .map(StickerRequest::getSrc)
+                .collect(Collectors.toSet()));
+        List<byte[]> memos = requests.stream().map(request -> diaryMemoEncoder.encode(request.getMemo())).toList();
+
+        try {
+            // 동기화가 커밋 직전의 시각을 보도록 트랜잭션 안에서 찍는다 (에셋 확인과 메모 인코딩 시간은 빼고)
+            List<Long> ids = transactionTemplate.execute(status ->
+                    diaryJdbcRepository.batchInsert(userId, requests, memos, assetIds, LocalDateTime.now(clock)));
+            for (int i = 0; i < chunk.size(); i++) {
+                diaryIds.set(chunk.get(i).index(), ids.get(i));
+            }
+        } catch (DataAccessException e) {
+            // 배치 전체가 롤백되었으므로 어떤 항목이 문제인지 하나씩 다시 저장해 본다
+            log.warn("다이어리 일괄 저장 실패, 항목별 재시도: userId={}, size={}, cause={}",
+                    userId, chunk.size(), e.getMostSpecificCause().getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                PendingItem item = chunk.get(i);
+                List<byte[]> memo = Collections.singletonList(memos.get(i));
+                try {
+                    List<Long> ids = transactionTemplate.execute(status ->
+                            diaryJdbcRepository.batchInsert(userId, List.of(item.request()), memo, assetIds,
+                                    LocalDateTime.now(clock)));
+                    diaryIds.set(item.index(), ids.get(0));
+                } catch (DataAccessException itemException) {
+                    errors.add(new ImportError(item.index(),
+                            "저장에 실패했습니다: " + itemException.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    private String validate(DiaryRequest request) {
+        if (request == null) {
+            return "비어 있는 항목입니다.";
+        }
+        Set<ConstraintViolation<DiaryRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining(", "));
+        }
+        if (request.getStickers() != null) {
+            for (StickerRequest sticker : request.getStickers()) {
+                if (sticker == null) {
+                    return "stickers: 비어 있는 스티커 항목이 있습니다.";
+                }
+                Set<ConstraintViolation<StickerRequest>> stickerViolations = validator.validate(sticker);
+                if (!stickerViolations.isEmpty()) {
+                    return stickerViolations.stream()
+                            .map(v -> "stickers." + v.getPropertyPath() + ": " + v.getMessage())
+                            .collect(Collectors.joining(", "));
+                }
+                if (!stickerCatalog.contains(sticker.getType(), sticker.getSrc())) {
+                    return "stickers: 카탈로그에 없는 스티커입니다. type=" + sticker.getType() + ", src=" + sticker.getSrc();
+                }
+            }
+        }
+        return null;
+    }
+
+    private record PendingItem(int index, DiaryRequest request) {
+    }
+}
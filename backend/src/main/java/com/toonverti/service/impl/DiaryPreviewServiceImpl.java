@@ -0,0 +1,41 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.dto.diary.DiaryResponse;
+import com.toonverti.service.DiaryPreviewService;
+import com.toonverti.service.DiaryService;
+import com.toonverti.service.preview.DiaryPreview;
+import com.toonverti.service.preview.DiaryPreviewRenderer;
+import com.toonverti.service.preview.PreviewFormat;
+import com.toonverti.service.preview.PreviewImageCache;
+import com.toonverti.service.preview.PreviewSize;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+
+@Service
+@RequiredArgsConstructor
+public class DiaryPreviewServiceImpl implements DiaryPreviewService {
+
+    private final DiaryService diaryService;
+    private final DiaryPreviewRenderer renderer;
+    private final PreviewImageCache previewImageCache;
+
+    @Override
+    public String getPreviewTag(Long diaryId, PreviewSize size, PreviewFormat format) {
+        return renderer.fingerprint(diaryId, diaryService.getPublicRenderVersion(diaryId), size, format);
+    }
+
+    @Override
+    public DiaryPreview getPreview(Long diaryId, PreviewSize size, PreviewFormat format, String tag) {
+        DiaryPreview cached = previewImageCache.find(diaryId, size, format, tag);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회 트랜잭션은 getPublicDiary 안에서 끝나므로 렌더링 중에는 커넥션을 잡고 있지 않는다
+        DiaryResponse diary = diaryService.getPublicDiary(diaryId);
+        BufferedImage image = renderer.render(diary, size, format);
+        return previewImageCache.store(diaryId, size, format, tag, image);
+    }
+}
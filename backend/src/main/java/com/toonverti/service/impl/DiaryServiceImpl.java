@@ -1,47 +1,121 @@
 package com.toonverti.service.impl;
 
+import com.toonverti.common.shard.ShardKey;
+import com.toonverti.common.transaction.AfterCommit;
+import com.toonverti.domain.diary.ArchivedDiary;
+import com.toonverti.domain.diary.ArchivedDiaryRepository;
 import com.toonverti.domain.diary.Diary;
+import com.toonverti.domain.diary.DiaryArchiveJdbcRepository;
+import com.toonverti.domain.diary.DiaryArchiveReason;
+import com.toonverti.domain.diary.DiaryFacetCount;
+import com.toonverti.domain.diary.DiaryJdbcRepository;
 import com.toonverti.domain.diary.DiaryRepository;
+import com.toonverti.domain.diary.DiaryRevisionRepository;
+import com.toonverti.domain.diary.DiarySearchCondition;
+import com.toonverti.domain.diary.DiaryTombstone;
+import com.toonverti.domain.diary.DiaryTombstoneRepository;
+import com.toonverti.domain.shard.DiaryIdAlias;
+import com.toonverti.domain.shard.DiaryIdAliasRepository;
+import com.toonverti.domain.sticker.ArchivedStickerRepository;
 import com.toonverti.domain.sticker.Sticker;
 import com.toonverti.domain.sticker.StickerRepository;
 import com.toonverti.domain.user.User;
 import com.toonverti.domain.user.UserRepository;
+import com.toonverti.dto.diary.DiaryFacetedSearchResponse;
 import com.toonverti.dto.diary.DiaryRequest;
 import com.toonverti.dto.diary.DiaryResponse;
+import com.toonverti.dto.diary.DiaryRevisionResponse;
 import com.toonverti.dto.diary.StickerRequest;
+import com.toonverti.dto.search.FacetCount;
+import com.toonverti.event.DomainEventPublisher;
+import com.toonverti.event.diary.*;
 import com.toonverti.exception.DiaryNotFoundException;
+import com.toonverti.exception.DiaryRevisionNotFoundException;
+import com.toonverti.exception.InvalidCursorException;
 import com.toonverti.exception.UserNotFoundException;
+import com.toonverti.exception.VersionConflictException;
 import com.toonverti.service.DiaryService;
+import com.toonverti.service.StickerAssetService;
+import com.toonverti.service.catalog.StickerCatalog;
+import com.toonverti.service.collab.DiaryEditSessionRegistry;
+import com.toonverti.service.diary.DiaryArchiver;
+import com.toonverti.service.diary.DiaryMemoEncoder;
+import com.toonverti.service.diary.DiaryRevisionRecorder;
+import com.toonverti.service.diary.DiaryRevisionState;
+import com.toonverti.service.preview.PreviewImageCache;
+import com.toonverti.service.share.SharedDiaryResponseCache;
+import com.toonverti.service.sticker.StickerAutosaveBuffer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DiaryServiceImpl implements DiaryService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final DiaryRepository diaryRepository;
+    private final DiaryJdbcRepository diaryJdbcRepository;
     private final StickerRepository stickerRepository;
     private final UserRepository userRepository;
+    private final StickerAssetService stickerAssetService;
+    private final StickerCatalog stickerCatalog;
+    private final PreviewImageCache previewImageCache;
+    private final SharedDiaryResponseCache sharedDiaryResponseCache;
+    private final StickerAutosaveBuffer stickerAutosaveBuffer;
+    private final DiaryMemoEncoder diaryMemoEncoder;
+    private final ArchivedDiaryRepository archivedDiaryRepository;
+    private final ArchivedStickerRepository archivedStickerRepository;
+    private final DiaryArchiveJdbcRepository diaryArchiveJdbcRepository;
+    private final DiaryArchiver diaryArchiver;
+    private final DiaryRevisionRepository diaryRevisionRepository;
+    private final DiaryRevisionRecorder diaryRevisionRecorder;
+    private final DiaryTombstoneRepository diaryTombstoneRepository;
+    private final DiaryIdAliasRepository diaryIdAliasRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final DiaryEditSessionRegistry diaryEditSessionRegistry;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock;
 
     @Override
     @Transactional
-    public DiaryResponse createDiary(Long userId, DiaryRequest request) {
+    public DiaryResponse createDiary(@ShardKey(ShardKey.Type.USER) Long userId, DiaryRequest request) {
+        stickerCatalog.validate(request.getStickers());
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         Diary diary = Diary.builder()
                 .title(request.getTitle())
-                .memo(request.getMemo())
+                .memo(diaryMemoEncoder.encode(request.getMemo()))
                 .date(request.getDate())
                 .genre(request.getGenre())
                 .isPublic(request.isPublic())
                 .user(user)
                 .build();
+        if (diary.isPublic()) {
+            diary.markPublished(publishedAt());
+        }
 
         Diary savedDiary = diaryRepository.save(diary);
 
@@ -49,7 +123,7 @@ public class DiaryServiceImpl implements DiaryService {
             for (StickerRequest stickerRequest : request.getStickers()) {
                 Sticker sticker = Sticker.builder()
                         .type(stickerRequest.getType())
-                        .src(stickerRequest.getSrc())
+                        .asset(stickerAssetService.getReference(stickerRequest.getSrc()))
                         .x(stickerRequest.getX())
                         .y(stickerRequest.getY())
                         .width(stickerRequest.getWidth())
@@ -63,137 +137,449 @@ public class DiaryServiceImpl implements DiaryService {
             }
         }
 
+        domainEventPublisher.publish(new DiaryCreatedEvent(savedDiary.getId(), userId, savedDiary.getTitle(),
+                savedDiary.getLikeCount(), savedDiary.getPublishedAt()));
         return DiaryResponse.from(savedDiary);
     }
 
     @Override
-    public DiaryResponse getDiary(Long diaryId) {
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new DiaryNotFoundException(diaryId));
-        return DiaryResponse.from(diary);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DiaryResponse getDiary(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        return readAfterFlush(diaryId, () -> readThawing(diaryId, DiaryResponse::from));
     }
 
     @Override
-    public DiaryResponse getPublicDiary(Long diaryId) {
-        Diary diary = diaryRepository.findByIdAndIsPublicTrue(diaryId)
-                .orElseThrow(() -> new DiaryNotFoundException("공개된 다이어리를 찾을 수 없습니다."));
-        return DiaryResponse.from(diary);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DiaryResponse getCompactDiary(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        return readAfterFlush(diaryId, () -> readThawing(diaryId, DiaryResponse::compactFrom));
     }
 
     @Override
-    public List<DiaryResponse> getUserDiaries(Long userId) {
-        return diaryRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(DiaryResponse::summaryFrom)
-                .toList();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DiaryResponse getPublicDiary(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        return readAfterFlush(diaryId, () -> diaryRepository.findByIdAndIsPublicTrue(diaryId)
+                .map(DiaryResponse::from)
+                .orElseThrow(() -> new DiaryNotFoundException("공개된 다이어리를 찾을 수 없습니다.")));
     }
 
     @Override
-    public List<DiaryResponse> getTrashDiaries(Long userId) {
-        return diaryRepository.findByUserIdAndIsDeletedTrueOrderByDeletedAtDesc(userId)
-                .stream()
-                .map(DiaryResponse::summaryFrom)
-                .toList();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getPublicRenderVersion(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        return readAfterFlush(diaryId, () -> diaryJdbcRepository.findPublicRenderVersion(diaryId)
+                .orElseThrow(() -> new DiaryNotFoundException("공개된 다이어리를 찾을 수 없습니다.")));
+    }
+
+    @Override
+    public Optional<Long> findMovedDiaryId(Long diaryId) {
+        // 별칭은 전역 테이블이라 샤드 키 없이 0번 샤드에서 읽는다
+        return diaryIdAliasRepository.findById(diaryId).map(DiaryIdAlias::getNewId);
+    }
+
+    @Override
+    public List<DiaryResponse> getUserDiaries(@ShardKey(ShardKey.Type.USER) Long userId) {
+        // 오래되어 보관한 다이어리도 목록에는 그대로 보인다
+        return merged(diaryRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(userId),
+                archivedDiaryRepository.findByUserIdAndReasonOrderByCreatedAtDesc(userId, DiaryArchiveReason.AGED),
+                Comparator.comparing(DiaryResponse::getCreatedAt).reversed());
+    }
+
+    @Override
+    public List<DiaryResponse> getTrashDiaries(@ShardKey(ShardKey.Type.USER) Long userId) {
+        return archivedSummaries(
+                archivedDiaryRepository.findByUserIdAndReasonOrderByDeletedAtDesc(userId, DiaryArchiveReason.TRASHED));
     }
 
     @Override
     @Transactional
-    public DiaryResponse updateDiary(Long diaryId, DiaryRequest request) {
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new DiaryNotFoundException(diaryId));
+    public DiaryResponse updateDiary(@ShardKey(ShardKey.Type.DIARY) Long diaryId, DiaryRequest request) {
+        stickerCatalog.validate(request.getStickers());
 
-        diary.updateTitle(request.getTitle());
-        diary.updateMemo(request.getMemo());
-        diary.updateDate(request.getDate());
-        diary.updateGenre(request.getGenre());
-        diary.updateIsPublic(request.isPublic());
+        Diary diary = findDiaryThawing(diaryId);
+        DiaryRevisionState before = DiaryRevisionState.of(diary);
 
-        // 기존 스티커 삭제 후 새로 추가
-        stickerRepository.deleteByDiaryId(diaryId);
-        diary.getStickers().clear();
+        boolean keepPublic = false;
+        Long expectedVersion = request.getVersion();
+        if (expectedVersion != null && expectedVersion != diary.getVersion()) {
+            // 클라이언트가 본 뒤에 내용이 바뀌었으면 어느 쪽을 남길지 서버가 정할 수 없다
+            if (expectedVersion > diary.getVersion() || diary.getContentVersion() > expectedVersion) {
+                throw new VersionConflictException("다이어리", diaryId, diary.getVersion());
+            }
+            // 그 사이 바뀐 것이 공개 여부/휴지통뿐이면 내용은 그대로 적용한다.
+            // 공개 여부가 바뀌었는데 요청 값과 다르면 요청 값은 클라이언트가 보던 옛 값이므로 현재 값을 유지한다.
+            keepPublic = diary.getPublicVersion() > expectedVersion;
+        }
 
-        if (request.getStickers() != null) {
-            for (StickerRequest stickerRequest : request.getStickers()) {
-                Sticker sticker = Sticker.builder()
-                        .type(stickerRequest.getType())
-                        .src(stickerRequest.getSrc())
-                        .x(stickerRequest.getX())
-                        .y(stickerRequest.getY())
-                        .width(stickerRequest.getWidth())
-                        .height(stickerRequest.getHeight())
-                        .rotation(stickerRequest.getRotation())
-                        .zIndex(stickerRequest.getZIndex())
-                        .diary(diary)
-                        .build();
-                stickerRepository.save(sticker);
-                diary.addSticker(sticker);
+        // 읽은 뒤 다른 요청이 먼저 커밋했으면 반영 중에 충돌이 드러난다. 응답에 올라간 버전을 담기 위해서도 여기서 반영한다
+        try {
+            diary.updateTitle(request.getTitle());
+            diary.updateMemo(diaryMemoEncoder.encode(request.getMemo()));
+            diary.updateDate(request.getDate());
+            diary.updateGenre(request.getGenre());
+            if (!keepPublic) {
+                diary.updateIsPublic(request.isPublic());
             }
+            diary.markContentChanged();
+            replaceStickers(diary, request.getStickers());
+            markStickersReplaced(diary, before);
+            diaryRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new VersionConflictException("다이어리", diaryId,
+                    diaryJdbcRepository.findVersion(diaryId).orElseThrow(() -> new DiaryNotFoundException(diaryId)));
         }
+        diaryRevisionRecorder.record(diaryId, before, DiaryRevisionState.of(diary));
+        // 공동 편집 중인 편집자는 사라진 스티커 ID를 들고 있다
+        AfterCommit.run(() -> diaryEditSessionRegistry.resync(diaryId));
 
+        sharedDiaryResponseCache.evict(diaryId);
+        domainEventPublisher.publish(new DiaryUpdatedEvent(diaryId, diary.getUser().getId(), diary.getTitle(),
+                diary.getLikeCount(), diary.isPublic(), diary.isDeleted()));
         return DiaryResponse.from(diary);
     }
 
+    @Override
+    public List<DiaryRevisionResponse> getRevisions(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        return readThawing(diaryId, diary -> diaryRevisionRepository.findByDiaryIdOrderByRevisionDesc(diaryId)
+                .stream()
+                .map(DiaryRevisionResponse::from)
+                .toList());
+    }
+
     @Override
     @Transactional
-    public void moveToTrash(Long diaryId) {
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new DiaryNotFoundException(diaryId));
-        diary.moveToTrash();
+    public DiaryResponse restoreRevision(@ShardKey(ShardKey.Type.DIARY) Long diaryId, int revision) {
+        Diary diary = findDiaryThawing(diaryId);
+        DiaryRevisionState target = diaryRevisionRecorder.reconstruct(diaryId, revision)
+                .orElseThrow(() -> new DiaryRevisionNotFoundException(diaryId, revision));
+        DiaryRevisionState before = DiaryRevisionState.of(diary);
+
+        try {
+            diary.updateTitle(target.title());
+            diary.updateMemo(diaryMemoEncoder.encode(target.memo()));
+            diary.updateDate(target.date());
+            diary.updateGenre(target.genre());
+            diary.markContentChanged();
+            restoreStickers(diary, target.stickers());
+            markStickersReplaced(diary, before);
+            diaryRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new VersionConflictException("다이어리", diaryId,
+                    diaryJdbcRepository.findVersion(diaryId).orElseThrow(() -> new DiaryNotFoundException(diaryId)));
+        }
+        diaryRevisionRecorder.record(diaryId, before, DiaryRevisionState.of(diary));
+        AfterCommit.run(() -> diaryEditSessionRegistry.resync(diaryId));
+
+        sharedDiaryResponseCache.evict(diaryId);
+        domainEventPublisher.publish(new DiaryUpdatedEvent(diaryId, diary.getUser().getId(), diary.getTitle(),
+                diary.getLikeCount(), diary.isPublic(), diary.isDeleted()));
+        return DiaryResponse.from(diary);
     }
 
     @Override
     @Transactional
-    public void restoreFromTrash(Long diaryId) {
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new DiaryNotFoundException(diaryId));
-        diary.restore();
+    public void moveToTrash(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        // 스티커를 옮기기 전에 자동 저장 중인 변경을 반영한다
+        stickerAutosaveBuffer.flush(diaryId);
+        Diary diary = findDiaryThawing(diaryId);
+        Long userId = diary.getUser().getId();
+
+        // 휴지통의 다이어리는 diaries 에서 빼서 보관 테이블로 옮긴다
+        diaryRepository.flush();
+        LocalDateTime now = LocalDateTime.now(clock);
+        diaryArchiveJdbcRepository.archive(List.of(diaryId), DiaryArchiveReason.TRASHED, now, now);
+        recordTombstone(diaryId, userId, true, now);
+        sharedDiaryResponseCache.evict(diaryId);
+        domainEventPublisher.publish(new DiaryTrashedEvent(diaryId, userId));
     }
 
     @Override
     @Transactional
-    public void deleteDiary(Long diaryId) {
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new DiaryNotFoundException(diaryId));
-        diaryRepository.delete(diary);
+    public void restoreFromTrash(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        ArchivedDiary archived = archivedDiaryRepository.findById(diaryId).orElse(null);
+        if (archived == null) {
+            // 휴지통에 없으면 이미 복원된 다이어리다
+            if (!diaryRepository.existsById(diaryId)) {
+                throw new DiaryNotFoundException(diaryId);
+            }
+            return;
+        }
+        diaryArchiveJdbcRepository.restore(List.of(diaryId));
+        // 휴지통으로 옮길 때 클라이언트가 지웠으므로 스티커까지 다시 받도록 표시한다
+        diaryTombstoneRepository.deleteByDiaryId(diaryId);
+        diaryJdbcRepository.markStickersChanged(List.of(diaryId), LocalDateTime.now(clock));
+        sharedDiaryResponseCache.evict(diaryId);
+        domainEventPublisher.publish(new DiaryRestoredEvent(diaryId, archived.getUserId(), archived.getTitle(),
+                archived.getLikeCount()));
+    }
+
+    @Override
+    @Transactional
+    public void deleteDiary(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        Long userId;
+        Diary diary = diaryRepository.findById(diaryId).orElse(null);
+        if (diary != null) {
+            userId = diary.getUser().getId();
+            diaryRepository.delete(diary);
+        } else {
+            // 휴지통이나 보관 테이블에 있는 다이어리
+            ArchivedDiary archived = archivedDiaryRepository.findById(diaryId)
+                    .orElseThrow(() -> new DiaryNotFoundException(diaryId));
+            userId = archived.getUserId();
+            diaryArchiveJdbcRepository.delete(diaryId);
+        }
+        diaryRevisionRepository.deleteByDiaryId(diaryId);
+        recordTombstone(diaryId, userId, false, LocalDateTime.now(clock));
+        stickerAutosaveBuffer.discard(diaryId);
+        previewImageCache.evict(diaryId);
+        sharedDiaryResponseCache.evict(diaryId);
+        domainEventPublisher.publish(new DiaryDeletedEvent(diaryId, userId));
     }
 
     @Override
     @Transactional
-    public void toggleLike(Long diaryId) {
+    public void toggleLike(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        if (diaryRepository.incrementLikeCount(diaryId, LocalDateTime.now(clock)) == 0) {
+            throw new DiaryNotFoundException(diaryId);
+        }
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new DiaryNotFoundException(diaryId));
-        diary.incrementLikeCount();
+        sharedDiaryResponseCache.evict(diaryId);
+        domainEventPublisher.publish(new DiaryLikedEvent(diaryId, diary.getUser().getId(), diary.getTitle(),
+                diary.getLikeCount(), diary.isDeleted()));
     }
 
     @Override
     @Transactional
-    public void togglePublic(Long diaryId) {
+    public void togglePublic(@ShardKey(ShardKey.Type.DIARY) Long diaryId) {
+        if (diaryRepository.togglePublic(diaryId, publishedAt()) == 0) {
+            throw new DiaryNotFoundException(diaryId);
+        }
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new DiaryNotFoundException(diaryId));
-        diary.updateIsPublic(!diary.isPublic());
+        if (diary.isPublic()) {
+            domainEventPublisher.publish(new DiaryPublishedEvent(diaryId, diary.getUser().getId(),
+                    diary.getPublishedAt()));
+        } else {
+            domainEventPublisher.publish(new DiaryUnpublishedEvent(diaryId, diary.getUser().getId()));
+        }
+        sharedDiaryResponseCache.evict(diaryId);
     }
 
     @Override
-    public List<DiaryResponse> searchDiaries(Long userId, String keyword) {
-        return diaryRepository.searchByKeyword(userId, keyword)
-                .stream()
-                .map(DiaryResponse::summaryFrom)
-                .toList();
+    public List<DiaryResponse> searchDiaries(@ShardKey(ShardKey.Type.USER) Long userId, String keyword) {
+        return withAged(diaryRepository.searchByKeyword(userId, keyword),
+                new DiarySearchCondition(userId, keyword, null, null, null),
+                Comparator.comparing(DiaryResponse::getCreatedAt).reversed());
     }
 
     @Override
-    public List<DiaryResponse> searchByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-        return diaryRepository.findByDateRange(userId, startDate, endDate)
-                .stream()
-                .map(DiaryResponse::summaryFrom)
-                .toList();
+    public List<DiaryResponse> searchByDateRange(@ShardKey(ShardKey.Type.USER) Long userId, LocalDate startDate, LocalDate endDate) {
+        return withAged(diaryRepository.findByDateRange(userId, startDate, endDate),
+                new DiarySearchCondition(userId, null, startDate, endDate, null),
+                Comparator.comparing(DiaryResponse::getDate).reversed());
     }
 
     @Override
-    public List<DiaryResponse> searchByGenre(Long userId, String genre) {
-        return diaryRepository.findByUserIdAndIsDeletedFalseAndGenreOrderByCreatedAtDesc(userId, genre)
-                .stream()
-                .map(DiaryResponse::summaryFrom)
+    public List<DiaryResponse> searchByGenre(@ShardKey(ShardKey.Type.USER) Long userId, String genre) {
+        return withAged(diaryRepository.findByUserIdAndIsDeletedFalseAndGenreOrderByCreatedAtDesc(userId, genre),
+                new DiarySearchCondition(userId, null, null, null, genre),
+                Comparator.comparing(DiaryResponse::getCreatedAt).reversed());
+    }
+
+    @Override
+    public DiaryFacetedSearchResponse searchFaceted(@ShardKey(ShardKey.Type.USER) Long userId, String keyword, LocalDate startDate,
+                                                    LocalDate endDate, String genre, String cursor, int size) {
+        DiarySearchCondition condition = new DiarySearchCondition(userId, keyword, startDate, endDate, genre);
+        int limit = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다. 오래되어 보관한 다이어리도 같은 커서로 읽어 ID 역순으로 합친다
+        Long cursorId = parseCursor(cursor);
+        List<DiaryResponse> diaries = Stream.concat(
+                        diaryRepository.search(condition, cursorId, limit + 1).stream()
+                                .map(DiaryResponse::summaryFrom),
+                        archivedSummaries(diaryRepository.searchAged(condition, cursorId, limit + 1)).stream())
+                .sorted(Comparator.comparing(DiaryResponse::getId).reversed())
+                .limit(limit + 1)
                 .toList();
+        boolean hasNext = diaries.size() > limit;
+        List<DiaryResponse> page = hasNext ? diaries.subList(0, limit) : diaries;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+
+        // (장르, 연, 월) 조합 건수 한 번만 읽어 축별로 합산한다
+        long total = 0;
+        Map<String, Long> genres = new HashMap<>();
+        Map<Integer, Long> years = new TreeMap<>(Comparator.reverseOrder());
+        Map<String, Long> months = new TreeMap<>(Comparator.reverseOrder());
+        for (DiaryFacetCount row : diaryRepository.countFacets(condition)) {
+            total += row.count();
+            if (row.genre() != null) {
+                genres.merge(row.genre(), row.count(), Long::sum);
+            }
+            if (row.year() != null) {
+                years.merge(row.year(), row.count(), Long::sum);
+                months.merge(String.format("%04d-%02d", row.year(), row.month()), row.count(), Long::sum);
+            }
+        }
+
+        return DiaryFacetedSearchResponse.builder()
+                .total(total)
+                .hits(page)
+                .nextCursor(nextCursor)
+                .genres(genres.entrySet().stream()
+                        .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.comparingByKey()))
+                        .map(entry -> new FacetCount(entry.getKey(), entry.getValue()))
+                        .toList())
+                .years(years.entrySet().stream()
+                        .map(entry -> new FacetCount(String.valueOf(entry.getKey()), entry.getValue()))
+                        .toList())
+                .months(months.entrySet().stream()
+                        .map(entry -> new FacetCount(entry.getKey(), entry.getValue()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 자동 저장 중인 스티커 변경을 먼저 반영하고 읽기 전용 트랜잭션에서 읽는다.
+     * 반영은 쓰기이므로 읽기 전용 트랜잭션이 열리기 전에 자체 트랜잭션으로 끝낸다 (커넥션을 둘 잡지 않는다).
+     */
+    private <T> T readAfterFlush(Long diaryId, Supplier<T> reader) {
+        stickerAutosaveBuffer.flush(diaryId);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> reader.get());
+    }
+
+    // 보관 중인 다이어리는 diaries 에 없으므로 오래되어 보관한 다이어리면 되돌린 뒤 다시 읽는다 (쓰기 트랜잭션용)
+    private Diary findDiaryThawing(Long diaryId) {
+        return diaryRepository.findById(diaryId)
+                .or(() -> diaryArchiver.thaw(diaryId) ? diaryRepository.findById(diaryId) : Optional.empty())
+                .orElseThrow(() -> new DiaryNotFoundException(diaryId));
+    }
+
+    /**
+     * 읽기 전용 조회용. 보관 중이면 되돌리는 쓰기 트랜잭션 안에서 다시 읽고 응답까지 만든다.
+     * 바깥 읽기 전용 트랜잭션은 이미 복제본에 붙어 있어, 방금 주 DB에 되돌린 행이 복제 지연 동안 보이지 않는다.
+     */
+    private <T> T readThawing(Long diaryId, Function<Diary, T> reader) {
+        Optional<Diary> diary = diaryRepository.findById(diaryId);
+        if (diary.isPresent()) {
+            return reader.apply(diary.get());
+        }
+        return diaryArchiver.thaw(diaryId, () -> diaryRepository.findById(diaryId).map(reader))
+                .orElseThrow(() -> new DiaryNotFoundException(diaryId));
+    }
+
+    // 오래되어 보관한 다이어리 중 같은 조건에 맞는 것을 검색 결과에 합친다
+    private List<DiaryResponse> withAged(List<Diary> diaries, DiarySearchCondition condition,
+                                         Comparator<DiaryResponse> order) {
+        return merged(diaries, diaryRepository.searchAged(condition, Long.MAX_VALUE, Integer.MAX_VALUE), order);
+    }
+
+    private List<DiaryResponse> merged(List<Diary> diaries, List<ArchivedDiary> aged, Comparator<DiaryResponse> order) {
+        List<DiaryResponse> hot = diaries.stream().map(DiaryResponse::summaryFrom).toList();
+        if (aged.isEmpty()) {
+            return hot;
+        }
+        return Stream.concat(hot.stream(), archivedSummaries(aged).stream())
+                .sorted(order)
+                .toList();
+    }
+
+    private List<DiaryResponse> archivedSummaries(List<ArchivedDiary> diaries) {
+        if (diaries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = diaries.stream().map(ArchivedDiary::getId).toList();
+        Map<Long, Long> stickerCounts = new HashMap<>();
+        for (Object[] row : archivedStickerRepository.countByDiaryIds(ids)) {
+            stickerCounts.put((Long) row[0], (Long) row[1]);
+        }
+        return diaries.stream()
+                .map(diary -> DiaryResponse.archivedSummaryFrom(diary,
+                        stickerCounts.getOrDefault(diary.getId(), 0L).intValue()))
+                .toList();
+    }
+
+    private static Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    // 기존 스티커 삭제 후 새로 추가
+    private void replaceStickers(Diary diary, List<StickerRequest> stickers) {
+        clearStickers(diary);
+
+        if (stickers != null) {
+            for (StickerRequest stickerRequest : stickers) {
+                Sticker sticker = Sticker.builder()
+                        .type(stickerRequest.getType())
+                        .asset(stickerAssetService.getReference(stickerRequest.getSrc()))
+                        .x(stickerRequest.getX())
+                        .y(stickerRequest.getY())
+                        .width(stickerRequest.getWidth())
+                        .height(stickerRequest.getHeight())
+                        .rotation(stickerRequest.getRotation())
+                        .zIndex(stickerRequest.getZIndex())
+                        .diary(diary)
+                        .build();
+                stickerRepository.save(sticker);
+                diary.addSticker(sticker);
+            }
+        }
+    }
+
+    private void restoreStickers(Diary diary, List<DiaryRevisionState.StickerState> stickers) {
+        clearStickers(diary);
+
+        for (DiaryRevisionState.StickerState state : stickers) {
+            Sticker sticker = Sticker.builder()
+                    .type(state.type())
+                    .asset(stickerAssetService.getReference(state.src()))
+                    .x(state.x())
+                    .y(state.y())
+                    .width(state.width())
+                    .height(state.height())
+                    .rotation(state.rotation())
+                    .zIndex(state.zIndex())
+                    .diary(diary)
+                    .build();
+            stickerRepository.save(sticker);
+            diary.addSticker(sticker);
+        }
+    }
+
+    private void clearStickers(Diary diary) {
+        stickerAutosaveBuffer.discard(diary.getId());
+        stickerRepository.deleteByDiaryId(diary.getId());
+        diary.getStickers().clear();
+    }
+
+    // 스티커는 수정마다 새로 만들어지므로 내용이 실제로 달라졌을 때만 동기화 응답에 다시 싣는다
+    // 내용이 같아도 스티커 행을 새로 만들어 ID가 바뀌므로, 전후 어느 쪽이든 스티커가 있었으면 바뀐 것으로 본다
+    private void markStickersReplaced(Diary diary, DiaryRevisionState before) {
+        if (!before.stickers().isEmpty() || !diary.getStickers().isEmpty()) {
+            diary.markStickersChanged(LocalDateTime.now(clock));
+        }
+    }
+
+    // 다이어리마다 마지막 기록 하나만 남긴다
+    private void recordTombstone(Long diaryId, Long userId, boolean trashed, LocalDateTime now) {
+        diaryTombstoneRepository.deleteByDiaryId(diaryId);
+        diaryTombstoneRepository.save(DiaryTombstone.builder()
+                .userId(userId)
+                .diaryId(diaryId)
+                .trashed(trashed)
+                .deletedAt(now)
+                .build());
+    }
+
+    // DB 타임스탬프 정밀도(마이크로초)에 맞춰 잘라 타임라인 커서와 어긋나지 않게 한다
+    private LocalDateTime publishedAt() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
     }
 }
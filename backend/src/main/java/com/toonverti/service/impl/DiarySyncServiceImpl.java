@@ -0,0 +1,216 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.common.shard.ShardKey;
+import com.toonverti.domain.diary.Diary;
+import com.toonverti.domain.diary.DiaryRepository;
+import com.toonverti.domain.diary.DiaryTombstone;
+import com.toonverti.domain.diary.DiaryTombstoneRepository;
+import com.toonverti.domain.sticker.Sticker;
+import com.toonverti.domain.sticker.StickerRepository;
+import com.toonverti.dto.diary.DiaryResponse;
+import com.toonverti.dto.diary.DiarySyncResponse;
+import com.toonverti.exception.InvalidCursorException;
+import com.toonverti.exception.SyncTokenExpiredException;
+import com.toonverti.service.DiarySyncService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 캐시를 가진 클라이언트용 다이어리 동기화
+ *
+ * 다이어리는 (updated_at, id), 삭제 기록은 (deleted_at, id) 순서로 각자 커서를 두고 페이지마다 이어 읽는다.
+ * 커밋이 늦은 트랜잭션의 변경을 건너뛰지 않도록 settle-ms 이내에 바뀐 행은 다음 요청으로 미룬다.
+ * 이 방식은 시각을 찍은 뒤 settle-ms 안에 커밋된다는 가정에 기대므로, 트랜잭션 제한 시간
+ * (spring.transaction.default-timeout)이 settle-ms 보다 짧지 않으면 시작하지 않는다.
+ * 일괄 저장처럼 오래 걸리는 작업은 배치마다 트랜잭션 안에서 시각을 찍어야 한다.
+ * 삭제 기록이 없는 동안에도 삭제 커서는 until 까지 당겨 두어 주기적으로 동기화하는 토큰이 만료되지 않게 한다.
+ * 스티커는 토큰을 받은 동기화 이후에 바뀐 다이어리만 싣는다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DiarySyncServiceImpl implements DiarySyncService {
+
+    private static final int MAX_SYNC_PAGE_SIZE = 500;
+    private static final LocalDateTime SYNC_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryTombstoneRepository diaryTombstoneRepository;
+    private final StickerRepository stickerRepository;
+    private final Clock clock;
+    private final Duration settle;
+    private final Duration tombstoneRetention;
+
+    public DiarySyncServiceImpl(DiaryRepository diaryRepository,
+                                DiaryTombstoneRepository diaryTombstoneRepository,
+                                StickerRepository stickerRepository,
+                                Clock clock,
+                                @Value("${diary.sync.settle-ms:15000}") long settleMs,
+                                @Value("${diary.sync.tombstone-retention-days:30}") int tombstoneRetentionDays,
+                                @Value("${spring.transaction.default-timeout:0s}") Duration transactionTimeout) {
+        this.diaryRepository = diaryRepository;
+        this.diaryTombstoneRepository = diaryTombstoneRepository;
+        this.stickerRepository = stickerRepository;
+        this.clock = clock;
+        this.settle = Duration.ofMillis(settleMs);
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+        // 제한 시간보다 오래 열린 트랜잭션이 없어야 settle 창 뒤에 커밋되는 변경이 없다
+        if (!transactionTimeout.isPositive() || settle.compareTo(transactionTimeout) <= 0) {
+            throw new IllegalStateException("diary.sync.settle-ms(" + settleMs + ")는 "
+                    + "spring.transaction.default-timeout(" + transactionTimeout + ")보다 길어야 합니다");
+        }
+    }
+
+    @Override
+    public DiarySyncResponse sync(@ShardKey(ShardKey.Type.USER) Long userId, String token, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SYNC_PAGE_SIZE));
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime until = now.minus(settle);
+
+        SyncToken position = token == null || token.isBlank() ? SyncToken.initial(until) : SyncToken.parse(token);
+        // 보관 기간이 지난 삭제 기록은 지워졌으므로 그 전에 받은 토큰으로는 삭제를 놓칠 수 있다
+        if (position.deletedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new SyncTokenExpiredException(token);
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+        List<Diary> changed = diaryRepository.findChangedSince(userId, position.changedAt(), position.changedId(),
+                until, PageRequest.of(0, limit + 1));
+        List<DiaryTombstone> deleted = diaryTombstoneRepository.findSince(userId, position.deletedAt(),
+                position.deletedId(), until, PageRequest.of(0, limit + 1));
+        boolean moreDeleted = deleted.size() > limit;
+        boolean hasMore = changed.size() > limit || moreDeleted;
+        if (changed.size() > limit) {
+            changed = changed.subList(0, limit);
+        }
+        if (moreDeleted) {
+            deleted = deleted.subList(0, limit);
+        }
+
+        SyncToken next = position;
+        if (!changed.isEmpty()) {
+            Diary last = changed.get(changed.size() - 1);
+            next = next.withChanged(last.getUpdatedAt(), last.getId());
+        }
+        if (!moreDeleted) {
+            // until 앞의 삭제 기록은 모두 받았으므로, 삭제가 없어도 커서를 당겨 토큰이 보관 기간을 넘기지 않게 한다
+            next = next.withDeleted(until, 0L);
+        } else {
+            DiaryTombstone last = deleted.get(deleted.size() - 1);
+            next = next.withDeleted(last.getDeletedAt(), last.getId());
+        }
+        if (!hasMore) {
+            // 여기까지 받았으니 다음 동기화는 이 시점 뒤에 바뀐 스티커만 싣는다
+            next = next.withSince(next.changedAt());
+        }
+
+        return DiarySyncResponse.builder()
+                .changed(toResponses(changed, position.since()))
+                .deleted(deleted.stream().map(DiarySyncResponse.Tombstone::from).toList())
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private List<DiaryResponse> toResponses(List<Diary> diaries, LocalDateTime since) {
+        if (diaries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = diaries.stream().map(Diary::getId).toList();
+        Map<Long, Integer> stickerCounts = new HashMap<>();
+        for (Object[] row : stickerRepository.countByDiaryIds(ids)) {
+            stickerCounts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+
+        List<Long> stickerDiaryIds = diaries.stream()
+                .filter(diary -> stickersChangedAfter(diary, since))
+                .map(Diary::getId)
+                .toList();
+        Map<Long, List<Sticker>> stickers = new HashMap<>();
+        if (!stickerDiaryIds.isEmpty()) {
+            for (Sticker sticker : stickerRepository.findWithAssetByDiaryIdIn(stickerDiaryIds)) {
+                stickers.computeIfAbsent(sticker.getDiary().getId(), id -> new ArrayList<>()).add(sticker);
+            }
+        }
+
+        return diaries.stream()
+                .map(diary -> DiaryResponse.syncFrom(diary,
+                        stickerDiaryIds.contains(diary.getId())
+                                ? stickers.getOrDefault(diary.getId(), List.of())
+                                : null,
+                        stickerCounts.getOrDefault(diary.getId(), 0)))
+                .toList();
+    }
+
+    // 그 뒤에 만들어졌거나 스티커가 바뀐 다이어리
+    private static boolean stickersChangedAfter(Diary diary, LocalDateTime since) {
+        return diary.getCreatedAt().isAfter(since)
+                || (diary.getStickersUpdatedAt() != null && diary.getStickersUpdatedAt().isAfter(since));
+    }
+
+    /**
+     * 동기화 위치, 마이크로초 키를 '_' 로 이어 붙인 문자열로 주고받는다
+     *
+     * @param since 스티커를 실을지 정하는 기준 시각 (앞선 동기화를 끝낸 위치)
+     */
+    private record SyncToken(LocalDateTime since, LocalDateTime changedAt, long changedId,
+                             LocalDateTime deletedAt, long deletedId) {
+
+        // 처음 받는 클라이언트는 지금까지의 삭제 기록이 필요 없다
+        static SyncToken initial(LocalDateTime until) {
+            return new SyncToken(SYNC_START, SYNC_START, 0L, until, 0L);
+        }
+
+        static SyncToken parse(String token) {
+            String[] parts = token.split("_");
+            if (parts.length != 5) {
+                throw new InvalidCursorException(token);
+            }
+            try {
+                return new SyncToken(fromKey(Long.parseLong(parts[0])),
+                        fromKey(Long.parseLong(parts[1])), Long.parseLong(parts[2]),
+                        fromKey(Long.parseLong(parts[3])), Long.parseLong(parts[4]));
+            } catch (RuntimeException e) {
+                throw new InvalidCursorException(token);
+            }
+        }
+
+        String encode() {
+            return toKey(since) + "_" + toKey(changedAt) + "_" + changedId + "_" + toKey(deletedAt) + "_" + deletedId;
+        }
+
+        SyncToken withSince(LocalDateTime since) {
+            return new SyncToken(since, changedAt, changedId, deletedAt, deletedId);
+        }
+
+        SyncToken withChanged(LocalDateTime changedAt, long changedId) {
+            return new SyncToken(since, changedAt, changedId, deletedAt, deletedId);
+        }
+
+        SyncToken withDeleted(LocalDateTime deletedAt, long deletedId) {
+            return new SyncToken(since, changedAt, changedId, deletedAt, deletedId);
+        }
+
+        // DB 타임스탬프 정밀도와 같은 마이크로초 단위
+        private static long toKey(LocalDateTime dateTime) {
+            Instant instant = dateTime.toInstant(ZoneOffset.UTC);
+            return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+        }
+
+        private static LocalDateTime fromKey(long key) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(key, 1_000_000L),
+                    (int) Math.floorMod(key, 1_000_000L) * 1_000, ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.domain.friend.Friendship;
+import com.toonverti.domain.friend.FriendshipRepository;
+import com.toonverti.domain.user.User;
+import com.toonverti.domain.user.UserRepository;
+import com.toonverti.dto.friend.FriendRelationResponse;
+import com.toonverti.dto.friend.FriendRequestResponse;
+import com.toonverti.dto.friend.FriendResponse;
+import com.toonverti.exception.DuplicateFriendRequestException;
+import com.toonverti.exception.FriendshipNotFoundException;
+import com.toonverti.exception.InvalidFriendRequestException;
+import com.toonverti.exception.UserNotFoundException;
+import com.toonverti.service.FriendService;
+import com.toonverti.service.TimelineService;
+import com.toonverti.service.friend.FriendGraphIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FriendServiceImpl implements FriendService {
+
+    private final FriendshipRepository friendshipRepository;
+    private final UserRepository userRepository;
+    private final FriendGraphIndex friendGraphIndex;
+    private final TimelineService timelineService;
+    private final Clock clock;
+
+    @Override
+    @Transactional
+    public FriendRequestResponse sendRequest(Long userId, Long targetUserId) {
+        if (userId.equals(targetUserId)) {
+            throw new InvalidFriendRequestException("자기 자신에게 친구 요청을 보낼 수 없습니다.");
+        }
+        User requester = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+        User addressee = userRepository.findById(targetUserId)
+                .orElseThrow(() -> new UserNotFoundException(targetUserId));
+
+        Friendship existing = friendshipRepository.findBetween(userId, targetUserId).orElse(null);
+        if (existing != null) {
+            if (existing.isAccepted()) {
+                throw new DuplicateFriendRequestException("이미 친구인 사용자입니다. ID: " + targetUserId);
+            }
+            if (existing.getRequester().getId().equals(userId)) {
+                throw new DuplicateFriendRequestException("이미 친구 요청을 보낸 사용자입니다. ID: " + targetUserId);
+            }
+            // 상대가 먼저 보낸 요청이 있으면 맞요청으로 보고 수락한다
+            return accept(existing);
+        }
+
+        Friendship friendship = Friendship.builder()
+                .requester(requester)
+                .addressee(addressee)
+                .build();
+        try {
+            return FriendRequestResponse.from(friendshipRepository.saveAndFlush(friendship));
+        } catch (DataIntegrityViolationException e) {
+            // 양쪽에서 동시에 요청을 보내 상대 요청이 먼저 저장된 경우
+            throw new DuplicateFriendRequestException("이미 친구 요청이 있는 사용자입니다. ID: " + targetUserId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public FriendRequestResponse acceptRequest(Long userId, Long requestId) {
+        Friendship friendship = friendshipRepository.findById(requestId)
+                .orElseThrow(() -> new FriendshipNotFoundException(requestId));
+        if (!friendship.getAddressee().getId().equals(userId)) {
+            throw new InvalidFriendRequestException("본인이 받은 친구 요청만 수락할 수 있습니다.");
+        }
+        if (friendship.isAccepted()) {
+            throw new DuplicateFriendRequestException("이미 수락된 친구 요청입니다. ID: " + requestId);
+        }
+        return accept(friendship);
+    }
+
+    @Override
+    @Transactional
+    public void rejectRequest(Long userId, Long requestId) {
+        Friendship friendship = friendshipRepository.findById(requestId)
+                .orElseThrow(() -> new FriendshipNotFoundException(requestId));
+        if (friendship.isAccepted()) {
+            throw new InvalidFriendRequestException("이미 수락된 요청입니다. 친구 삭제를 이용해 주세요.");
+        }
+        if (!friendship.getAddressee().getId().equals(userId) && !friendship.getRequester().getId().equals(userId)) {
+            throw new InvalidFriendRequestException("본인과 관련된 친구 요청만 거절할 수 있습니다.");
+        }
+        friendshipRepository.delete(friendship);
+    }
+
+    @Override
+    @Transactional
+    public void removeFriend(Long userId, Long friendUserId) {
+        Friendship friendship = friendshipRepository.findBetween(userId, friendUserId)
+                .filter(Friendship::isAccepted)
+                .orElseThrow(() -> new FriendshipNotFoundException("친구 관계가 아닙니다. ID: " + friendUserId));
+        friendshipRepository.delete(friendship);
+        friendGraphIndex.unlink(userId, friendUserId);
+    }
+
+    @Override
+    public List<FriendResponse> getFriends(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        long[] friendIds = friendGraphIndex.friendsOf(userId);
+        if (friendIds.length == 0) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(friendIds.length);
+        for (long friendId : friendIds) {
+            ids.add(friendId);
+        }
+        return userRepository.findAllById(ids).stream()
+                .map(friend -> FriendResponse.of(friend, friendGraphIndex.mutualFriendCount(userId, friend.getId())))
+                .sorted(Comparator.comparing(FriendResponse::getNickname))
+                .toList();
+    }
+
+    @Override
+    public List<FriendRequestResponse> getPendingRequests(Long userId) {
+        return friendshipRepository.findPendingByAddresseeId(userId).stream()
+                .map(FriendRequestResponse::from)
+                .toList();
+    }
+
+    @Override
+    public boolean areFriends(Long userId, Long otherUserId) {
+        return friendGraphIndex.areFriends(userId, otherUserId);
+    }
+
+    @Override
+    public FriendRelationResponse getRelation(Long userId, Long otherUserId) {
+        return FriendRelationResponse.builder()
+                .userId(userId)
+                .otherUserId(otherUserId)
+                .friends(friendGraphIndex.areFriends(userId, otherUserId))
+                .mutualFriendCount(friendGraphIndex.mutualFriendCount(userId, otherUserId))
+                .build();
+    }
+
+    private FriendRequestResponse accept(Friendship friendship) {
+        friendship.accept(LocalDateTime.now(clock));
+        friendGraphIndex.link(friendship.getRequester().getId(), friendship.getAddressee().getId());
+        // 새 친구의 기존 공개 글이 보이도록 양쪽 타임라인을 다시 채운다
+        timelineService.invalidate(friendship.getRequester().getId());
+        timelineService.invalidate(friendship.getAddressee().getId());
+        return FriendRequestResponse.from(friendship);
+    }
+}
@@ -0,0 +1,206 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.common.response.CursorResponse;
+import com.toonverti.domain.library.*;
+import com.toonverti.domain.user.User;
+import com.toonverti.domain.user.UserRepository;
+import com.toonverti.domain.webtoon.WebtoonTitle;
+import com.toonverti.domain.webtoon.WebtoonTitleRepository;
+import com.toonverti.dto.library.*;
+import com.toonverti.dto.search.FacetCount;
+import com.toonverti.exception.*;
+import com.toonverti.service.LibraryService;
+import com.toonverti.service.WebtoonTitleService;
+import com.toonverti.service.autocomplete.AutocompleteIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LibraryServiceImpl implements LibraryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final LibraryCardRepository libraryCardRepository;
+    private final LibraryFolderRepository libraryFolderRepository;
+    private final WebtoonTitleRepository webtoonTitleRepository;
+    private final UserRepository userRepository;
+    private final WebtoonTitleService webtoonTitleService;
+    private final AutocompleteIndex autocompleteIndex;
+
+    @Override
+    @Transactional
+    public LibraryCardResponse addCard(Long userId, LibraryCardRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+
+        Long titleId = request.getTitleId() != null
+                ? request.getTitleId()
+                : webtoonTitleService.registerTitle(request.getTitle()).getId();
+        WebtoonTitle title = webtoonTitleRepository.findById(titleId)
+                .orElseThrow(() -> new WebtoonTitleNotFoundException(titleId));
+        if (libraryCardRepository.existsByUserIdAndTitleId(userId, titleId)) {
+            throw new DuplicateLibraryCardException(titleId);
+        }
+
+        LibraryCard card = LibraryCard.builder()
+                .user(user)
+                .title(title)
+                .status(request.getStatus())
+                .rating(request.getRating())
+                .folder(findOwnedFolder(userId, request.getFolderId()))
+                .build();
+        LibraryCard savedCard;
+        try {
+            savedCard = libraryCardRepository.saveAndFlush(card);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 작품을 동시에 담은 경우 (사용자 + 작품 유니크 키)
+            throw new DuplicateLibraryCardException(titleId);
+        }
+        webtoonTitleRepository.addLibraryCount(titleId, 1);
+        // 인기 순위가 바뀌었으므로 자동완성 카탈로그를 다음 주기에 갱신
+        autocompleteIndex.markTitlesDirty();
+        return LibraryCardResponse.from(savedCard);
+    }
+
+    @Override
+    public CursorResponse<LibraryCardResponse> getCards(Long userId, LibraryCardStatus status, Long folderId,
+                                                        String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long cursorId = parseCursor(cursor);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<LibraryCard> cards;
+        if (status != null && folderId != null) {
+            cards = libraryCardRepository.findByUserIdAndStatusAndFolderIdAndIdLessThanOrderByIdDesc(
+                    userId, status, folderId, cursorId, pageable);
+        } else if (status != null) {
+            cards = libraryCardRepository.findByUserIdAndStatusAndIdLessThanOrderByIdDesc(
+                    userId, status, cursorId, pageable);
+        } else if (folderId != null) {
+            cards = libraryCardRepository.findByUserIdAndFolderIdAndIdLessThanOrderByIdDesc(
+                    userId, folderId, cursorId, pageable);
+        } else {
+            cards = libraryCardRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursorId, pageable);
+        }
+
+        boolean hasNext = cards.size() > limit;
+        List<LibraryCard> page = hasNext ? cards.subList(0, limit) : cards;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+        return CursorResponse.of(page.stream().map(LibraryCardResponse::from).toList(), nextCursor);
+    }
+
+    @Override
+    public LibraryFacetResponse getFacets(Long userId) {
+        long total = 0;
+        Map<LibraryCardStatus, Long> statuses = new EnumMap<>(LibraryCardStatus.class);
+        Map<Long, Long> folders = new LinkedHashMap<>();
+        for (LibraryCardFacetCount row : libraryCardRepository.countFacets(userId)) {
+            total += row.getCount();
+            statuses.merge(row.getStatus(), row.getCount(), Long::sum);
+            folders.merge(row.getFolderId(), row.getCount(), Long::sum);
+        }
+
+        return LibraryFacetResponse.builder()
+                .total(total)
+                .statuses(statuses.entrySet().stream()
+                        .map(entry -> new FacetCount(entry.getKey().name(), entry.getValue()))
+                        .toList())
+                .folders(folders.entrySet().stream()
+                        .map(entry -> new FacetCount(
+                                entry.getKey() == null ? null : String.valueOf(entry.getKey()), entry.getValue()))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public LibraryCardResponse updateCard(Long cardId, LibraryCardUpdateRequest request) {
+        LibraryCard card = libraryCardRepository.findById(cardId)
+                .orElseThrow(() -> new LibraryCardNotFoundException(cardId));
+        LibraryFolder folder = findOwnedFolder(card.getUser().getId(), request.getFolderId());
+        card.update(request.getStatus(), request.getRating(), folder);
+        return LibraryCardResponse.from(card);
+    }
+
+    @Override
+    @Transactional
+    public void removeCard(Long cardId) {
+        LibraryCard card = libraryCardRepository.findById(cardId)
+                .orElseThrow(() -> new LibraryCardNotFoundException(cardId));
+        Long titleId = card.getTitle().getId();
+        libraryCardRepository.delete(card);
+        webtoonTitleRepository.addLibraryCount(titleId, -1);
+        autocompleteIndex.markTitlesDirty();
+    }
+
+    @Override
+    public List<LibraryFolderResponse> getFolders(Long userId) {
+        return libraryFolderRepository.findByUserIdOrderByIdAsc(userId).stream()
+                .map(LibraryFolderResponse::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public LibraryFolderResponse createFolder(Long userId, LibraryFolderRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+        LibraryFolder folder = LibraryFolder.builder()
+                .name(request.getName())
+                .color(request.getColor())
+                .user(user)
+                .build();
+        return LibraryFolderResponse.from(libraryFolderRepository.save(folder));
+    }
+
+    @Override
+    @Transactional
+    public LibraryFolderResponse updateFolder(Long folderId, LibraryFolderRequest request) {
+        LibraryFolder folder = libraryFolderRepository.findById(folderId)
+                .orElseThrow(() -> new LibraryFolderNotFoundException(folderId));
+        folder.update(request.getName(), request.getColor());
+        return LibraryFolderResponse.from(folder);
+    }
+
+    @Override
+    @Transactional
+    public void deleteFolder(Long folderId) {
+        LibraryFolder folder = libraryFolderRepository.findById(folderId)
+                .orElseThrow(() -> new LibraryFolderNotFoundException(folderId));
+        libraryCardRepository.clearFolder(folderId);
+        libraryFolderRepository.delete(folder);
+    }
+
+    // 다른 사용자의 폴더는 없는 폴더로 취급한다
+    private LibraryFolder findOwnedFolder(Long userId, Long folderId) {
+        if (folderId == null) {
+            return null;
+        }
+        return libraryFolderRepository.findById(folderId)
+                .filter(folder -> folder.getUser().getId().equals(userId))
+                .orElseThrow(() -> new LibraryFolderNotFoundException(folderId));
+    }
+
+    private static Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
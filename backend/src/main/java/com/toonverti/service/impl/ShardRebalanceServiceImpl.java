@@ -0,0 +1,373 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardReferenceReplicator;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.common.shard.ShardRowCopier;
+import com.toonverti.domain.diary.DiaryArchiveJdbcRepository;
+import com.toonverti.domain.diary.DiaryArchiveReason;
+import com.toonverti.domain.diary.DiaryJdbcRepository;
+import com.toonverti.domain.shard.DiaryIdAlias;
+import com.toonverti.domain.shard.DiaryIdAliasRepository;
+import com.toonverti.domain.user.UserRepository;
+import com.toonverti.dto.shard.ShardMoveResponse;
+import com.toonverti.dto.shard.ShardStatsResponse;
+import com.toonverti.exception.InvalidShardException;
+import com.toonverti.exception.ShardMoveInProgressException;
+import com.toonverti.exception.UserNotFoundException;
+import com.toonverti.service.ShardRebalanceService;
+import com.toonverti.service.TimelineService;
+import com.toonverti.service.autocomplete.AutocompleteIndex;
+import com.toonverti.service.friend.FriendGraphIndex;
+import com.toonverti.service.share.SharedDiaryResponseCache;
+import com.toonverti.service.sticker.StickerAutosaveBuffer;
+import com.toonverti.service.trending.TrendingTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 단위 샤드 재배치
+ *
+ * 옮기는 순서는 (대상 샤드에 복사 -> 디렉터리 변경 -> 원본 샤드에서 삭제)이고, 복사는 트랜잭션 하나로 한다.
+ * 복사 중 실패하면 디렉터리가 그대로라 원본이 계속 쓰이고, 삭제에 실패해도 원본에 남는 행은 조회되지 않는다.
+ *
+ * 옮기는 동안 해당 사용자/다이어리 호출은 모든 인스턴스에서 409로 거절한다. 디렉터리에 이동 표시를 남기고
+ * 다른 인스턴스가 읽어 갈 때까지(sharding.move-settle-ms) 기다린 뒤에 복사한다.
+ * 다이어리는 대상 샤드에서 새 ID를 받으므로 이전 ID -> 새 ID 별칭을 남겨 공유 링크가 계속 열리게 한다.
+ *
+ * 샤드마다 연결이 다르므로 클래스 단위 트랜잭션을 두지 않고 샤드별로 트랜잭션을 연다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardRebalanceServiceImpl implements ShardRebalanceService {
+
+    private static final int IN_CLAUSE_CHUNK = 1000;
+    // 사용자 전체를 한 트랜잭션으로 복사하므로 기본 제한 시간보다 길게 둔다.
+    // 동기화가 보는 시각(updated_at, 삭제 기록)은 복사가 끝난 뒤 커밋 직전에 찍으므로 settle 창을 넘지 않는다
+    private static final int MOVE_TRANSACTION_TIMEOUT_SECONDS = 300;
+
+    private final ShardRouter shardRouter;
+    private final ShardRowCopier shardRowCopier;
+    private final ShardReferenceReplicator shardReferenceReplicator;
+    private final UserRepository userRepository;
+    private final DiaryIdAliasRepository diaryIdAliasRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DiaryArchiveJdbcRepository diaryArchiveJdbcRepository;
+    private final DiaryJdbcRepository diaryJdbcRepository;
+    private final StickerAutosaveBuffer stickerAutosaveBuffer;
+    private final SharedDiaryResponseCache sharedDiaryResponseCache;
+    private final AutocompleteIndex autocompleteIndex;
+    private final TrendingTracker trendingTracker;
+    private final TimelineService timelineService;
+    private final FriendGraphIndex friendGraphIndex;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Clock clock;
+
+    public ShardRebalanceServiceImpl(ShardRouter shardRouter,
+                                     ShardRowCopier shardRowCopier,
+                                     ShardReferenceReplicator shardReferenceReplicator,
+                                     UserRepository userRepository,
+                                     DiaryIdAliasRepository diaryIdAliasRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     DiaryArchiveJdbcRepository diaryArchiveJdbcRepository,
+                                     DiaryJdbcRepository diaryJdbcRepository,
+                                     StickerAutosaveBuffer stickerAutosaveBuffer,
+                                     SharedDiaryResponseCache sharedDiaryResponseCache,
+                                     AutocompleteIndex autocompleteIndex,
+                                     TrendingTracker trendingTracker,
+                                     TimelineService timelineService,
+                                     FriendGraphIndex friendGraphIndex,
+                                     PlatformTransactionManager transactionManager,
+                                     Clock clock) {
+        this.shardRouter = shardRouter;
+        this.shardRowCopier = shardRowCopier;
+        this.shardReferenceReplicator = shardReferenceReplicator;
+        this.userRepository = userRepository;
+        this.diaryIdAliasRepository = diaryIdAliasRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.diaryArchiveJdbcRepository = diaryArchiveJdbcRepository;
+        this.diaryJdbcRepository = diaryJdbcRepository;
+        this.stickerAutosaveBuffer = stickerAutosaveBuffer;
+        this.sharedDiaryResponseCache = sharedDiaryResponseCache;
+        this.autocompleteIndex = autocompleteIndex;
+        this.trendingTracker = trendingTracker;
+        this.timelineService = timelineService;
+        this.friendGraphIndex = friendGraphIndex;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.requiresNewTransaction.setTimeout(MOVE_TRANSACTION_TIMEOUT_SECONDS);
+        this.clock = clock;
+    }
+
+    @Override
+    public List<ShardStatsResponse> getStats() {
+        List<ShardStatsResponse> stats = new ArrayList<>();
+        for (int shard : shardRouter.shards()) {
+            stats.add(ShardContext.call(shard, () -> ShardStatsResponse.builder()
+                    .shard(shard)
+                    .diaryCount(count("SELECT COUNT(*) FROM diaries"))
+                    .stickerCount(count("SELECT COUNT(*) FROM stickers"))
+                    .userCount(count("SELECT COUNT(DISTINCT user_id) FROM diaries"))
+                    .build()));
+        }
+        return stats;
+    }
+
+    @Override
+    public ShardMoveResponse moveUser(Long userId, int targetShard) {
+        if (targetShard < 0 || targetShard >= shardRouter.getShardCount()) {
+            throw new InvalidShardException(targetShard);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        int sourceShard = shardRouter.shardOfUser(userId);
+        if (sourceShard == targetShard) {
+            return ShardMoveResponse.builder()
+                    .userId(userId)
+                    .sourceShard(sourceShard)
+                    .targetShard(targetShard)
+                    .diaryIds(Map.of())
+                    .build();
+        }
+        if (!shardRouter.beginMove(userId, sourceShard)) {
+            throw new ShardMoveInProgressException("user", userId);
+        }
+
+        List<Long> sourceIds = Collections.emptyList();
+        try {
+            shardRouter.awaitMoveVisible();
+            List<Long> liveIds = ShardContext.call(sourceShard, () -> jdbcTemplate.queryForList(
+                    "SELECT id FROM diaries WHERE user_id = ? ORDER BY id", Long.class, userId));
+            List<Long> archivedIds = ShardContext.call(sourceShard, () -> jdbcTemplate.queryForList(
+                    "SELECT id FROM archived_diaries WHERE user_id = ? ORDER BY id", Long.class, userId));
+            sourceIds = Stream.concat(liveIds.stream(), archivedIds.stream()).toList();
+            shardRouter.lockDiaries(sourceIds);
+            // 자동 저장 중인 스티커 변경까지 원본에 반영한 뒤 읽는다
+            liveIds.forEach(stickerAutosaveBuffer::flush);
+
+            List<Map<String, Object>> diaries = new ArrayList<>();
+            List<Map<String, Object>> stickers = new ArrayList<>();
+            List<Map<String, Object>> memos = new ArrayList<>();
+            for (List<Long> chunk : chunks(liveIds)) {
+                String in = placeholders(chunk);
+                diaries.addAll(shardRowCopier.read(sourceShard,
+                        "SELECT * FROM diaries WHERE id IN (" + in + ")", chunk.toArray()));
+                stickers.addAll(shardRowCopier.read(sourceShard,
+                        "SELECT * FROM stickers WHERE diary_id IN (" + in + ")", chunk.toArray()));
+                memos.addAll(shardRowCopier.read(sourceShard,
+                        "SELECT m.* FROM diary_memos m JOIN diaries d ON d.memo_id = m.id WHERE d.id IN (" + in + ")",
+                        chunk.toArray()));
+            }
+            List<Map<String, Object>> archivedDiaries = new ArrayList<>();
+            for (List<Long> chunk : chunks(archivedIds)) {
+                String in = placeholders(chunk);
+                archivedDiaries.addAll(shardRowCopier.read(sourceShard,
+                        "SELECT * FROM archived_diaries WHERE id IN (" + in + ")", chunk.toArray()));
+                stickers.addAll(shardRowCopier.read(sourceShard,
+                        "SELECT * FROM archived_stickers WHERE diary_id IN (" + in + ")", chunk.toArray()));
+                memos.addAll(shardRowCopier.read(sourceShard,
+                        "SELECT m.* FROM diary_memos m JOIN archived_diaries d ON d.memo_id = m.id " +
+                        "WHERE d.id IN (" + in + ")", chunk.toArray()));
+            }
+
+            List<Map<String, Object>> revisions = new ArrayList<>();
+            for (List<Long> chunk : chunks(sourceIds)) {
+                revisions.addAll(shardRowCopier.read(sourceShard,
+                        "SELECT * FROM diary_revisions WHERE diary_id IN (" + placeholders(chunk) + ")",
+                        chunk.toArray()));
+            }
+
+            List<Map<String, Object>> tombstones = shardRowCopier.read(sourceShard,
+                    "SELECT * FROM diary_tombstones WHERE user_id = ?", userId);
+
+            shardReferenceReplicator.ensureUser(userId, targetShard);
+            Map<Long, Long> diaryIds = new LinkedHashMap<>();
+            ShardContext.run(targetShard, () -> requiresNewTransaction.executeWithoutResult(status -> {
+                Map<Long, Long> memoIds = new HashMap<>();
+                for (Map<String, Object> memo : memos) {
+                    memoIds.put(longValue(memo, "id"), shardRowCopier.insertWithNewId("diary_memos", memo, Map.of()));
+                }
+                for (Map<String, Object> diary : diaries) {
+                    diaryIds.put(longValue(diary, "id"),
+                            shardRowCopier.insertWithNewId("diaries", diary, memoOverride(diary, memoIds)));
+                }
+                // 보관 중인 다이어리는 대상 샤드의 ID를 받기 위해 먼저 diaries 에 넣는다
+                for (Map<String, Object> archived : archivedDiaries) {
+                    Map<String, Object> row = new LinkedHashMap<>(archived);
+                    row.keySet().removeIf(column -> column.equalsIgnoreCase("reason")
+                            || column.equalsIgnoreCase("archived_at"));
+                    Map<String, Object> overrides = new HashMap<>(memoOverride(archived, memoIds));
+                    overrides.put("is_deleted", false);
+                    diaryIds.put(longValue(archived, "id"), shardRowCopier.insertWithNewId("diaries", row, overrides));
+                }
+                for (Map<String, Object> sticker : stickers) {
+                    shardRowCopier.insertWithNewId("stickers", sticker,
+                            Map.of("diary_id", diaryIds.get(longValue(sticker, "diary_id"))));
+                }
+                for (Map<String, Object> revision : revisions) {
+                    shardRowCopier.insertWithNewId("diary_revisions", revision,
+                            Map.of("diary_id", diaryIds.get(longValue(revision, "diary_id"))));
+                }
+                // 오래되어 보관했던 다이어리는 새 ID로 클라이언트에 다시 보내야 하므로 diaries 에 둔다
+                LocalDateTime now = LocalDateTime.now(clock);
+                List<Long> resent = new ArrayList<>(liveIds.stream().map(diaryIds::get).toList());
+                List<Object[]> movedTombstones = new ArrayList<>();
+                for (Map<String, Object> archived : archivedDiaries) {
+                    Long newId = diaryIds.get(longValue(archived, "id"));
+                    DiaryArchiveReason reason = DiaryArchiveReason.valueOf((String) value(archived, "reason"));
+                    if (reason == DiaryArchiveReason.AGED) {
+                        resent.add(newId);
+                        continue;
+                    }
+                    diaryArchiveJdbcRepository.archive(List.of(newId), reason,
+                            localDateTime(archived, "deleted_at"), localDateTime(archived, "archived_at"));
+                    movedTombstones.add(new Object[]{userId, newId, true, Timestamp.valueOf(now)});
+                }
+                diaryJdbcRepository.markStickersChanged(resent, now);
+
+                // 동기화 중인 클라이언트가 이전 ID를 지우도록 남긴다
+                for (Map<String, Object> tombstone : tombstones) {
+                    if (!diaryIds.containsKey(longValue(tombstone, "diary_id"))) {
+                        shardRowCopier.insertWithNewId("diary_tombstones", tombstone, Map.of());
+                    }
+                }
+                for (Long oldId : diaryIds.keySet()) {
+                    movedTombstones.add(new Object[]{userId, oldId, false, Timestamp.valueOf(now)});
+                }
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO diary_tombstones (user_id, diary_id, trashed, deleted_at) VALUES (?, ?, ?, ?)",
+                        movedTombstones);
+            }));
+
+            recordAliases(diaryIds);
+            shardRouter.reassign(userId, targetShard);
+            List<Long> movedIds = sourceIds;
+            List<Long> movedMemoIds = memos.stream().map(memo -> longValue(memo, "id")).toList();
+            ShardContext.run(sourceShard, () -> requiresNewTransaction.executeWithoutResult(status -> {
+                for (List<Long> chunk : chunks(liveIds)) {
+                    String in = placeholders(chunk);
+                    jdbcTemplate.update("DELETE FROM stickers WHERE diary_id IN (" + in + ")", chunk.toArray());
+                    jdbcTemplate.update("DELETE FROM diaries WHERE id IN (" + in + ")", chunk.toArray());
+                }
+                for (List<Long> chunk : chunks(archivedIds)) {
+                    String in = placeholders(chunk);
+                    jdbcTemplate.update("DELETE FROM archived_stickers WHERE diary_id IN (" + in + ")", chunk.toArray());
+                    jdbcTemplate.update("DELETE FROM archived_diaries WHERE id IN (" + in + ")", chunk.toArray());
+                }
+                for (List<Long> chunk : chunks(movedIds)) {
+                    jdbcTemplate.update("DELETE FROM diary_revisions WHERE diary_id IN (" + placeholders(chunk) + ")",
+                            chunk.toArray());
+                }
+                jdbcTemplate.update("DELETE FROM diary_tombstones WHERE user_id = ?", userId);
+                for (List<Long> chunk : chunks(movedMemoIds)) {
+                    jdbcTemplate.update("DELETE FROM diary_memos WHERE id IN (" + placeholders(chunk) + ")",
+                            chunk.toArray());
+                }
+            }));
+
+            evictMovedDiaries(userId, movedIds);
+            log.info("사용자 샤드 이동: userId={}, {} -> {}, diaries={}, stickers={}",
+                    userId, sourceShard, targetShard, diaryIds.size(), stickers.size());
+            return ShardMoveResponse.builder()
+                    .userId(userId)
+                    .sourceShard(sourceShard)
+                    .targetShard(targetShard)
+                    .movedDiaries(diaryIds.size())
+                    .movedStickers(stickers.size())
+                    .diaryIds(diaryIds)
+                    .build();
+        } finally {
+            shardRouter.endMove(userId, sourceIds);
+        }
+    }
+
+    // 전에 옮기며 남긴 별칭도 최신 ID를 가리키도록 고친다
+    private void recordAliases(Map<Long, Long> diaryIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        ShardContext.run(ShardRouter.GLOBAL_SHARD, () -> requiresNewTransaction.executeWithoutResult(status ->
+                diaryIds.forEach((oldId, newId) -> {
+                    diaryIdAliasRepository.repoint(oldId, newId);
+                    diaryIdAliasRepository.save(new DiaryIdAlias(oldId, newId, now));
+                })));
+    }
+
+    // 이전 ID로 들고 있던 메모리 캐시와 인덱스를 정리한다
+    private void evictMovedDiaries(Long userId, List<Long> movedIds) {
+        for (Long diaryId : movedIds) {
+            stickerAutosaveBuffer.discard(diaryId);
+            sharedDiaryResponseCache.evict(diaryId);
+            trendingTracker.remove(diaryId);
+        }
+        autocompleteIndex.reloadUser(userId);
+        for (long friendId : friendGraphIndex.friendsOf(userId)) {
+            timelineService.invalidate(friendId);
+        }
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+            chunks.add(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(List<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+
+    private static Map<String, Object> memoOverride(Map<String, Object> diary, Map<Long, Long> memoIds) {
+        Long memoId = nullableLongValue(diary, "memo_id");
+        return memoId != null ? Map.of("memo_id", memoIds.get(memoId)) : Map.of();
+    }
+
+    private static LocalDateTime localDateTime(Map<String, Object> row, String column) {
+        Object value = value(row, column);
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    private static long longValue(Map<String, Object> row, String column) {
+        Long value = nullableLongValue(row, column);
+        if (value == null) {
+            throw new IllegalStateException("컬럼 값이 없습니다: " + column);
+        }
+        return value;
+    }
+
+    private static Long nullableLongValue(Map<String, Object> row, String column) {
+        Object value = value(row, column);
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static Object value(Map<String, Object> row, String column) {
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(column)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalStateException("컬럼이 없습니다: " + column);
+    }
+}
@@ -0,0 +1,144 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardReferenceReplicator;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.common.transaction.AfterCommit;
+import com.toonverti.domain.sticker.StickerAsset;
+import com.toonverti.domain.sticker.StickerAssetRepository;
+import com.toonverti.service.StickerAssetService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class StickerAssetServiceImpl implements StickerAssetService {
+
+    private final StickerAssetRepository stickerAssetRepository;
+    private final ShardRouter shardRouter;
+    private final ShardReferenceReplicator shardReferenceReplicator;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Clock clock;
+
+    // 에셋은 한 번 등록되면 바뀌지 않으므로 src -> ID를 메모리에 캐시한다 (access-order LinkedHashMap으로 LRU 구현)
+    private final LinkedHashMap<String, Integer> assetIds;
+
+    public StickerAssetServiceImpl(StickerAssetRepository stickerAssetRepository,
+                                   ShardRouter shardRouter,
+                                   ShardReferenceReplicator shardReferenceReplicator,
+                                   PlatformTransactionManager transactionManager,
+                                   Clock clock,
+                                   @Value("${sticker.asset.cache-size:10000}") int maxCachedAssets) {
+        this.stickerAssetRepository = stickerAssetRepository;
+        this.shardRouter = shardRouter;
+        this.shardReferenceReplicator = shardReferenceReplicator;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.assetIds = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > maxCachedAssets;
+            }
+        };
+    }
+
+    @Override
+    public Integer resolveId(String src) {
+        Integer cached;
+        synchronized (assetIds) {
+            cached = assetIds.get(src);
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        String hash = hash(src);
+        if (shardRouter.isEnabled()) {
+            // 전역 샤드의 별도 트랜잭션에서 이미 커밋됐다
+            Integer id = resolveGlobally(hash, src);
+            cache(src, id);
+            return id;
+        }
+
+        ResolvedAsset resolved = findOrRegister(hash, src);
+        if (resolved.inserted()) {
+            // 호출 측 트랜잭션이 롤백되면 이 ID는 없어지므로 커밋된 뒤에만 캐시한다
+            AfterCommit.run(() -> cache(src, resolved.id()));
+        } else {
+            cache(src, resolved.id());
+        }
+        return resolved.id();
+    }
+
+    @Override
+    public Map<String, Integer> resolveIds(Collection<String> srcs) {
+        Map<String, Integer> result = new HashMap<>();
+        for (String src : srcs) {
+            result.computeIfAbsent(src, this::resolveId);
+        }
+        return result;
+    }
+
+    @Override
+    public StickerAsset getReference(String src) {
+        return stickerAssetRepository.getReferenceById(resolveId(src));
+    }
+
+    /**
+     * 호출 측 트랜잭션과 같은 커넥션으로 찾거나 등록한다. 별도 트랜잭션을 열지 않으므로 커넥션을 하나 더 잡지 않는다.
+     * 동시에 같은 에셋이 등록되면 INSERT 는 아무것도 하지 않고, 다시 읽을 때 상대가 등록한 행을 본다.
+     */
+    private ResolvedAsset findOrRegister(String hash, String src) {
+        return stickerAssetRepository.findByHash(hash)
+                .map(asset -> new ResolvedAsset(asset.getId(), false))
+                .orElseGet(() -> {
+                    int inserted = stickerAssetRepository.insertIfAbsent(hash, src, LocalDateTime.now(clock));
+                    Integer id = stickerAssetRepository.findByHash(hash)
+                            .map(StickerAsset::getId)
+                            .orElseThrow(() -> new IllegalStateException("스티커 에셋 등록 실패: " + hash));
+                    return new ResolvedAsset(id, inserted > 0);
+                });
+    }
+
+    // 샤딩 중에는 에셋을 전역 샤드에서 등록하고 모든 샤드에 같은 ID로 복사해 둔다 (캐시 미스일 때만)
+    // 복사는 전역 샤드의 커밋된 행을 읽으므로 등록은 전역 샤드의 별도 트랜잭션에서 한다
+    private Integer resolveGlobally(String hash, String src) {
+        Integer id = ShardContext.call(ShardRouter.GLOBAL_SHARD, () ->
+                requiresNewTransaction.execute(status -> findOrRegister(hash, src).id()));
+        shardReferenceReplicator.replicateAsset(id);
+        return id;
+    }
+
+    private void cache(String src, Integer id) {
+        synchronized (assetIds) {
+            assetIds.put(src, id);
+        }
+    }
+
+    private static String hash(String src) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(src.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // inserted: 이번 호출이 호출 측 트랜잭션 안에서 새로 등록했는지 (다른 트랜잭션이 등록한 행을 읽었으면 false)
+    private record ResolvedAsset(Integer id, boolean inserted) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.common.shard.ShardKey;
+import com.toonverti.domain.diary.Diary;
+import com.toonverti.domain.diary.DiaryJdbcRepository;
+import com.toonverti.domain.diary.DiaryRepository;
+import com.toonverti.domain.sticker.Sticker;
+import com.toonverti.domain.sticker.StickerJdbcRepository;
+import com.toonverti.domain.sticker.StickerRepository;
+import com.toonverti.domain.sticker.StickerTransform;
+import com.toonverti.dto.diary.StickerResponse;
+import com.toonverti.dto.sticker.StickerAutosaveRequest;
+import com.toonverti.dto.sticker.StickerAutosaveRequest.StickerDelta;
+import com.toonverti.dto.sticker.StickerPatchRequest;
+import com.toonverti.exception.DiaryNotFoundException;
+import com.toonverti.exception.StickerNotFoundException;
+import com.toonverti.exception.VersionConflictException;
+import com.toonverti.service.StickerService;
+import com.toonverti.service.diary.DiaryRevisionRecorder;
+import com.toonverti.service.diary.DiaryRevisionState;
+import com.toonverti.service.share.SharedDiaryResponseCache;
+import com.toonverti.service.sticker.StickerAutosaveBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StickerServiceImpl implements StickerService {
+
+    private final StickerRepository stickerRepository;
+    private final StickerJdbcRepository stickerJdbcRepository;
+    private final DiaryRepository diaryRepository;
+    private final DiaryJdbcRepository diaryJdbcRepository;
+    private final StickerAutosaveBuffer stickerAutosaveBuffer;
+    private final DiaryRevisionRecorder diaryRevisionRecorder;
+    private final SharedDiaryResponseCache sharedDiaryResponseCache;
+    private final Clock clock;
+
+    @Override
+    @Transactional
+    public StickerResponse patchSticker(@ShardKey(ShardKey.Type.DIARY) Long diaryId, Long stickerId, StickerPatchRequest request) {
+        // 자동 저장 중이던 값이 이 수정을 나중에 덮어쓰지 않도록 먼저 저장한다
+        stickerAutosaveBuffer.flush(diaryId);
+
+        Sticker sticker = stickerRepository.findByIdAndDiaryId(stickerId, diaryId)
+                .orElseThrow(() -> new StickerNotFoundException(stickerId));
+        if (request.getVersion() != null && request.getVersion() != sticker.getVersion()) {
+            throw new VersionConflictException("스티커", stickerId, sticker.getVersion());
+        }
+        Diary diary = sticker.getDiary();
+        DiaryRevisionState before = DiaryRevisionState.of(diary);
+        request.toTransform().applyTo(sticker);
+
+        try {
+            stickerRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new VersionConflictException("스티커", stickerId,
+                    stickerJdbcRepository.findVersion(stickerId).orElseThrow(() -> new StickerNotFoundException(stickerId)));
+        }
+        diaryJdbcRepository.markStickersChanged(List.of(diaryId), LocalDateTime.now(clock));
+        diaryRevisionRecorder.record(diaryId, before, DiaryRevisionState.of(diary));
+
+        sharedDiaryResponseCache.evict(diaryId);
+        return StickerResponse.from(sticker);
+    }
+
+    // 버퍼가 한도를 넘으면 여기서 바로 저장하므로 읽기 전용 트랜잭션을 열지 않는다
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int autosave(@ShardKey(ShardKey.Type.DIARY) Long diaryId, StickerAutosaveRequest request) {
+        if (!diaryRepository.existsById(diaryId)) {
+            throw new DiaryNotFoundException(diaryId);
+        }
+
+        Map<Long, StickerTransform> deltas = new LinkedHashMap<>();
+        for (StickerDelta delta : request.getDeltas()) {
+            deltas.merge(delta.getStickerId(), delta.toTransform(), (current, newer) -> {
+                current.overwriteWith(newer);
+                return current;
+            });
+        }
+        stickerAutosaveBuffer.add(diaryId, deltas);
+        return request.getDeltas().size();
+    }
+}
@@ -0,0 +1,340 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.common.transaction.AfterCommit;
+import com.toonverti.domain.diary.Diary;
+import com.toonverti.domain.diary.DiaryRepository;
+import com.toonverti.domain.diary.DiaryTimelineEntry;
+import com.toonverti.domain.user.UserRepository;
+import com.toonverti.dto.timeline.TimelineItemResponse;
+import com.toonverti.dto.timeline.TimelineResponse;
+import com.toonverti.exception.InvalidCursorException;
+import com.toonverti.exception.UserNotFoundException;
+import com.toonverti.service.TimelineService;
+import com.toonverti.service.friend.FriendGraphIndex;
+import com.toonverti.service.timeline.TimelineBuffer;
+import com.toonverti.service.timeline.TimelineBuffer.TimelineEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 친구 공개 다이어리 타임라인
+ *
+ * 다이어리가 공개되면 작성자 친구들의 버퍼에 ID를 밀어 넣고(fan-out-on-write),
+ * 조회는 버퍼 구간 읽기 + 요약 일괄 조회 한 번으로 끝낸다.
+ * 친구가 많은 작성자는 밀어 넣지 않고 조회 시점에 당겨 온다(pull-on-read).
+ * 버퍼는 메모리에만 있으므로 재시작 후 또는 오래 쓰지 않아 비워진 사용자는
+ * 첫 조회 때 친구 전체를 대상으로 한 번 채운다.
+ * 샤딩 중에는 작성자/다이어리를 샤드별로 나눠 각 샤드에서 읽고 합친다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TimelineServiceImpl implements TimelineService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int IN_CLAUSE_CHUNK = 1000;
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final DiaryRepository diaryRepository;
+    private final UserRepository userRepository;
+    private final FriendGraphIndex friendGraphIndex;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate shardReadTransaction;
+    private final ZoneId zone;
+    private final int bufferSize;
+    private final int fanoutLimit;
+    private final long idleNanos;
+
+    private final ConcurrentHashMap<Long, TimelineBuffer> buffers = new ConcurrentHashMap<>();
+    // 친구 수가 fan-out 한도를 넘어 조회 시점에 당겨 오는 작성자 (한도 아래로 내려오면 뺀다)
+    private final Set<Long> pullAuthors = ConcurrentHashMap.newKeySet();
+
+    public TimelineServiceImpl(DiaryRepository diaryRepository,
+                               UserRepository userRepository,
+                               FriendGraphIndex friendGraphIndex,
+                               ShardRouter shardRouter,
+                               PlatformTransactionManager transactionManager,
+                               Clock clock,
+                               @Value("${timeline.buffer-size:200}") int bufferSize,
+                               @Value("${timeline.fanout-limit:1000}") int fanoutLimit,
+                               @Value("${timeline.idle-minutes:60}") long idleMinutes) {
+        this.diaryRepository = diaryRepository;
+        this.userRepository = userRepository;
+        this.friendGraphIndex = friendGraphIndex;
+        this.shardRouter = shardRouter;
+        // 샤드마다 연결이 다르므로 조회 중인 트랜잭션과 별개로 연다
+        this.shardReadTransaction = new TransactionTemplate(transactionManager);
+        this.shardReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardReadTransaction.setReadOnly(true);
+        this.zone = clock.getZone();
+        this.bufferSize = bufferSize;
+        this.fanoutLimit = fanoutLimit;
+        this.idleNanos = TimeUnit.MINUTES.toNanos(idleMinutes);
+    }
+
+    @Override
+    public void publish(Long authorId, Long diaryId, LocalDateTime publishedAt) {
+        long key = toKey(publishedAt);
+        AfterCommit.run(() -> fanOut(authorId, diaryId, key));
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        AfterCommit.run(() -> buffers.remove(userId));
+    }
+
+    @Override
+    public TimelineResponse getTimeline(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long[] position = parseCursor(cursor);
+        long cursorKey = position[0];
+        long cursorId = position[1];
+
+        TimelineBuffer buffer = warmBuffer(userId);
+        List<TimelineEntry> entries = buffer.before(cursorKey, cursorId, limit);
+
+        if (entries.size() < limit && buffer.horizon() != Long.MIN_VALUE) {
+            // 버퍼에서 밀려난 오래된 구간은 친구 전체에서 당겨 온다
+            entries = pull(toList(friendGraphIndex.friendsOf(userId)), cursorKey, cursorId, limit);
+        } else {
+            List<Long> pulled = pullAuthorsAmongFriends(userId);
+            if (!pulled.isEmpty()) {
+                entries = merge(entries, pull(pulled, cursorKey, cursorId, limit), limit);
+            }
+        }
+
+        String nextCursor = entries.size() == limit ? encodeCursor(entries.get(entries.size() - 1)) : null;
+        return TimelineResponse.builder()
+                .items(loadItems(userId, entries))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 오래 조회하지 않은 사용자의 버퍼를 비워 메모리를 회수하고, 친구 수가 줄어든 작성자를 밀어 넣기로 되돌린다.
+     */
+    @Scheduled(fixedDelayString = "${timeline.trim-interval-ms:300000}")
+    public void trimIdleBuffers() {
+        new ArrayList<>(pullAuthors).forEach(this::recoverFanOut);
+
+        long threshold = System.nanoTime() - idleNanos;
+        int before = buffers.size();
+        buffers.values().removeIf(buffer -> buffer.getLastAccessNanos() < threshold);
+        int removed = before - buffers.size();
+        if (removed > 0) {
+            log.debug("유휴 타임라인 버퍼 정리: removed={}, remaining={}", removed, buffers.size());
+        }
+    }
+
+    private void fanOut(long authorId, long diaryId, long key) {
+        long[] followers = friendGraphIndex.friendsOf(authorId);
+        if (followers.length > fanoutLimit) {
+            pullAuthors.add(authorId);
+            return;
+        }
+        recoverFanOut(authorId);
+        for (long followerId : followers) {
+            // 아직 채워지지 않은 버퍼도 받아 두어야 시딩 중 공개된 글을 놓치지 않는다
+            TimelineBuffer buffer = buffers.get(followerId);
+            if (buffer != null) {
+                buffer.insert(key, diaryId, authorId);
+            }
+        }
+    }
+
+    /**
+     * 친구 수가 한도 아래로 내려온 작성자를 당겨 오기 대상에서 뺀다.
+     * 당겨 오던 동안의 글은 친구 버퍼에 없으므로 친구 버퍼를 비워 다음 조회 때 DB에서 다시 채우게 한다.
+     */
+    private void recoverFanOut(long authorId) {
+        if (friendGraphIndex.friendCount(authorId) <= fanoutLimit && pullAuthors.remove(authorId)) {
+            for (long followerId : friendGraphIndex.friendsOf(authorId)) {
+                buffers.remove(followerId);
+            }
+        }
+    }
+
+    // 친구 목록과 당겨 오기 대상 중 작은 쪽을 돌며 교집합을 구한다
+    private List<Long> pullAuthorsAmongFriends(Long userId) {
+        if (pullAuthors.isEmpty()) {
+            return List.of();
+        }
+        long[] friendIds = friendGraphIndex.friendsOf(userId);
+        List<Long> result = new ArrayList<>();
+        if (friendIds.length < pullAuthors.size()) {
+            for (long friendId : friendIds) {
+                if (pullAuthors.contains(friendId)) {
+                    result.add(friendId);
+                }
+            }
+        } else {
+            for (Long authorId : pullAuthors) {
+                if (friendGraphIndex.areFriends(userId, authorId)) {
+                    result.add(authorId);
+                }
+            }
+        }
+        return result;
+    }
+
+    private TimelineBuffer warmBuffer(Long userId) {
+        TimelineBuffer buffer = buffers.computeIfAbsent(userId, id -> new TimelineBuffer(bufferSize, System.nanoTime()));
+        buffer.touch(System.nanoTime());
+        if (!buffer.isSeeded()) {
+            synchronized (buffer) {
+                if (!buffer.isSeeded()) {
+                    List<Long> friendIds = toList(friendGraphIndex.friendsOf(userId));
+                    for (TimelineEntry entry : pull(friendIds, Long.MAX_VALUE, Long.MAX_VALUE, bufferSize)) {
+                        buffer.insert(entry.key(), entry.diaryId(), entry.authorId());
+                    }
+                    buffer.markSeeded();
+                }
+            }
+        }
+        return buffer;
+    }
+
+    private List<TimelineEntry> pull(List<Long> authorIds, long cursorKey, long cursorId, int limit) {
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime cursorAt = cursorKey == Long.MAX_VALUE ? CURSOR_START : fromKey(cursorKey);
+        List<TimelineEntry> result = new ArrayList<>();
+        for (Map.Entry<Integer, List<Long>> shard : groupByShard(authorIds, shardRouter::shardOfUser).entrySet()) {
+            List<Long> shardAuthorIds = shard.getValue();
+            for (int from = 0; from < shardAuthorIds.size(); from += IN_CLAUSE_CHUNK) {
+                List<Long> chunk = shardAuthorIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK, shardAuthorIds.size()));
+                List<DiaryTimelineEntry> rows = onShard(shard.getKey(), () ->
+                        diaryRepository.findTimelineEntries(chunk, cursorAt, cursorId, PageRequest.of(0, limit)));
+                List<TimelineEntry> converted = rows.stream()
+                        .map(row -> new TimelineEntry(toKey(row.getPublishedAt()), row.getId(), row.getAuthorId()))
+                        .toList();
+                result = merge(result, converted, limit);
+            }
+        }
+        return result;
+    }
+
+    private List<TimelineItemResponse> loadItems(Long userId, List<TimelineEntry> entries) {
+        List<Long> diaryIds = entries.stream()
+                // 친구가 끊긴 작성자의 글은 버퍼에 남아 있어도 보여 주지 않는다
+                .filter(entry -> friendGraphIndex.areFriends(userId, entry.authorId()))
+                .map(TimelineEntry::diaryId)
+                .toList();
+        if (diaryIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Diary> diaries = new HashMap<>();
+        groupByShard(diaryIds, shardRouter::shardOfDiary).forEach((shard, ids) ->
+                onShard(shard, () -> diaryRepository.findAllWithUserByIdIn(ids)).forEach(diary ->
+                        diaries.put(diary.getId(), diary)));
+        List<TimelineItemResponse> items = new ArrayList<>(diaryIds.size());
+        for (Long diaryId : diaryIds) {
+            Diary diary = diaries.get(diaryId);
+            // 비공개 전환/휴지통/삭제된 글은 버퍼에서 지우지 않고 읽을 때 거른다
+            if (diary != null && diary.isPublic() && !diary.isDeleted()) {
+                items.add(TimelineItemResponse.from(diary));
+            }
+        }
+        return items;
+    }
+
+    private static Map<Integer, List<Long>> groupByShard(List<Long> ids, Function<Long, Integer> shardOf) {
+        return ids.stream().collect(Collectors.groupingBy(shardOf, TreeMap::new, Collectors.toList()));
+    }
+
+    // 샤딩을 쓰지 않으면 조회 중인 트랜잭션에서 그대로 읽는다
+    private <T> T onShard(int shard, Supplier<T> query) {
+        if (!shardRouter.isEnabled()) {
+            return query.get();
+        }
+        return ShardContext.call(shard, () -> shardReadTransaction.execute(status -> query.get()));
+    }
+
+    // 두 내림차순 목록을 합쳐 중복 없이 상위 limit 개
+    private static List<TimelineEntry> merge(List<TimelineEntry> a, List<TimelineEntry> b, int limit) {
+        if (b.isEmpty()) {
+            return a;
+        }
+        Comparator<TimelineEntry> newestFirst = Comparator.comparingLong(TimelineEntry::key)
+                .thenComparingLong(TimelineEntry::diaryId)
+                .reversed();
+        Set<Long> seen = new HashSet<>();
+        List<TimelineEntry> merged = new ArrayList<>(a.size() + b.size());
+        merged.addAll(a);
+        merged.addAll(b);
+        merged.sort(newestFirst);
+        List<TimelineEntry> result = new ArrayList<>(Math.min(limit, merged.size()));
+        for (TimelineEntry entry : merged) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (seen.add(entry.diaryId())) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static List<Long> toList(long[] ids) {
+        List<Long> list = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    // 공개 시각을 마이크로초 단위 정수 키로 변환 (DB 타임스탬프 정밀도와 맞춘다)
+    private long toKey(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(zone).toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private LocalDateTime fromKey(long key) {
+        Instant instant = Instant.ofEpochSecond(Math.floorDiv(key, 1_000_000L), Math.floorMod(key, 1_000_000L) * 1_000L);
+        return LocalDateTime.ofInstant(instant, zone);
+    }
+
+    private static String encodeCursor(TimelineEntry entry) {
+        return entry.key() + "_" + entry.diaryId();
+    }
+
+    private static long[] parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new long[]{Long.MAX_VALUE, Long.MAX_VALUE};
+        }
+        int separator = cursor.indexOf('_');
+        try {
+            return new long[]{
+                    Long.parseLong(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1))
+            };
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
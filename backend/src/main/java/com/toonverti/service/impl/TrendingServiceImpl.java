@@ -0,0 +1,49 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.dto.trending.TrendingDiaryResponse;
+import com.toonverti.service.TrendingService;
+import com.toonverti.service.trending.TrendingTracker;
+import com.toonverti.service.trending.TrendingTracker.TrendingScore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class TrendingServiceImpl implements TrendingService {
+
+    private final TrendingTracker trendingTracker;
+    private final double viewWeight;
+    private final double likeWeight;
+
+    public TrendingServiceImpl(TrendingTracker trendingTracker,
+                               @Value("${trending.view-weight:1}") double viewWeight,
+                               @Value("${trending.like-weight:5}") double likeWeight) {
+        this.trendingTracker = trendingTracker;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+    }
+
+    @Override
+    public void recordView(Long diaryId, String genre) {
+        trendingTracker.record(diaryId, genre, viewWeight);
+    }
+
+    @Override
+    public void recordLike(Long diaryId) {
+        trendingTracker.recordIfTracked(diaryId, likeWeight);
+    }
+
+    @Override
+    public List<TrendingDiaryResponse> getTrending(String genre, int limit) {
+        int size = Math.max(1, Math.min(limit, trendingTracker.getTopK()));
+        List<TrendingScore> scores = trendingTracker.top(genre, size);
+        List<TrendingDiaryResponse> result = new ArrayList<>(scores.size());
+        for (int i = 0; i < scores.size(); i++) {
+            TrendingScore score = scores.get(i);
+            result.add(new TrendingDiaryResponse(i + 1, score.diaryId(), score.score()));
+        }
+        return result;
+    }
+}
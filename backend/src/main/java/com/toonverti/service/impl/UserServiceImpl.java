@@ -4,6 +4,9 @@ import com.toonverti.domain.user.Role;
 import com.toonverti.domain.user.User;
 import com.toonverti.domain.user.UserRepository;
 import com.toonverti.dto.user.*;
+import com.toonverti.event.DomainEventPublisher;
+import com.toonverti.event.user.UserProfileUpdatedEvent;
+import com.toonverti.event.user.UserRegisteredEvent;
 import com.toonverti.exception.DuplicateEmailException;
 import com.toonverti.exception.InvalidPasswordException;
 import com.toonverti.exception.UserNotFoundException;
@@ -23,6 +26,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Override
     @Transactional
@@ -39,6 +43,7 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        domainEventPublisher.publish(new UserRegisteredEvent(savedUser.getId(), savedUser.getNickname()));
         return UserResponse.from(savedUser);
     }
 
@@ -87,6 +92,7 @@ public class UserServiceImpl implements UserService {
             user.updateAvatarUrl(request.getAvatarUrl());
         }
 
+        domainEventPublisher.publish(new UserProfileUpdatedEvent(userId, user.getNickname(), user.getAvatarUrl()));
         return UserResponse.from(user);
     }
 
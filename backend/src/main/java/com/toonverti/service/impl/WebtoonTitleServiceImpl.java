@@ -0,0 +1,110 @@
+package com.toonverti.service.impl;
+
+import com.toonverti.common.response.CursorResponse;
+import com.toonverti.domain.webtoon.WebtoonPlatform;
+import com.toonverti.domain.webtoon.WebtoonTitle;
+import com.toonverti.domain.webtoon.WebtoonTitleRepository;
+import com.toonverti.domain.webtoon.WebtoonType;
+import com.toonverti.dto.webtoon.WebtoonTitleRequest;
+import com.toonverti.dto.webtoon.WebtoonTitleResponse;
+import com.toonverti.exception.InvalidCursorException;
+import com.toonverti.exception.WebtoonTitleNotFoundException;
+import com.toonverti.service.WebtoonTitleService;
+import com.toonverti.service.autocomplete.AutocompleteIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WebtoonTitleServiceImpl implements WebtoonTitleService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final WebtoonTitleRepository webtoonTitleRepository;
+    private final AutocompleteIndex autocompleteIndex;
+    private final Clock clock;
+
+    // 등록 뒤 다시 읽는 조회가 복제본으로 가지 않도록 쓰기 트랜잭션에서 실행한다
+    // 호출 측 트랜잭션과 같은 커넥션으로 등록한다. 동시에 같은 작품이 등록되면 INSERT 는 아무것도 하지 않고
+    // 다시 읽을 때 상대가 등록한 행을 본다
+    @Override
+    @Transactional
+    public WebtoonTitleResponse registerTitle(WebtoonTitleRequest request) {
+        String title = normalize(request.getTitle());
+        WebtoonTitle existing = webtoonTitleRepository.findByPlatformAndTitle(request.getPlatform(), title)
+                .orElse(null);
+        if (existing != null) {
+            return WebtoonTitleResponse.from(existing);
+        }
+
+        WebtoonType type = request.getType() != null ? request.getType() : WebtoonType.WEBTOON;
+        int inserted = webtoonTitleRepository.insertIfAbsent(title, request.getCoverImage(),
+                request.getPlatform().name(), type.name(), request.getAuthor(), request.getDescription(),
+                LocalDateTime.now(clock));
+        WebtoonTitle registered = webtoonTitleRepository.findByPlatformAndTitle(request.getPlatform(), title)
+                .orElseThrow(() -> new IllegalStateException("작품 등록 실패: " + request.getPlatform() + " " + title));
+        if (inserted > 0) {
+            if (request.getGenres() != null) {
+                registered.addGenres(new LinkedHashSet<>(request.getGenres()));
+            }
+            autocompleteIndex.markTitlesDirty();
+        }
+        return WebtoonTitleResponse.from(registered);
+    }
+
+    @Override
+    public WebtoonTitleResponse getTitle(Long titleId) {
+        WebtoonTitle title = webtoonTitleRepository.findById(titleId)
+                .orElseThrow(() -> new WebtoonTitleNotFoundException(titleId));
+        return WebtoonTitleResponse.from(title);
+    }
+
+    @Override
+    public CursorResponse<WebtoonTitleResponse> getTitles(WebtoonPlatform platform, String genre, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long cursorId = parseCursor(cursor);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<WebtoonTitle> titles;
+        if (genre == null || genre.isBlank()) {
+            titles = platform == null
+                    ? webtoonTitleRepository.findByIdLessThanOrderByIdDesc(cursorId, pageable)
+                    : webtoonTitleRepository.findByPlatformAndIdLessThanOrderByIdDesc(platform, cursorId, pageable);
+        } else {
+            titles = platform == null
+                    ? webtoonTitleRepository.findByGenre(genre, cursorId, pageable)
+                    : webtoonTitleRepository.findByPlatformAndGenre(platform, genre, cursorId, pageable);
+        }
+
+        boolean hasNext = titles.size() > limit;
+        List<WebtoonTitle> page = hasNext ? titles.subList(0, limit) : titles;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+        return CursorResponse.of(page.stream().map(WebtoonTitleResponse::from).toList(), nextCursor);
+    }
+
+    // 같은 작품이 공백 차이로 중복 등록되지 않게 한다
+    private static String normalize(String title) {
+        return title.trim().replaceAll("\\s+", " ");
+    }
+
+    private static Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
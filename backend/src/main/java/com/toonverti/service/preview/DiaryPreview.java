@@ -0,0 +1,14 @@
+package com.toonverti.service.preview;
+
+import java.nio.file.Path;
+
+/**
+ * 디스크 캐시에 저장된 미리보기 이미지
+ *
+ * @param file        이미지 파일 경로
+ * @param etag        다이어리 ID와 렌더링 버전의 해시 (파일 이름과 동일)
+ * @param contentType 응답 Content-Type
+ * @param length      파일 크기(bytes)
+ */
+public record DiaryPreview(Path file, String etag, String contentType, long length) {
+}
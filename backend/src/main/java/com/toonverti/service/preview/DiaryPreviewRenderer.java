@@ -0,0 +1,102 @@
+package com.toonverti.service.preview;
+
+import com.toonverti.dto.diary.DiaryResponse;
+import com.toonverti.dto.diary.StickerResponse;
+import org.springframework.stereotype.Component;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 다이어리 스티커 배치를 headless Java2D로 합성하는 렌더러
+ *
+ * 좌표는 에디터 캔버스(480x640) 기준으로 저장되므로 캔버스 좌표계에서 그린 뒤
+ * 요청 크기에 맞게 전체를 스케일한다.
+ */
+@Component
+public class DiaryPreviewRenderer {
+
+    public static final int CANVAS_WIDTH = 480;
+    public static final int CANVAS_HEIGHT = 640;
+
+    // 렌더링 방식이 바뀌면 올려서 기존 캐시를 무효화한다
+    private static final int RENDER_VERSION = 1;
+
+    private static final Color BACKGROUND = new Color(0xFFFCF5);
+    private static final Color TEXT_COLOR = new Color(0x5D4E3C);
+    private static final String TEXT_TYPE = "text";
+
+    public BufferedImage render(DiaryResponse diary, PreviewSize size, PreviewFormat format) {
+        int imageType = format == PreviewFormat.JPEG ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage image = new BufferedImage(size.getWidth(), size.getHeight(), imageType);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, size.getWidth(), size.getHeight());
+            g.scale((double) size.getWidth() / CANVAS_WIDTH, (double) size.getHeight() / CANVAS_HEIGHT);
+
+            List<StickerResponse> stickers = diary.getStickers() != null ? diary.getStickers() : List.of();
+            stickers.stream()
+                    .sorted(Comparator.comparingInt(StickerResponse::getZIndex))
+                    .forEach(sticker -> drawSticker(g, sticker));
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * 다이어리 ID와 렌더링 버전으로 만든 해시. 캐시 파일 이름이자 ETag로 쓴다.
+     *
+     * @param renderVersion 다이어리가 바뀔 때마다 달라지는 값 (DiaryService.getPublicRenderVersion)
+     */
+    public String fingerprint(Long diaryId, String renderVersion, PreviewSize size, PreviewFormat format) {
+        String key = RENDER_VERSION + "|" + diaryId + "|" + renderVersion + "|" + size.name() + "|" + format.name();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void drawSticker(Graphics2D g, StickerResponse sticker) {
+        AffineTransform saved = g.getTransform();
+        try {
+            drawTextSticker(g, sticker);
+        } finally {
+            g.setTransform(saved);
+        }
+    }
+
+    private void drawTextSticker(Graphics2D g, StickerResponse sticker) {
+        String text = sticker.getSrc();
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        boolean isText = TEXT_TYPE.equals(sticker.getType());
+        // 에디터와 동일하게 텍스트 16px, 이모지 32px을 기본으로 하고 높이가 있으면 그에 맞춘다
+        int fontSize = sticker.getHeight() > 0 ? sticker.getHeight() : (isText ? 16 : 32);
+        g.setFont(new Font(Font.SANS_SERIF, isText ? Font.BOLD : Font.PLAIN, fontSize));
+        g.setColor(TEXT_COLOR);
+
+        FontMetrics metrics = g.getFontMetrics();
+        int width = sticker.getWidth() > 0 ? sticker.getWidth() : metrics.stringWidth(text);
+        int height = sticker.getHeight() > 0 ? sticker.getHeight() : metrics.getHeight();
+
+        g.translate(sticker.getX() + width / 2.0, sticker.getY() + height / 2.0);
+        g.rotate(Math.toRadians(sticker.getRotation()));
+        g.drawString(text, -metrics.stringWidth(text) / 2, metrics.getAscent() - metrics.getHeight() / 2);
+    }
+}
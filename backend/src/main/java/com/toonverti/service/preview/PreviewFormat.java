@@ -0,0 +1,16 @@
+package com.toonverti.service.preview;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PreviewFormat {
+    PNG("png", "png", "image/png"),
+    JPEG("jpeg", "jpg", "image/jpeg");
+
+    // ImageIO 포맷 이름
+    private final String formatName;
+    private final String extension;
+    private final String contentType;
+}
@@ -0,0 +1,100 @@
+package com.toonverti.service.preview;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 렌더링된 미리보기를 보관하는 디스크 캐시
+ *
+ * 파일은 {cacheDir}/{diaryId}/{size}-{fingerprint}.{ext} 에 저장된다.
+ * 파일 이름이 다이어리 렌더링 버전의 해시이므로 다이어리가 바뀌면 자연스럽게 새 파일이 생기고,
+ * 새 파일을 저장할 때 같은 다이어리의 이전 파일을 정리한다.
+ */
+@Slf4j
+@Component
+public class PreviewImageCache {
+
+    private final Path cacheDir;
+
+    public PreviewImageCache(
+            @Value("${diary.preview.cache-dir:${java.io.tmpdir}/toonverti-previews}") String cacheDir) {
+        this.cacheDir = Paths.get(cacheDir).toAbsolutePath();
+    }
+
+    public DiaryPreview find(Long diaryId, PreviewSize size, PreviewFormat format, String fingerprint) {
+        Path file = resolve(diaryId, size, format, fingerprint);
+        try {
+            return Files.isRegularFile(file) ? toPreview(file, fingerprint, format) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public DiaryPreview store(Long diaryId, PreviewSize size, PreviewFormat format, String fingerprint,
+                              BufferedImage image) {
+        Path file = resolve(diaryId, size, format, fingerprint);
+        try {
+            Files.createDirectories(file.getParent());
+            // 읽는 쪽이 덜 쓰인 파일을 보지 않도록 임시 파일에 쓴 뒤 원자적으로 교체한다
+            Path temp = Files.createTempFile(file.getParent(), fingerprint, ".tmp");
+            try {
+                ImageIO.write(image, format.getFormatName(), temp.toFile());
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            pruneStale(file, size, format);
+            return toPreview(file, fingerprint, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException("미리보기 이미지를 저장하지 못했습니다: " + file, e);
+        }
+    }
+
+    public void evict(Long diaryId) {
+        Path dir = cacheDir.resolve(String.valueOf(diaryId));
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("미리보기 캐시 삭제 실패: diaryId={}, cause={}", diaryId, e.getMessage());
+        }
+    }
+
+    private void pruneStale(Path current, PreviewSize size, PreviewFormat format) {
+        // 같은 크기/포맷의 이전 버전만 지운다. 다른 크기는 각자의 지문으로 관리된다.
+        String glob = size.name() + "-*." + format.getExtension();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(current.getParent(), glob)) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.debug("이전 미리보기 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private Path resolve(Long diaryId, PreviewSize size, PreviewFormat format, String fingerprint) {
+        return cacheDir.resolve(String.valueOf(diaryId))
+                .resolve(size.name() + "-" + fingerprint + "." + format.getExtension());
+    }
+
+    private DiaryPreview toPreview(Path file, String fingerprint, PreviewFormat format) throws IOException {
+        return new DiaryPreview(file, fingerprint, format.getContentType(), Files.size(file));
+    }
+}
@@ -0,0 +1,23 @@
+package com.toonverti.service.preview;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 미리보기 이미지 크기
+ *
+ * 에디터 캔버스(480x640)와 같은 3:4 비율을 유지한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PreviewSize {
+    SMALL(240),
+    MEDIUM(480),
+    LARGE(960);
+
+    private final int width;
+
+    public int getHeight() {
+        return width * 4 / 3;
+    }
+}
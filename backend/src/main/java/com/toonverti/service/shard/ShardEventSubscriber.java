@@ -0,0 +1,43 @@
+package com.toonverti.service.shard;
+
+import com.toonverti.common.shard.ShardReferenceReplicator;
+import com.toonverti.event.DomainEvent;
+import com.toonverti.event.DomainEventSubscriber;
+import com.toonverti.event.user.UserProfileUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 프로필이 바뀐 사용자의 샤드 복사본을 새로 쓴다 (타임라인의 작성자 닉네임/아바타)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardEventSubscriber implements DomainEventSubscriber {
+
+    private final ShardReferenceReplicator shardReferenceReplicator;
+
+    @Override
+    public String name() {
+        return "shard";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof UserProfileUpdatedEvent;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (DomainEvent event : events) {
+            userIds.add(((UserProfileUpdatedEvent) event).userId());
+        }
+        userIds.forEach(shardReferenceReplicator::refreshUser);
+    }
+}
@@ -0,0 +1,15 @@
+package com.toonverti.service.share;
+
+/**
+ * 공유 다이어리 응답의 직렬화 결과
+ *
+ * @param json UTF-8 JSON 바이트 (ApiResponse 전체)
+ * @param gzip gzip 압축본, 압축 이득이 없으면 null
+ * @param genre 다이어리 장르 (트렌딩 집계용, 없으면 null)
+ */
+public record SharedDiaryBody(byte[] json, byte[] gzip, String genre) {
+
+    public int weight() {
+        return json.length + (gzip != null ? gzip.length : 0);
+    }
+}
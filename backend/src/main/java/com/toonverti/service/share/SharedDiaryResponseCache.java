@@ -0,0 +1,201 @@
+package com.toonverti.service.share;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.common.concurrent.SingleFlight;
+import com.toonverti.common.response.ApiResponse;
+import com.toonverti.dto.diary.DiaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 다이어리 응답을 직렬화/압축된 바이트 그대로 보관하는 캐시
+ *
+ * 공유 링크 조회는 같은 응답이 반복되므로, DiaryResponse 변환과 Jackson 직렬화,
+ * gzip 압축을 최초 1회만 수행하고 이후에는 바이트 배열을 그대로 응답에 쓴다.
+ * 다이어리가 변경되면 커밋 이후 해당 항목을 무효화한다.
+ * 공유 링크가 퍼져 같은 항목을 동시에 놓친 요청들은 한 번의 조회/직렬화 결과를 나눠 받는다.
+ */
+@Component
+public class SharedDiaryResponseCache {
+
+    private static final int STRIPES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // access-order LinkedHashMap으로 LRU 구현
+    private final LinkedHashMap<Long, SharedDiaryBody> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    // 로딩 중에 무효화가 일어났는지 판단하기 위한 스트라이프별 세대 번호 (entries 잠금으로 보호)
+    private final long[] generations = new long[STRIPES];
+
+    private final SingleFlight<Long, SharedDiaryBody> loads;
+
+    public SharedDiaryResponseCache(ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${diary.share-cache.max-entries:2000}") int maxEntries,
+                                    @Value("${diary.share-cache.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.loads = new SingleFlight<>("shared-diary", meterRegistry);
+    }
+
+    public SharedDiaryBody get(Long diaryId, Supplier<DiaryResponse> loader) {
+        SharedDiaryBody cached = cached(diaryId);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(diaryId, () -> load(diaryId, loader));
+    }
+
+    private SharedDiaryBody load(Long diaryId, Supplier<DiaryResponse> loader) {
+        // 직전 leader가 캐시에 넣고 빠져나간 뒤에 들어온 경우
+        SharedDiaryBody cached = cached(diaryId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation;
+        synchronized (entries) {
+            generation = generations[stripe(diaryId)];
+        }
+        SharedDiaryBody body = serialize(loader.get());
+        putIfCurrent(diaryId, body, generation);
+        return body;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 무효화한다.
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막기 위함이다.
+     */
+    public void evict(Long diaryId) {
+        invalidate(diaryId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(diaryId);
+                }
+            });
+        }
+    }
+
+    /**
+     * gzip 을 직접 적은 항목이 있으면 그 q 값을 따르고, 없을 때만 * 의 q 값을 본다 (RFC 9110 12.5.3).
+     * "gzip;q=0, *" 은 gzip 을 거절한 것이다.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        Boolean wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                gzip = acceptable(parts);
+            } else if (coding.equals("*")) {
+                wildcard = acceptable(parts);
+            }
+        }
+        if (gzip != null) {
+            return gzip;
+        }
+        return wildcard != null && wildcard;
+    }
+
+    private static boolean acceptable(String[] parts) {
+        boolean acceptable = true;
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    acceptable = Double.parseDouble(param.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    acceptable = false;
+                }
+            }
+        }
+        return acceptable;
+    }
+
+    private SharedDiaryBody cached(Long diaryId) {
+        synchronized (entries) {
+            return entries.get(diaryId);
+        }
+    }
+
+    private void invalidate(Long diaryId) {
+        // 변경 이후 요청이 변경 전에 시작된 로딩에 합류하지 않게 한다
+        loads.forget(diaryId);
+        synchronized (entries) {
+            generations[stripe(diaryId)]++;
+            SharedDiaryBody removed = entries.remove(diaryId);
+            if (removed != null) {
+                totalBytes -= removed.weight();
+            }
+        }
+    }
+
+    // 로딩 도중 무효화되었다면 오래된 값일 수 있으므로 넣지 않는다. 비교와 저장을 무효화와 같은 잠금 안에서 한다.
+    private void putIfCurrent(Long diaryId, SharedDiaryBody body, long generation) {
+        synchronized (entries) {
+            if (generations[stripe(diaryId)] != generation) {
+                return;
+            }
+            SharedDiaryBody previous = entries.put(diaryId, body);
+            if (previous != null) {
+                totalBytes -= previous.weight();
+            }
+            totalBytes += body.weight();
+
+            Iterator<Map.Entry<Long, SharedDiaryBody>> iterator = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+                Map.Entry<Long, SharedDiaryBody> eldest = iterator.next();
+                totalBytes -= eldest.getValue().weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    private SharedDiaryBody serialize(DiaryResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.ok(response));
+            byte[] gzip = gzip(json);
+            return new SharedDiaryBody(json, gzip.length < json.length ? gzip : null, response.getGenre());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공유 다이어리 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(source.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static int stripe(Long diaryId) {
+        return (int) (diaryId & (STRIPES - 1));
+    }
+}
@@ -0,0 +1,191 @@
+package com.toonverti.service.sticker;
+
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.domain.sticker.StickerJdbcRepository;
+import com.toonverti.domain.sticker.StickerJdbcRepository.PendingTransform;
+import com.toonverti.domain.sticker.StickerTransform;
+import com.toonverti.service.diary.DiaryRevisionRecorder;
+import com.toonverti.service.share.SharedDiaryResponseCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에디터 자동 저장 버퍼
+ *
+ * 스티커를 끄는 동안 들어오는 작은 변경값을 다이어리별로 메모리에 모아 두고, 같은 스티커의 변경은
+ * 항목별로 마지막 값만 남긴다. flush-interval-ms 주기로 모아 둔 변경을 UPDATE 배치 하나로 저장한다.
+ *
+ * 다이어리를 조회하거나 스티커를 개별 수정하기 전에는 그 다이어리의 변경을 먼저 저장해
+ * 자동 저장한 내용이 조회 결과에 바로 보이게 한다. 샤딩 중에는 다이어리의 샤드별로 나눠 저장한다.
+ * 저장할 때마다 다이어리별로 리비전 하나를 같은 트랜잭션에서 남긴다 (그 사이 모인 변경을 한 리비전으로 합친다).
+ *
+ * 쓰기 트랜잭션 안에서 불리면 그 트랜잭션에 합류해 저장하고, 롤백되면 꺼낸 변경을 버퍼로 되돌린다.
+ * 커넥션을 하나 더 잡지 않도록 읽기 전용 트랜잭션 안에서는 부르지 않는다 (조회는 트랜잭션을 열기 전에 저장한다).
+ */
+@Slf4j
+@Component
+public class StickerAutosaveBuffer {
+
+    private final StickerJdbcRepository stickerJdbcRepository;
+    private final SharedDiaryResponseCache sharedDiaryResponseCache;
+    private final DiaryRevisionRecorder diaryRevisionRecorder;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int maxPendingDiaries;
+
+    // diaryId -> (stickerId -> 합쳐진 변경값), 안쪽 맵은 compute 안에서만 고친다
+    private final ConcurrentHashMap<Long, Map<Long, StickerTransform>> pending = new ConcurrentHashMap<>();
+
+    public StickerAutosaveBuffer(StickerJdbcRepository stickerJdbcRepository,
+                                 SharedDiaryResponseCache sharedDiaryResponseCache,
+                                 DiaryRevisionRecorder diaryRevisionRecorder,
+                                 ShardRouter shardRouter,
+                                 PlatformTransactionManager transactionManager,
+                                 Clock clock,
+                                 @Value("${sticker.autosave.max-pending-diaries:10000}") int maxPendingDiaries) {
+        this.stickerJdbcRepository = stickerJdbcRepository;
+        this.sharedDiaryResponseCache = sharedDiaryResponseCache;
+        this.diaryRevisionRecorder = diaryRevisionRecorder;
+        this.shardRouter = shardRouter;
+        // 진행 중인 트랜잭션이 없을 때(주기 저장, 조회 전 저장)만 쓴다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.maxPendingDiaries = maxPendingDiaries;
+    }
+
+    public void add(Long diaryId, Map<Long, StickerTransform> deltas) {
+        pending.compute(diaryId, (id, stickers) -> {
+            Map<Long, StickerTransform> merged = stickers != null ? stickers : new HashMap<>();
+            deltas.forEach((stickerId, delta) -> merged.merge(stickerId, delta, (current, newer) -> {
+                current.overwriteWith(newer);
+                return current;
+            }));
+            return merged;
+        });
+        if (pending.size() > maxPendingDiaries) {
+            // 버퍼가 한도를 넘으면 주기를 기다리지 않고 바로 비운다
+            flushAll();
+        }
+    }
+
+    public boolean hasPending(Long diaryId) {
+        return pending.containsKey(diaryId);
+    }
+
+    // 다이어리 하나의 변경을 바로 저장한다 (조회/개별 수정 전에 호출)
+    public void flush(Long diaryId) {
+        Map<Long, StickerTransform> stickers = pending.remove(diaryId);
+        if (stickers != null) {
+            write(Map.of(diaryId, stickers));
+        }
+    }
+
+    // 스티커 전체를 다시 쓰거나 다이어리를 지울 때는 모아 둔 변경이 의미가 없다
+    public void discard(Long diaryId) {
+        pending.remove(diaryId);
+    }
+
+    @Scheduled(fixedDelayString = "${sticker.autosave.flush-interval-ms:2000}")
+    @PreDestroy
+    public void flushAll() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Map<Long, StickerTransform>> drained = new HashMap<>();
+        for (Long diaryId : new ArrayList<>(pending.keySet())) {
+            Map<Long, StickerTransform> stickers = pending.remove(diaryId);
+            if (stickers != null) {
+                drained.put(diaryId, stickers);
+            }
+        }
+        if (!drained.isEmpty()) {
+            write(drained);
+        }
+    }
+
+    private void write(Map<Long, Map<Long, StickerTransform>> drained) {
+        Map<Integer, Map<Long, Map<Long, StickerTransform>>> byShard = new HashMap<>();
+        drained.forEach((diaryId, stickers) -> byShard
+                .computeIfAbsent(shardRouter.shardOfDiary(diaryId), shard -> new HashMap<>())
+                .put(diaryId, stickers));
+        byShard.forEach((shard, diaries) -> ShardContext.run(shard, () -> writeShard(diaries)));
+    }
+
+    private void writeShard(Map<Long, Map<Long, StickerTransform>> drained) {
+        List<PendingTransform> transforms = new ArrayList<>();
+        drained.forEach((diaryId, stickers) -> stickers.forEach((stickerId, transform) ->
+                transforms.add(new PendingTransform(diaryId, stickerId, transform))));
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            writeInCallerTransaction(drained, transforms);
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeTransforms(drained, transforms));
+        } catch (DataAccessException e) {
+            log.warn("스티커 자동 저장 실패, 다음 주기에 다시 시도: diaries={}, stickers={}, cause={}",
+                    drained.size(), transforms.size(), e.getMostSpecificCause().getMessage());
+            drained.forEach(this::restore);
+            return;
+        }
+        drained.keySet().forEach(sharedDiaryResponseCache::evict);
+    }
+
+    // 호출한 쪽 트랜잭션과 함께 커밋/롤백한다. 실패는 호출한 쪽으로 올린다
+    private void writeInCallerTransaction(Map<Long, Map<Long, StickerTransform>> drained,
+                                          List<PendingTransform> transforms) {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            drained.forEach(this::restore);
+            throw new IllegalStateException("읽기 전용 트랜잭션 안에서는 자동 저장한 변경을 저장할 수 없습니다: diaries="
+                    + drained.keySet());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    drained.keySet().forEach(sharedDiaryResponseCache::evict);
+                } else {
+                    drained.forEach(StickerAutosaveBuffer.this::restore);
+                }
+            }
+        });
+        writeTransforms(drained, transforms);
+    }
+
+    private void writeTransforms(Map<Long, Map<Long, StickerTransform>> drained, List<PendingTransform> transforms) {
+        diaryRevisionRecorder.recordAround(drained.keySet(),
+                () -> stickerJdbcRepository.batchUpdateTransforms(transforms, LocalDateTime.now(clock)));
+    }
+
+    // 저장에 실패한 변경을 되돌려 넣되, 그 사이 들어온 더 새로운 값은 유지한다
+    private void restore(Long diaryId, Map<Long, StickerTransform> failed) {
+        pending.compute(diaryId, (id, stickers) -> {
+            if (stickers == null) {
+                return failed;
+            }
+            failed.forEach((stickerId, older) -> stickers.merge(stickerId, older, (newer, previous) -> {
+                newer.fillFrom(previous);
+                return newer;
+            }));
+            return stickers;
+        });
+    }
+}
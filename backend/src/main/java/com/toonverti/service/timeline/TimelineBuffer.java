@@ -0,0 +1,125 @@
+package com.toonverti.service.timeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 한 명의 타임라인 버퍼
+ *
+ * (공개 시각, 다이어리 ID) 내림차순으로 정렬된 고정 크기 배열이며,
+ * 가득 차면 가장 오래된 항목부터 밀려난다. 새 글은 대부분 맨 앞에 들어가므로
+ * 삽입은 사실상 배열 이동 한 번이다.
+ */
+public class TimelineBuffer {
+
+    private final long[] keys;
+    private final long[] diaryIds;
+    private final long[] authorIds;
+    private int size;
+
+    private volatile boolean seeded;
+    private volatile long lastAccessNanos;
+
+    public TimelineBuffer(int capacity, long nowNanos) {
+        this.keys = new long[capacity];
+        this.diaryIds = new long[capacity];
+        this.authorIds = new long[capacity];
+        this.lastAccessNanos = nowNanos;
+    }
+
+    public synchronized void insert(long key, long diaryId, long authorId) {
+        // 같은 다이어리가 다시 공개되면 이전 위치를 지우고 새 위치에 넣는다
+        for (int i = 0; i < size; i++) {
+            if (diaryIds[i] == diaryId) {
+                if (keys[i] == key) {
+                    return;
+                }
+                removeAt(i);
+                break;
+            }
+        }
+
+        int pos = position(key, diaryId);
+        if (pos >= keys.length) {
+            return;
+        }
+        int moved = Math.min(size, keys.length - 1) - pos;
+        if (moved > 0) {
+            System.arraycopy(keys, pos, keys, pos + 1, moved);
+            System.arraycopy(diaryIds, pos, diaryIds, pos + 1, moved);
+            System.arraycopy(authorIds, pos, authorIds, pos + 1, moved);
+        }
+        keys[pos] = key;
+        diaryIds[pos] = diaryId;
+        authorIds[pos] = authorId;
+        if (size < keys.length) {
+            size++;
+        }
+    }
+
+    /**
+     * 커서(key, diaryId)보다 오래된 항목을 최신순으로 최대 limit 개 반환한다.
+     */
+    public synchronized List<TimelineEntry> before(long cursorKey, long cursorDiaryId, int limit) {
+        List<TimelineEntry> result = new ArrayList<>(Math.min(limit, size));
+        for (int i = position(cursorKey, cursorDiaryId); i < size && result.size() < limit; i++) {
+            if (keys[i] == cursorKey && diaryIds[i] == cursorDiaryId) {
+                continue;
+            }
+            result.add(new TimelineEntry(keys[i], diaryIds[i], authorIds[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 버퍼가 가득 찼다면 가장 오래된 항목의 키, 아니면 Long.MIN_VALUE.
+     * 이보다 오래된 구간은 버퍼만으로는 완전하지 않다.
+     */
+    public synchronized long horizon() {
+        return size == keys.length ? keys[size - 1] : Long.MIN_VALUE;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public void markSeeded() {
+        this.seeded = true;
+    }
+
+    public long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    public void touch(long nowNanos) {
+        this.lastAccessNanos = nowNanos;
+    }
+
+    // 내림차순 배열에서 (key, diaryId)가 들어갈 첫 위치
+    private int position(long key, long diaryId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] > key || (keys[mid] == key && diaryIds[mid] > diaryId)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(diaryIds, index + 1, diaryIds, index, moved);
+            System.arraycopy(authorIds, index + 1, authorIds, index, moved);
+        }
+        size--;
+    }
+
+    public record TimelineEntry(long key, long diaryId, long authorId) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.toonverti.service.timeline;
+
+import com.toonverti.event.DomainEvent;
+import com.toonverti.event.DomainEventSubscriber;
+import com.toonverti.event.diary.DiaryCreatedEvent;
+import com.toonverti.event.diary.DiaryPublishedEvent;
+import com.toonverti.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 새로 공개된 다이어리를 친구 타임라인에 넣는다
+ */
+@Component
+@RequiredArgsConstructor
+public class TimelineEventSubscriber implements DomainEventSubscriber {
+
+    private final TimelineService timelineService;
+
+    @Override
+    public String name() {
+        return "timeline";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof DiaryPublishedEvent
+                || event instanceof DiaryCreatedEvent created && created.publishedAt() != null;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof DiaryCreatedEvent created) {
+                timelineService.publish(created.userId(), created.diaryId(), created.publishedAt());
+            } else if (event instanceof DiaryPublishedEvent published) {
+                timelineService.publish(published.userId(), published.diaryId(), published.publishedAt());
+            }
+        }
+    }
+}
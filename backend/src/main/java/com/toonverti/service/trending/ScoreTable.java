@@ -0,0 +1,144 @@
+package com.toonverti.service.trending;
+
+import java.util.Arrays;
+
+/**
+ * 다이어리 ID -> (로그 점수, 장르 번호) 오픈 어드레싱 해시 테이블
+ *
+ * 박싱 없이 원시 배열만 사용한다. 선형 탐사를 쓰고, 삭제는 묘비 대신
+ * 뒤따르는 항목을 당겨 채우는 방식(backward shift)으로 처리한다.
+ * 다이어리 ID는 양수이므로 0을 빈 칸 표시로 쓴다. 동기화는 호출 측 책임이다.
+ */
+final class ScoreTable {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private double[] scores;
+    private int[] genres;
+    private int size;
+    private int mask;
+
+    ScoreTable(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @return 로그 점수, 없으면 NaN
+     */
+    double score(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? scores[index] : Double.NaN;
+    }
+
+    /**
+     * @return 장르 번호, 없으면 -1
+     */
+    int genre(long key) {
+        int index = indexOf(key);
+        return index >= 0 ? genres[index] : -1;
+    }
+
+    void put(long key, double score, int genre) {
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+        int index = slot(key);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                scores[index] = score;
+                genres[index] = genre;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        scores[index] = score;
+        genres[index] = genre;
+        size++;
+    }
+
+    boolean remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        // 뒤쪽 항목 중 원래 자리가 빈 칸 이전인 것을 당겨 와 탐사 사슬이 끊기지 않게 한다
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next]);
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                scores[hole] = scores[next];
+                genres[hole] = genres[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+        return true;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], scores[i], genres[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, double score, int genre);
+    }
+
+    private int indexOf(long key) {
+        int index = slot(key);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        double[] oldScores = scores;
+        int[] oldGenres = genres;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldScores[i], oldGenres[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        scores = new double[capacity];
+        genres = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,141 @@
+package com.toonverti.service.trending;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로그 점수 기준 상위 K개를 유지하는 최소 힙
+ *
+ * 루트가 K개 중 가장 낮은 점수라서 새 후보는 루트와 한 번만 비교하면 된다.
+ * K가 작으므로(수십~백) 포함 여부는 선형 탐색으로 찾는다. 동기화는 호출 측 책임이다.
+ */
+final class TopKHeap {
+
+    private final long[] ids;
+    private final double[] scores;
+    private int size;
+
+    TopKHeap(int capacity) {
+        this.ids = new long[capacity];
+        this.scores = new double[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == ids.length;
+    }
+
+    double minScore() {
+        return size == 0 ? Double.NEGATIVE_INFINITY : scores[0];
+    }
+
+    /**
+     * 이미 있는 항목이면 점수만 바꿔 제자리에서 다시 맞추고,
+     * 없으면 자리가 남았거나 현재 최저점보다 높을 때만 넣는다.
+     */
+    void offer(long id, double score) {
+        int index = indexOf(id);
+        if (index >= 0) {
+            scores[index] = score;
+            siftDown(index);
+            siftUp(index);
+            return;
+        }
+        if (size < ids.length) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+            return;
+        }
+        if (score > scores[0]) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    boolean remove(long id) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return false;
+        }
+        size--;
+        if (index != size) {
+            ids[index] = ids[size];
+            scores[index] = scores[size];
+            siftDown(index);
+            siftUp(index);
+        }
+        return true;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * 점수 내림차순 사본. 스냅샷 게시 시점에만 호출한다.
+     */
+    List<Ranked> sortedDescending() {
+        List<Ranked> ranked = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ranked.add(new Ranked(ids[i], scores[i]));
+        }
+        ranked.sort((a, b) -> Double.compare(b.logScore(), a.logScore()));
+        return ranked;
+    }
+
+    record Ranked(long diaryId, double logScore) {
+    }
+
+    private int indexOf(long id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
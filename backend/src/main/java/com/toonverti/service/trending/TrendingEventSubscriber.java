@@ -0,0 +1,43 @@
+package com.toonverti.service.trending;
+
+import com.toonverti.event.DomainEvent;
+import com.toonverti.event.DomainEventSubscriber;
+import com.toonverti.event.diary.DiaryDeletedEvent;
+import com.toonverti.event.diary.DiaryEvent;
+import com.toonverti.event.diary.DiaryTrashedEvent;
+import com.toonverti.event.diary.DiaryUnpublishedEvent;
+import com.toonverti.event.diary.DiaryUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 비공개 전환/휴지통/삭제된 다이어리를 트렌딩 순위에서 뺀다
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingEventSubscriber implements DomainEventSubscriber {
+
+    private final TrendingTracker trendingTracker;
+
+    @Override
+    public String name() {
+        return "trending";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof DiaryUnpublishedEvent
+                || event instanceof DiaryTrashedEvent
+                || event instanceof DiaryDeletedEvent
+                || event instanceof DiaryUpdatedEvent updated && !updated.isPublic();
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            trendingTracker.remove(((DiaryEvent) event).diaryId());
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.toonverti.service.trending;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.*;
+
+/**
+ * 시간 감쇠 점수 기반 트렌딩 집계기
+ *
+ * 점수는 지수 감쇠 합 Σ w·2^(-(now - t)/halfLife) 이다. 이를 고정 기준 시각(EPOCH_MILLIS)
+ * 기준의 로그 값 ln(Σ w·e^(λ(t - epoch)))으로 저장하면 시간이 흘러도 모든 항목이 같은 양만큼
+ * 줄어들 뿐 순서는 변하지 않으므로, 이벤트가 들어온 항목만 갱신하면 되고 주기적 재계산이 필요 없다.
+ *
+ * 장르별/전체 상위 K 힙은 이벤트마다 갱신하고, 읽기용 정렬 스냅샷은 주기적으로 게시한다.
+ * 조회는 게시된 목록을 그대로 돌려주므로 O(K)이며 DB를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+public class TrendingTracker {
+
+    // 2024-01-01T00:00:00Z, 로그 점수가 커지지 않도록 잡은 기준 시각
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    private static final double MILLIS_PER_HOUR = 3_600_000d;
+
+    private static final int CHECKPOINT_MAGIC = 0x54524E44;
+    private static final int CHECKPOINT_VERSION = 1;
+
+    // 전체 순위는 장르 번호 대신 이 키로 구분한다
+    private static final String ALL_GENRES = "*";
+
+    private final Clock clock;
+    private final double halfLifeHours;
+    private final double lambda;
+    private final int topK;
+    private final double pruneThreshold;
+    private final Path checkpointPath;
+
+    private final Object lock = new Object();
+    private final ScoreTable scores = new ScoreTable(1024);
+    private final List<String> genreNames = new ArrayList<>();
+    private final Map<String, Integer> genreIds = new HashMap<>();
+    private final List<TopKHeap> genreHeaps = new ArrayList<>();
+    private final TopKHeap globalHeap;
+    private final Set<String> dirtyKeys = new HashSet<>();
+
+    // 읽기 전용 스냅샷: 장르(또는 ALL_GENRES) -> 점수 내림차순 목록
+    private volatile Map<String, List<TopKHeap.Ranked>> snapshots = Map.of();
+
+    public TrendingTracker(Clock clock,
+                           @Value("${trending.half-life-hours:24}") double halfLifeHours,
+                           @Value("${trending.top-k:50}") int topK,
+                           @Value("${trending.prune-below:0.05}") double pruneBelow,
+                           @Value("${trending.checkpoint-path:${java.io.tmpdir}/toonverti-trending.bin}") String checkpointPath) {
+        this.clock = clock;
+        this.halfLifeHours = halfLifeHours;
+        this.lambda = Math.log(2) / halfLifeHours;
+        this.topK = topK;
+        this.pruneThreshold = Math.log(pruneBelow);
+        this.checkpointPath = Paths.get(checkpointPath).toAbsolutePath();
+        this.globalHeap = new TopKHeap(topK);
+    }
+
+    @PostConstruct
+    public void restore() {
+        if (!Files.isRegularFile(checkpointPath)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointPath)))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != CHECKPOINT_VERSION) {
+                log.warn("트렌딩 체크포인트 형식이 달라 무시합니다: {}", checkpointPath);
+                return;
+            }
+            if (in.readDouble() != halfLifeHours) {
+                // 감쇠율이 바뀌면 저장된 로그 점수를 그대로 쓸 수 없다
+                log.warn("트렌딩 반감기 설정이 바뀌어 체크포인트를 무시합니다: {}", checkpointPath);
+                return;
+            }
+            synchronized (lock) {
+                int genreCount = in.readInt();
+                for (int i = 0; i < genreCount; i++) {
+                    genreId(in.readUTF());
+                }
+                int entryCount = in.readInt();
+                for (int i = 0; i < entryCount; i++) {
+                    long diaryId = in.readLong();
+                    int genre = in.readInt();
+                    double score = in.readDouble();
+                    scores.put(diaryId, score, genre);
+                    genreHeaps.get(genre).offer(diaryId, score);
+                    globalHeap.offer(diaryId, score);
+                }
+                dirtyKeys.addAll(genreNames);
+                dirtyKeys.add(ALL_GENRES);
+                log.info("트렌딩 체크포인트 복원: entries={}", entryCount);
+            }
+            publishSnapshots();
+        } catch (IOException | RuntimeException e) {
+            log.warn("트렌딩 체크포인트를 읽지 못했습니다: {}", checkpointPath, e);
+        }
+    }
+
+    /**
+     * 이벤트 반영. 장르가 바뀌었으면 이전 장르 순위에서 옮긴다.
+     */
+    public void record(long diaryId, String genre, double weight) {
+        double eventScore = Math.log(weight) + lambda * hoursSinceEpoch();
+        String genreKey = genre != null ? genre : "";
+        synchronized (lock) {
+            int genreIndex = genreId(genreKey);
+            double previous = scores.score(diaryId);
+            int previousGenre = scores.genre(diaryId);
+            double score = Double.isNaN(previous) ? eventScore : logAddExp(previous, eventScore);
+            scores.put(diaryId, score, genreIndex);
+
+            if (previousGenre >= 0 && previousGenre != genreIndex) {
+                removeFromHeap(previousGenre, diaryId);
+            }
+            genreHeaps.get(genreIndex).offer(diaryId, score);
+            globalHeap.offer(diaryId, score);
+            dirtyKeys.add(genreKey);
+            dirtyKeys.add(ALL_GENRES);
+        }
+    }
+
+    /**
+     * 이미 집계 중인 다이어리에만 반영한다 (좋아요처럼 장르를 모르는 이벤트용).
+     */
+    public boolean recordIfTracked(long diaryId, double weight) {
+        String genre;
+        synchronized (lock) {
+            int genreId = scores.genre(diaryId);
+            if (genreId < 0) {
+                return false;
+            }
+            genre = genreNames.get(genreId);
+        }
+        record(diaryId, genre, weight);
+        return true;
+    }
+
+    // 비공개 전환/삭제된 다이어리를 순위에서 뺀다
+    public void remove(long diaryId) {
+        synchronized (lock) {
+            int genre = scores.genre(diaryId);
+            if (genre < 0) {
+                return;
+            }
+            scores.remove(diaryId);
+            removeFromHeap(genre, diaryId);
+            if (globalHeap.remove(diaryId)) {
+                refill(globalHeap, -1);
+            }
+            dirtyKeys.add(ALL_GENRES);
+        }
+    }
+
+    /**
+     * @param genre null이면 전체 순위
+     * @return 점수 내림차순 (다이어리 ID, 현재 감쇠 점수)
+     */
+    public List<TrendingScore> top(String genre, int limit) {
+        List<TopKHeap.Ranked> ranked = snapshots.getOrDefault(genre != null ? genre : ALL_GENRES, List.of());
+        double offset = lambda * hoursSinceEpoch();
+        int count = Math.min(limit, ranked.size());
+        List<TrendingScore> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TopKHeap.Ranked entry = ranked.get(i);
+            result.add(new TrendingScore(entry.diaryId(), Math.exp(entry.logScore() - offset)));
+        }
+        return result;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    @Scheduled(fixedDelayString = "${trending.snapshot-interval-ms:1000}")
+    public void publishSnapshots() {
+        synchronized (lock) {
+            if (dirtyKeys.isEmpty()) {
+                return;
+            }
+            Map<String, List<TopKHeap.Ranked>> next = new HashMap<>(snapshots);
+            for (String key : dirtyKeys) {
+                TopKHeap heap = key.equals(ALL_GENRES) ? globalHeap : genreHeaps.get(genreIds.get(key));
+                next.put(key, List.copyOf(heap.sortedDescending()));
+            }
+            dirtyKeys.clear();
+            snapshots = Map.copyOf(next);
+        }
+    }
+
+    /**
+     * 충분히 식은 항목을 정리한 뒤 점수 표를 파일로 저장한다. 임시 파일에 쓴 뒤 원자적으로 교체한다.
+     */
+    @Scheduled(fixedDelayString = "${trending.checkpoint-interval-ms:60000}")
+    @PreDestroy
+    public void checkpoint() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            synchronized (lock) {
+                prune();
+                out.writeInt(CHECKPOINT_MAGIC);
+                out.writeInt(CHECKPOINT_VERSION);
+                out.writeDouble(halfLifeHours);
+                out.writeInt(genreNames.size());
+                for (String name : genreNames) {
+                    out.writeUTF(name);
+                }
+                out.writeInt(scores.size());
+                IOException[] failure = new IOException[1];
+                scores.forEach((diaryId, score, genre) -> {
+                    try {
+                        out.writeLong(diaryId);
+                        out.writeInt(genre);
+                        out.writeDouble(score);
+                    } catch (IOException e) {
+                        failure[0] = e;
+                    }
+                });
+                if (failure[0] != null) {
+                    throw failure[0];
+                }
+            }
+        } catch (IOException e) {
+            log.warn("트렌딩 체크포인트 직렬화 실패", e);
+            return;
+        }
+
+        try {
+            Files.createDirectories(checkpointPath.getParent());
+            Path temp = Files.createTempFile(checkpointPath.getParent(), "trending", ".tmp");
+            try {
+                Files.write(temp, buffer.toByteArray());
+                Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("트렌딩 체크포인트 저장 실패: {}", checkpointPath, e);
+        }
+    }
+
+    public record TrendingScore(long diaryId, double score) {
+    }
+
+    // 현재 감쇠 점수가 기준 미만이고 어느 순위에도 없는 항목 제거
+    private void prune() {
+        double threshold = pruneThreshold + lambda * hoursSinceEpoch();
+        List<Long> cold = new ArrayList<>();
+        scores.forEach((diaryId, score, genre) -> {
+            if (score < threshold && score < genreHeaps.get(genre).minScore() && score < globalHeap.minScore()) {
+                cold.add(diaryId);
+            }
+        });
+        cold.forEach(scores::remove);
+    }
+
+    private void removeFromHeap(int genre, long diaryId) {
+        TopKHeap heap = genreHeaps.get(genre);
+        if (heap.remove(diaryId)) {
+            refill(heap, genre);
+        }
+        dirtyKeys.add(genreNames.get(genre));
+    }
+
+    // 힙에서 빠진 자리를 점수 표 전체에서 다시 채운다 (삭제 시에만 발생하는 O(N) 작업)
+    private void refill(TopKHeap heap, int genre) {
+        heap.clear();
+        scores.forEach((diaryId, score, entryGenre) -> {
+            if (genre < 0 || entryGenre == genre) {
+                heap.offer(diaryId, score);
+            }
+        });
+    }
+
+    private int genreId(String genre) {
+        Integer id = genreIds.get(genre);
+        if (id != null) {
+            return id;
+        }
+        int next = genreNames.size();
+        genreNames.add(genre);
+        genreIds.put(genre, next);
+        genreHeaps.add(new TopKHeap(topK));
+        return next;
+    }
+
+    private double hoursSinceEpoch() {
+        return (clock.millis() - EPOCH_MILLIS) / MILLIS_PER_HOUR;
+    }
+
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+}
@@ -0,0 +1,51 @@
+package db.migration;
+
+import com.toonverti.domain.diary.DiaryMemo;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 압축한 메모(search_text 가 null)에 검색용 낱말을 채우고 search_text 를 not null 로 바꾼다.
+ * 압축은 SQL에서 풀 수 없어 자바 마이그레이션으로 두고, 값은 앱이 저장할 때와 같은 DiaryMemo.searchTextOf 로 만든다.
+ */
+public class V10__memo_search_tokens extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, content FROM diary_memos WHERE search_text IS NULL AND id > ? ORDER BY id LIMIT ?");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE diary_memos SET search_text = ? WHERE id = ?")) {
+            long lastId = 0;
+            int rows;
+            do {
+                rows = 0;
+                select.setLong(1, lastId);
+                select.setInt(2, BATCH_SIZE);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        lastId = rs.getLong(1);
+                        update.setString(1, DiaryMemo.searchTextOf(rs.getBytes(2)));
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows > 0) {
+                    update.executeBatch();
+                }
+            } while (rows == BATCH_SIZE);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE diary_memos ALTER COLUMN search_text SET NOT NULL");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+-- Flyway 도입 전 운영 DB의 스키마 (ddl-auto=update 가 users, diaries, stickers 엔티티로 만든 것)
+-- 이미 있는 DB는 이 버전을 기준선으로 기록하고 V2부터 적용한다 (spring.flyway.baseline-*)
+
+create table users (
+    onboarding_completed boolean not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6) not null,
+    role varchar(20) not null check (role in ('USER','ADMIN')),
+    nickname varchar(50) not null,
+    email varchar(100) not null unique,
+    bio varchar(200),
+    avatar_url varchar(500),
+    password varchar(255) not null,
+    primary key (id)
+);
+
+create table diaries (
+    date date,
+    is_deleted boolean not null,
+    is_public boolean not null,
+    like_count integer not null,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6) not null,
+    user_id bigint not null,
+    genre varchar(50),
+    title varchar(200) not null,
+    memo TEXT,
+    primary key (id)
+);
+
+create table stickers (
+    height integer not null,
+    rotation float(53) not null,
+    width integer not null,
+    x integer not null,
+    y integer not null,
+    z_index integer not null,
+    created_at timestamp(6) not null,
+    diary_id bigint not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6) not null,
+    type varchar(50) not null,
+    src varchar(500) not null,
+    primary key (id)
+);
+
+alter table if exists diaries
+   add constraint FKki7hoimuu910cy56y2695to5e
+   foreign key (user_id)
+   references users;
+
+alter table if exists stickers
+   add constraint FKee297x46vc6byn7ji9and67i4
+   foreign key (diary_id)
+   references diaries;
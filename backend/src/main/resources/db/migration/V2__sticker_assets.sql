@@ -0,0 +1,30 @@
+-- 스티커 원본(src)을 sticker_assets 에 한 번만 두고 스티커는 asset_id 로 가리킨다.
+-- hash 는 StickerAssetServiceImpl 과 같은 SHA-256(UTF-8 src) 16진수 문자열이다.
+
+create table sticker_assets (
+    id integer generated by default as identity,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    hash varchar(64) not null unique,
+    src varchar(500) not null,
+    primary key (id)
+);
+
+insert into sticker_assets (created_at, updated_at, hash, src)
+select now(), now(), encode(sha256(convert_to(src, 'UTF8')), 'hex'), src
+from (select distinct src from stickers) legacy;
+
+alter table stickers add column asset_id integer;
+
+update stickers s
+set asset_id = a.id
+from sticker_assets a
+where a.src = s.src;
+
+alter table stickers alter column asset_id set not null;
+alter table stickers drop column src;
+
+alter table if exists stickers
+   add constraint FKbnd0c87qt517kqrw57f5yxq3m
+   foreign key (asset_id)
+   references sticker_assets;
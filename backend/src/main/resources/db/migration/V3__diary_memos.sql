@@ -0,0 +1,29 @@
+-- 메모를 diary_memos 로 옮겨 다이어리 목록이 본문을 읽지 않게 한다.
+-- 옮긴 메모는 압축하지 않은 형식(첫 바이트 0 + UTF-8 본문)으로 두고, 다음에 고칠 때 기준 크기를 넘으면 압축된다.
+-- search_text 는 압축하지 않은 메모의 소문자 본문이다 (DiaryMemo.searchTextOf).
+
+create table diary_memos (
+    id bigint generated by default as identity,
+    content bytea not null,
+    search_text text,
+    primary key (id)
+);
+
+alter table diaries add column memo_id bigint unique;
+
+-- 메모 ID는 다이어리 ID를 그대로 쓰고, 새 메모는 그 뒤부터 발급한다
+insert into diary_memos (id, content, search_text)
+select id, decode('00', 'hex') || convert_to(memo, 'UTF8'), lower(memo)
+from diaries
+where memo is not null;
+
+update diaries set memo_id = id where memo is not null;
+
+select setval(pg_get_serial_sequence('diary_memos', 'id'), (select coalesce(max(id), 0) + 1 from diary_memos), false);
+
+alter table diaries drop column memo;
+
+alter table if exists diaries
+   add constraint FKd8pbsp0bvojbfmyb76xuqwxi3
+   foreign key (memo_id)
+   references diary_memos;
@@ -0,0 +1,17 @@
+-- 낙관적 잠금 버전과 병합 판단용 버전, 타임라인 공개 시각, 동기화용 스티커 변경 시각.
+-- 기존 행은 버전 0으로 시작하고, 이미 공개된 다이어리는 만든 시각을 공개 시각으로 본다.
+
+alter table diaries add column version bigint not null default 0;
+alter table diaries add column content_version bigint not null default 0;
+alter table diaries add column public_version bigint not null default 0;
+alter table diaries add column published_at timestamp(6);
+alter table diaries add column stickers_updated_at timestamp(6);
+
+alter table diaries alter column version drop default;
+alter table diaries alter column content_version drop default;
+alter table diaries alter column public_version drop default;
+
+update diaries set published_at = created_at where is_public and not is_deleted;
+
+alter table stickers add column version bigint not null default 0;
+alter table stickers alter column version drop default;
@@ -0,0 +1,109 @@
+-- 친구 관계(사용자 쌍마다 한 행)와 작품 카탈로그, 사용자별 서재
+
+create table friendships (
+    accepted_at timestamp(6),
+    addressee_id bigint not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    requester_id bigint not null,
+    updated_at timestamp(6) not null,
+    user_high_id bigint not null,
+    user_low_id bigint not null,
+    status varchar(20) not null check (status in ('PENDING','ACCEPTED')),
+    primary key (id),
+    constraint uk_friendships_pair unique (user_low_id, user_high_id)
+);
+
+create table webtoon_titles (
+    library_count integer not null,
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6) not null,
+    platform varchar(20) not null check (platform in ('NAVER','KAKAO','LEZHIN','TOPTOON','RIDI','OTHER')),
+    type varchar(20) not null check (type in ('WEBTOON','WEBNOVEL')),
+    author varchar(100),
+    title varchar(200) not null,
+    cover_image varchar(500),
+    description TEXT,
+    primary key (id),
+    unique (platform, title)
+);
+
+create table webtoon_title_genres (
+    title_id bigint not null,
+    genre varchar(20) not null,
+    primary key (title_id, genre)
+);
+
+create table library_folders (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6) not null,
+    user_id bigint not null,
+    color varchar(20),
+    name varchar(50) not null,
+    primary key (id)
+);
+
+create table library_cards (
+    rating integer not null,
+    created_at timestamp(6) not null,
+    folder_id bigint,
+    id bigint generated by default as identity,
+    title_id bigint not null,
+    updated_at timestamp(6) not null,
+    user_id bigint not null,
+    status varchar(20) not null check (status in ('WATCHING','PLAN_TO_WATCH','COMPLETED','ON_HOLD')),
+    primary key (id),
+    unique (user_id, title_id)
+);
+
+create index idx_webtoon_titles_platform
+   on webtoon_titles (platform, id);
+
+create index idx_webtoon_title_genres_genre
+   on webtoon_title_genres (genre, title_id);
+
+create index idx_library_folders_user
+   on library_folders (user_id);
+
+create index idx_library_cards_user_status
+   on library_cards (user_id, status, id);
+
+create index idx_library_cards_user_folder
+   on library_cards (user_id, folder_id, id);
+
+alter table if exists friendships
+   add constraint FKeq5r8dvxs43wkt7or9pdno9av
+   foreign key (addressee_id)
+   references users;
+
+alter table if exists friendships
+   add constraint FKas6bp8so5n3pfcqtfxt72e1ii
+   foreign key (requester_id)
+   references users;
+
+alter table if exists webtoon_title_genres
+   add constraint FKosq79p92gybxrg20njmmm9ew
+   foreign key (title_id)
+   references webtoon_titles;
+
+alter table if exists library_folders
+   add constraint FK7gnkig5k6hoy066pfpbyv5snv
+   foreign key (user_id)
+   references users;
+
+alter table if exists library_cards
+   add constraint FKnrveiehgeslrs22xuwwaxkm3i
+   foreign key (folder_id)
+   references library_folders;
+
+alter table if exists library_cards
+   add constraint FKbpx3slr5ff5cvub2fpem1ughm
+   foreign key (title_id)
+   references webtoon_titles;
+
+alter table if exists library_cards
+   add constraint FKishd3lcb2atg7qsgnur4oregq
+   foreign key (user_id)
+   references users;
@@ -0,0 +1,67 @@
+-- 멱등 키 응답 저장, 트랜잭션 아웃박스와 전달 포기 행, 사용자 샤드 디렉터리와 이동한 다이어리 ID 별칭
+
+create table idempotency_records (
+    status integer not null,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    key_hash varchar(64) not null,
+    request_hash varchar(64),
+    content_type varchar(100),
+    body bytea not null,
+    primary key (key_hash)
+);
+
+create table outbox_events (
+    created_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    locked_until timestamp(6),
+    locked_by varchar(36),
+    event_type varchar(200) not null,
+    payload TEXT not null,
+    attempts integer not null default 0,
+    primary key (id)
+);
+
+create table outbox_dead_letters (
+    id bigint not null,
+    created_at timestamp(6) not null,
+    failed_at timestamp(6) not null,
+    attempts integer not null,
+    event_type varchar(200) not null,
+    payload TEXT not null,
+    primary key (id)
+);
+
+create table user_shard_assignments (
+    shard integer not null,
+    assigned_at timestamp(6) not null,
+    moving_since timestamp(6),
+    updated_at timestamp(6),
+    user_id bigint not null,
+    primary key (user_id)
+);
+
+create table diary_id_aliases (
+    moved_at timestamp(6) not null,
+    new_id bigint not null,
+    old_id bigint not null,
+    primary key (old_id)
+);
+
+create index idx_idempotency_records_expires_at
+   on idempotency_records (expires_at);
+
+-- 릴레이는 아직 아무도 가져가지 않은 행(locked_until IS NULL)을 id 순으로, 남는 자리에 미뤄 둔 시각이 지난 행을 가져간다
+create index idx_outbox_events_unclaimed
+   on outbox_events (id)
+   where locked_until is null;
+
+create index idx_outbox_events_locked_until
+   on outbox_events (locked_until)
+   where locked_until is not null;
+
+create index idx_user_shard_assignments_updated_at
+   on user_shard_assignments (updated_at);
+
+create index idx_diary_id_aliases_new_id
+   on diary_id_aliases (new_id);
@@ -0,0 +1,75 @@
+-- 휴지통/오래된 다이어리 보관 테이블, 리비전 기록, 동기화용 삭제 기록
+
+create table archived_diaries (
+    date date,
+    is_public boolean not null,
+    like_count integer not null,
+    archived_at timestamp(6) not null,
+    content_version bigint not null,
+    created_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    id bigint not null,
+    memo_id bigint,
+    public_version bigint not null,
+    published_at timestamp(6),
+    stickers_updated_at timestamp(6),
+    updated_at timestamp(6) not null,
+    user_id bigint not null,
+    version bigint not null,
+    reason varchar(20) not null check (reason in ('TRASHED','AGED')),
+    genre varchar(50),
+    title varchar(200) not null,
+    primary key (id)
+);
+
+create table archived_stickers (
+    asset_id integer not null,
+    height integer not null,
+    rotation float(53) not null,
+    width integer not null,
+    x integer not null,
+    y integer not null,
+    z_index integer not null,
+    created_at timestamp(6) not null,
+    diary_id bigint not null,
+    id bigint not null,
+    updated_at timestamp(6) not null,
+    version bigint not null,
+    type varchar(50) not null,
+    primary key (id)
+);
+
+create table diary_revisions (
+    revision integer not null,
+    snapshot boolean not null,
+    created_at timestamp(6) not null,
+    diary_id bigint not null,
+    id bigint generated by default as identity,
+    content bytea not null,
+    primary key (id),
+    constraint uk_diary_revisions_diary_revision unique (diary_id, revision)
+);
+
+create table diary_tombstones (
+    trashed boolean not null,
+    deleted_at timestamp(6) not null,
+    diary_id bigint not null,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    primary key (id)
+);
+
+create index idx_archived_diaries_user_reason_deleted_at
+   on archived_diaries (user_id, reason, deleted_at);
+
+create index idx_archived_diaries_user_reason_created
+   on archived_diaries (user_id, reason, created_at);
+
+create index idx_archived_stickers_diary
+   on archived_stickers (diary_id);
+
+create index idx_diary_tombstones_user_deleted_at
+   on diary_tombstones (user_id, deleted_at, id);
+
+create index idx_diary_tombstones_diary
+   on diary_tombstones (diary_id);
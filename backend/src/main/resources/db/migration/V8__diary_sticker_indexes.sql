@@ -0,0 +1,42 @@
+-- 다이어리/스티커 조회 인덱스 (QueryPlanTest 가 저장소 쿼리마다 쓰는지 확인한다)
+-- 고정 조건(공개 여부, 휴지통 여부)으로 일부 행만 읽는 쿼리는 그 조건을 건 부분 인덱스를 쓴다.
+-- 검색(DiaryRepositoryImpl.search)은 id 역순 커서로 자르므로 사용자 인덱스 중 검색용은 id 로 끝난다.
+-- 그렇지 않으면 플래너가 기본키를 거꾸로 훑으며 user_id 를 걸러 다른 사용자의 행까지 읽는다.
+
+create index idx_diaries_user_deleted_created
+   on diaries (user_id, is_deleted, created_at);
+
+create index idx_diaries_user_deleted_date
+   on diaries (user_id, is_deleted, date);
+
+create index idx_diaries_user_deleted_genre
+   on diaries (user_id, is_deleted, genre, id);
+
+create index idx_diaries_user_deleted_id
+   on diaries (user_id, is_deleted, id);
+
+-- 공개 다이어리 목록
+create index idx_diaries_public_created
+   on diaries (created_at)
+   where is_public and not is_deleted;
+
+-- 오래된 비공개 다이어리 보관(DiaryArchiveJdbcRepository.findAgedInHot)
+create index idx_diaries_private_updated
+   on diaries (updated_at)
+   where not is_public;
+
+-- 보관 방식이 바뀌기 전 휴지통에 들어간 다이어리 옮기기(findTrashedInHot), 평소에는 비어 있다
+create index idx_diaries_trashed
+   on diaries (id)
+   where is_deleted;
+
+-- 친구 타임라인
+create index idx_diaries_user_published
+   on diaries (user_id, published_at)
+   where is_public and not is_deleted;
+
+create index idx_diaries_user_updated
+   on diaries (user_id, updated_at, id);
+
+create index idx_stickers_diary_z_index
+   on stickers (diary_id, z_index);
@@ -0,0 +1,23 @@
+-- 샤드마다 다이어리 ID가 (ID % id_stride = shard_id)로 발급되도록 IDENTITY 의 증가폭과 다음 값을 한 번 맞춘다.
+-- 값은 Flyway placeholder 로 받는다. 샤딩을 쓰지 않으면 id_stride=1 이라 아무것도 바꾸지 않고,
+-- 샤딩 중에는 ShardingConfig 가 샤드마다 자기 번호를 넣어 적용한다 (나중에 붙인 빈 샤드도 여기서 맞춰진다).
+-- 다음 값은 보관한 다이어리를 포함한 최대 ID와 legacy_max_diary_id 보다 크게 잡는다.
+
+do $$
+declare
+    stride bigint := ${id_stride};
+    shard bigint := ${shard_id};
+    base bigint;
+    next_id bigint;
+begin
+    if stride > 1 then
+        select greatest(coalesce((select max(id) from diaries), 0),
+                        coalesce((select max(id) from archived_diaries), 0),
+                        ${legacy_max_diary_id})
+          into base;
+        -- base 보다 큰 값 중 stride 로 나눈 나머지가 샤드 번호인 가장 작은 값
+        next_id := base + 1 + mod(mod(shard - (base + 1), stride) + stride, stride);
+        execute format('alter table diaries alter column id set increment by %s restart with %s', stride, next_id);
+    end if;
+end
+$$;
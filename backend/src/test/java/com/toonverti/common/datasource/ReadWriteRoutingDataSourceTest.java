@@ -0,0 +1,175 @@
+package com.toonverti.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB와 복제본을 서로 다른 내장 H2로 띄워 라우팅을 확인한다.
+ * 어느 쪽에 붙었는지는 DATABASE() 이름으로 구분한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "datasource.routing.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:routing_replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "datasource.replica.username=sa",
+        "datasource.replica.check-interval-ms=3600000",
+        "datasource.routing.sticky-window-ms=60000"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY = "routing_primary";
+    private static final String REPLICA = "routing_replica";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Autowired
+    private ReplicaHealthMonitor replicaHealthMonitor;
+
+    @AfterEach
+    void restoreReplica() {
+        replicaHealthMonitor.check();
+    }
+
+    @Test
+    void readOnlyTransactionReadsFromReplica() {
+        assertThat(readOnlyDatabase()).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertThat(writeDatabase(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void committedWriteKeepsSameClientOnPrimary() {
+        inRequest(List.of("user:1"), () -> writeDatabase(false));
+
+        assertThat(inRequest(List.of("user:1"), this::readOnlyDatabase)).isEqualTo(PRIMARY);
+        assertThat(inRequest(List.of("user:2"), this::readOnlyDatabase)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void laterReadsInWritingRequestUsePrimary() {
+        String database = inRequest(List.of("user:3"), () -> {
+            writeDatabase(false);
+            return readOnlyDatabase();
+        });
+
+        assertThat(database).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void rolledBackWriteDoesNotStick() {
+        inRequest(List.of("user:4"), () -> writeDatabase(true));
+
+        assertThat(inRequest(List.of("user:4"), this::readOnlyDatabase)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void filterKeysByUserIdParameterNotRemoteAddress() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(readYourWrites);
+
+        MockHttpServletRequest write = request("10.0.0.1", "5");
+        filter.doFilter(write, new MockHttpServletResponse(), chain(() -> writeDatabase(false)));
+
+        // 같은 프록시 주소의 다른 사용자는 복제본, 주소가 달라도 같은 사용자는 주 DB
+        assertThat(filterRead(filter, request("10.0.0.1", "6"))).isEqualTo(REPLICA);
+        assertThat(filterRead(filter, request("10.0.0.2", "5"))).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void filterKeysRequestsWithoutUserIdByClientCookie() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(readYourWrites);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("10.0.0.1", null), response, chain(() -> writeDatabase(false)));
+        Cookie issued = response.getCookie(ReadYourWritesFilter.CLIENT_COOKIE);
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains(ReadYourWritesFilter.CLIENT_COOKIE);
+        assertThat(issued).isNotNull();
+
+        MockHttpServletRequest sameClient = request("10.0.0.1", "7");
+        sameClient.setCookies(new Cookie(ReadYourWritesFilter.CLIENT_COOKIE, issued.getValue()));
+        assertThat(filterRead(filter, sameClient)).isEqualTo(PRIMARY);
+        assertThat(filterRead(filter, request("10.0.0.1", null))).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void unhealthyReplicaSendsReadsToPrimary() {
+        replicaHealthMonitor.markDown(new SQLException("down"));
+
+        assertThat(readOnlyDatabase()).isEqualTo(PRIMARY);
+    }
+
+    private String readOnlyDatabase() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> currentDatabase());
+    }
+
+    private String writeDatabase(boolean rollback) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        return template.execute(status -> {
+            String database = currentDatabase();
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+            return database;
+        });
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class).toLowerCase();
+    }
+
+    private <T> T inRequest(List<String> clientKeys, Supplier<T> work) {
+        readYourWrites.begin(clientKeys);
+        try {
+            return work.get();
+        } finally {
+            readYourWrites.end();
+        }
+    }
+
+    private String filterRead(ReadYourWritesFilter filter, MockHttpServletRequest request) throws Exception {
+        AtomicReference<String> database = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), chain(() -> database.set(readOnlyDatabase())));
+        return database.get();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/diaries");
+        request.setRemoteAddr(remoteAddr);
+        if (userId != null) {
+            request.setParameter("userId", userId);
+        }
+        return request;
+    }
+
+    private static FilterChain chain(Runnable work) {
+        return (request, response) -> work.run();
+    }
+}
@@ -0,0 +1,48 @@
+package com.toonverti.common.idempotency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컨트롤러가 본문을 어디까지 읽었든 finish 가 본문 전체의 해시를 돌려주는지 확인한다.
+ */
+class DigestingRequestTest {
+
+    private static final byte[] BODY = "{\"title\":\"다이어리\"}\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+    private static final String BODY_HASH = IdempotencyStore.requestHash(BODY);
+
+    @Test
+    void hashesBodyReadByController() throws Exception {
+        DigestingRequest request = new DigestingRequest(request(BODY));
+
+        assertThat(request.getInputStream().readAllBytes()).isEqualTo(BODY);
+        assertThat(request.finish()).isEqualTo(BODY_HASH);
+    }
+
+    @Test
+    void drainsBodyLeftUnread() throws Exception {
+        DigestingRequest request = new DigestingRequest(request(BODY));
+
+        request.getInputStream().readNBytes(100);
+        request.getInputStream().read();
+
+        assertThat(request.finish()).isEqualTo(BODY_HASH);
+    }
+
+    @Test
+    void hashesUnreadBodyForReplay() {
+        assertThat(new DigestingRequest(request(BODY)).finish()).isEqualTo(BODY_HASH);
+        assertThat(new DigestingRequest(request(new byte[0])).finish())
+                .isEqualTo(IdempotencyStore.requestHash(new byte[0]));
+    }
+
+    private static MockHttpServletRequest request(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/diaries/import");
+        request.setContent(body);
+        return request;
+    }
+}
@@ -0,0 +1,153 @@
+package com.toonverti.common.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.domain.diary.DiaryRepository;
+import com.toonverti.domain.user.Role;
+import com.toonverti.domain.user.User;
+import com.toonverti.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Idempotency-Key 요청의 선점, 재생, 본문이 다른 재시도 거절을 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    private Long userId;
+
+    @BeforeEach
+    void createUser() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        userId = userRepository.save(User.builder()
+                .email(name + "@example.com")
+                .password("password1")
+                .nickname("u" + name)
+                .role(Role.USER)
+                .build()).getId();
+    }
+
+    @Test
+    void retryReplaysFirstResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = "{\"title\":\"한 번만\",\"memo\":\"메모\"}";
+
+        MockHttpServletResponse first = createDiary(key, body);
+        MockHttpServletResponse retry = createDiary(key, body);
+
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(diaryId(retry)).isEqualTo(diaryId(first));
+        assertThat(diaryRepository.countByUserIdAndIsDeletedFalse(userId)).isEqualTo(1);
+    }
+
+    @Test
+    void retryWithDifferentBodyIsRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+        createDiary(key, "{\"title\":\"처음\"}");
+
+        MockHttpServletResponse retry = createDiary(key, "{\"title\":\"다른 본문\"}");
+
+        assertThat(retry.getStatus()).isEqualTo(422);
+        assertThat(diaryRepository.countByUserIdAndIsDeletedFalse(userId)).isEqualTo(1);
+    }
+
+    @Test
+    void streamedImportIsHashedWhileRead() throws Exception {
+        String key = UUID.randomUUID().toString();
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            ndjson.append("{\"title\":\"가져온 다이어리 ").append(i).append("\"}\n");
+        }
+
+        MockHttpServletResponse first = importDiaries(key, ndjson.toString());
+        MockHttpServletResponse retry = importDiaries(key, ndjson.toString());
+        MockHttpServletResponse changed = importDiaries(key, ndjson + "{\"title\":\"하나 더\"}\n");
+
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(changed.getStatus()).isEqualTo(422);
+        assertThat(diaryRepository.countByUserIdAndIsDeletedFalse(userId)).isEqualTo(50);
+    }
+
+    @Test
+    void claimStoresHashWhenCompleted() {
+        String key = IdempotencyStore.scope("POST", "/api/test", null, null, UUID.randomUUID().toString());
+        String requestHash = IdempotencyStore.requestHash("본문".getBytes());
+
+        IdempotencyStore.Claim claim = idempotencyStore.claim(key);
+        assertThat(claim.outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.CLAIMED);
+        // 다른 인스턴스에서 온 재시도: 실행이 끝날 때까지 기다린다
+        assertThat(idempotencyStore.claim(key).outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.IN_PROGRESS);
+
+        idempotencyStore.complete(key, claim.claimToken(), new CompletableFuture<>(),
+                new StoredResponse(requestHash, 201, MediaType.APPLICATION_JSON_VALUE, "{}".getBytes()));
+
+        IdempotencyStore.Claim stored = idempotencyStore.claim(key);
+        assertThat(stored.outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.STORED);
+        assertThat(stored.stored().matches(requestHash)).isTrue();
+        assertThat(stored.stored().matches(IdempotencyStore.requestHash("다른 본문".getBytes()))).isFalse();
+    }
+
+    @Test
+    void failedExecutionReleasesClaim() {
+        String key = IdempotencyStore.scope("POST", "/api/test", null, null, UUID.randomUUID().toString());
+
+        IdempotencyStore.Claim claim = idempotencyStore.claim(key);
+        idempotencyStore.release(key, claim.claimToken());
+
+        assertThat(idempotencyStore.claim(key).outcome()).isEqualTo(IdempotencyStore.Claim.Outcome.CLAIMED);
+    }
+
+    private MockHttpServletResponse createDiary(String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/diaries").param("userId", userId.toString())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse importDiaries(String key, String ndjson) throws Exception {
+        return mockMvc.perform(post("/api/diaries/import").param("userId", userId.toString())
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andReturn().getResponse();
+    }
+
+    private long diaryId(MockHttpServletResponse response) throws Exception {
+        JsonNode data = objectMapper.readTree(response.getContentAsString()).get("data");
+        return data.get("id").asLong();
+    }
+}
@@ -0,0 +1,57 @@
+package com.toonverti.controller.sticker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.service.catalog.StickerCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 현재 카탈로그는 짧게, 버전이 박힌 카탈로그는 immutable 로 캐시하고 예전 버전은 현재 버전으로 보내는지 확인한다.
+ */
+class StickerCatalogControllerTest {
+
+    private final StickerCatalog catalog;
+    private final MockMvc mockMvc;
+
+    StickerCatalogControllerTest() throws IOException {
+        catalog = new StickerCatalog(new ObjectMapper(), new DefaultResourceLoader(), "classpath:sticker-catalog.json");
+        mockMvc = MockMvcBuilders.standaloneSetup(new StickerCatalogController(catalog)).build();
+    }
+
+    @Test
+    void currentCatalogIsRevalidatedByVersionEtag() throws Exception {
+        String etag = "\"" + catalog.getVersion() + "\"";
+        mockMvc.perform(get("/api/stickers/catalog"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"));
+
+        mockMvc.perform(get("/api/stickers/catalog").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void versionedCatalogIsImmutable() throws Exception {
+        mockMvc.perform(get("/api/stickers/catalog/" + catalog.getVersion()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")));
+    }
+
+    @Test
+    void staleVersionRedirectsToCurrent() throws Exception {
+        mockMvc.perform(get("/api/stickers/catalog/0000000000000000"))
+                .andExpect(status().isFound())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/stickers/catalog/" + catalog.getVersion()));
+    }
+}
@@ -0,0 +1,166 @@
+package com.toonverti.domain;
+
+import com.toonverti.domain.diary.MemoCompression;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전 스키마(V1)에 데이터가 있는 DB를 운영 설정대로 기준선을 잡고 올렸을 때
+ * 예전 컬럼(stickers.src, diaries.memo)의 데이터가 새 테이블로 옮겨지고, 압축한 메모에 검색용 낱말(V10)이
+ * 채워지는지 확인한다.
+ * 샤드 하나에 처음부터 적용했을 때 다이어리 ID 간격(V9)이 맞춰지는지도 본다.
+ * 빈 DB에 처음부터 적용하는 경로는 QueryPlanTest 가 엔티티 매핑과 맞춰 본다.
+ * 실행 계획 테스트와 같은 DB를 쓰되 스키마를 따로 둔다.
+ */
+class MigrationTest {
+
+    private static final String LEGACY = "migration_legacy";
+    private static final String SHARD = "migration_shard";
+    private static final String COMPRESSED_MEMO = "오늘 본 웹툰 Toon 오늘 본 웹툰 toon 다음 화가 기대된다 ".repeat(20);
+
+    private static JdbcTemplate jdbcTemplate;
+    private static Long compressedMemoId;
+
+    @BeforeAll
+    static void migrate() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                PostgresTestDatabase.url(), PostgresTestDatabase.username(), PostgresTestDatabase.password(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // ddl-auto=update 로 만든 예전 DB: V1 스키마에 데이터가 있고 Flyway 기록이 없다
+        Flyway legacy = flyway(LEGACY, Map.of());
+        legacy.clean();
+        Flyway.configure().configuration(legacy.getConfiguration()).target("1").load().migrate();
+        jdbcTemplate.execute("DROP TABLE " + LEGACY + ".flyway_schema_history");
+        seedLegacy();
+
+        Flyway.configure().configuration(legacy.getConfiguration())
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .target("9")
+                .load()
+                .migrate();
+
+        // V10 전까지 앱이 압축해 저장한 메모는 search_text 가 비어 있다
+        compressedMemoId = jdbcTemplate.queryForObject("INSERT INTO " + LEGACY + ".diary_memos (content) " +
+                "VALUES (?) RETURNING id", Long.class, (Object) MemoCompression.encode(COMPRESSED_MEMO, 16));
+        legacy.migrate();
+    }
+
+    @Test
+    void stickerSourcesMoveToAssets() {
+        List<Map<String, Object>> assets = jdbcTemplate.queryForList(
+                "SELECT hash, src FROM " + LEGACY + ".sticker_assets ORDER BY src");
+        assertThat(assets).extracting(asset -> asset.get("src")).containsExactly("a.png", "b.png");
+        assets.forEach(asset -> assertThat(asset.get("hash")).isEqualTo(sha256((String) asset.get("src"))));
+
+        List<String> stickerSources = jdbcTemplate.queryForList(
+                "SELECT a.src FROM " + LEGACY + ".stickers s JOIN " + LEGACY + ".sticker_assets a ON a.id = s.asset_id " +
+                "ORDER BY s.id", String.class);
+        assertThat(stickerSources).containsExactly("a.png", "a.png", "b.png");
+    }
+
+    @Test
+    void memosMoveToMemoTable() {
+        Map<String, Object> memo = jdbcTemplate.queryForMap(
+                "SELECT m.content, m.search_text FROM " + LEGACY + ".diaries d JOIN " + LEGACY + ".diary_memos m " +
+                "ON m.id = d.memo_id WHERE d.title = '공개'");
+        assertThat(MemoCompression.decode((byte[]) memo.get("content"))).isEqualTo("Hello 메모");
+        assertThat(memo.get("search_text")).isEqualTo("hello 메모");
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT memo_id FROM " + LEGACY + ".diaries WHERE title = '비공개'", Long.class)).isNull();
+
+        // 옮긴 메모 ID 뒤부터 새 메모 ID가 나온다
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + LEGACY + ".diary_memos", Long.class);
+        Long newId = jdbcTemplate.queryForObject("INSERT INTO " + LEGACY + ".diary_memos (content, search_text) " +
+                "VALUES (decode('00', 'hex'), '') RETURNING id", Long.class);
+        assertThat(newId).isGreaterThan(maxId);
+    }
+
+    @Test
+    void compressedMemosGetSearchTokens() {
+        String searchText = jdbcTemplate.queryForObject(
+                "SELECT search_text FROM " + LEGACY + ".diary_memos WHERE id = ?", String.class, compressedMemoId);
+        assertThat(searchText).isEqualTo("오늘 본 웹툰 toon 다음 화가 기대된다");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT is_nullable FROM information_schema.columns " +
+                "WHERE table_schema = ? AND table_name = 'diary_memos' AND column_name = 'search_text'",
+                String.class, LEGACY)).isEqualTo("NO");
+    }
+
+    @Test
+    void publicDiariesGetPublishedAt() {
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM " + LEGACY + ".diaries " +
+                "WHERE published_at = created_at AND version = 0", String.class)).containsExactly("공개");
+    }
+
+    @Test
+    void shardMigrationSetsDiaryIdStride() {
+        Flyway shard = flyway(SHARD, Map.of("shard_id", "3", "id_stride", "64", "legacy_max_diary_id", "1000"));
+        shard.clean();
+        shard.migrate();
+
+        jdbcTemplate.update("INSERT INTO " + SHARD + ".users (id, onboarding_completed, created_at, updated_at, role, " +
+                "nickname, email, password) VALUES (1, true, now(), now(), 'USER', 'shard', 'shard@example.com', 'pw')");
+        String insertDiary = "INSERT INTO " + SHARD + ".diaries (is_deleted, is_public, like_count, content_version, " +
+                "created_at, public_version, updated_at, user_id, version, title) " +
+                "VALUES (false, false, 0, 0, now(), 0, now(), 1, 0, 'shard') RETURNING id";
+        Long first = jdbcTemplate.queryForObject(insertDiary, Long.class);
+        Long second = jdbcTemplate.queryForObject(insertDiary, Long.class);
+
+        // legacy_max_diary_id 다음부터 이 샤드 번호로 끝나는 ID만 나온다
+        assertThat(first).isGreaterThan(1000L);
+        assertThat(first % 64).isEqualTo(3L);
+        assertThat(second - first).isEqualTo(64L);
+    }
+
+    private static void seedLegacy() {
+        String schema = LEGACY + ".";
+        jdbcTemplate.update("INSERT INTO " + schema + "users (id, onboarding_completed, created_at, updated_at, role, " +
+                "nickname, email, password) VALUES (1, true, now(), now(), 'USER', 'legacy', 'legacy@example.com', 'pw')");
+        jdbcTemplate.update("INSERT INTO " + schema + "diaries (id, is_deleted, is_public, like_count, created_at, " +
+                "updated_at, user_id, title, memo) VALUES " +
+                "(1, false, true, 3, TIMESTAMP '2025-01-01 10:00', TIMESTAMP '2025-01-02 10:00', 1, '공개', 'Hello 메모'), " +
+                "(2, false, false, 0, TIMESTAMP '2025-01-03 10:00', TIMESTAMP '2025-01-03 10:00', 1, '비공개', NULL)");
+        jdbcTemplate.update("INSERT INTO " + schema + "stickers (id, height, rotation, width, x, y, z_index, created_at, " +
+                "diary_id, updated_at, type, src) VALUES " +
+                "(1, 10, 0, 10, 0, 0, 1, now(), 1, now(), 'image', 'a.png'), " +
+                "(2, 10, 0, 10, 5, 5, 2, now(), 2, now(), 'image', 'a.png'), " +
+                "(3, 10, 0, 10, 9, 9, 3, now(), 2, now(), 'image', 'b.png')");
+    }
+
+    // 샤드 placeholder 를 주지 않으면 샤딩하지 않는 운영 기본값으로 적용한다
+    private static Flyway flyway(String schema, Map<String, String> shardPlaceholders) {
+        Map<String, String> placeholders = new HashMap<>(Map.of(
+                "shard_id", "0", "id_stride", "1", "legacy_max_diary_id", "0"));
+        placeholders.putAll(shardPlaceholders);
+        return Flyway.configure()
+                .dataSource(PostgresTestDatabase.url(), PostgresTestDatabase.username(), PostgresTestDatabase.password())
+                .schemas(schema)
+                .placeholders(placeholders)
+                .cleanDisabled(false)
+                .load();
+    }
+
+    private static String sha256(String src) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(src.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.toonverti.domain;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 마이그레이션과 실행 계획 테스트가 쓰는 PostgreSQL
+ *
+ * QUERY_PLAN_DB_URL(과 _USERNAME, _PASSWORD)이 있으면 그 DB를 쓰고, 없으면 내장 PostgreSQL을 한 번 띄워
+ * 테스트 JVM이 끝날 때까지 같이 쓴다. 둘 다 못 쓰면 테스트가 실패한다 (건너뛰지 않는다).
+ */
+final class PostgresTestDatabase {
+
+    private static final String EXTERNAL_URL = System.getenv("QUERY_PLAN_DB_URL");
+
+    private static EmbeddedPostgres embedded;
+
+    private PostgresTestDatabase() {
+    }
+
+    static synchronized String url() {
+        if (EXTERNAL_URL != null) {
+            return EXTERNAL_URL;
+        }
+        return embedded().getJdbcUrl("postgres", "postgres");
+    }
+
+    static String username() {
+        return EXTERNAL_URL != null ? env("QUERY_PLAN_DB_USERNAME", "postgres") : "postgres";
+    }
+
+    static String password() {
+        return EXTERNAL_URL != null ? env("QUERY_PLAN_DB_PASSWORD", "") : "postgres";
+    }
+
+    private static EmbeddedPostgres embedded() {
+        if (embedded == null) {
+            try {
+                embedded = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("내장 PostgreSQL을 띄우지 못했습니다. QUERY_PLAN_DB_URL로 DB를 지정하세요.", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    embedded.close();
+                } catch (IOException ignored) {
+                    // JVM 종료 중
+                }
+            }));
+        }
+        return embedded;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
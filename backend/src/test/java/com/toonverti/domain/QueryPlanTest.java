@@ -0,0 +1,430 @@
+package com.toonverti.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.domain.diary.ArchivedDiaryRepository;
+import com.toonverti.domain.diary.DiaryArchiveJdbcRepository;
+import com.toonverti.domain.diary.DiaryArchiveReason;
+import com.toonverti.domain.diary.DiaryRepository;
+import com.toonverti.domain.diary.DiaryRevisionRepository;
+import com.toonverti.domain.diary.DiarySearchCondition;
+import com.toonverti.domain.diary.DiaryTombstoneRepository;
+import com.toonverti.domain.outbox.OutboxJdbcRepository;
+import com.toonverti.domain.shard.UserShardAssignmentRepository;
+import com.toonverti.domain.sticker.ArchivedStickerRepository;
+import com.toonverti.domain.sticker.StickerRepository;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 적용한 PostgreSQL에서 저장소가 실제로 보내는 SQL의 실행 계획을 확인한다
+ *
+ * 저장소 메서드를 호출해 JDBC로 나간 SQL을 잡고, 같은 SQL을 EXPLAIN (GENERIC_PLAN) 해서 기대한 인덱스를
+ * 앞쪽 컬럼 조건(Index Cond)으로 타는지 본다. 빈 테이블은 인덱스마다 비용이 같아 아무거나 고르므로 사용자
+ * 200명 분량의 행을 넣고 ANALYZE 한 통계로 계획을 세운다. enable_seqscan 은 꺼 두지만 인덱스 전체를 훑는
+ * 계획은 Index Cond 가 없어 통과하지 못한다. 매핑과 마이그레이션이 어긋나면 ddl-auto=validate 에서
+ * 컨텍스트가 뜨지 않는다.
+ *
+ * DB는 PostgresTestDatabase 를 비우고 쓴다. GENERIC_PLAN 은 PostgreSQL 16부터 지원한다.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class QueryPlanTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    // 사용자 + 휴지통 여부로만 거르는 쿼리는 이 중 어느 인덱스를 써도 된다
+    private static final List<String> USER_ACTIVE_INDEXES = List.of(
+            "idx_diaries_user_deleted_created", "idx_diaries_user_deleted_date", "idx_diaries_user_deleted_genre",
+            "idx_diaries_user_deleted_id");
+
+    // 보관 목록은 사용자 한 명의 한 사유 분량이라 어느 쪽 인덱스로 모아 정렬해도 된다
+    private static final List<String> ARCHIVED_INDEXES = List.of(
+            "idx_archived_diaries_user_reason_deleted_at", "idx_archived_diaries_user_reason_created");
+
+    // 사용자 200명, 다이어리 5만 건 규모로 값이 고르게 퍼지도록 채운다
+    private static final List<String> SEED = List.of(
+            """
+            INSERT INTO users (onboarding_completed, created_at, updated_at, role, nickname, email, password)
+            SELECT true, now(), now(), 'USER', 'user' || i, 'user' || i || '@example.com', 'password'
+            FROM generate_series(1, 200) i""",
+            """
+            INSERT INTO diaries (date, is_deleted, is_public, like_count, content_version, created_at, deleted_at,
+                                 public_version, published_at, updated_at, user_id, version, genre, title)
+            SELECT DATE '2026-01-01' - i % 700, i % 10 = 0, i % 5 = 0, 0, 0,
+                   TIMESTAMP '2026-01-01' - i * INTERVAL '10 minutes',
+                   CASE WHEN i % 10 = 0 THEN TIMESTAMP '2026-01-01' END, 0,
+                   CASE WHEN i % 5 = 0 THEN TIMESTAMP '2026-01-01' - i * INTERVAL '10 minutes' END,
+                   TIMESTAMP '2026-01-01' - i * INTERVAL '10 minutes', 1 + i % 200, 0,
+                   (ARRAY['romance', 'action', 'fantasy', 'comedy', 'drama', 'thriller', 'daily', 'sports'])[1 + i % 8],
+                   'title ' || i
+            FROM generate_series(1, 50000) i""",
+            """
+            INSERT INTO diary_memos (content, search_text)
+            SELECT decode('00', 'hex') || convert_to('memo ' || i, 'UTF8'),
+                   'memo ' || i
+            FROM generate_series(1, 50000) i""",
+            "UPDATE diaries SET memo_id = id",
+            "INSERT INTO sticker_assets (created_at, updated_at, hash, src) VALUES (now(), now(), 'seed', 'seed.png')",
+            """
+            INSERT INTO stickers (asset_id, height, rotation, width, x, y, z_index, created_at, diary_id,
+                                  updated_at, version, type)
+            SELECT 1, 10, 0, 10, 0, 0, i % 7, now(), 1 + i % 50000, now(), 0, 'emoji'
+            FROM generate_series(1, 150000) i""",
+            """
+            INSERT INTO archived_diaries (date, is_public, like_count, archived_at, content_version, created_at,
+                                          deleted_at, id, public_version, updated_at, user_id, version, reason, title)
+            SELECT DATE '2024-01-01' - i % 700, false, 0, now(), 0, TIMESTAMP '2024-01-01' - i * INTERVAL '1 hour',
+                   TIMESTAMP '2025-01-01' - i * INTERVAL '1 hour', 100000 + i, 0,
+                   TIMESTAMP '2024-01-01' - i * INTERVAL '1 hour', 1 + i % 200, 0,
+                   CASE WHEN i % 2 = 0 THEN 'TRASHED' ELSE 'AGED' END, 'archived ' || i
+            FROM generate_series(1, 10000) i""",
+            """
+            INSERT INTO archived_stickers (asset_id, height, rotation, width, x, y, z_index, created_at, diary_id, id,
+                                           updated_at, version, type)
+            SELECT 1, 10, 0, 10, 0, 0, 0, now(), 100000 + i % 10000, i, now(), 0, 'emoji'
+            FROM generate_series(1, 30000) i""",
+            """
+            INSERT INTO diary_tombstones (trashed, deleted_at, diary_id, user_id)
+            SELECT i % 2 = 0, TIMESTAMP '2026-01-01' - i * INTERVAL '10 minutes', 200000 + i, 1 + i % 200
+            FROM generate_series(1, 20000) i""",
+            """
+            INSERT INTO diary_revisions (revision, snapshot, created_at, diary_id, content)
+            SELECT i / 10000, i < 10000, now(), 1 + i % 10000, decode('00', 'hex')
+            FROM generate_series(0, 49999) i""",
+            """
+            INSERT INTO user_shard_assignments (shard, assigned_at, updated_at, user_id)
+            SELECT 0, now(), TIMESTAMP '2026-01-01' - i * INTERVAL '1 hour', i
+            FROM generate_series(1, 200) i""",
+            """
+            INSERT INTO outbox_events (created_at, locked_until, event_type, payload)
+            SELECT now(), CASE WHEN i % 20 <> 0 THEN TIMESTAMP '2026-01-15 12:00' + i * INTERVAL '1 second' END,
+                   'DiaryCreatedEvent', '{}'
+            FROM generate_series(1, 20000) i""",
+            "ANALYZE");
+
+    // 마이그레이션이 WHERE 조건을 걸어 만든 인덱스
+    private static final List<String> PARTIAL_INDEXES = List.of(
+            "idx_diaries_public_created", "idx_diaries_private_updated", "idx_diaries_trashed",
+            "idx_diaries_user_published", "idx_outbox_events_unclaimed", "idx_outbox_events_locked_until");
+
+    private static boolean seeded;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private ArchivedDiaryRepository archivedDiaryRepository;
+
+    @Autowired
+    private DiaryArchiveJdbcRepository diaryArchiveJdbcRepository;
+
+    @Autowired
+    private DiaryTombstoneRepository diaryTombstoneRepository;
+
+    @Autowired
+    private DiaryRevisionRepository diaryRevisionRepository;
+
+    @Autowired
+    private StickerRepository stickerRepository;
+
+    @Autowired
+    private ArchivedStickerRepository archivedStickerRepository;
+
+    @Autowired
+    private UserShardAssignmentRepository userShardAssignmentRepository;
+
+    @Autowired
+    private OutboxJdbcRepository outboxJdbcRepository;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PostgresTestDatabase::url);
+        registry.add("spring.datasource.username", PostgresTestDatabase::username);
+        registry.add("spring.datasource.password", PostgresTestDatabase::password);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseTheirIndexes() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 15, 12, 0);
+        List<PlanCase> cases = List.of(
+                new PlanCase("findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc", "diaries",
+                        () -> diaryRepository.findByUserIdAndIsDeletedFalseOrderByCreatedAtDesc(1L),
+                        USER_ACTIVE_INDEXES, "user_id", "is_deleted"),
+                new PlanCase("countByUserIdAndIsDeletedFalse", "diaries",
+                        () -> diaryRepository.countByUserIdAndIsDeletedFalse(1L),
+                        USER_ACTIVE_INDEXES, "user_id", "is_deleted"),
+                new PlanCase("countByUserIdAndMonth", "diaries",
+                        () -> diaryRepository.countByUserIdAndMonth(1L, 2026, 1),
+                        List.of("idx_diaries_user_deleted_created"), "user_id", "is_deleted", "created_at"),
+                new PlanCase("searchByKeyword", "diaries",
+                        () -> diaryRepository.searchByKeyword(1L, "a"),
+                        USER_ACTIVE_INDEXES, "user_id", "is_deleted"),
+                new PlanCase("search", "diaries",
+                        () -> diaryRepository.search(new DiarySearchCondition(1L, null, null, null, "romance"),
+                                Long.MAX_VALUE, 20),
+                        List.of("idx_diaries_user_deleted_genre"), "user_id", "is_deleted", "genre", "id"),
+                new PlanCase("searchWithoutGenre", "diaries",
+                        () -> diaryRepository.search(new DiarySearchCondition(1L, null, null, null, null),
+                                Long.MAX_VALUE, 20),
+                        List.of("idx_diaries_user_deleted_id"), "user_id", "is_deleted", "id"),
+                new PlanCase("searchWithKeyword", "diaries",
+                        () -> diaryRepository.search(new DiarySearchCondition(1L, "memo", null, null, null),
+                                Long.MAX_VALUE, 20),
+                        USER_ACTIVE_INDEXES, "user_id", "is_deleted"),
+                new PlanCase("findByDateRange", "diaries",
+                        () -> diaryRepository.findByDateRange(1L, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)),
+                        List.of("idx_diaries_user_deleted_date"), "user_id", "is_deleted", "date"),
+                new PlanCase("findByUserIdAndIsDeletedFalseAndGenreOrderByCreatedAtDesc", "diaries",
+                        () -> diaryRepository.findByUserIdAndIsDeletedFalseAndGenreOrderByCreatedAtDesc(1L, "romance"),
+                        List.of("idx_diaries_user_deleted_genre"), "user_id", "is_deleted", "genre"),
+                new PlanCase("findByIsPublicTrueAndIsDeletedFalseOrderByCreatedAtDesc", "diaries",
+                        () -> diaryRepository.findByIsPublicTrueAndIsDeletedFalseOrderByCreatedAtDesc(PageRequest.of(0, 20)),
+                        List.of("idx_diaries_public_created")),
+                new PlanCase("findTimelineEntries", "diaries",
+                        () -> diaryRepository.findTimelineEntries(List.of(1L, 2L, 3L), now, Long.MAX_VALUE,
+                                PageRequest.of(0, 20)),
+                        List.of("idx_diaries_user_published"), "user_id"),
+                new PlanCase("findChangedSince", "diaries",
+                        () -> diaryRepository.findChangedSince(1L, now.minusDays(1), 0L, now, PageRequest.of(0, 101)),
+                        List.of("idx_diaries_user_updated"), "user_id", "updated_at"),
+                new PlanCase("findAgedInHot", "diaries",
+                        () -> diaryArchiveJdbcRepository.findAgedInHot(now.minusMonths(10), 500),
+                        List.of("idx_diaries_private_updated"), "updated_at"),
+                new PlanCase("findTrashedInHot", "diaries",
+                        () -> diaryArchiveJdbcRepository.findTrashedInHot(500),
+                        List.of("idx_diaries_trashed")),
+                new PlanCase("searchAged", "archived_diaries",
+                        () -> diaryRepository.searchAged(new DiarySearchCondition(1L, "memo", null, null, null),
+                                Long.MAX_VALUE, 20),
+                        ARCHIVED_INDEXES, "user_id", "reason"),
+                new PlanCase("findByUserIdAndReasonOrderByDeletedAtDesc", "archived_diaries",
+                        () -> archivedDiaryRepository.findByUserIdAndReasonOrderByDeletedAtDesc(1L,
+                                DiaryArchiveReason.TRASHED),
+                        ARCHIVED_INDEXES, "user_id", "reason"),
+                new PlanCase("findByUserIdAndReasonOrderByCreatedAtDesc", "archived_diaries",
+                        () -> archivedDiaryRepository.findByUserIdAndReasonOrderByCreatedAtDesc(1L,
+                                DiaryArchiveReason.AGED),
+                        ARCHIVED_INDEXES, "user_id", "reason"),
+                new PlanCase("findSince", "diary_tombstones",
+                        () -> diaryTombstoneRepository.findSince(1L, now.minusDays(1), 0L, now, PageRequest.of(0, 101)),
+                        List.of("idx_diary_tombstones_user_deleted_at"), "user_id", "deleted_at"),
+                new PlanCase("findByDiaryIdOrderByZIndexAsc", "stickers",
+                        () -> stickerRepository.findByDiaryIdOrderByZIndexAsc(1L),
+                        List.of("idx_stickers_diary_z_index"), "diary_id"),
+                new PlanCase("findTopByDiaryIdOrderByRevisionDesc", "diary_revisions",
+                        () -> diaryRevisionRepository.findTopByDiaryIdOrderByRevisionDesc(1L),
+                        List.of("uk_diary_revisions_diary_revision"), "diary_id"),
+                new PlanCase("countByDiaryIds", "archived_stickers",
+                        () -> archivedStickerRepository.countByDiaryIds(List.of(1L, 2L, 3L)),
+                        List.of("idx_archived_stickers_diary"), "diary_id"),
+                new PlanCase("findByUpdatedAtAfter", "user_shard_assignments",
+                        () -> userShardAssignmentRepository.findByUpdatedAtAfter(now),
+                        List.of("idx_user_shard_assignments_updated_at"), "updated_at"),
+                new PlanCase("claimSkipLocked", "outbox_events",
+                        () -> outboxJdbcRepository.claimSkipLocked(now, 100),
+                        List.of("idx_outbox_events_unclaimed")),
+                // 가져가지 않은 행이 모자라면 이어서 나가는 재시도 쿼리를 본다
+                new PlanCase("claimSkipLocked(expired)", "outbox_events where locked_until <",
+                        () -> outboxJdbcRepository.claimSkipLocked(now, 100_000),
+                        List.of("idx_outbox_events_locked_until"), "locked_until")
+        );
+        return cases.stream().map(planCase -> DynamicTest.dynamicTest(planCase.name(), () -> verify(planCase)));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> partialIndexesKeepTheirPredicate() {
+        return PARTIAL_INDEXES.stream().map(index -> DynamicTest.dynamicTest(index, () -> {
+            String definition = jdbcTemplate.queryForObject(
+                    "SELECT indexdef FROM pg_indexes WHERE schemaname = current_schema() AND indexname = ?", String.class, index);
+            assertThat(definition).contains(" WHERE ");
+        }));
+    }
+
+    private void verify(PlanCase planCase) throws Exception {
+        seedOnce();
+        STATEMENTS.clear();
+        // 트랜잭션 안에서 부르고 되돌린다 (스트림으로 읽는 쿼리도 끝까지 돌고, FOR UPDATE 로 잡은 행도 풀린다)
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            planCase.query().run();
+            status.setRollbackOnly();
+        });
+        String sql = STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).contains("from " + planCase.table() + " "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(planCase.table() + " 를 읽는 SQL이 없습니다: " + STATEMENTS));
+
+        JsonNode plan = objectMapper.readTree(explain(sql));
+        List<JsonNode> scans = new ArrayList<>();
+        collectIndexScans(plan.get(0).get("Plan"), scans);
+
+        assertThat(scans)
+                .as("%s\n%s\n%s", planCase.name(), sql, plan.toPrettyString())
+                .anySatisfy(scan -> {
+                    assertThat(planCase.indexes()).contains(scan.get("Index Name").asText());
+                    // 부분 인덱스를 정렬 순서대로 훑는 경우는 조건이 인덱스 정의에 있으므로 앞쪽 컬럼 조건을 보지 않는다
+                    if (planCase.leadingColumns().length > 0) {
+                        assertThat(scan.has("Index Cond")).isTrue();
+                        assertThat(scan.get("Index Cond").asText()).contains(planCase.leadingColumns());
+                    }
+                });
+    }
+
+    private void seedOnce() {
+        if (!seeded) {
+            SEED.forEach(jdbcTemplate::execute);
+            seeded = true;
+        }
+    }
+
+    /**
+     * 바인딩 변수가 있는 SQL을 그대로 계획만 세운다. 확장 프로토콜로 보내면 드라이버가 $1 에 값을 요구하므로
+     * 단순 질의 모드로 따로 연결하고, 순차 스캔은 그 연결에서만 끈다.
+     */
+    private String explain(String sql) throws SQLException {
+        String url = dataSourceProperties.determineUrl();
+        String simple = url + (url.contains("?") ? "&" : "?") + "preferQueryMode=simple";
+        try (Connection connection = DriverManager.getConnection(simple,
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            try (ResultSet plan = statement.executeQuery(
+                    "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberedParameters(sql))) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+
+    private static void collectIndexScans(JsonNode node, List<JsonNode> scans) {
+        if (node.has("Index Name")) {
+            scans.add(node);
+        }
+        if (node.has("Plans")) {
+            node.get("Plans").forEach(child -> collectIndexScans(child, scans));
+        }
+    }
+
+    // JDBC의 ? 를 PostgreSQL의 $1, $2 ... 로 바꾼다 (문자열 리터럴 안은 그대로)
+    private static String numberedParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        boolean quoted = false;
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                numbered.append('$').append(++index);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private record PlanCase(String name, String table, Runnable query, List<String> indexes, String... leadingColumns) {
+    }
+
+    @TestConfiguration
+    static class QueryPlanTestConfig {
+
+        // 테스트 전용 DB이므로 매번 비우고 마이그레이션을 처음부터 적용한다
+        @Bean
+        FlywayMigrationStrategy cleanMigrateStrategy() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+
+        @Bean
+        static BeanPostProcessor statementRecordingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new StatementRecordingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    // JPA와 JdbcTemplate이 준비하는 SQL을 모두 기록한다
+    static class StatementRecordingDataSource extends DelegatingDataSource {
+
+        StatementRecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private static Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(QueryPlanTest.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement") && args[0] instanceof String sql) {
+                            STATEMENTS.add(sql);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
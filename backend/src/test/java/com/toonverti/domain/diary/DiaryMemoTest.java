@@ -0,0 +1,48 @@
+package com.toonverti.domain.diary;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모를 풀지 않고 검색하도록 같이 저장하는 search_text 를 확인한다.
+ */
+class DiaryMemoTest {
+
+    @Test
+    void plainMemoKeepsWholeLowercasedText() {
+        DiaryMemo memo = new DiaryMemo(MemoCompression.encode("Hello  메모\n둘째 줄", 1024));
+
+        assertThat(memo.getSearchText()).isEqualTo("hello  메모\n둘째 줄");
+    }
+
+    @Test
+    void compressedMemoKeepsDistinctTokensInOrder() {
+        String text = "Toon 오늘 본 웹툰 toon 오늘\t다음 화 ".repeat(50);
+        DiaryMemo memo = new DiaryMemo(MemoCompression.encode(text, 16));
+
+        assertThat(MemoCompression.plainText(memo.getContent())).isNull();
+        assertThat(memo.getSearchText()).isEqualTo("toon 오늘 본 웹툰 다음 화");
+    }
+
+    @Test
+    void compressedMemoTokensAreBounded() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            text.append("word").append(i).append(' ');
+        }
+        String tokens = DiaryMemo.searchTextOf(MemoCompression.encode(text.toString(), 16));
+
+        assertThat(tokens.length()).isLessThanOrEqualTo(DiaryMemo.MAX_SEARCH_TOKENS_LENGTH);
+        assertThat(tokens).startsWith("word0 word1 ").doesNotEndWith(" ").doesNotContain("word999");
+    }
+
+    @Test
+    void replaceRecomputesSearchText() {
+        DiaryMemo memo = new DiaryMemo(MemoCompression.encode("처음", 1024));
+        memo.replace(MemoCompression.encode("바뀐 메모 ".repeat(50), 16));
+
+        assertThat(memo.getText()).isEqualTo("바뀐 메모 ".repeat(50));
+        assertThat(memo.getSearchText()).isEqualTo("바뀐 메모");
+    }
+}
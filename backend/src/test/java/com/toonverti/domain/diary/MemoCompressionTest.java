@@ -0,0 +1,84 @@
+package com.toonverti.domain.diary;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메모 저장 형식의 왕복과 손상된 값 거부를 확인한다.
+ */
+class MemoCompressionTest {
+
+    private static final String LONG_MEMO = "오늘 본 웹툰이 정말 재밌었다. The art was great! ".repeat(40);
+
+    @Test
+    void smallMemoIsStoredPlain() {
+        byte[] stored = MemoCompression.encode("짧은 메모", 1024);
+
+        assertThat(stored[0]).isEqualTo(MemoCompression.PLAIN);
+        assertThat(MemoCompression.plainText(stored)).isEqualTo("짧은 메모");
+        assertThat(MemoCompression.decode(stored)).isEqualTo("짧은 메모");
+        assertThat(MemoCompression.decode(MemoCompression.encode("", 0))).isEmpty();
+    }
+
+    @Test
+    void largeMemoIsCompressedAndRoundTrips() {
+        byte[] stored = MemoCompression.encode(LONG_MEMO, 1024);
+
+        assertThat(stored[0]).isEqualTo(MemoCompression.DEFLATE);
+        assertThat(stored.length).isLessThan(LONG_MEMO.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(MemoCompression.plainText(stored)).isNull();
+        assertThat(MemoCompression.decode(stored)).isEqualTo(LONG_MEMO);
+    }
+
+    @Test
+    void incompressibleMemoStaysPlain() {
+        Random random = new Random(47);
+        StringBuilder noise = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            noise.append((char) (0xAC00 + random.nextInt(11172)));
+        }
+        String memo = noise.toString();
+
+        byte[] stored = MemoCompression.encode(memo, 16);
+
+        assertThat(MemoCompression.decode(stored)).isEqualTo(memo);
+        assertThat(stored.length).isLessThanOrEqualTo(1 + memo.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void corruptedValuesAreRejected() {
+        byte[] stored = MemoCompression.encode(LONG_MEMO, 16);
+
+        assertThatThrownBy(() -> MemoCompression.decode(new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MemoCompression.decode(new byte[]{9, 1, 2}))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 뒷부분이 잘린 압축 본문
+        assertThatThrownBy(() -> MemoCompression.decode(Arrays.copyOf(stored, stored.length / 2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("손상");
+        // 압축 스트림이 아닌 본문
+        byte[] garbage = stored.clone();
+        Arrays.fill(garbage, 5, garbage.length, (byte) 0x7F);
+        assertThatThrownBy(() -> MemoCompression.decode(garbage))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 헤더의 원문 길이가 실제보다 길다
+        byte[] wrongLength = stored.clone();
+        wrongLength[1] = 0x01;
+        assertThatThrownBy(() -> MemoCompression.decode(wrongLength))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 헤더가 잘렸거나 원문 길이가 음수다
+        assertThatThrownBy(() -> MemoCompression.decode(Arrays.copyOf(stored, 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+        byte[] negativeLength = stored.clone();
+        negativeLength[1] = (byte) 0x80;
+        assertThatThrownBy(() -> MemoCompression.decode(negativeLength))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
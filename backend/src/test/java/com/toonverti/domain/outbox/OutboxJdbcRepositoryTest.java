@@ -0,0 +1,94 @@
+package com.toonverti.domain.outbox;
+
+import com.toonverti.domain.outbox.OutboxJdbcRepository.OutboxRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임대(lease) 방식 가져가기, 재시도 미루기와 전달 포기 행 옮기기를 확인한다.
+ * 릴레이가 끼어들지 않도록 폴링을 멈춰 두고 행은 저장소로 직접 넣는다.
+ */
+@SpringBootTest(properties = "outbox.poll-interval-ms=3600000")
+class OutboxJdbcRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 15, 12, 0);
+
+    @Autowired
+    private OutboxJdbcRepository outboxJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM outbox_dead_letters");
+    }
+
+    @Test
+    void leasedRowsAreNotClaimedTwiceUntilLeaseExpires() {
+        for (int i = 0; i < 5; i++) {
+            outboxJdbcRepository.insert("Event", "{\"n\":" + i + "}", NOW);
+        }
+
+        List<OutboxRow> first = outboxJdbcRepository.claimLeased("relay-a", NOW, NOW.plusSeconds(30), 3);
+        List<OutboxRow> second = outboxJdbcRepository.claimLeased("relay-b", NOW, NOW.plusSeconds(30), 3);
+
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(2);
+        assertThat(ids(second)).doesNotContainAnyElementsOf(ids(first));
+        assertThat(outboxJdbcRepository.claimLeased("relay-c", NOW.plusSeconds(10), NOW.plusSeconds(40), 10))
+                .isEmpty();
+
+        // relay-a 가 죽어 임대가 끝나면 다른 릴레이가 가져간다
+        List<OutboxRow> reclaimed = outboxJdbcRepository.claimLeased("relay-c", NOW.plusSeconds(31), NOW.plusSeconds(61), 10);
+        assertThat(ids(reclaimed)).containsExactlyInAnyOrderElementsOf(concat(ids(first), ids(second)));
+    }
+
+    @Test
+    void deferredRowWaitsForRetryTimeAndCountsAttempts() {
+        outboxJdbcRepository.insert("Event", "{}", NOW);
+        List<Long> ids = ids(outboxJdbcRepository.claimLeased("relay-a", NOW, NOW.plusSeconds(30), 10));
+
+        outboxJdbcRepository.deferByIds(ids, NOW.plusSeconds(5));
+
+        assertThat(outboxJdbcRepository.claimLeased("relay-a", NOW.plusSeconds(1), NOW.plusSeconds(31), 10)).isEmpty();
+        assertThat(ids(outboxJdbcRepository.claimLeased("relay-a", NOW.plusSeconds(6), NOW.plusSeconds(36), 10)))
+                .isEqualTo(ids);
+        assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events WHERE id = ?", Integer.class,
+                ids.get(0))).isEqualTo(1);
+    }
+
+    @Test
+    void onlyExhaustedRowsMoveToDeadLetters() {
+        outboxJdbcRepository.insert("Event", "{\"n\":1}", NOW);
+        outboxJdbcRepository.insert("Event", "{\"n\":2}", NOW);
+        List<Long> ids = ids(outboxJdbcRepository.claimLeased("relay-a", NOW, NOW.plusSeconds(30), 10));
+        jdbcTemplate.update("UPDATE outbox_events SET attempts = 2 WHERE id = ?", ids.get(0));
+
+        List<Long> moved = outboxJdbcRepository.deadLetterExhausted(ids, 3, NOW);
+
+        assertThat(moved).containsExactly(ids.get(0));
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM outbox_events", Long.class)).containsExactly(ids.get(1));
+        assertThat(jdbcTemplate.queryForMap("SELECT payload, attempts FROM outbox_dead_letters WHERE id = ?", ids.get(0)))
+                .containsEntry("payload", "{\"n\":1}")
+                .containsEntry("attempts", 3);
+    }
+
+    private static List<Long> ids(List<OutboxRow> rows) {
+        return rows.stream().map(OutboxRow::id).toList();
+    }
+
+    private static List<Long> concat(List<Long> first, List<Long> second) {
+        return Stream.concat(first.stream(), second.stream()).toList();
+    }
+}
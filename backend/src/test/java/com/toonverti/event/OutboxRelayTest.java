@@ -0,0 +1,137 @@
+package com.toonverti.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.domain.outbox.OutboxJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 아웃박스 릴레이가 전달한 행을 지우고, 구독자가 실패한 행은 다시 전달하다가
+ * max-attempts 번 실패하면 outbox_dead_letters 로 옮기는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "outbox.poll-interval-ms=20",
+        "outbox.retry-delay-ms=0",
+        "outbox.max-attempts=3"
+})
+class OutboxRelayTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private OutboxJdbcRepository outboxJdbcRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProbeSubscriber probeSubscriber;
+
+    @Test
+    void deliveredRowIsDeleted() throws Exception {
+        long value = 1;
+        enqueue(new ProbeEvent(value));
+
+        await().atMost(TIMEOUT).until(() -> probeSubscriber.deliveries(value) == 1 && outboxRows(value) == 0);
+        assertThat(deadLetters(value)).isEmpty();
+    }
+
+    @Test
+    void failingRowIsRetriedThenDeadLettered() throws Exception {
+        long value = -2;
+        enqueue(new ProbeEvent(value));
+
+        await().atMost(TIMEOUT).until(() -> deadLetters(value).size() == 1);
+
+        assertThat(outboxRows(value)).isZero();
+        assertThat(probeSubscriber.deliveries(value)).isEqualTo(3);
+        Map<String, Object> deadLetter = deadLetters(value).get(0);
+        assertThat(((Number) deadLetter.get("attempts")).intValue()).isEqualTo(3);
+        assertThat(deadLetter.get("event_type")).isEqualTo(ProbeEvent.class.getName());
+    }
+
+    private void enqueue(ProbeEvent event) throws Exception {
+        outboxJdbcRepository.insert(ProbeEvent.class.getName(), objectMapper.writeValueAsString(event),
+                LocalDateTime.now());
+        outboxRelay.wake();
+    }
+
+    private int outboxRows(long value) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE payload = ?", Integer.class,
+                payload(value));
+    }
+
+    private List<Map<String, Object>> deadLetters(long value) {
+        return jdbcTemplate.queryForList("SELECT * FROM outbox_dead_letters WHERE payload = ?", payload(value));
+    }
+
+    private static String payload(long value) {
+        return "{\"value\":" + value + "}";
+    }
+
+    record ProbeEvent(long value) implements DomainEvent {
+    }
+
+    // 값이 음수인 이벤트는 매번 처리하지 못한다
+    static class ProbeSubscriber implements DomainEventSubscriber {
+
+        private final Map<Long, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+
+        @Override
+        public String name() {
+            return "probe";
+        }
+
+        @Override
+        public boolean supports(DomainEvent event) {
+            return event instanceof ProbeEvent;
+        }
+
+        @Override
+        public void onEvents(List<DomainEvent> events) {
+            boolean failed = false;
+            for (DomainEvent event : events) {
+                long value = ((ProbeEvent) event).value();
+                deliveries.computeIfAbsent(value, v -> new AtomicInteger()).incrementAndGet();
+                failed |= value < 0;
+            }
+            if (failed) {
+                throw new IllegalStateException("probe failure");
+            }
+        }
+
+        int deliveries(long value) {
+            AtomicInteger count = deliveries.get(value);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        @Bean
+        ProbeSubscriber probeSubscriber() {
+            return new ProbeSubscriber();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.toonverti.service.autocomplete;
+
+import com.toonverti.common.shard.ShardRouter;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 다이어리 제목을 DB에서 읽는 동안 커밋된 변경이 빠지지 않는지 확인한다.
+ */
+class AutocompleteIndexTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String QUERY = HangulJamo.normalize("일기");
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final AutocompleteIndex index = new AutocompleteIndex(jdbcTemplate, mock(ShardRouter.class), 10, 100);
+
+    @Test
+    void changesCommittedDuringReloadAreApplied() throws Exception {
+        // DB 읽기가 끝나기 전에 다른 트랜잭션이 커밋하고 putDiary/removeDiary 를 부른다
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(row(10L, "일기 오래된 제목", 0));
+            handler.processRow(row(11L, "일기 지울 것", 0));
+            index.putDiary(USER_ID, 10L, "일기 고친 제목", 0);
+            index.putDiary(USER_ID, 12L, "일기 새로 씀", 0);
+            index.removeDiary(USER_ID, 11L);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(USER_ID));
+
+        index.reloadUser(USER_ID);
+
+        assertThat(index.suggestDiaries(USER_ID, QUERY, 10))
+                .extracting(PrefixTrie.Entry::text)
+                .containsExactlyInAnyOrder("일기 고친 제목", "일기 새로 씀");
+    }
+
+    @Test
+    void loadedUserAppliesChangesDirectly() throws Exception {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(row(10L, "일기 첫째", 0));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(USER_ID));
+        index.reloadUser(USER_ID);
+
+        index.putDiary(USER_ID, 11L, "일기 둘째", 0);
+        index.removeDiary(USER_ID, 10L);
+
+        List<PrefixTrie.Entry> entries = index.suggestDiaries(USER_ID, QUERY, 10);
+        assertThat(entries).extracting(PrefixTrie.Entry::text).containsExactly("일기 둘째");
+    }
+
+    private static ResultSet row(long id, String title, long likeCount) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(id);
+        when(rs.getString(2)).thenReturn(title);
+        when(rs.getLong(3)).thenReturn(likeCount);
+        return rs;
+    }
+}
@@ -0,0 +1,36 @@
+package com.toonverti.service.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입력 중인 글자로도 접두어가 맞도록 자모를 나누는지 확인한다.
+ */
+class HangulJamoTest {
+
+    @Test
+    void syllablesAreSplitIntoSingleJamo() {
+        assertThat(HangulJamo.normalize("한")).isEqualTo("ㅎㅏㄴ");
+        // 겹모음과 겹받침도 낱자로 나눈다
+        assertThat(HangulJamo.normalize("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.normalize("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.normalize("ㅘㄺ")).isEqualTo("ㅗㅏㄹㄱ");
+    }
+
+    @Test
+    void partiallyTypedSyllablesArePrefixes() {
+        String title = HangulJamo.normalize("나 혼자만 레벨업");
+
+        assertThat(title).startsWith(HangulJamo.normalize("나 호"));
+        assertThat(title).startsWith(HangulJamo.normalize("나 혼ㅈ"));
+        assertThat(HangulJamo.normalize("닭강정")).startsWith(HangulJamo.normalize("달ㄱ"));
+        assertThat(HangulJamo.normalize("괴물")).startsWith(HangulJamo.normalize("고"));
+    }
+
+    @Test
+    void whitespaceAndCaseAreNormalized() {
+        assertThat(HangulJamo.normalize("  Solo \t Leveling  ")).isEqualTo("solo leveling");
+        assertThat(HangulJamo.normalize("   ")).isEmpty();
+    }
+}
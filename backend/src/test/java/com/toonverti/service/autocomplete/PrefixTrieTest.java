@@ -0,0 +1,67 @@
+package com.toonverti.service.autocomplete;
+
+import com.toonverti.service.autocomplete.PrefixTrie.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 압축 트라이가 접두어마다 인기 상위 항목을 돌려주는지 확인한다.
+ */
+class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie.Builder(3)
+            .add(1, "나 혼자만 레벨업", 50)
+            .add(2, "나노마신", 80)
+            .add(3, "나 혼자 만렙 뉴비", 50)
+            .add(4, "Solo Leveling", 10)
+            .add(5, "Solo Camping", 20)
+            .add(6, " ", 100)
+            .build();
+
+    @Test
+    void prefixReturnsMostPopularFirstThenNewerId() {
+        assertThat(ids(trie.lookup(HangulJamo.normalize("나"), 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(trie.lookup(HangulJamo.normalize("나 혼"), 10))).containsExactly(3L, 1L);
+        assertThat(ids(trie.lookup(HangulJamo.normalize("나"), 1))).containsExactly(2L);
+    }
+
+    @Test
+    void partialSyllableAndWordStartsMatch() {
+        assertThat(ids(trie.lookup(HangulJamo.normalize("나 혼ㅈ"), 10))).containsExactly(3L, 1L);
+        assertThat(ids(trie.lookup(HangulJamo.normalize("레벨"), 10))).containsExactly(1L);
+        assertThat(ids(trie.lookup(HangulJamo.normalize("leve"), 10))).containsExactly(4L);
+        // 단어 중간부터는 찾지 않는다
+        assertThat(trie.lookup(HangulJamo.normalize("벨업"), 10)).isEmpty();
+    }
+
+    @Test
+    void queryEndingInsideCompressedEdgeStillMatches() {
+        assertThat(ids(trie.lookup("s", 10))).containsExactly(5L, 4L);
+        assertThat(ids(trie.lookup("solo c", 10))).containsExactly(5L);
+        assertThat(trie.lookup("solo x", 10)).isEmpty();
+    }
+
+    @Test
+    void emptyQueryAndBlankTextsAreIgnored() {
+        assertThat(trie.lookup("", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(5);
+        assertThat(PrefixTrie.empty().lookup("a", 10)).isEmpty();
+    }
+
+    @Test
+    void resultsAreCappedAtMaxResults() {
+        PrefixTrie.Builder builder = new PrefixTrie.Builder(2);
+        for (long id = 1; id <= 5; id++) {
+            builder.add(id, "웹툰 " + id, id);
+        }
+
+        assertThat(ids(builder.build().lookup(HangulJamo.normalize("웹"), 10))).containsExactly(5L, 4L);
+    }
+
+    private static List<Long> ids(List<Entry> entries) {
+        return entries.stream().map(Entry::id).toList();
+    }
+}
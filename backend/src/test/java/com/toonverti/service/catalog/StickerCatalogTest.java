@@ -0,0 +1,77 @@
+package com.toonverti.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.dto.diary.StickerRequest;
+import com.toonverti.exception.InvalidStickerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카탈로그 버전이 내용에서만 정해지는지와 스티커 검증을 확인한다.
+ */
+class StickerCatalogTest {
+
+    private static final String CATALOG = """
+            {"packs": [{"type": "emoji", "name": "이모지", "icon": "😊", "stickers": ["😍", "🥰"]}]}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void versionDependsOnlyOnContent() throws IOException {
+        StickerCatalog first = load("a.json", CATALOG);
+        StickerCatalog reformatted = load("b.json", CATALOG.replace(" ", "\n  "));
+        StickerCatalog changed = load("c.json", CATALOG.replace("🥰", "😭"));
+
+        assertThat(first.getVersion()).hasSize(16).isEqualTo(reformatted.getVersion());
+        assertThat(changed.getVersion()).isNotEqualTo(first.getVersion());
+        assertThat(first.getCatalog().getVersion()).isEqualTo(first.getVersion());
+    }
+
+    @Test
+    void bodyIsTheSerializedCatalogAndCannotBeChanged() throws IOException {
+        StickerCatalog catalog = load("a.json", CATALOG);
+
+        byte[] body = catalog.getBody();
+        assertThat(objectMapper.readTree(body).at("/data/version").asText()).isEqualTo(catalog.getVersion());
+        body[0] = 0;
+        assertThat(catalog.getBody()[0]).isEqualTo((byte) '{');
+    }
+
+    @Test
+    void validatesStickersAgainstPacks() throws IOException {
+        StickerCatalog catalog = load("a.json", CATALOG);
+
+        assertThat(catalog.contains("emoji", "😍")).isTrue();
+        assertThat(catalog.contains("deco", "😍")).isFalse();
+        assertThat(catalog.contains(null, "😍")).isFalse();
+
+        catalog.validate(List.of(sticker("emoji", "🥰")));
+        catalog.validate(null);
+        assertThatThrownBy(() -> catalog.validate(List.of(sticker("emoji", "🥰"), sticker("emoji", "😭"))))
+                .isInstanceOf(InvalidStickerException.class)
+                .hasMessageContaining("src=😭");
+    }
+
+    private StickerCatalog load(String name, String json) throws IOException {
+        Path file = Files.writeString(dir.resolve(name), json, StandardCharsets.UTF_8);
+        return new StickerCatalog(objectMapper, new DefaultResourceLoader(), file.toUri().toString());
+    }
+
+    private StickerRequest sticker(String type, String src) {
+        return objectMapper.convertValue(Map.of("type", type, "src", src), StickerRequest.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.toonverti.service.collab;
+
+import com.toonverti.domain.sticker.StickerTransform;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 공동 편집 프레임의 왕복 인코딩과 잘못된 프레임 거부를 확인한다.
+ */
+class StickerDeltaCodecTest {
+
+    private static final int MAX_ENTRIES = 100;
+
+    @Test
+    void deltaRoundTripsOnlyPresentFields() {
+        Map<Long, StickerTransform> deltas = new LinkedHashMap<>();
+        deltas.put(1L, new StickerTransform(-5, 7, null, null, null, null));
+        deltas.put(300L, new StickerTransform(Integer.MIN_VALUE, Integer.MAX_VALUE, 1, 2, -12.5, 0));
+        deltas.put(Long.MAX_VALUE, new StickerTransform(null, null, null, null, 90.0, null));
+
+        Map<Long, StickerTransform> decoded = StickerDeltaCodec.decodeDelta(ByteBuffer.wrap(clientFrame(deltas)),
+                MAX_ENTRIES);
+
+        assertThat(decoded.keySet()).containsExactly(1L, 300L, Long.MAX_VALUE);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(deltas);
+    }
+
+    @Test
+    void dragDeltaStaysSmall() {
+        byte[] frame = clientFrame(Map.of(42L, new StickerTransform(120, -30, null, null, null, null)));
+
+        // 타입 + 개수 + ID + 표시 + x(2바이트) + y(1바이트)
+        assertThat(frame).hasSize(7);
+    }
+
+    @Test
+    void repeatedStickerKeepsLastValuePerField() {
+        byte[] first = clientFrame(Map.of(1L, new StickerTransform(1, 2, 10, null, null, null)));
+        byte[] second = clientFrame(Map.of(1L, new StickerTransform(5, null, null, null, 45.0, null)));
+        // 두 프레임의 항목을 이어 붙여 개수 2인 프레임을 만든다
+        ByteBuffer frame = ByteBuffer.allocate(first.length + second.length - 2)
+                .put(StickerDeltaCodec.DELTA)
+                .put((byte) 2)
+                .put(first, 2, first.length - 2)
+                .put(second, 2, second.length - 2)
+                .flip();
+
+        StickerTransform merged = StickerDeltaCodec.decodeDelta(frame, MAX_ENTRIES).get(1L);
+
+        assertThat(merged).usingRecursiveComparison()
+                .isEqualTo(new StickerTransform(5, 2, 10, null, 45.0, null));
+    }
+
+    @Test
+    void ackEncodesSequenceAsVarint() {
+        assertThat(StickerDeltaCodec.encodeAck(300)).containsExactly(StickerDeltaCodec.ACK, 0xAC, 0x02);
+    }
+
+    @Test
+    void malformedFramesAreRejected() {
+        byte[] valid = clientFrame(Map.of(1L, new StickerTransform(1, 2, null, null, null, null)));
+
+        assertRejected(new byte[]{StickerDeltaCodec.ACK, 1});
+        assertRejected(new byte[]{StickerDeltaCodec.DELTA, 0});
+        assertRejected(new byte[]{StickerDeltaCodec.DELTA, (byte) (MAX_ENTRIES + 1)});
+        assertRejected(Arrays.copyOf(valid, valid.length - 1));
+        assertRejected(Arrays.copyOf(valid, valid.length + 1));
+        // 표시가 비었거나 모르는 비트가 있다
+        assertRejected(new byte[]{StickerDeltaCodec.DELTA, 1, 1, 0});
+        assertRejected(new byte[]{StickerDeltaCodec.DELTA, 1, 1, 0x40, 0});
+        // 너비 0, 회전 NaN
+        assertRejected(new byte[]{StickerDeltaCodec.DELTA, 1, 1, 0x04, 0});
+        assertRejected(ByteBuffer.allocate(12).put(StickerDeltaCodec.DELTA).put((byte) 1).put((byte) 1)
+                .put((byte) 0x10).putDouble(Double.NaN).array());
+        // 끝나지 않는 varint, int 범위를 넘는 zigzag
+        assertRejected(new byte[]{StickerDeltaCodec.DELTA, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1});
+        assertRejected(new byte[]{StickerDeltaCodec.DELTA, 1, 1, 0x01, -1, -1, -1, -1, 0x7F});
+    }
+
+    private static void assertRejected(byte[] frame) {
+        assertThatThrownBy(() -> StickerDeltaCodec.decodeDelta(ByteBuffer.wrap(frame), MAX_ENTRIES))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 클라이언트 프레임에는 seq 가 없으므로, seq 0(1바이트)으로 인코딩한 서버 프레임에서 그 바이트를 뺀다
+    private static byte[] clientFrame(Map<Long, StickerTransform> deltas) {
+        byte[] serverFrame = StickerDeltaCodec.encodeDelta(0, deltas);
+        byte[] frame = new byte[serverFrame.length - 1];
+        frame[0] = serverFrame[0];
+        System.arraycopy(serverFrame, 2, frame, 1, serverFrame.length - 2);
+        return frame;
+    }
+}
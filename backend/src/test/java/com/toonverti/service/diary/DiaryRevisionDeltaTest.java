@@ -0,0 +1,158 @@
+package com.toonverti.service.diary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.toonverti.service.diary.DiaryRevisionState.StickerState;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리비전 차이가 apply(between(a, b), a) == b 를 지키는지, 저장 형식(JSON)을 거쳐도 그런지 확인한다.
+ */
+class DiaryRevisionDeltaTest {
+
+    private static final String ALPHABET = "abc 가나다😀🎉\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void unchangedStateHasEmptyDelta() {
+        DiaryRevisionState state = state("제목", "메모", List.of(sticker(1), sticker(2)));
+
+        DiaryRevisionDelta delta = DiaryRevisionDelta.between(state, state);
+
+        assertThat(delta).isEqualTo(new DiaryRevisionDelta(null, null, null, null, null, null));
+        assertThat(delta.applyTo(state)).isEqualTo(state);
+    }
+
+    @Test
+    void memoEditKeepsOnlyTheChangedMiddle() {
+        DiaryRevisionState before = state("제목", "오늘은 웹툰을 봤다", List.of());
+        DiaryRevisionState after = state("제목", "오늘은 만화를 봤다", List.of());
+
+        DiaryRevisionDelta delta = DiaryRevisionDelta.between(before, after);
+
+        assertThat(delta.memoEdit()).isEqualTo(new DiaryRevisionDelta.TextEdit(4, 7, "만화를"));
+        assertThat(delta.applyTo(before)).isEqualTo(after);
+    }
+
+    @Test
+    void editNeverSplitsSurrogatePairs() {
+        DiaryRevisionState before = state("t", "a😀b", List.of());
+        DiaryRevisionState after = state("t", "a😁b", List.of());
+
+        DiaryRevisionDelta.TextEdit edit = DiaryRevisionDelta.between(before, after).memoEdit();
+
+        assertThat(edit.text()).isEqualTo("😁");
+        assertThat(DiaryRevisionDelta.between(before, after).applyTo(before)).isEqualTo(after);
+    }
+
+    @Test
+    void stickerSpliceCarriesOnlyChangedFields() {
+        StickerState moved = new StickerState("emoji", "s2", 50, 2, 10, 10, 0.0, 2);
+        DiaryRevisionState before = state("t", null, List.of(sticker(1), sticker(2), sticker(3)));
+        DiaryRevisionState after = state("t", null, List.of(sticker(1), moved, sticker(3)));
+
+        DiaryRevisionDelta.StickerSplice splice = DiaryRevisionDelta.between(before, after).stickers();
+
+        assertThat(splice.start()).isEqualTo(1);
+        assertThat(splice.end()).isEqualTo(2);
+        assertThat(splice.edits()).containsExactly(
+                new DiaryRevisionDelta.StickerEdit(null, null, 50, null, null, null, null, null));
+        assertThat(splice.added()).isEmpty();
+    }
+
+    @Test
+    void randomEditsRoundTripThroughJson() throws Exception {
+        Random random = new Random(49);
+        DiaryRevisionState state = state("제목", "처음 메모", List.of(sticker(1)));
+        for (int step = 0; step < 2000; step++) {
+            DiaryRevisionState next = mutate(state, random);
+
+            DiaryRevisionDelta delta = DiaryRevisionDelta.between(state, next);
+            DiaryRevisionDelta stored = objectMapper.readValue(objectMapper.writeValueAsString(delta),
+                    DiaryRevisionDelta.class);
+
+            assertThat(delta.applyTo(state)).as("step %d", step).isEqualTo(next);
+            assertThat(stored.applyTo(state)).as("step %d (json)", step).isEqualTo(next);
+            state = next;
+        }
+    }
+
+    private DiaryRevisionState mutate(DiaryRevisionState state, Random random) {
+        String title = random.nextInt(5) == 0 ? "제목 " + random.nextInt(3) : state.title();
+        String memo = switch (random.nextInt(6)) {
+            case 0 -> null;
+            case 1 -> randomText(random, random.nextInt(20));
+            case 2, 3, 4 -> editText(state.memo() == null ? "" : state.memo(), random);
+            default -> state.memo();
+        };
+        LocalDate date = state.date();
+        if (random.nextInt(5) == 0) {
+            date = random.nextBoolean() ? null : LocalDate.of(2026, 1, 1 + random.nextInt(28));
+        }
+        String genre = state.genre();
+        if (random.nextInt(5) == 0) {
+            genre = random.nextBoolean() ? null : "genre" + random.nextInt(3);
+        }
+
+        List<StickerState> stickers = new ArrayList<>(state.stickers());
+        int changes = random.nextInt(3);
+        for (int i = 0; i < changes; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || stickers.isEmpty()) {
+                stickers.add(random.nextInt(stickers.size() + 1), sticker(random.nextInt(1000)));
+            } else if (op == 1) {
+                stickers.remove(random.nextInt(stickers.size()));
+            } else {
+                int index = random.nextInt(stickers.size());
+                StickerState s = stickers.get(index);
+                stickers.set(index, new StickerState(s.type(), s.src(), s.x() + random.nextInt(5) - 2, s.y(),
+                        s.width(), s.height(), random.nextBoolean() ? s.rotation() : random.nextDouble() * 360,
+                        s.zIndex()));
+            }
+        }
+        return new DiaryRevisionState(title, memo, date, genre, List.copyOf(stickers));
+    }
+
+    private static String editText(String text, Random random) {
+        int[] codePoints = text.codePoints().toArray();
+        int start = random.nextInt(codePoints.length + 1);
+        int end = start + random.nextInt(codePoints.length - start + 1);
+        StringBuilder edited = new StringBuilder();
+        for (int i = 0; i < start; i++) {
+            edited.appendCodePoint(codePoints[i]);
+        }
+        edited.append(randomText(random, random.nextInt(4)));
+        for (int i = end; i < codePoints.length; i++) {
+            edited.appendCodePoint(codePoints[i]);
+        }
+        return edited.toString();
+    }
+
+    private static String randomText(Random random, int codePoints) {
+        int[] alphabet = ALPHABET.codePoints().toArray();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < codePoints; i++) {
+            text.appendCodePoint(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return text.toString();
+    }
+
+    private static DiaryRevisionState state(String title, String memo, List<StickerState> stickers) {
+        return new DiaryRevisionState(title, memo, LocalDate.of(2026, 1, 1), "romance", stickers);
+    }
+
+    private static StickerState sticker(int n) {
+        return new StickerState("emoji", "s" + n, n, 2, 10, 10, 0.0, n);
+    }
+}
@@ -0,0 +1,109 @@
+package com.toonverti.service.friend;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 친구 인접 배열의 적재/갱신과 공통 친구 수(병합, 이진 탐색 두 경로)를 확인한다.
+ */
+class FriendGraphIndexTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final FriendGraphIndex index = new FriendGraphIndex(jdbcTemplate);
+
+    @Test
+    void reloadBuildsSortedDistinctNeighbors() throws Exception {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(edge(1, 5));
+            handler.processRow(edge(3, 1));
+            handler.processRow(edge(5, 1));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        index.reload();
+
+        assertThat(index.friendsOf(1)).containsExactly(3, 5);
+        assertThat(index.friendsOf(5)).containsExactly(1);
+        assertThat(index.areFriends(3, 1)).isTrue();
+        assertThat(index.areFriends(3, 5)).isFalse();
+        assertThat(index.friendsOf(42)).isEmpty();
+    }
+
+    @Test
+    void linkAndUnlinkKeepArraysSorted() {
+        index.link(1, 7);
+        index.link(1, 3);
+        index.link(1, 5);
+        index.link(1, 3);
+        assertThat(index.friendsOf(1)).containsExactly(3, 5, 7);
+
+        index.unlink(1, 5);
+        index.unlink(7, 1);
+        assertThat(index.friendsOf(1)).containsExactly(3);
+        assertThat(index.friendsOf(7)).isEmpty();
+        assertThat(index.friendCount(3)).isEqualTo(1);
+    }
+
+    @Test
+    void mutualCountMatchesSetIntersection() {
+        Random random = new Random(31);
+        // 1번은 친구가 적고 2번, 3번은 많아 1-2 는 이진 탐색, 2-3 은 병합으로 센다
+        Set<Long> small = link(1, random, 20);
+        Set<Long> large = link(2, random, 2000);
+        Set<Long> other = link(3, random, 1500);
+
+        assertThat(index.mutualFriendCount(1, 2)).isEqualTo(intersection(small, large));
+        assertThat(index.mutualFriendCount(2, 1)).isEqualTo(intersection(small, large));
+        assertThat(index.mutualFriendCount(2, 3)).isEqualTo(intersection(large, other));
+        assertThat(index.mutualFriendCount(1, 99)).isZero();
+    }
+
+    @Test
+    void searchPathCountsMatchesAtTheEnd() {
+        LongStream.rangeClosed(100, 2000).forEach(friend -> index.link(2, friend));
+        index.link(1, 100);
+        index.link(1, 2000);
+        index.link(1, 5000);
+
+        assertThat(index.mutualFriendCount(1, 2)).isEqualTo(2);
+    }
+
+    private Set<Long> link(long userId, Random random, int friends) {
+        Set<Long> linked = new HashSet<>();
+        while (linked.size() < friends) {
+            long friend = 1000 + random.nextInt(4000);
+            if (linked.add(friend)) {
+                index.link(userId, friend);
+            }
+        }
+        return linked;
+    }
+
+    private static int intersection(Set<Long> a, Set<Long> b) {
+        Set<Long> common = new HashSet<>(a);
+        common.retainAll(b);
+        return common.size();
+    }
+
+    private static ResultSet edge(long requesterId, long addresseeId) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(requesterId);
+        when(rs.getLong(2)).thenReturn(addresseeId);
+        return rs;
+    }
+}
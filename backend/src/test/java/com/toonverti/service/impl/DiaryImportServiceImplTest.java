@@ -0,0 +1,122 @@
+package com.toonverti.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.toonverti.domain.diary.DiaryJdbcRepository;
+import com.toonverti.domain.user.UserRepository;
+import com.toonverti.dto.diary.DiaryImportResponse;
+import com.toonverti.dto.diary.DiaryImportResponse.ImportError;
+import com.toonverti.dto.diary.DiaryRequest;
+import com.toonverti.event.DomainEventPublisher;
+import com.toonverti.service.StickerAssetService;
+import com.toonverti.service.catalog.StickerCatalog;
+import com.toonverti.service.diary.DiaryMemoEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가져오기가 본문을 항목 단위로 읽어 chunk-size 마다 저장하고, 실패한 묶음은 항목별로 다시 저장하는지 확인한다.
+ */
+class DiaryImportServiceImplTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final DiaryJdbcRepository diaryJdbcRepository = mock(DiaryJdbcRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final StickerAssetService stickerAssetService = mock(StickerAssetService.class);
+    private final List<List<String>> insertedTitles = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    private final DiaryImportServiceImpl service = new DiaryImportServiceImpl(diaryJdbcRepository,
+            new DiaryMemoEncoder(new SimpleMeterRegistry(), 1024), userRepository, stickerAssetService,
+            mock(StickerCatalog.class), mock(DomainEventPublisher.class),
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), Clock.systemUTC(), 2);
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+        when(diaryJdbcRepository.batchInsert(eq(USER_ID), anyList(), anyList(), anyMap(), any()))
+                .thenAnswer(invocation -> {
+                    List<DiaryRequest> requests = invocation.getArgument(1);
+                    List<String> titles = requests.stream().map(DiaryRequest::getTitle).toList();
+                    insertedTitles.add(titles);
+                    if (titles.contains("bad")) {
+                        throw new DataIntegrityViolationException("bad row");
+                    }
+                    return requests.stream().map(request -> nextId.getAndIncrement()).toList();
+                });
+    }
+
+    @Test
+    void arrayIsSavedInChunks() {
+        DiaryImportResponse response = importBody("""
+                [{"title": "a"}, {"title": "b"}, {"title": "c"}, {"title": "d"}, {"title": "e"}]""");
+
+        assertThat(insertedTitles).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+        assertThat(response.getDiaryIds()).containsExactly(100L, 101L, 102L, 103L, 104L);
+        assertThat(response.getImported()).isEqualTo(5);
+        assertThat(response.getFailed()).isZero();
+    }
+
+    @Test
+    void invalidItemsAreSkippedWithTheirIndex() {
+        DiaryImportResponse response = importBody("""
+                {"title": "a"}
+                {"title": ""}
+                {"title": "b", "date": "not-a-date"}
+                {"title": "c"}
+                """);
+
+        assertThat(insertedTitles).containsExactly(List.of("a", "c"));
+        assertThat(response.getDiaryIds()).containsExactly(100L, null, null, 101L);
+        assertThat(response.getErrors()).extracting(ImportError::getIndex).containsExactly(1, 2);
+    }
+
+    @Test
+    void syntaxErrorStopsTheImport() {
+        DiaryImportResponse response = importBody("""
+                [{"title": "a"}, {"title": "b"}, {"title" "c"}, {"title": "d"}]""");
+
+        assertThat(insertedTitles).containsExactly(List.of("a", "b"));
+        assertThat(response.getTotal()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(ImportError::getIndex).containsExactly(2);
+    }
+
+    @Test
+    void failedChunkIsRetriedItemByItem() {
+        DiaryImportResponse response = importBody("""
+                [{"title": "a"}, {"title": "bad"}, {"title": "c"}]""");
+
+        assertThat(insertedTitles).containsExactly(
+                List.of("a", "bad"), List.of("a"), List.of("bad"), List.of("c"));
+        assertThat(response.getDiaryIds()).containsExactly(100L, null, 101L);
+        assertThat(response.getErrors()).extracting(ImportError::getIndex).containsExactly(1);
+        assertThat(response.getImported()).isEqualTo(2);
+    }
+
+    private DiaryImportResponse importBody(String json) {
+        return service.importDiaries(USER_ID, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
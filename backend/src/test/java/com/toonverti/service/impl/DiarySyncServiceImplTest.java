@@ -0,0 +1,270 @@
+package com.toonverti.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.config.ClockConfig;
+import com.toonverti.domain.user.Role;
+import com.toonverti.domain.user.User;
+import com.toonverti.domain.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 다이어리 동기화 토큰의 약속(페이지 이어 읽기, 삭제 기록, 스티커 생략, 만료/잘못된 토큰)을 확인한다.
+ * settle 창과 삭제 기록 보관 기간을 넘기기 위해 시계를 테스트에서 직접 움직인다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DiarySyncServiceImplTest {
+
+    // settle-ms(15초) 를 넘겨 방금 쓴 변경이 동기화에 보이게 한다
+    private static final Duration SETTLED = Duration.ofMinutes(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MutableClock clock;
+
+    @TestConfiguration
+    static class ClockOverride {
+
+        @Bean
+        @Primary
+        MutableClock mutableClock() {
+            return new MutableClock(Instant.now(), ClockConfig.SEOUL_ZONE);
+        }
+    }
+
+    @Test
+    void pagesThroughAllChangesWithTokens() throws Exception {
+        Long userId = createUser();
+        List<Long> created = List.of(createDiary(userId), createDiary(userId), createDiary(userId));
+        clock.advance(SETTLED);
+
+        List<Long> received = new ArrayList<>();
+        String token = null;
+        JsonNode page;
+        do {
+            page = sync(userId, token, 1);
+            assertThat(page.get("changed")).hasSizeLessThanOrEqualTo(1);
+            page.get("changed").forEach(diary -> received.add(diary.get("id").asLong()));
+            token = page.get("nextToken").asText();
+        } while (page.get("hasMore").asBoolean());
+
+        assertThat(received).containsExactlyElementsOf(created);
+
+        // 다 받은 뒤의 토큰으로는 새 변경이 없다
+        JsonNode after = sync(userId, token, 1);
+        assertThat(after.get("changed")).isEmpty();
+        assertThat(after.get("hasMore").asBoolean()).isFalse();
+    }
+
+    @Test
+    void changesInsideSettleWindowWaitForNextSync() throws Exception {
+        Long userId = createUser();
+        String token = sync(userId, null, 100).get("nextToken").asText();
+
+        Long diaryId = createDiary(userId);
+        JsonNode early = sync(userId, token, 100);
+        assertThat(early.get("changed")).isEmpty();
+
+        clock.advance(SETTLED);
+        JsonNode settled = sync(userId, early.get("nextToken").asText(), 100);
+        assertThat(settled.get("changed")).extracting(diary -> diary.get("id").asLong()).containsExactly(diaryId);
+    }
+
+    @Test
+    void trashedDiaryComesBackAsTombstone() throws Exception {
+        Long userId = createUser();
+        Long diaryId = createDiary(userId);
+        clock.advance(SETTLED);
+        String token = sync(userId, null, 100).get("nextToken").asText();
+
+        mockMvc.perform(post("/api/diaries/" + diaryId + "/trash"))
+                .andExpect(status().isOk());
+        clock.advance(SETTLED);
+
+        JsonNode page = sync(userId, token, 100);
+        assertThat(page.get("changed")).isEmpty();
+        assertThat(page.get("deleted")).hasSize(1);
+        assertThat(page.get("deleted").get(0).get("diaryId").asLong()).isEqualTo(diaryId);
+        assertThat(page.get("deleted").get(0).get("trashed").asBoolean()).isTrue();
+
+        // 받은 삭제 기록은 다시 오지 않는다
+        assertThat(sync(userId, page.get("nextToken").asText(), 100).get("deleted")).isEmpty();
+    }
+
+    @Test
+    void stickersAreOmittedUnlessChangedSinceToken() throws Exception {
+        Long userId = createUser();
+        Long diaryId = createDiary(userId);
+        clock.advance(SETTLED);
+
+        JsonNode first = sync(userId, null, 100);
+        JsonNode created = first.get("changed").get(0);
+        assertThat(created.get("stickers")).hasSize(1);
+        long stickerId = created.get("stickers").get(0).get("id").asLong();
+
+        // 제목만 바뀐 다이어리는 스티커 없이 온다
+        mockMvc.perform(post("/api/diaries/" + diaryId + "/toggle-public"))
+                .andExpect(status().isOk());
+        clock.advance(SETTLED);
+        JsonNode second = sync(userId, first.get("nextToken").asText(), 100);
+        assertThat(second.get("changed")).hasSize(1);
+        assertThat(second.get("changed").get(0).hasNonNull("stickers")).isFalse();
+        assertThat(second.get("changed").get(0).get("stickerCount").asInt()).isEqualTo(1);
+
+        mockMvc.perform(patch("/api/diaries/" + diaryId + "/stickers/" + stickerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"x\":50}"))
+                .andExpect(status().isOk());
+        clock.advance(SETTLED);
+        JsonNode third = sync(userId, second.get("nextToken").asText(), 100);
+        assertThat(third.get("changed")).hasSize(1);
+        assertThat(third.get("changed").get(0).get("stickers").get(0).get("x").asInt()).isEqualTo(50);
+    }
+
+    @Test
+    void likedDiaryComesBackAsChanged() throws Exception {
+        Long userId = createUser();
+        Long diaryId = createDiary(userId);
+        clock.advance(SETTLED);
+        String token = sync(userId, null, 100).get("nextToken").asText();
+
+        mockMvc.perform(post("/api/diaries/" + diaryId + "/like"))
+                .andExpect(status().isOk());
+        clock.advance(SETTLED);
+
+        JsonNode page = sync(userId, token, 100);
+        assertThat(page.get("changed")).hasSize(1);
+        assertThat(page.get("changed").get(0).get("likeCount").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenOlderThanTombstoneRetentionIsGone() throws Exception {
+        Long userId = createUser();
+        String token = sync(userId, null, 100).get("nextToken").asText();
+
+        clock.advance(Duration.ofDays(31));
+
+        perform(userId, token, 100, status().isGone());
+    }
+
+    @Test
+    void periodicSyncWithoutDeletesKeepsTokenAlive() throws Exception {
+        Long userId = createUser();
+        String token = sync(userId, null, 100).get("nextToken").asText();
+
+        // 삭제 기록이 한 번도 없어도 열흘마다 동기화하면 보관 기간을 넘기지 않는다
+        for (int i = 0; i < 5; i++) {
+            clock.advance(Duration.ofDays(10));
+            token = sync(userId, token, 100).get("nextToken").asText();
+        }
+    }
+
+    @Test
+    void malformedTokenIsBadRequest() throws Exception {
+        Long userId = createUser();
+
+        perform(userId, "not-a-token", 100, status().isBadRequest());
+        perform(userId, "1_2_3", 100, status().isBadRequest());
+        perform(userId, "a_b_c_d_e", 100, status().isBadRequest());
+    }
+
+    private JsonNode sync(Long userId, String token, int size) throws Exception {
+        String response = perform(userId, token, size, status().isOk());
+        return objectMapper.readTree(response).get("data");
+    }
+
+    private String perform(Long userId, String token, int size, ResultMatcher expected) throws Exception {
+        String url = "/api/diaries/sync?userId=" + userId + "&size=" + size + (token == null ? "" : "&token=" + token);
+        return mockMvc.perform(get(url))
+                .andExpect(expected)
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private Long createUser() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .email(name + "@example.com")
+                .password("password1")
+                .nickname("u" + name)
+                .role(Role.USER)
+                .build()).getId();
+    }
+
+    private Long createDiary(Long userId) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "title", "동기화 다이어리",
+                "memo", "메모",
+                "stickers", List.of(Map.of("type", "emoji", "src", "😍", "x", 3, "y", 5, "width", 10, "height", 10))));
+        String response = mockMvc.perform(post("/api/diaries").param("userId", userId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        // 같은 마이크로초에 찍힌 다이어리도 ID 순서로 이어 읽는지 보도록 시계는 그대로 둔다
+        return objectMapper.readTree(response).get("data").get("id").asLong();
+    }
+
+    // 테스트가 직접 앞으로 돌리는 시계
+    static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+        private final ZoneId zone;
+
+        MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
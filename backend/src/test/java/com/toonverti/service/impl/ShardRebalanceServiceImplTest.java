@@ -0,0 +1,195 @@
+package com.toonverti.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.common.shard.ShardContext;
+import com.toonverti.common.shard.ShardRouter;
+import com.toonverti.domain.user.Role;
+import com.toonverti.domain.user.User;
+import com.toonverti.domain.user.UserRepository;
+import com.toonverti.dto.shard.ShardMoveResponse;
+import com.toonverti.exception.ShardMoveInProgressException;
+import com.toonverti.service.DiaryService;
+import com.toonverti.service.ShardRebalanceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내장 H2 두 개를 샤드로 띄워 사용자 이동을 확인한다.
+ * 디렉터리 갱신은 테스트에서 직접 호출하고, 이동 대기는 두지 않는다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rebalance_shard0;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "sharding.enabled=true",
+        "sharding.extra-urls=jdbc:h2:mem:rebalance_shard1;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "sharding.initialize-schema=true",
+        // 0번 샤드는 마이그레이션 없이 create-drop 으로 만들어 V9가 ID 간격을 맞추지 않는다
+        "sharding.configure-ids=true",
+        "sharding.directory-refresh-ms=3600000",
+        "sharding.move-settle-ms=0"
+})
+@AutoConfigureMockMvc
+class ShardRebalanceServiceImplTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private ShardRebalanceService shardRebalanceService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private Clock clock;
+
+    @Test
+    void moveCopiesDiariesToTargetShard() throws Exception {
+        Long userId = createUser();
+        Long diaryId = createDiary(userId, false);
+        int source = shardRouter.shardOfUser(userId);
+        int target = 1 - source;
+
+        ShardMoveResponse moved = shardRebalanceService.moveUser(userId, target);
+
+        Long newId = moved.getDiaryIds().get(diaryId);
+        assertThat(shardRouter.shardOfUser(userId)).isEqualTo(target);
+        assertThat(shardRouter.shardOfDiary(newId)).isEqualTo(target);
+        assertThat(countDiaries(target, newId)).isEqualTo(1);
+        assertThat(countDiaries(source, diaryId)).isZero();
+        assertThat(diaryService.getDiary(newId).getTitle()).isEqualTo("이동할 다이어리");
+    }
+
+    @Test
+    void oldShareLinksRedirectToMovedDiary() throws Exception {
+        Long userId = createUser();
+        Long diaryId = createDiary(userId, true);
+        int source = shardRouter.shardOfUser(userId);
+
+        Long firstId = shardRebalanceService.moveUser(userId, 1 - source).getDiaryIds().get(diaryId);
+        Long secondId = shardRebalanceService.moveUser(userId, source).getDiaryIds().get(firstId);
+
+        // 두 번 옮겨도 처음 ID가 한 번에 최신 ID로 간다
+        mockMvc.perform(get("/api/share/" + diaryId))
+                .andExpect(status().isPermanentRedirect())
+                .andExpect(header().string("Location", "/api/share/" + secondId));
+        mockMvc.perform(get("/api/share/" + firstId + "/preview?size=SMALL"))
+                .andExpect(status().isPermanentRedirect())
+                .andExpect(header().string("Location", "/api/share/" + secondId + "/preview?size=SMALL"));
+        mockMvc.perform(post("/api/share/" + diaryId + "/like"))
+                .andExpect(status().isPermanentRedirect())
+                .andExpect(header().string("Location", "/api/share/" + secondId + "/like"));
+        mockMvc.perform(get("/api/share/" + secondId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unknownShareIdIsStillNotFound() throws Exception {
+        mockMvc.perform(get("/api/share/999999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void moveMarkedByAnotherInstanceBlocksUserAndDiaryCalls() throws Exception {
+        Long userId = createUser();
+        Long diaryId = createDiary(userId, false);
+        shardRouter.shardOfUser(userId);
+
+        // 다른 인스턴스가 옮기기 시작했다
+        LocalDateTime now = LocalDateTime.now(clock);
+        jdbcTemplate.update("UPDATE user_shard_assignments SET moving_since = ?, updated_at = ? WHERE user_id = ?",
+                Timestamp.valueOf(now), Timestamp.valueOf(now), userId);
+        shardRouter.reloadDirectory();
+
+        assertThatThrownBy(() -> diaryService.getUserDiaries(userId))
+                .isInstanceOf(ShardMoveInProgressException.class);
+        assertThatThrownBy(() -> diaryService.getDiary(diaryId))
+                .isInstanceOf(ShardMoveInProgressException.class);
+        assertThatThrownBy(() -> shardRebalanceService.moveUser(userId, 1 - shardRouter.shardOfUser(userId)))
+                .isInstanceOf(ShardMoveInProgressException.class);
+
+        LocalDateTime later = LocalDateTime.now(clock);
+        jdbcTemplate.update("UPDATE user_shard_assignments SET moving_since = NULL, updated_at = ? WHERE user_id = ?",
+                Timestamp.valueOf(later), userId);
+        shardRouter.reloadDirectory();
+
+        assertThat(diaryService.getDiary(diaryId).getId()).isEqualTo(diaryId);
+    }
+
+    @Test
+    void reassignmentByAnotherInstanceIsPickedUpByPolling() throws Exception {
+        Long userId = createUser();
+        int source = shardRouter.shardOfUser(userId);
+        int target = 1 - source;
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        jdbcTemplate.update("UPDATE user_shard_assignments SET shard = ?, updated_at = ? WHERE user_id = ?",
+                target, Timestamp.valueOf(now), userId);
+        shardRouter.reloadDirectory();
+
+        assertThat(shardRouter.shardOfUser(userId)).isEqualTo(target);
+    }
+
+    private Long createUser() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .email(name + "@example.com")
+                .password("password1")
+                .nickname("u" + name)
+                .role(Role.USER)
+                .build()).getId();
+    }
+
+    private Long createDiary(Long userId, boolean isPublic) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "title", "이동할 다이어리",
+                "memo", "메모",
+                "date", "2026-01-02",
+                "genre", "romance"));
+        String response = mockMvc.perform(post("/api/diaries").param("userId", userId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long diaryId = objectMapper.readTree(response).get("data").get("id").asLong();
+        if (isPublic) {
+            diaryService.togglePublic(diaryId);
+        }
+        return diaryId;
+    }
+
+    private long countDiaries(int shard, Long diaryId) {
+        Long count = ShardContext.call(shard, () ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM diaries WHERE id = ?", Long.class, diaryId));
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,139 @@
+package com.toonverti.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toonverti.domain.user.Role;
+import com.toonverti.domain.user.User;
+import com.toonverti.domain.user.UserRepository;
+import com.toonverti.dto.diary.DiaryRevisionResponse;
+import com.toonverti.service.DiaryService;
+import com.toonverti.service.diary.DiaryRevisionRecorder;
+import com.toonverti.service.diary.DiaryRevisionState;
+import com.toonverti.service.sticker.StickerAutosaveBuffer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 스티커 개별 수정과 자동 저장도 되돌릴 수 있는 리비전을 남기는지 확인한다.
+ * 자동 저장은 주기 flush 대신 테스트에서 직접 비운다.
+ */
+@SpringBootTest(properties = "sticker.autosave.flush-interval-ms=3600000")
+@AutoConfigureMockMvc
+class StickerServiceImplTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private DiaryRevisionRecorder diaryRevisionRecorder;
+
+    @Autowired
+    private StickerAutosaveBuffer stickerAutosaveBuffer;
+
+    @Test
+    void patchStickerRecordsRevision() throws Exception {
+        JsonNode diary = createDiary();
+        long diaryId = diary.get("id").asLong();
+        long stickerId = diary.get("stickers").get(0).get("id").asLong();
+
+        mockMvc.perform(patch("/api/diaries/" + diaryId + "/stickers/" + stickerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"x\":50}"))
+                .andExpect(status().isOk());
+
+        assertThat(revisions(diaryId)).containsExactly(2, 1);
+        assertThat(stickerX(diaryId, 1)).isEqualTo(3);
+        assertThat(stickerX(diaryId, 2)).isEqualTo(50);
+
+        diaryService.restoreRevision(diaryId, 1);
+        assertThat(diaryService.getDiary(diaryId).getStickers().get(0).getX()).isEqualTo(3);
+    }
+
+    @Test
+    void autosaveFlushRecordsOneRevisionPerDiary() throws Exception {
+        JsonNode diary = createDiary();
+        long diaryId = diary.get("id").asLong();
+        long stickerId = diary.get("stickers").get(0).get("id").asLong();
+
+        autosave(diaryId, stickerId, 10);
+        autosave(diaryId, stickerId, 20);
+        stickerAutosaveBuffer.flushAll();
+
+        // 같은 flush 에 모인 변경은 리비전 하나로 합쳐진다
+        assertThat(revisions(diaryId)).containsExactly(2, 1);
+        assertThat(stickerX(diaryId, 1)).isEqualTo(3);
+        assertThat(stickerX(diaryId, 2)).isEqualTo(20);
+
+        autosave(diaryId, stickerId, 30);
+        stickerAutosaveBuffer.flushAll();
+        assertThat(revisions(diaryId)).containsExactly(3, 2, 1);
+        assertThat(stickerX(diaryId, 3)).isEqualTo(30);
+    }
+
+    @Test
+    void emptyFlushRecordsNothing() throws Exception {
+        long diaryId = createDiary().get("id").asLong();
+
+        stickerAutosaveBuffer.flushAll();
+
+        assertThat(revisions(diaryId)).isEmpty();
+    }
+
+    private JsonNode createDiary() throws Exception {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        Long userId = userRepository.save(User.builder()
+                .email(name + "@example.com")
+                .password("password1")
+                .nickname("u" + name)
+                .role(Role.USER)
+                .build()).getId();
+        String body = objectMapper.writeValueAsString(Map.of(
+                "title", "스티커 다이어리",
+                "memo", "메모",
+                "stickers", List.of(Map.of("type", "emoji", "src", "😍", "x", 3, "y", 5, "width", 10, "height", 10))));
+        String response = mockMvc.perform(post("/api/diaries").param("userId", userId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("data");
+    }
+
+    private void autosave(long diaryId, long stickerId, int x) throws Exception {
+        mockMvc.perform(post("/api/diaries/" + diaryId + "/stickers/autosave")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"deltas\":[{\"stickerId\":" + stickerId + ",\"x\":" + x + "}]}"))
+                .andExpect(status().isAccepted());
+    }
+
+    private List<Integer> revisions(long diaryId) {
+        return diaryService.getRevisions(diaryId).stream().map(DiaryRevisionResponse::getRevision).toList();
+    }
+
+    private int stickerX(long diaryId, int revision) {
+        DiaryRevisionState state = diaryRevisionRecorder.reconstruct(diaryId, revision).orElseThrow();
+        return state.stickers().get(0).x();
+    }
+}
@@ -0,0 +1,35 @@
+package com.toonverti.service.share;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공유 응답을 gzip 으로 줄지 Accept-Encoding 으로 판단하는 규칙을 확인한다.
+ */
+class SharedDiaryResponseCacheTest {
+
+    @Test
+    void explicitGzipWins() {
+        assertThat(SharedDiaryResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("*;q=0, gzip")).isTrue();
+    }
+
+    @Test
+    void wildcardAppliesOnlyWithoutGzip() {
+        assertThat(SharedDiaryResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("br, *;q=0.1")).isTrue();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("br, *;q=0")).isFalse();
+    }
+
+    @Test
+    void missingOrMalformedHeaderMeansIdentity() {
+        assertThat(SharedDiaryResponseCache.acceptsGzip(null)).isFalse();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("")).isFalse();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("br")).isFalse();
+        assertThat(SharedDiaryResponseCache.acceptsGzip("gzip;q=abc")).isFalse();
+    }
+}
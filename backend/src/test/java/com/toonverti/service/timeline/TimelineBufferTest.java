@@ -0,0 +1,85 @@
+package com.toonverti.service.timeline;
+
+import com.toonverti.service.timeline.TimelineBuffer.TimelineEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 타임라인 버퍼의 정렬, 커서 페이지, 용량 초과 시 밀려나는 순서를 확인한다.
+ */
+class TimelineBufferTest {
+
+    @Test
+    void entriesAreNewestFirstWithIdBreakingTies() {
+        TimelineBuffer buffer = new TimelineBuffer(10, 0);
+        buffer.insert(100, 1, 7);
+        buffer.insert(300, 3, 7);
+        buffer.insert(200, 2, 8);
+        buffer.insert(200, 4, 9);
+
+        assertThat(diaryIds(buffer.before(Long.MAX_VALUE, Long.MAX_VALUE, 10))).containsExactly(3L, 4L, 2L, 1L);
+        assertThat(buffer.before(Long.MAX_VALUE, Long.MAX_VALUE, 1))
+                .containsExactly(new TimelineEntry(300, 3, 7));
+    }
+
+    @Test
+    void pagesContinueAfterTheCursorWithoutRepeats() {
+        TimelineBuffer buffer = new TimelineBuffer(50, 0);
+        for (long id = 1; id <= 20; id++) {
+            // 두 개씩 같은 공개 시각
+            buffer.insert(1000 + (id + 1) / 2, id, 1);
+        }
+
+        List<Long> seen = new ArrayList<>();
+        long cursorKey = Long.MAX_VALUE;
+        long cursorId = Long.MAX_VALUE;
+        List<TimelineEntry> page;
+        do {
+            page = buffer.before(cursorKey, cursorId, 3);
+            page.forEach(entry -> seen.add(entry.diaryId()));
+            if (!page.isEmpty()) {
+                cursorKey = page.get(page.size() - 1).key();
+                cursorId = page.get(page.size() - 1).diaryId();
+            }
+        } while (!page.isEmpty());
+
+        assertThat(seen).hasSize(20).doesNotHaveDuplicates().isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void fullBufferDropsTheOldestAndReportsHorizon() {
+        TimelineBuffer buffer = new TimelineBuffer(3, 0);
+        buffer.insert(10, 1, 1);
+        buffer.insert(20, 2, 1);
+        assertThat(buffer.horizon()).isEqualTo(Long.MIN_VALUE);
+
+        buffer.insert(30, 3, 1);
+        buffer.insert(40, 4, 1);
+        assertThat(diaryIds(buffer.before(Long.MAX_VALUE, Long.MAX_VALUE, 10))).containsExactly(4L, 3L, 2L);
+        assertThat(buffer.horizon()).isEqualTo(20);
+
+        // 가득 찬 버퍼보다 오래된 글은 들어가지 않는다
+        buffer.insert(5, 5, 1);
+        assertThat(diaryIds(buffer.before(Long.MAX_VALUE, Long.MAX_VALUE, 10))).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    void republishedDiaryMovesInsteadOfDuplicating() {
+        TimelineBuffer buffer = new TimelineBuffer(5, 0);
+        buffer.insert(10, 1, 1);
+        buffer.insert(20, 2, 1);
+        buffer.insert(20, 2, 1);
+        buffer.insert(30, 1, 1);
+
+        assertThat(buffer.before(Long.MAX_VALUE, Long.MAX_VALUE, 10))
+                .containsExactly(new TimelineEntry(30, 1, 1), new TimelineEntry(20, 2, 1));
+    }
+
+    private static List<Long> diaryIds(List<TimelineEntry> entries) {
+        return entries.stream().map(TimelineEntry::diaryId).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.toonverti.service.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오픈 어드레싱 테이블이 삭제(backward shift)와 재해시 뒤에도 모든 키를 찾는지 HashMap 과 비교한다.
+ */
+class ScoreTableTest {
+
+    @Test
+    void putUpdateAndMissingKeys() {
+        ScoreTable table = new ScoreTable(4);
+        table.put(7, 1.5, 2);
+        table.put(7, 2.5, 3);
+
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.score(7)).isEqualTo(2.5);
+        assertThat(table.genre(7)).isEqualTo(3);
+        assertThat(table.score(8)).isNaN();
+        assertThat(table.genre(8)).isEqualTo(-1);
+        assertThat(table.remove(8)).isFalse();
+    }
+
+    @Test
+    void removeKeepsProbeChainsIntact() {
+        // 키 범위를 좁게 잡아 충돌과 배열 끝을 넘는 탐사 사슬이 자주 생기게 한다
+        Random random = new Random(35);
+        ScoreTable table = new ScoreTable(16);
+        Map<Long, Double> expected = new HashMap<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            long key = 1 + random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                assertThat(table.remove(key)).isEqualTo(expected.remove(key) != null);
+            } else {
+                double score = random.nextDouble();
+                table.put(key, score, (int) (key % 5));
+                expected.put(key, score);
+            }
+            if (step % 500 == 0) {
+                assertMatches(table, expected);
+            }
+        }
+        assertMatches(table, expected);
+    }
+
+    @Test
+    void removingEverythingEmptiesTheTable() {
+        ScoreTable table = new ScoreTable(16);
+        for (long key = 1; key <= 1000; key++) {
+            table.put(key, key, 0);
+        }
+        for (long key = 1000; key >= 1; key--) {
+            assertThat(table.remove(key)).isTrue();
+            assertThat(table.contains(key - 1)).isEqualTo(key > 1);
+        }
+
+        List<Long> left = new ArrayList<>();
+        table.forEach((key, score, genre) -> left.add(key));
+        assertThat(table.size()).isZero();
+        assertThat(left).isEmpty();
+    }
+
+    private static void assertMatches(ScoreTable table, Map<Long, Double> expected) {
+        assertThat(table.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 200; key++) {
+            Double score = expected.get(key);
+            assertThat(table.contains(key)).as("key %d", key).isEqualTo(score != null);
+            if (score != null) {
+                assertThat(table.score(key)).isEqualTo(score);
+                assertThat(table.genre(key)).isEqualTo((int) (key % 5));
+            }
+        }
+        Map<Long, Double> iterated = new HashMap<>();
+        table.forEach((key, score, genre) -> iterated.put(key, score));
+        assertThat(iterated).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,80 @@
+package com.toonverti.service.trending;
+
+import com.toonverti.service.trending.TopKHeap.Ranked;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상위 K 힙이 후보, 점수 갱신, 삭제 뒤에도 최저점을 루트에 두는지 확인한다.
+ */
+class TopKHeapTest {
+
+    @Test
+    void keepsTheHighestScores() {
+        Random random = new Random(7);
+        TopKHeap heap = new TopKHeap(10);
+        Map<Long, Double> offered = new HashMap<>();
+        for (long id = 1; id <= 1000; id++) {
+            double score = random.nextDouble();
+            heap.offer(id, score);
+            offered.put(id, score);
+        }
+
+        List<Long> expected = offered.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+        assertThat(heap.isFull()).isTrue();
+        assertThat(heap.sortedDescending()).extracting(Ranked::diaryId).containsExactlyElementsOf(expected);
+        assertThat(heap.minScore()).isEqualTo(offered.get(expected.get(9)));
+    }
+
+    @Test
+    void updatingAMemberReordersInPlace() {
+        TopKHeap heap = new TopKHeap(3);
+        heap.offer(1, 1.0);
+        heap.offer(2, 2.0);
+        heap.offer(3, 3.0);
+
+        heap.offer(1, 5.0);
+        assertThat(heap.minScore()).isEqualTo(2.0);
+        heap.offer(3, 0.5);
+        assertThat(heap.minScore()).isEqualTo(0.5);
+        assertThat(heap.size()).isEqualTo(3);
+        assertThat(heap.sortedDescending()).extracting(Ranked::diaryId).containsExactly(1L, 2L, 3L);
+
+        // 가득 찬 힙에서 최저점보다 낮은 후보는 들어오지 않는다
+        heap.offer(4, 0.1);
+        assertThat(heap.sortedDescending()).extracting(Ranked::diaryId).doesNotContain(4L);
+    }
+
+    @Test
+    void removeKeepsHeapOrder() {
+        Random random = new Random(11);
+        TopKHeap heap = new TopKHeap(50);
+        for (long id = 1; id <= 50; id++) {
+            heap.offer(id, random.nextDouble());
+        }
+        for (long id = 1; id <= 50; id += 3) {
+            assertThat(heap.remove(id)).isTrue();
+        }
+        assertThat(heap.remove(1)).isFalse();
+
+        List<Ranked> ranked = heap.sortedDescending();
+        assertThat(ranked).hasSize(heap.size());
+        assertThat(heap.minScore()).isEqualTo(ranked.get(ranked.size() - 1).logScore());
+        assertThat(ranked).isSortedAccordingTo(Comparator.comparingDouble(Ranked::logScore).reversed());
+
+        heap.clear();
+        assertThat(heap.size()).isZero();
+        assertThat(heap.minScore()).isEqualTo(Double.NEGATIVE_INFINITY);
+    }
+}